@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import org.apache.http.impl.client.CloseableHttpClient;
+
+import java.nio.file.Paths;
+
+/**
+ * An injection module which overrides the SDK HTTP clients with the offline {@link FixtureHttpClient}. The fixtures
+ * are additionally served from the directory provided with the <code>benchmarks.fixturesDirectory</code> system
+ * property, if set.
+ */
+public class BenchmarkModule extends AbstractModule {
+    public static final String FIXTURES_DIRECTORY_PROPERTY = "benchmarks.fixturesDirectory";
+
+    private final FixtureHttpClient fixtureHttpClient;
+
+    public BenchmarkModule() {
+        String fixturesDirectory = System.getProperty(FIXTURES_DIRECTORY_PROPERTY);
+        this.fixtureHttpClient = fixturesDirectory == null
+                ? new FixtureHttpClient()
+                : new FixtureHttpClient(Paths.get(fixturesDirectory));
+    }
+
+    @Override
+    protected void configure() {
+        // the overridden bindings are exposed through the provider methods
+    }
+
+    @Provides @Singleton
+    CloseableHttpClient provideHttpClient() {
+        return fixtureHttpClient;
+    }
+
+    @Provides @Singleton @Named("FastHttpClient")
+    CloseableHttpClient provideFastHttpClient() {
+        return fixtureHttpClient;
+    }
+
+    @Provides @Singleton @Named("RecoveryHttpClient")
+    CloseableHttpClient provideRecoveryHttpClient() {
+        return fixtureHttpClient;
+    }
+}
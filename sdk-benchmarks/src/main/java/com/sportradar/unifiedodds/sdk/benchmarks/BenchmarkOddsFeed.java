@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.util.Modules;
+import com.sportradar.unifiedodds.sdk.OddsFeed;
+import com.sportradar.unifiedodds.sdk.SDKGlobalEventsListener;
+import com.sportradar.unifiedodds.sdk.cfg.OddsFeedConfiguration;
+import com.sportradar.unifiedodds.sdk.di.CustomisableSDKModule;
+import com.sportradar.unifiedodds.sdk.di.MasterInjectionModule;
+import com.sportradar.unifiedodds.sdk.oddsentities.ProducerDown;
+import com.sportradar.unifiedodds.sdk.oddsentities.ProducerUp;
+import com.sportradar.utils.URN;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * An {@link OddsFeed} which is wired with the {@link BenchmarkModule}, so all the API data is served from the
+ * recorded fixtures. The instance is initialized but never opened, the benchmarks drive the SDK components directly.
+ */
+public class BenchmarkOddsFeed extends OddsFeed {
+    public static final Locale LOCALE = Locale.ENGLISH;
+
+    public BenchmarkOddsFeed() {
+        super(new NoOpGlobalEventsListener(), buildConfiguration(), null, null);
+
+        initOddsFeedInstance();
+    }
+
+    /**
+     * Initializes a new feed which uses the provided customisable module (ex: to receive the messages through the
+     * {@link InMemoryRabbitMqChannel}) and accepts the messages of the provided producers only. Unlike the
+     * benchmark feed, the instance is initialized when it is opened.
+     *
+     * @param customisableSDKModule the module used to customise the SDK components
+     * @param disabledProducers the ids of the producers which should be disabled
+     */
+    public BenchmarkOddsFeed(CustomisableSDKModule customisableSDKModule, List<Integer> disabledProducers) {
+        super(new NoOpGlobalEventsListener(), buildConfiguration(disabledProducers), customisableSDKModule, null);
+    }
+
+    public <T> T getInstance(Class<T> type) {
+        return injector.getInstance(type);
+    }
+
+    public <T> T getInstance(Key<T> key) {
+        return injector.getInstance(key);
+    }
+
+    @Override
+    protected Injector createSdkInjector(SDKGlobalEventsListener listener, CustomisableSDKModule customisableSDKModule) {
+        return Guice.createInjector(Modules
+                .override(new MasterInjectionModule(listener, oddsFeedConfiguration, customisableSDKModule))
+                .with(new BenchmarkModule())
+        );
+    }
+
+    private static OddsFeedConfiguration buildConfiguration() {
+        return buildConfiguration(Collections.emptyList());
+    }
+
+    private static OddsFeedConfiguration buildConfiguration(List<Integer> disabledProducers) {
+        return OddsFeed.getOddsFeedConfigurationBuilder()
+                .setAccessToken("benchmark-token")
+                .selectCustom()
+                .setApiHost("localhost")
+                .useApiSsl(false)
+                .setMessagingHost("localhost")
+                .useMessagingSsl(false)
+                .setDefaultLocale(LOCALE)
+                .setDisabledProducers(disabledProducers)
+                .build();
+    }
+
+    private static class NoOpGlobalEventsListener implements SDKGlobalEventsListener {
+        @Override
+        public void onProducerDown(ProducerDown producerDown) {
+            // not relevant for benchmarks
+        }
+
+        @Override
+        public void onProducerUp(ProducerUp producerUp) {
+            // not relevant for benchmarks
+        }
+
+        @Override
+        public void onConnectionDown() {
+            // not relevant for benchmarks
+        }
+
+        @Override
+        public void onEventRecoveryCompleted(URN eventId, long requestId) {
+            // not relevant for benchmarks
+        }
+    }
+}
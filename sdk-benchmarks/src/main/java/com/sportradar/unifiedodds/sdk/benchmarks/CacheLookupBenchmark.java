@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import com.sportradar.unifiedodds.sdk.caching.SportEventCI;
+import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
+import com.sportradar.unifiedodds.sdk.caching.markets.InvariantMarketDescriptionCache;
+import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures warm cache lookups in the SportEventCacheImpl and the InvariantMarketDescriptionCache, which are done
+ * for (almost) every received feed message
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheLookupBenchmark {
+    @Param({"1", "68", "61"})
+    public int marketId;
+
+    private BenchmarkOddsFeed feed;
+    private SportEventCache sportEventCache;
+    private InvariantMarketDescriptionCache invariantMarketDescriptionCache;
+    private List<Locale> locales;
+
+    @Setup
+    public void setup() throws Exception {
+        feed = new BenchmarkOddsFeed();
+        locales = ImmutableList.of(BenchmarkOddsFeed.LOCALE);
+        sportEventCache = feed.getInstance(SportEventCache.class);
+        invariantMarketDescriptionCache = feed.getInstance(Key.get(InvariantMarketDescriptionCache.class, Names.named("InvariantMarketCache")));
+
+        // warm-up the caches, so only the lookups are measured
+        sportEventCache.getEventCacheItem(FeedFixtures.EVENT_ID).getNames(locales);
+        invariantMarketDescriptionCache.getMarketDescriptor(marketId, null, locales);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        feed.close();
+    }
+
+    @Benchmark
+    public SportEventCI sportEventLookup() throws Exception {
+        return sportEventCache.getEventCacheItem(FeedFixtures.EVENT_ID);
+    }
+
+    @Benchmark
+    public MarketDescription invariantMarketDescriptionLookup() throws Exception {
+        return invariantMarketDescriptionCache.getMarketDescriptor(marketId, null, locales);
+    }
+}
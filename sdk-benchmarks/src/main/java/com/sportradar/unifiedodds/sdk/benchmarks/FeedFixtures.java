@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.io.ByteStreams;
+import com.sportradar.utils.URN;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Access to the recorded feed messages used by the benchmarks
+ */
+public final class FeedFixtures {
+    public static final URN EVENT_ID = URN.parse("sr:match:10927088");
+    public static final URN SPORT_ID = URN.parse("sr:sport:3");
+
+    private FeedFixtures() {
+        // static helpers only
+    }
+
+    /**
+     * Reads the raw payload of the recorded feed message with the provided type (ex: odds_change)
+     *
+     * @param messageType the message type, which is also the fixture file name
+     * @return the raw message payload
+     */
+    public static byte[] readMessage(String messageType) {
+        String resourceName = "fixtures/feed/" + messageType + ".xml";
+        try (InputStream stream = FeedFixtures.class.getClassLoader().getResourceAsStream(resourceName)) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Unknown feed fixture: " + resourceName);
+            }
+            return ByteStreams.toByteArray(stream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Feed fixture " + resourceName + " could not be read", e);
+        }
+    }
+
+    /**
+     * Builds the routing key on which a message of the provided type would be received
+     *
+     * @param messageType the message type (ex: odds_change)
+     * @return the routing key associated with the provided message type
+     */
+    public static String routingKeyFor(String messageType) {
+        if ("alive".equals(messageType)) {
+            return "-.-.-.alive.-.-.-.-";
+        }
+
+        return String.format("hi.-.live.%s.%s.%s.%s.-", messageType, SPORT_ID.getId(), "sr:match", EVENT_ID.getId());
+    }
+}
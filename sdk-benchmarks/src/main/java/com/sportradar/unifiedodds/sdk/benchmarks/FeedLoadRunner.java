@@ -0,0 +1,246 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.sportradar.unifiedodds.sdk.MessageInterest;
+import com.sportradar.unifiedodds.sdk.OddsFeedListener;
+import com.sportradar.unifiedodds.sdk.OddsFeedSession;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.unifiedodds.sdk.exceptions.InitException;
+import com.sportradar.unifiedodds.sdk.oddsentities.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures the end-to-end throughput and latency of an {@link OddsFeedSession} without a broker or the Sports API.
+ * The messages of the {@link SyntheticFeedGenerator} are published through the {@link InMemoryFeedBroker}, the
+ * latency is measured from the publishing of a message until it is dispatched to the session listener.
+ *
+ * Run it with: <code>java -cp target/benchmarks.jar com.sportradar.unifiedodds.sdk.benchmarks.FeedLoadRunner
+ * events=100 markets=20 outcomes=3 rate=0 messages=200000 warmup=20000</code>, where a rate of 0 publishes the
+ * messages as fast as the session consumes them.
+ *
+ * The bundled fixtures contain no summaries of the synthetic matches, so the measurements include the failed
+ * summary requests, unless the summaries are provided through the <code>benchmarks.fixturesDirectory</code>.
+ */
+public class FeedLoadRunner {
+    private static final int LATENCY_BUCKETS = 10_000;
+    private static final long DRAIN_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final int events;
+    private final int markets;
+    private final int outcomes;
+    private final int rate;
+    private final int messages;
+    private final int warmup;
+
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_BUCKETS + 1);
+    private volatile boolean measuring;
+
+    FeedLoadRunner(Map<String, String> options) {
+        this.events = Integer.parseInt(options.getOrDefault("events", "100"));
+        this.markets = Integer.parseInt(options.getOrDefault("markets", "20"));
+        this.outcomes = Integer.parseInt(options.getOrDefault("outcomes", "3"));
+        this.rate = Integer.parseInt(options.getOrDefault("rate", "0"));
+        this.messages = Integer.parseInt(options.getOrDefault("messages", "200000"));
+        this.warmup = Integer.parseInt(options.getOrDefault("warmup", "20000"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            if (option.length != 2) {
+                throw new IllegalArgumentException("Options must be provided as name=value, provided: " + arg);
+            }
+            options.put(option[0], option[1]);
+        }
+
+        new FeedLoadRunner(options).run();
+        System.exit(0);
+    }
+
+    void run() throws InitException, IOException, InterruptedException {
+        BenchmarkOddsFeed feed = new BenchmarkOddsFeed(new InMemoryFeedModule(), ImmutableList.of(3, 4, 5));
+        feed.getSessionBuilder()
+                .setListener(new MeasuringListener())
+                .setMessageInterest(MessageInterest.AllMessages)
+                .build();
+        feed.open();
+
+        InMemoryFeedBroker broker = feed.getInstance(InMemoryFeedBroker.class);
+        ScheduledExecutorService aliveScheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            aliveScheduler.scheduleAtFixedRate(() -> publish(broker, SyntheticFeedGenerator.alive()), 0, 1, TimeUnit.SECONDS);
+            completeRecovery(feed, broker);
+
+            SyntheticFeedGenerator generator = new SyntheticFeedGenerator(events, markets, outcomes, 42);
+            System.out.printf("Warming up with %d messages%n", warmup);
+            publish(broker, generator, warmup);
+            awaitDispatched(warmup);
+
+            measuring = true;
+            long dispatchedBefore = dispatched.get();
+            long started = System.nanoTime();
+            publish(broker, generator, messages);
+            long publishedIn = System.nanoTime() - started;
+            long drained = awaitDispatched(dispatchedBefore + messages);
+            long elapsed = System.nanoTime() - started;
+            measuring = false;
+
+            report(publishedIn, elapsed, drained - dispatchedBefore);
+        } finally {
+            aliveScheduler.shutdownNow();
+            feed.close();
+        }
+    }
+
+    private void publish(InMemoryFeedBroker broker, SyntheticFeedGenerator generator, int count) throws InterruptedException {
+        long intervalNanos = rate > 0 ? TimeUnit.SECONDS.toNanos(1) / rate : 0;
+        long next = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            if (intervalNanos > 0) {
+                next += intervalNanos;
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            publish(broker, generator.next());
+        }
+    }
+
+    private static void publish(InMemoryFeedBroker broker, SyntheticFeedGenerator.GeneratedMessage message) {
+        if (broker.publish(message.getRoutingKey(), message.getPayload()) == 0) {
+            throw new IllegalStateException("No session is bound to " + message.getRoutingKey());
+        }
+    }
+
+    /**
+     * Publishes the snapshot complete of the initial recovery, so the producer is up during the measurements
+     */
+    private static void completeRecovery(BenchmarkOddsFeed feed, InMemoryFeedBroker broker) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        RecoveryInfo recoveryInfo;
+        // the producers are snapshots, so the producer is re-fetched until the recovery is requested
+        while ((recoveryInfo = feed.getProducerManager().getProducer(SyntheticFeedGenerator.PRODUCER_ID).getRecoveryInfo()) == null
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        if (recoveryInfo == null) {
+            System.out.println("The producer recovery was not requested, measuring with the producer down");
+            return;
+        }
+        publish(broker, SyntheticFeedGenerator.snapshotComplete(recoveryInfo.getRequestId()));
+
+        while (feed.getProducerManager().getProducer(SyntheticFeedGenerator.PRODUCER_ID).isFlaggedDown()
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+    }
+
+    private long awaitDispatched(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MILLIS;
+        while (dispatched.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        return dispatched.get();
+    }
+
+    private void report(long publishedIn, long elapsed, long received) {
+        double seconds = elapsed / (double) TimeUnit.SECONDS.toNanos(1);
+        System.out.printf("events=%d, markets=%d, outcomes=%d, rate=%s%n", events, markets, outcomes, rate > 0 ? rate + "/s" : "unlimited");
+        System.out.printf("published %d messages in %d ms, dispatched %d messages in %d ms%n",
+                messages, TimeUnit.NANOSECONDS.toMillis(publishedIn), received, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        System.out.printf("throughput: %.0f messages/s%n", received / seconds);
+        System.out.printf("latency(ms): p50=%d, p90=%d, p99=%d, p99.9=%d, max=%s%n",
+                percentile(0.5), percentile(0.9), percentile(0.99), percentile(0.999), maxLatency());
+    }
+
+    private long percentile(double percentile) {
+        long total = 0;
+        for (int i = 0; i <= LATENCY_BUCKETS; i++) {
+            total += latencies.get(i);
+        }
+        long rank = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i <= LATENCY_BUCKETS; i++) {
+            seen += latencies.get(i);
+            if (seen >= rank && seen > 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private String maxLatency() {
+        for (int i = LATENCY_BUCKETS; i >= 0; i--) {
+            if (latencies.get(i) > 0) {
+                return i == LATENCY_BUCKETS ? ">=" + LATENCY_BUCKETS : String.valueOf(i);
+            }
+        }
+        return "0";
+    }
+
+    private void onDispatched(Message message) {
+        if (measuring) {
+            long latency = System.currentTimeMillis() - message.getTimestamps().getSent();
+            latencies.incrementAndGet((int) Math.max(0, Math.min(LATENCY_BUCKETS, latency)));
+        }
+        dispatched.incrementAndGet();
+    }
+
+    private class MeasuringListener implements OddsFeedListener {
+        @Override
+        public void onOddsChange(OddsFeedSession sender, OddsChange<SportEvent> oddsChanges) {
+            onDispatched(oddsChanges);
+        }
+
+        @Override
+        public void onBetStop(OddsFeedSession sender, BetStop<SportEvent> betStop) {
+            onDispatched(betStop);
+        }
+
+        @Override
+        public void onBetSettlement(OddsFeedSession sender, BetSettlement<SportEvent> clearBets) {
+            onDispatched(clearBets);
+        }
+
+        @Override
+        public void onRollbackBetSettlement(OddsFeedSession sender, RollbackBetSettlement<SportEvent> rollbackBetSettlement) {
+            onDispatched(rollbackBetSettlement);
+        }
+
+        @Override
+        public void onBetCancel(OddsFeedSession sender, BetCancel<SportEvent> betCancel) {
+            onDispatched(betCancel);
+        }
+
+        @Override
+        public void onRollbackBetCancel(OddsFeedSession sender, RollbackBetCancel<SportEvent> rbBetCancel) {
+            onDispatched(rbBetCancel);
+        }
+
+        @Override
+        public void onFixtureChange(OddsFeedSession sender, FixtureChange<SportEvent> fixtureChange) {
+            onDispatched(fixtureChange);
+        }
+
+        @Override
+        public void onUnparseableMessage(OddsFeedSession sender, byte[] rawMessage, SportEvent event) {
+            dispatched.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.sportradar.unifiedodds.sdk.MessageInterest;
+import com.sportradar.unifiedodds.sdk.impl.ChannelMessageConsumer;
+import com.sportradar.unifiedodds.sdk.impl.MessageConsumer;
+import com.sportradar.unifiedodds.sdk.impl.RoutingKeyInfo;
+import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import com.sportradar.utils.URN;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of receiving a raw AMQP payload through the {@link ChannelMessageConsumer}, which includes the
+ * routing key parsing and the JAXB unmarshalling of the message
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeedMessageDeserializationBenchmark {
+    @Param({"odds_change", "bet_stop", "bet_settlement", "fixture_change", "alive"})
+    public String messageType;
+
+    private BenchmarkOddsFeed feed;
+    private ChannelMessageConsumer channelMessageConsumer;
+    private CapturingMessageConsumer messageConsumer;
+    private String routingKey;
+    private byte[] body;
+
+    @Setup
+    public void setup() {
+        feed = new BenchmarkOddsFeed();
+        messageConsumer = new CapturingMessageConsumer();
+        channelMessageConsumer = feed.getInstance(ChannelMessageConsumer.class);
+        channelMessageConsumer.open(messageConsumer);
+
+        routingKey = FeedFixtures.routingKeyFor(messageType);
+        body = FeedFixtures.readMessage(messageType);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        feed.close();
+    }
+
+    @Benchmark
+    public void unmarshalMessage(Blackhole blackhole) {
+        channelMessageConsumer.onMessageReceived(routingKey, body, null, System.currentTimeMillis());
+
+        blackhole.consume(messageConsumer.lastMessage);
+    }
+
+    private static class CapturingMessageConsumer implements MessageConsumer {
+        private UnmarshalledMessage lastMessage;
+
+        @Override
+        public void onMessageReceived(UnmarshalledMessage unmarshalledMessage, byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp) {
+            lastMessage = unmarshalledMessage;
+        }
+
+        @Override
+        public void onMessageDeserializationFailed(byte[] rawMessage, URN eventId) {
+            throw new IllegalStateException("Benchmark fixture could not be deserialized");
+        }
+
+        @Override
+        public String getConsumerDescription() {
+            return "benchmark";
+        }
+
+        @Override
+        public MessageInterest getMessageInterest() {
+            return MessageInterest.AllMessages;
+        }
+
+        @Override
+        public void onRawFeedMessageReceived(RoutingKeyInfo routingKey, UnmarshalledMessage feedMessage, MessageTimestamp timestamp, MessageInterest messageInterest) {
+            // raw messages are not relevant for the benchmark
+        }
+
+        @Override
+        public void onPassthroughMessageReceived(byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp) {
+            // the consumer does not enable the passthrough mode, so the payloads are always deserialized
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link CloseableHttpClient} which serves recorded Sports API responses from the classpath instead of
+ * performing network calls. The SDK data providers, fetchers and deserializers are left untouched, so the
+ * benchmarks exercise the same code paths as a live SDK instance while running completely offline.
+ *
+ * A request for <code>https://{host}/v1/sports/en/sport_events/sr:match:1/summary.xml</code> is served from the
+ * <code>fixtures/api/sports/en/sport_events/sr_match_1/summary.xml</code> resource, unknown resources result in
+ * a 404 response.
+ *
+ * The fixtures can additionally be served from a directory with the same layout (without the
+ * <code>fixtures/api/</code> prefix), the directory fixtures take precedence over the bundled ones.
+ */
+public class FixtureHttpClient extends CloseableHttpClient {
+    private static final String FIXTURES_ROOT = "fixtures/api/";
+    private static final String API_VERSION_PREFIX = "/v1/";
+    private static final byte[] MISSING_FIXTURE = new byte[0];
+
+    /**
+     * The fixture payloads, loaded once and kept in memory
+     */
+    private final Map<String, byte[]> fixtures = new ConcurrentHashMap<>();
+
+    /**
+     * The directory from which the fixtures are served before the classpath is checked, or null
+     */
+    private final Path fixturesDirectory;
+
+    public FixtureHttpClient() {
+        this.fixturesDirectory = null;
+    }
+
+    public FixtureHttpClient(Path fixturesDirectory) {
+        Preconditions.checkNotNull(fixturesDirectory);
+        Preconditions.checkArgument(Files.isDirectory(fixturesDirectory), "Fixtures directory not found: %s", fixturesDirectory);
+
+        this.fixturesDirectory = fixturesDirectory;
+    }
+
+    @Override
+    protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context) {
+        String resourceName = toResourceName(request.getRequestLine().getUri());
+        byte[] payload = fixtures.computeIfAbsent(resourceName, this::readFixture);
+
+        if (payload == MISSING_FIXTURE) {
+            return new FixtureResponse(HttpStatus.SC_NOT_FOUND, "Not Found", new byte[0]);
+        }
+
+        return new FixtureResponse(HttpStatus.SC_OK, "OK", payload);
+    }
+
+    @Override
+    public void close() {
+        fixtures.clear();
+    }
+
+    @Override
+    @Deprecated
+    public HttpParams getParams() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public ClientConnectionManager getConnectionManager() {
+        throw new UnsupportedOperationException();
+    }
+
+    static String toResourceName(String requestUri) {
+        String path = URI.create(requestUri.replace(" ", "%20")).getPath();
+
+        int versionIndex = path.indexOf(API_VERSION_PREFIX);
+        if (versionIndex >= 0) {
+            path = path.substring(versionIndex + API_VERSION_PREFIX.length());
+        }
+
+        return FIXTURES_ROOT + path.replace(':', '_');
+    }
+
+    private byte[] readFixture(String resourceName) {
+        if (fixturesDirectory != null) {
+            Path file = fixturesDirectory.resolve(resourceName.substring(FIXTURES_ROOT.length()));
+            if (Files.isRegularFile(file)) {
+                try {
+                    return Files.readAllBytes(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Fixture " + file + " could not be read", e);
+                }
+            }
+        }
+
+        return readResource(resourceName);
+    }
+
+    private static byte[] readResource(String resourceName) {
+        try (InputStream stream = FixtureHttpClient.class.getClassLoader().getResourceAsStream(resourceName)) {
+            return stream == null ? MISSING_FIXTURE : ByteStreams.toByteArray(stream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Fixture " + resourceName + " could not be read", e);
+        }
+    }
+
+    private static class FixtureResponse extends BasicHttpResponse implements CloseableHttpResponse {
+        FixtureResponse(int statusCode, String reason, byte[] payload) {
+            super(HttpVersion.HTTP_1_1, statusCode, reason);
+            setEntity(new ByteArrayEntity(payload, ContentType.APPLICATION_XML));
+        }
+
+        @Override
+        public void close() {
+            // nothing to release, the payload is held in memory
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.sportradar.unifiedodds.sdk.impl.RegexRoutingKeyParser;
+import com.sportradar.unifiedodds.sdk.impl.RoutingKeyInfo;
+import com.sportradar.unifiedodds.sdk.impl.RoutingKeyParser;
+import com.sportradar.utils.URN;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-message identifier parsing done on the AMQP thread: the {@link RegexRoutingKeyParser} and
+ * the {@link URN#parse(String)} used on event, sport and competitor identifiers
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdentifierParsingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class RoutingKeyState {
+        @Param({
+                "hi.-.live.odds_change.1.sr:match.10927088.-",
+                "lo.pre.-.bet_settlement.3.sr:simple_tournament.11111.42",
+                "-.-.-.alive.-.-.-.-"
+        })
+        public String routingKey;
+
+        private final RoutingKeyParser routingKeyParser = new RegexRoutingKeyParser();
+    }
+
+    @State(Scope.Benchmark)
+    public static class UrnState {
+        @Param({"sr:match:10927088", "sr:simple_tournament:11111", "od:competitor:1234"})
+        public String urn;
+    }
+
+    @Benchmark
+    public RoutingKeyInfo parseRoutingKey(RoutingKeyState state) {
+        return state.routingKeyParser.getRoutingKeyInfo(state.routingKey);
+    }
+
+    @Benchmark
+    public URN parseUrn(UrnState state) {
+        return URN.parse(state.urn);
+    }
+}
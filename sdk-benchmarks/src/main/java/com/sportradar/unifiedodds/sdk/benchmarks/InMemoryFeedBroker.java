@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.Singleton;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * An in-process replacement of the feed broker. The published messages are routed to all the opened
+ * {@link InMemoryRabbitMqChannel}s whose bindings match the message routing key, following the AMQP topic exchange
+ * rules (<code>*</code> matches a single word, <code>#</code> matches zero or more words).
+ */
+@Singleton
+public class InMemoryFeedBroker {
+    private final List<InMemoryRabbitMqChannel> channels = new CopyOnWriteArrayList<>();
+
+    /**
+     * Publishes the provided message, the call blocks while the queue of a matching channel is full
+     *
+     * @param routingKey the routing key of the message
+     * @param body the raw message payload
+     * @return the number of channels to which the message was routed
+     */
+    public int publish(String routingKey, byte[] body) {
+        Preconditions.checkNotNull(routingKey);
+        Preconditions.checkNotNull(body);
+
+        long publishedAt = System.currentTimeMillis();
+        String[] routingKeyWords = routingKey.split("\\.");
+        int routed = 0;
+        for (InMemoryRabbitMqChannel channel : channels) {
+            if (channel.isBoundTo(routingKeyWords)) {
+                channel.deliver(routingKey, body, publishedAt);
+                routed++;
+            }
+        }
+        return routed;
+    }
+
+    /**
+     * Returns the number of messages which were routed but not yet consumed by the channels
+     *
+     * @return the number of messages which were routed but not yet consumed
+     */
+    public int getPendingMessages() {
+        return channels.stream().mapToInt(InMemoryRabbitMqChannel::getPendingMessages).sum();
+    }
+
+    void register(InMemoryRabbitMqChannel channel) {
+        channels.add(channel);
+    }
+
+    void unregister(InMemoryRabbitMqChannel channel) {
+        channels.remove(channel);
+    }
+
+    /**
+     * Checks if the routing key matches the binding pattern
+     */
+    static boolean matches(String[] pattern, int patternIndex, String[] routingKey, int keyIndex) {
+        if (patternIndex == pattern.length) {
+            return keyIndex == routingKey.length;
+        }
+
+        String word = pattern[patternIndex];
+        if ("#".equals(word)) {
+            for (int i = keyIndex; i <= routingKey.length; i++) {
+                if (matches(pattern, patternIndex + 1, routingKey, i)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        return keyIndex < routingKey.length
+                && ("*".equals(word) || word.equals(routingKey[keyIndex]))
+                && matches(pattern, patternIndex + 1, routingKey, keyIndex + 1);
+    }
+}
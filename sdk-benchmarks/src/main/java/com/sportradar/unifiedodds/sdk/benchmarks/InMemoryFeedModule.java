@@ -0,0 +1,19 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.sportradar.unifiedodds.sdk.di.CustomisableSDKModule;
+import com.sportradar.unifiedodds.sdk.impl.RabbitMqChannel;
+
+/**
+ * A {@link CustomisableSDKModule} which makes the sessions receive the messages published through the
+ * {@link InMemoryFeedBroker} instead of connecting to a RabbitMQ broker
+ */
+public class InMemoryFeedModule extends CustomisableSDKModule {
+    @Override
+    protected Class<? extends RabbitMqChannel> provideRabbitMqChannelImplementationClass() {
+        return InMemoryRabbitMqChannel.class;
+    }
+}
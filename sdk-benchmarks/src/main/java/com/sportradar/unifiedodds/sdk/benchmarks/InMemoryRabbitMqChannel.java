@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Inject;
+import com.rabbitmq.client.AMQP;
+import com.sportradar.unifiedodds.sdk.impl.ChannelMessageConsumer;
+import com.sportradar.unifiedodds.sdk.impl.RabbitMqChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link RabbitMqChannel} which receives the messages published through the {@link InMemoryFeedBroker} instead of
+ * a RabbitMQ broker. As with the AMQP channel, the messages are consumed on a dedicated thread in the order in which
+ * they were published.
+ *
+ * Bind it through the {@link com.sportradar.unifiedodds.sdk.di.CustomisableSDKModule} to run the SDK sessions offline.
+ */
+public class InMemoryRabbitMqChannel implements RabbitMqChannel {
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryRabbitMqChannel.class);
+    private static final int QUEUE_CAPACITY = 10_000;
+
+    private final InMemoryFeedBroker broker;
+    private final BlockingQueue<Delivery> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    private volatile List<String[]> bindings;
+    private List<String> routingKeys;
+    private volatile Thread consumerThread;
+
+    @Inject
+    public InMemoryRabbitMqChannel(InMemoryFeedBroker broker) {
+        Preconditions.checkNotNull(broker);
+
+        this.broker = broker;
+    }
+
+    @Override
+    public synchronized void open(List<String> routingKeys, ChannelMessageConsumer channelMessageConsumer, String messageInterest) {
+        Preconditions.checkNotNull(routingKeys);
+        Preconditions.checkNotNull(channelMessageConsumer);
+        Preconditions.checkState(!isOpened(), "The channel is already opened");
+
+        bind(routingKeys);
+
+        consumerThread = new Thread(() -> consume(channelMessageConsumer), "InMemoryRabbitMqChannel-" + messageInterest);
+        consumerThread.setDaemon(true);
+        consumerThread.start();
+
+        broker.register(this);
+    }
+
+    @Override
+    public synchronized void close() {
+        broker.unregister(this);
+
+        Thread thread = consumerThread;
+        consumerThread = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        queue.clear();
+    }
+
+    @Override
+    public boolean isOpened() {
+        return consumerThread != null;
+    }
+
+    /**
+     * Replaces the bindings of the channel, the changed bindings apply to the messages published afterwards
+     */
+    @Override
+    public synchronized void updateBindings(Collection<String> routingKeysToBind, Collection<String> routingKeysToUnbind) {
+        Preconditions.checkNotNull(routingKeysToBind);
+        Preconditions.checkNotNull(routingKeysToUnbind);
+        Preconditions.checkState(isOpened(), "The bindings of a closed channel can not be changed");
+
+        Set<String> currentKeys = new LinkedHashSet<>(routingKeys);
+        currentKeys.removeAll(routingKeysToUnbind);
+        currentKeys.addAll(routingKeysToBind);
+        bind(new ArrayList<>(currentKeys));
+    }
+
+    boolean isBoundTo(String[] routingKeyWords) {
+        List<String[]> currentBindings = bindings;
+        if (currentBindings == null) {
+            return false;
+        }
+        for (String[] binding : currentBindings) {
+            if (InMemoryFeedBroker.matches(binding, 0, routingKeyWords, 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void bind(List<String> routingKeys) {
+        this.routingKeys = routingKeys;
+        bindings = routingKeys.stream()
+                .map(routingKey -> routingKey.split("\\."))
+                .collect(Collectors.toList());
+    }
+
+    void deliver(String routingKey, byte[] body, long publishedAt) {
+        try {
+            queue.put(new Delivery(routingKey, body, publishedAt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while delivering the message to " + routingKey, e);
+        }
+    }
+
+    int getPendingMessages() {
+        return queue.size();
+    }
+
+    private void consume(ChannelMessageConsumer channelMessageConsumer) {
+        while (!Thread.currentThread().isInterrupted()) {
+            Delivery delivery;
+            try {
+                delivery = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder()
+                    .headers(ImmutableMap.of("timestamp_in_ms", delivery.publishedAt))
+                    .build();
+            try {
+                channelMessageConsumer.onMessageReceived(delivery.routingKey, delivery.body, properties, System.currentTimeMillis());
+            } catch (Exception e) {
+                logger.warn("An exception occurred while consuming the message with routing key {}, ex:", delivery.routingKey, e);
+            }
+        }
+    }
+
+    private static final class Delivery {
+        private final String routingKey;
+        private final byte[] body;
+        private final long publishedAt;
+
+        private Delivery(String routingKey, byte[] body, long publishedAt) {
+            this.routingKey = routingKey;
+            this.body = body;
+            this.publishedAt = publishedAt;
+        }
+    }
+}
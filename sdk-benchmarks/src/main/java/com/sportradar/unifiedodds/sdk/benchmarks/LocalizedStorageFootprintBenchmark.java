@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.collect.Maps;
+import com.sportradar.unifiedodds.sdk.caching.ci.LocaleSet;
+import com.sportradar.unifiedodds.sdk.caching.ci.LocalizedValues;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the retained heap of the translated player profile properties (names, full names, nationalities,
+ * abbreviations and the cached locales) stored in concurrent maps with the compact {@link LocalizedValues}
+ * and {@link LocaleSet} containers. The result of interest is the <code>retainedBytesPerItem</code> counter,
+ * the score only reports how long it took to populate the items.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class LocalizedStorageFootprintBenchmark {
+    private static final int ITEMS = 100_000;
+    private static final List<Locale> ALL_LOCALES = Arrays.asList(
+            Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH, Locale.ITALIAN,
+            new Locale("es"), new Locale("pt"), new Locale("ru"), new Locale("nl"));
+
+    @State(Scope.Benchmark)
+    public static class Translations {
+        @Param({"1", "4", "8"})
+        public int localeCount;
+
+        private List<Locale> locales;
+
+        @Setup
+        public void setup() {
+            locales = ALL_LOCALES.subList(0, localeCount);
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytesPerItem;
+    }
+
+    @Benchmark
+    public Object concurrentMaps(Translations translations, Footprint footprint) {
+        long before = usedHeap();
+        Object[] items = new Object[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            Map<Locale, String> names = Maps.newConcurrentMap();
+            Map<Locale, String> fullNames = Maps.newConcurrentMap();
+            Map<Locale, String> nationalities = Maps.newConcurrentMap();
+            Map<Locale, String> abbreviations = Maps.newConcurrentMap();
+            List<Locale> cachedLocales = Collections.synchronizedList(new ArrayList<>());
+            populate(i, translations.locales, names, fullNames, nationalities, abbreviations, cachedLocales);
+            items[i] = new Object[]{names, fullNames, nationalities, abbreviations, cachedLocales};
+        }
+        footprint.retainedBytesPerItem = (usedHeap() - before) / ITEMS;
+        return items;
+    }
+
+    @Benchmark
+    public Object compactContainers(Translations translations, Footprint footprint) {
+        long before = usedHeap();
+        Object[] items = new Object[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            Map<Locale, String> names = new LocalizedValues();
+            Map<Locale, String> fullNames = new LocalizedValues();
+            Map<Locale, String> nationalities = LocalizedValues.deduplicating();
+            Map<Locale, String> abbreviations = LocalizedValues.deduplicating();
+            Set<Locale> cachedLocales = new LocaleSet();
+            populate(i, translations.locales, names, fullNames, nationalities, abbreviations, cachedLocales);
+            items[i] = new Object[]{names, fullNames, nationalities, abbreviations, cachedLocales};
+        }
+        footprint.retainedBytesPerItem = (usedHeap() - before) / ITEMS;
+        return items;
+    }
+
+    private static void populate(int index, List<Locale> locales, Map<Locale, String> names, Map<Locale, String> fullNames,
+                                 Map<Locale, String> nationalities, Map<Locale, String> abbreviations, Collection<Locale> cachedLocales) {
+        for (Locale locale : locales) {
+            // the values are created per item as they would be when unmarshalled from the API responses
+            names.put(locale, "Player " + index);
+            fullNames.put(locale, "Player Full Name " + index);
+            nationalities.put(locale, "Nationality " + (index % 200) + " " + locale.getLanguage());
+            abbreviations.put(locale, "P" + (index % 1000));
+            cachedLocales.add(locale);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.sportradar.unifiedodds.sdk.SportEntityFactory;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.unifiedodds.sdk.impl.markets.NameProvider;
+import com.sportradar.unifiedodds.sdk.impl.markets.NameProviderFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the NameProviderImpl market and outcome name generation, including the name expressions which
+ * reference specifiers and competitor names
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameProviderBenchmark {
+    /**
+     * The market definitions in the <code>marketId|specifiers|outcomeId</code> format
+     */
+    @Param({"1||1", "10||9", "68|total=2.5|13", "61|score=0:2|1"})
+    public String market;
+
+    private BenchmarkOddsFeed feed;
+    private NameProviderFactory nameProviderFactory;
+    private SportEvent sportEvent;
+    private List<Locale> locales;
+    private int marketId;
+    private Map<String, String> specifiers;
+    private String outcomeId;
+
+    @Setup
+    public void setup() throws Exception {
+        feed = new BenchmarkOddsFeed();
+        nameProviderFactory = feed.getInstance(NameProviderFactory.class);
+        locales = ImmutableList.of(BenchmarkOddsFeed.LOCALE);
+        sportEvent = feed.getInstance(SportEntityFactory.class)
+                .buildSportEvent(FeedFixtures.EVENT_ID, FeedFixtures.SPORT_ID, locales, true);
+
+        List<String> parts = Splitter.on('|').splitToList(market);
+        marketId = Integer.parseInt(parts.get(0));
+        specifiers = parts.get(1).isEmpty()
+                ? Collections.emptyMap()
+                : Splitter.on('|').withKeyValueSeparator('=').split(parts.get(1));
+        outcomeId = parts.get(2);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        feed.close();
+    }
+
+    @Benchmark
+    public String marketName() {
+        NameProvider nameProvider = nameProviderFactory.buildNameProvider(sportEvent, marketId, specifiers, 1);
+
+        return nameProvider.getMarketName(BenchmarkOddsFeed.LOCALE);
+    }
+
+    @Benchmark
+    public String outcomeName() {
+        NameProvider nameProvider = nameProviderFactory.buildNameProvider(sportEvent, marketId, specifiers, 1);
+
+        return nameProvider.getOutcomeName(outcomeId, BenchmarkOddsFeed.LOCALE);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.unifiedodds.sdk.SportEntityFactory;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.unifiedodds.sdk.impl.Deserializer;
+import com.sportradar.unifiedodds.sdk.impl.FeedMessageFactory;
+import com.sportradar.unifiedodds.sdk.impl.oddsentities.MessageTimestampImpl;
+import com.sportradar.unifiedodds.sdk.oddsentities.MarketWithOdds;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsChange;
+import com.sportradar.unifiedodds.sdk.oddsentities.OutcomeOdds;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the odds change entity building through the FeedMessageFactoryImpl and MarketFactoryImpl, with and
+ * without the market/outcome name resolution which is triggered lazily by the user
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OddsChangeBuildingBenchmark {
+    private BenchmarkOddsFeed feed;
+    private FeedMessageFactory feedMessageFactory;
+    private SportEvent sportEvent;
+    private UFOddsChange message;
+    private byte[] body;
+
+    @Setup
+    public void setup() throws Exception {
+        feed = new BenchmarkOddsFeed();
+        feedMessageFactory = feed.getInstance(FeedMessageFactory.class);
+        sportEvent = feed.getInstance(SportEntityFactory.class)
+                .buildSportEvent(FeedFixtures.EVENT_ID, FeedFixtures.SPORT_ID, ImmutableList.of(BenchmarkOddsFeed.LOCALE), true);
+
+        Deserializer deserializer = feed.getInstance(Key.get(Deserializer.class, Names.named("MessageDeserializer")));
+        body = FeedFixtures.readMessage("odds_change");
+        message = (UFOddsChange) deserializer.deserialize(new ByteArrayInputStream(body));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        feed.close();
+    }
+
+    @Benchmark
+    public OddsChange<SportEvent> buildOddsChange() {
+        return feedMessageFactory.buildOddsChange(sportEvent, message, body, new MessageTimestampImpl(message.getTimestamp()));
+    }
+
+    @Benchmark
+    public void buildOddsChangeWithNames(Blackhole blackhole) {
+        OddsChange<SportEvent> oddsChange = feedMessageFactory.buildOddsChange(sportEvent, message, body, new MessageTimestampImpl(message.getTimestamp()));
+
+        for (MarketWithOdds market : oddsChange.getMarkets()) {
+            blackhole.consume(market.getName());
+            for (OutcomeOdds outcome : market.getOutcomeOdds()) {
+                blackhole.consume(outcome.getName());
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.base.Preconditions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generates a synthetic live feed of <code>odds_change</code>, <code>bet_stop</code> and
+ * <code>bet_settlement</code> messages of the Live Odds producer for the configured number of soccer matches.
+ *
+ * Each match mostly receives odds changes, with an occasional bet stop (after which the following odds change
+ * re-opens the markets) and bet settlement. Each odds change and bet settlement carries the configured number of
+ * total goals markets (one per line) with the configured number of outcomes. The generator is not thread safe.
+ */
+public class SyntheticFeedGenerator {
+    public static final int PRODUCER_ID = 1;
+    public static final int SPORT_ID = 1;
+    public static final long FIRST_EVENT_ID = 50_000_000;
+
+    private static final int TOTAL_GOALS_MARKET_ID = 18;
+    private static final double BET_STOP_SHARE = 0.03;
+    private static final double BET_SETTLEMENT_SHARE = 0.02;
+
+    private final int eventCount;
+    private final int marketsPerMessage;
+    private final int outcomesPerMarket;
+    private final Random random;
+    private final boolean[] suspended;
+    private final int[][] scores;
+    private final StringBuilder builder = new StringBuilder(4096);
+
+    /**
+     * @param eventCount the number of matches for which the messages are generated
+     * @param marketsPerMessage the number of markets in each odds change and bet settlement
+     * @param outcomesPerMarket the number of outcomes of each market
+     * @param seed the seed of the message stream, the same seed produces the same sequence of messages
+     */
+    public SyntheticFeedGenerator(int eventCount, int marketsPerMessage, int outcomesPerMarket, long seed) {
+        Preconditions.checkArgument(eventCount > 0);
+        Preconditions.checkArgument(marketsPerMessage > 0);
+        Preconditions.checkArgument(outcomesPerMarket > 1);
+
+        this.eventCount = eventCount;
+        this.marketsPerMessage = marketsPerMessage;
+        this.outcomesPerMarket = outcomesPerMarket;
+        this.random = new Random(seed);
+        this.suspended = new boolean[eventCount];
+        this.scores = new int[eventCount][2];
+    }
+
+    /**
+     * Generates the next message of a random match
+     *
+     * @return the generated message
+     */
+    public GeneratedMessage next() {
+        int eventIndex = random.nextInt(eventCount);
+        long eventId = FIRST_EVENT_ID + eventIndex;
+        long timestamp = System.currentTimeMillis();
+
+        double type = random.nextDouble();
+        if (suspended[eventIndex] || type >= BET_STOP_SHARE + BET_SETTLEMENT_SHARE) {
+            suspended[eventIndex] = false;
+            return new GeneratedMessage("odds_change", routingKey("hi", "odds_change", eventId), oddsChange(eventIndex, eventId, timestamp));
+        }
+        if (type < BET_STOP_SHARE) {
+            suspended[eventIndex] = true;
+            return new GeneratedMessage("bet_stop", routingKey("hi", "bet_stop", eventId), betStop(eventId, timestamp));
+        }
+        return new GeneratedMessage("bet_settlement", routingKey("lo", "bet_settlement", eventId), betSettlement(eventId, timestamp));
+    }
+
+    /**
+     * Builds the alive message of the producer, which keeps the producer up while the messages are generated
+     *
+     * @return the alive message
+     */
+    public static GeneratedMessage alive() {
+        String payload = String.format("<alive product=\"%d\" timestamp=\"%d\" subscribed=\"1\"/>", PRODUCER_ID, System.currentTimeMillis());
+        return new GeneratedMessage("alive", "-.-.-.alive.-.-.-.-", payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds the snapshot complete message which completes the recovery of the producer
+     *
+     * @param requestId the id of the recovery request
+     * @return the snapshot complete message
+     */
+    public static GeneratedMessage snapshotComplete(long requestId) {
+        String payload = String.format("<snapshot_complete product=\"%d\" request_id=\"%d\" timestamp=\"%d\"/>", PRODUCER_ID, requestId, System.currentTimeMillis());
+        return new GeneratedMessage("snapshot_complete", "-.-.-.snapshot_complete.-.-.-.-", payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private byte[] oddsChange(int eventIndex, long eventId, long timestamp) {
+        if (random.nextInt(100) == 0) {
+            scores[eventIndex][random.nextInt(2)]++;
+        }
+
+        builder.setLength(0);
+        builder.append("<odds_change product=\"").append(PRODUCER_ID)
+                .append("\" event_id=\"sr:match:").append(eventId)
+                .append("\" timestamp=\"").append(timestamp).append("\">")
+                .append("<sport_event_status status=\"1\" reporting=\"1\" match_status=\"6\" home_score=\"").append(scores[eventIndex][0])
+                .append("\" away_score=\"").append(scores[eventIndex][1]).append("\"/>")
+                .append("<odds>");
+        for (int market = 0; market < marketsPerMessage; market++) {
+            appendMarketStart(market).append(" status=\"1\">");
+            double margin = 1.05 + random.nextDouble() * 0.05;
+            for (int outcome = 0; outcome < outcomesPerMarket; outcome++) {
+                double probability = (0.5 + random.nextDouble()) / outcomesPerMarket;
+                builder.append("<outcome id=\"").append(outcome + 1)
+                        .append("\" odds=\"").append(String.format(Locale.ROOT, "%.2f", Math.max(1.01, 1 / (probability * margin))))
+                        .append("\" probabilities=\"").append(String.format(Locale.ROOT, "%.5f", probability))
+                        .append("\" active=\"1\"/>");
+            }
+            builder.append("</market>");
+        }
+        builder.append("</odds></odds_change>");
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] betStop(long eventId, long timestamp) {
+        String payload = String.format("<bet_stop groups=\"all\" product=\"%d\" event_id=\"sr:match:%d\" timestamp=\"%d\"/>", PRODUCER_ID, eventId, timestamp);
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] betSettlement(long eventId, long timestamp) {
+        builder.setLength(0);
+        builder.append("<bet_settlement certainty=\"2\" product=\"").append(PRODUCER_ID)
+                .append("\" event_id=\"sr:match:").append(eventId)
+                .append("\" timestamp=\"").append(timestamp).append("\">")
+                .append("<outcomes>");
+        for (int market = 0; market < marketsPerMessage; market++) {
+            appendMarketStart(market).append('>');
+            int winner = random.nextInt(outcomesPerMarket);
+            for (int outcome = 0; outcome < outcomesPerMarket; outcome++) {
+                builder.append("<outcome id=\"").append(outcome + 1)
+                        .append("\" result=\"").append(outcome == winner ? 1 : 0).append("\"/>");
+            }
+            builder.append("</market>");
+        }
+        builder.append("</outcomes></bet_settlement>");
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private StringBuilder appendMarketStart(int market) {
+        return builder.append("<market id=\"").append(TOTAL_GOALS_MARKET_ID)
+                .append("\" specifiers=\"total=").append(market).append(".5\"");
+    }
+
+    private static String routingKey(String priority, String messageType, long eventId) {
+        return String.format("%s.-.live.%s.%d.sr:match.%d.-", priority, messageType, SPORT_ID, eventId);
+    }
+
+    /**
+     * A generated feed message
+     */
+    public static final class GeneratedMessage {
+        private final String messageType;
+        private final String routingKey;
+        private final byte[] payload;
+
+        private GeneratedMessage(String messageType, String routingKey, byte[] payload) {
+            this.messageType = messageType;
+            this.routingKey = routingKey;
+            this.payload = payload;
+        }
+
+        public String getMessageType() {
+            return messageType;
+        }
+
+        public String getRoutingKey() {
+            return routingKey;
+        }
+
+        public byte[] getPayload() {
+            return payload;
+        }
+    }
+}
@@ -13,6 +13,7 @@ import com.sportradar.unifiedodds.sdk.custombetentities.CalculationFilter;
 import com.sportradar.unifiedodds.sdk.custombetentities.Selection;
 import com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.unifiedodds.sdk.impl.CustomBetCache;
 import com.sportradar.utils.URN;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,14 +27,17 @@ public class CustomBetManagerImpl implements CustomBetManager {
     private static final Logger executionLogger = LoggerFactory.getLogger(CustomBetManagerImpl.class);
     private static final Logger clientInteractionLogger = LoggerFactory.getLogger(LoggerDefinitions.UFSdkClientInteractionLog.class);
     private final DataRouterManager dataRouterManager;
+    private final CustomBetCache customBetCache;
     private final ExceptionHandlingStrategy exceptionHandlingStrategy;
 
     @Inject
-    CustomBetManagerImpl(DataRouterManager dataRouterManager, SDKInternalConfiguration configuration) {
+    CustomBetManagerImpl(DataRouterManager dataRouterManager, CustomBetCache customBetCache, SDKInternalConfiguration configuration) {
         Preconditions.checkNotNull(dataRouterManager);
+        Preconditions.checkNotNull(customBetCache);
         Preconditions.checkNotNull(configuration);
 
         this.dataRouterManager = dataRouterManager;
+        this.customBetCache = customBetCache;
         this.exceptionHandlingStrategy = configuration.getExceptionHandlingStrategy();
     }
 
@@ -49,7 +53,7 @@ public class CustomBetManagerImpl implements CustomBetManager {
         clientInteractionLogger.info("CustomBetManager.getAvailableSelections({})", eventId);
 
         try {
-            return dataRouterManager.requestAvailableSelections(eventId);
+            return customBetCache.getAvailableSelections(eventId, () -> dataRouterManager.requestAvailableSelections(eventId));
         } catch (CommunicationException e) {
             return handleException("Event[" + eventId.toString() + "] get available selections failed", e);
         }
@@ -62,7 +66,7 @@ public class CustomBetManagerImpl implements CustomBetManager {
         clientInteractionLogger.info("CustomBetManager.calculateProbability()");
 
         try {
-            return dataRouterManager.requestCalculateProbability(selections);
+            return customBetCache.getCalculation(selections, () -> dataRouterManager.requestCalculateProbability(selections));
         } catch (CommunicationException e) {
             return handleException("Calculating probabilities failed", e);
         }
@@ -75,7 +79,7 @@ public class CustomBetManagerImpl implements CustomBetManager {
         clientInteractionLogger.info("CustomBetManager.calculateProbabilityFilter()");
 
         try {
-            return dataRouterManager.requestCalculateProbabilityFilter(selections);
+            return customBetCache.getCalculationFilter(selections, () -> dataRouterManager.requestCalculateProbabilityFilter(selections));
         } catch (CommunicationException e) {
             return handleException("Calculating probabilities (filtered) failed", e);
         }
@@ -6,39 +6,47 @@ import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
 import com.sportradar.unifiedodds.sdk.entities.FixtureChange;
 import com.sportradar.unifiedodds.sdk.entities.ResultChange;
 import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.unifiedodds.sdk.impl.BlockingTaskExecutorFactory;
 import com.sportradar.unifiedodds.sdk.impl.SportsInfoManagerImpl;
 import com.sportradar.utils.URN;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.MarkerFactory;
-import org.yaml.snakeyaml.error.Mark;
 
+import javax.management.*;
+import java.lang.management.ManagementFactory;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-public class EventChangeManagerImpl implements EventChangeManager {
+public class EventChangeManagerImpl implements EventChangeManager, EventChangeManagerImplMBean {
 
-    private class EventUpdate{
-        URN id;
-        Date updated;
-        SportEvent sportEvent;
-        boolean isFixture;
+    private static class EventUpdate{
+        final URN id;
+        final Date updated;
+        final SportEvent sportEvent;
+        final boolean isFixture;
+        final long sequence;
 
-        public EventUpdate(URN id, Date updated, SportEvent sportEvent, boolean isFixture) {
+        EventUpdate(URN id, Date updated, SportEvent sportEvent, boolean isFixture, long sequence) {
             this.id = id;
             this.updated = updated;
             this.sportEvent = sportEvent;
             this.isFixture = isFixture;
+            this.sequence = sequence;
         }
     }
 
+    /**
+     * The max number of changed events which are refreshed(purged and re-fetched) concurrently, enforced by the
+     * {@link #refreshPermits} also when the refresh executor runs a thread per refresh(virtual threads)
+     */
+    private static final int REFRESH_PARALLELISM = 4;
+    private static final String MBEAN_NAME = "com.sportradar.unifiedodds.sdk.impl:type=EventChangeManager";
     private static final Logger executionLogger = LoggerFactory.getLogger(EventChangeManagerImpl.class);
     private static final Logger clientInteractionLogger = LoggerFactory.getLogger(LoggerDefinitions.UFSdkClientInteractionLog.class);
     private final SDKInternalConfiguration configuration;
@@ -54,7 +62,15 @@ public class EventChangeManagerImpl implements EventChangeManager {
     private Date lastResultChange;
     private Duration fixtureUpdateInterval;
     private Duration resultUpdateInterval;
-    private List<EventUpdate> eventUpdates;
+    private final ConcurrentMap<URN, EventUpdate> eventUpdates = new ConcurrentHashMap<>();
+    private final AtomicLong updateSequence = new AtomicLong();
+    private final AtomicLong fixtureChangesProcessed = new AtomicLong();
+    private final AtomicLong resultChangesProcessed = new AtomicLong();
+    private volatile long lastFixtureProcessingDuration;
+    private volatile long lastResultProcessingDuration;
+    private final BlockingTaskExecutorFactory executorFactory;
+    private ExecutorService refreshExecutor;
+    private final Semaphore refreshPermits = new Semaphore(REFRESH_PARALLELISM);
     private final ReentrantLock fixtureLock = new ReentrantLock();
     private final ReentrantLock resultLock = new ReentrantLock();
     private final ReentrantLock dispatchLock = new ReentrantLock();
@@ -62,14 +78,17 @@ public class EventChangeManagerImpl implements EventChangeManager {
     @Inject
     EventChangeManagerImpl(SportsInfoManager sportsInfoManager,
                            SportEventCache sportEventCache,
-                           SDKInternalConfiguration configuration) {
+                           SDKInternalConfiguration configuration,
+                           BlockingTaskExecutorFactory executorFactory) {
         Preconditions.checkNotNull(sportsInfoManager);
         Preconditions.checkNotNull(sportEventCache);
         Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(executorFactory);
 
         this.sportsInfoManager = (SportsInfoManagerImpl) sportsInfoManager;
         this.sportEventCache = sportEventCache;
         this.configuration = configuration;
+        this.executorFactory = executorFactory;
         this.fixtureTaskScheduler = Executors.newScheduledThreadPool(1);
         this.resultTaskScheduler = Executors.newScheduledThreadPool(1);
 
@@ -79,7 +98,6 @@ public class EventChangeManagerImpl implements EventChangeManager {
         lastFixtureChange = null;
         lastResultChange = null;
         eventChangeListener = null;
-        eventUpdates = Collections.synchronizedList(new ArrayList<>());
     }
 
     @Override
@@ -170,6 +188,7 @@ public class EventChangeManagerImpl implements EventChangeManager {
             isRunning = true;
             restartScheduler(fixtureTaskScheduler, true);
             restartScheduler(resultTaskScheduler, false);
+            registerMBean();
         }
         else
         {
@@ -186,6 +205,32 @@ public class EventChangeManagerImpl implements EventChangeManager {
         }
         fixtureTaskScheduler.shutdownNow();
         resultTaskScheduler.shutdownNow();
+        shutdownRefreshExecutor();
+        unregisterMBean();
+    }
+
+    private void registerMBean() {
+        try {
+            ObjectName name = new ObjectName(MBEAN_NAME);
+            MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+            if (!mbeanServer.isRegistered(name)) {
+                mbeanServer.registerMBean(this, name);
+            }
+        } catch (MalformedObjectNameException | NotCompliantMBeanException | MBeanRegistrationException | InstanceAlreadyExistsException e) {
+            executionLogger.warn("EventChangeManager statistics registration failed w/ ex.:", e);
+        }
+    }
+
+    private void unregisterMBean() {
+        try {
+            ObjectName name = new ObjectName(MBEAN_NAME);
+            MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+            if (mbeanServer.isRegistered(name)) {
+                mbeanServer.unregisterMBean(name);
+            }
+        } catch (MalformedObjectNameException | MBeanRegistrationException | InstanceNotFoundException e) {
+            executionLogger.warn("EventChangeManager statistics unregistration failed w/ ex.:", e);
+        }
     }
 
     private void restartScheduler(ScheduledExecutorService service, boolean isFixture) {
@@ -226,7 +271,7 @@ public class EventChangeManagerImpl implements EventChangeManager {
 
     private void updateLastFixtureChange(Date newDate)
     {
-        if (newDate.after(lastFixtureChange))
+        if (lastFixtureChange == null || newDate.after(lastFixtureChange))
         {
             lastFixtureChange = newDate;
         }
@@ -234,13 +279,13 @@ public class EventChangeManagerImpl implements EventChangeManager {
 
     private void updateLastResultChange(Date newDate)
     {
-        if (newDate.after(lastResultChange))
+        if (lastResultChange == null || newDate.after(lastResultChange))
         {
-            lastFixtureChange = newDate;
+            lastResultChange = newDate;
         }
     }
 
-    private void fetchFixtures() {
+    void fetchFixtures() {
         if (!isRunning) {
             executionLogger.debug("Invoked fixture change fetch when isRunning=false.");
             return;
@@ -252,12 +297,12 @@ public class EventChangeManagerImpl implements EventChangeManager {
         }
 
         fixtureLock.lock();
-
-        if(!isRunning) {
-            return;
-        }
-
         try {
+            if (!isRunning) {
+                return;
+            }
+
+            long started = System.currentTimeMillis();
             List<FixtureChange> changes;
             if (lastFixtureChange == null) {
                 executionLogger.info("Invoking getFixtureChanges. After=null");
@@ -268,42 +313,28 @@ public class EventChangeManagerImpl implements EventChangeManager {
                 changes = sportsInfoManager.getFixtureChanges(lastFixtureChange, null, configuration.getDefaultLocale());
             }
 
-            if(changes != null){
-                changes = changes.stream().sorted(Comparator.comparing(c->c.getUpdateTime().getTime())).collect(Collectors.toList());
-            }
-
-            for (FixtureChange fixtureChange : changes) {
-                if(!isRunning) {
-                    break;
+            if (changes != null) {
+                Date processedUntil = refreshChangedEvents(changes, FixtureChange::getSportEventId, FixtureChange::getUpdateTime, true);
+                if (processedUntil != null) {
+                    updateLastFixtureChange(processedUntil);
                 }
-
-                EventUpdate eventUpdate = eventUpdates.stream().filter(a -> a.id.equals(fixtureChange.getSportEventId())).findFirst().orElse(null);
-                if (eventUpdate != null) {
-                    if(fixtureChange.getUpdateTime().after(eventUpdate.updated)) {
-                        eventUpdates.remove(eventUpdate);
-                    } else {
-                        updateLastFixtureChange(fixtureChange.getUpdateTime());
-                        continue;
-                    }
-                }
-                sportEventCache.purgeCacheItem(fixtureChange.getSportEventId());
-                SportEvent sportEvent = sportsInfoManager.getSportEventForEventChange(fixtureChange.getSportEventId());
-                eventUpdates.add(new EventUpdate(fixtureChange.getSportEventId(), fixtureChange.getUpdateTime(), sportEvent, true));
-                updateLastFixtureChange(fixtureChange.getUpdateTime());
+                fixtureChangesProcessed.addAndGet(changes.size());
             }
+
+            lastFixtureProcessingDuration = System.currentTimeMillis() - started;
+            reportProcessingLag("fixture", lastFixtureProcessingDuration, lastFixtureChange, fixtureUpdateInterval);
         }
         catch (Exception ex) {
             executionLogger.error("Error fetching fixture changes. Exception={}", ex.getMessage());
         }
-
-        if(fixtureLock.isLocked()) {
+        finally {
             fixtureLock.unlock();
         }
 
         dispatchUpdateChangeMessages();
     }
 
-    private void fetchResults() {
+    void fetchResults() {
         if (!isRunning) {
             executionLogger.debug("Invoked result change fetch when isRunning=false.");
             return;
@@ -315,57 +346,202 @@ public class EventChangeManagerImpl implements EventChangeManager {
         }
 
         resultLock.lock();
-
-        if(!isRunning) {
-            return;
-        }
-
         try {
+            if (!isRunning) {
+                return;
+            }
+
+            long started = System.currentTimeMillis();
             List<ResultChange> changes;
             if (lastResultChange == null) {
                 executionLogger.info("Invoking getResultChanges. After=null");
                 changes = sportsInfoManager.getResultChanges(configuration.getDefaultLocale());
             }
             else {
-                executionLogger.info("Invoking getResultChanges. After={}", lastFixtureChange);
-                changes = sportsInfoManager.getResultChanges(lastFixtureChange, null, configuration.getDefaultLocale());
-            }
-
-            if(changes != null){
-                changes = changes.stream().sorted(Comparator.comparing(c->c.getUpdateTime().getTime())).collect(Collectors.toList());
+                executionLogger.info("Invoking getResultChanges. After={}", lastResultChange);
+                changes = sportsInfoManager.getResultChanges(lastResultChange, null, configuration.getDefaultLocale());
             }
 
-            for (ResultChange resultChange : changes) {
-                if(!isRunning) {
-                    break;
+            if (changes != null) {
+                Date processedUntil = refreshChangedEvents(changes, ResultChange::getSportEventId, ResultChange::getUpdateTime, false);
+                if (processedUntil != null) {
+                    updateLastResultChange(processedUntil);
                 }
-
-                EventUpdate eventUpdate = eventUpdates.stream().filter(a -> a.id.equals(resultChange.getSportEventId())).findFirst().orElse(null);
-                if (eventUpdate != null) {
-                    if(resultChange.getUpdateTime().after(eventUpdate.updated)) {
-                        eventUpdates.remove(eventUpdate);
-                    } else {
-                        updateLastResultChange(resultChange.getUpdateTime());
-                        continue;
-                    }
-                }
-                sportEventCache.purgeCacheItem(resultChange.getSportEventId());
-                SportEvent sportEvent = sportsInfoManager.getSportEventForEventChange(resultChange.getSportEventId());
-                eventUpdates.add(new EventUpdate(resultChange.getSportEventId(), resultChange.getUpdateTime(), sportEvent, false));
-                updateLastResultChange(resultChange.getUpdateTime());
+                resultChangesProcessed.addAndGet(changes.size());
             }
+
+            lastResultProcessingDuration = System.currentTimeMillis() - started;
+            reportProcessingLag("result", lastResultProcessingDuration, lastResultChange, resultUpdateInterval);
         }
         catch (Exception ex) {
             executionLogger.error("Error fetching result changes. Exception={}", ex.getMessage());
         }
-
-        if(resultLock.isLocked()) {
+        finally {
             resultLock.unlock();
         }
 
         dispatchUpdateChangeMessages();
     }
 
+    /**
+     * Purges and rebuilds the changed events with a bounded parallelism. Only the latest change of each event is
+     * processed and changes which are not newer than the already pending update of the event are skipped.
+     *
+     * @return the update time up to which all the changes were processed, or null if none was processed
+     */
+    private <T> Date refreshChangedEvents(List<T> changes, Function<T, URN> idProvider, Function<T, Date> updateTimeProvider, boolean isFixture) {
+        List<T> sorted = changes.stream()
+                .sorted(Comparator.comparing(c -> updateTimeProvider.apply(c).getTime()))
+                .collect(Collectors.toList());
+
+        // the latest change of each event, in the order of the update times
+        Map<URN, T> latestChanges = new LinkedHashMap<>();
+        for (T change : sorted) {
+            URN id = idProvider.apply(change);
+            latestChanges.remove(id);
+            latestChanges.put(id, change);
+        }
+
+        List<CompletableFuture<Boolean>> refreshes = new ArrayList<>(latestChanges.size());
+        List<T> refreshed = new ArrayList<>(latestChanges.size());
+        ExecutorService executor = provideRefreshExecutor();
+        for (T change : latestChanges.values()) {
+            URN id = idProvider.apply(change);
+            Date updated = updateTimeProvider.apply(change);
+            EventUpdate pending = eventUpdates.get(id);
+            if (pending != null && !updated.after(pending.updated)) {
+                continue;
+            }
+
+            refreshed.add(change);
+            refreshes.add(CompletableFuture.supplyAsync(() -> refreshEvent(id, updated, isFixture), executor));
+        }
+
+        // the changes which were not refreshed(not running anymore or failed) must be fetched again
+        Date failedFrom = null;
+        for (int i = 0; i < refreshes.size(); i++) {
+            boolean completed;
+            try {
+                completed = refreshes.get(i).join();
+            } catch (CompletionException e) {
+                completed = false;
+            }
+            if (!completed) {
+                Date updated = updateTimeProvider.apply(refreshed.get(i));
+                if (failedFrom == null || updated.before(failedFrom)) {
+                    failedFrom = updated;
+                }
+            }
+        }
+
+        Date processedUntil = null;
+        for (T change : sorted) {
+            Date updated = updateTimeProvider.apply(change);
+            if (failedFrom != null && !updated.before(failedFrom)) {
+                break;
+            }
+            processedUntil = updated;
+        }
+        return processedUntil;
+    }
+
+    private boolean refreshEvent(URN id, Date updated, boolean isFixture) {
+        if (!isRunning) {
+            return false;
+        }
+
+        try {
+            refreshPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        try {
+            sportEventCache.purgeCacheItem(id);
+            SportEvent sportEvent = sportsInfoManager.getSportEventForEventChange(id);
+            EventUpdate eventUpdate = new EventUpdate(id, updated, sportEvent, isFixture, updateSequence.incrementAndGet());
+            eventUpdates.merge(id, eventUpdate, (existing, incoming) -> incoming.updated.after(existing.updated) ? incoming : existing);
+            return true;
+        } catch (Exception ex) {
+            executionLogger.warn("Error refreshing event {} after {} change. Exception={}", id, isFixture ? "fixture" : "result", ex.getMessage());
+            return false;
+        } finally {
+            refreshPermits.release();
+        }
+    }
+
+    private synchronized ExecutorService provideRefreshExecutor() {
+        if (refreshExecutor == null || refreshExecutor.isShutdown()) {
+            refreshExecutor = executorFactory.createExecutor("EventChangeRefresh", REFRESH_PARALLELISM, true);
+        }
+        return refreshExecutor;
+    }
+
+    private synchronized void shutdownRefreshExecutor() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+            refreshExecutor = null;
+        }
+    }
+
+    /**
+     * Logs a warning if the processing of the changes took longer than the fetch interval or if the processed changes
+     * are lagging behind for more than two fetch intervals
+     */
+    private static void reportProcessingLag(String changeType, long processingDuration, Date lastChange, Duration interval) {
+        long intervalMillis = interval.toMillis();
+        if (processingDuration > intervalMillis) {
+            executionLogger.warn("Processing of {} changes took {}ms which is longer than the fetch interval of {}s",
+                    changeType, processingDuration, interval.getSeconds());
+        }
+
+        long lag = lastChange == null ? 0 : System.currentTimeMillis() - lastChange.getTime();
+        if (lag > 2 * intervalMillis) {
+            executionLogger.warn("Processed {} changes are lagging {}s behind, the fetch interval is {}s",
+                    changeType, TimeUnit.MILLISECONDS.toSeconds(lag), interval.getSeconds());
+        } else {
+            executionLogger.info("Processed {} changes in {}ms, lag: {}s", changeType, processingDuration, TimeUnit.MILLISECONDS.toSeconds(lag));
+        }
+    }
+
+    @Override
+    public long getFixtureChangeLag() {
+        Date last = lastFixtureChange;
+        return last == null ? 0 : TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - last.getTime());
+    }
+
+    @Override
+    public long getResultChangeLag() {
+        Date last = lastResultChange;
+        return last == null ? 0 : TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - last.getTime());
+    }
+
+    @Override
+    public long getLastFixtureProcessingDuration() {
+        return lastFixtureProcessingDuration;
+    }
+
+    @Override
+    public long getLastResultProcessingDuration() {
+        return lastResultProcessingDuration;
+    }
+
+    @Override
+    public long getNumberOfProcessedFixtureChanges() {
+        return fixtureChangesProcessed.get();
+    }
+
+    @Override
+    public long getNumberOfProcessedResultChanges() {
+        return resultChangesProcessed.get();
+    }
+
+    @Override
+    public int getNumberOfPendingEventUpdates() {
+        return eventUpdates.size();
+    }
+
     private void dispatchUpdateChangeMessages()
     {
         if(eventChangeListener == null)
@@ -374,36 +550,42 @@ public class EventChangeManagerImpl implements EventChangeManager {
         }
 
         dispatchLock.lock();
-        while(!eventUpdates.isEmpty())
+        try
         {
-            EventUpdate eventUpdate = eventUpdates.get(0);
-            String updateStr = eventUpdate.isFixture ? "fixture" : "result";
-            try
+            List<EventUpdate> updates = eventUpdates.values().stream()
+                    .sorted(Comparator.comparing((EventUpdate u) -> u.updated).thenComparingLong(u -> u.sequence))
+                    .collect(Collectors.toList());
+            for (EventUpdate eventUpdate : updates)
             {
-                clientInteractionLogger.debug("Dispatching {} change [{}] for {}. Updated={}",
-                                              updateStr,
-                                              eventUpdates.size(),
-                                              eventUpdate.id,
-                                              eventUpdate.updated);
-                if (eventUpdate.isFixture)
+                String updateStr = eventUpdate.isFixture ? "fixture" : "result";
+                try
                 {
-                    eventChangeListener.onFixtureChange(eventUpdate.id, eventUpdate.updated, eventUpdate.sportEvent);
+                    clientInteractionLogger.debug("Dispatching {} change [{}] for {}. Updated={}",
+                                                  updateStr,
+                                                  eventUpdates.size(),
+                                                  eventUpdate.id,
+                                                  eventUpdate.updated);
+                    if (eventUpdate.isFixture)
+                    {
+                        eventChangeListener.onFixtureChange(eventUpdate.id, eventUpdate.updated, eventUpdate.sportEvent);
+                    }
+                    else
+                    {
+                        eventChangeListener.onResultChange(eventUpdate.id, eventUpdate.updated, eventUpdate.sportEvent);
+                    }
                 }
-                else
+                catch (Exception exception)
                 {
-                    eventChangeListener.onResultChange(eventUpdate.id, eventUpdate.updated, eventUpdate.sportEvent);
+                    executionLogger.warn("Error during user processing of event {} change message: {}",
+                                         updateStr,
+                                         exception.getMessage());
                 }
-
-                eventUpdates.remove(eventUpdate);
-            }
-            catch (Exception exception)
-            {
-                executionLogger.warn("Error during user processing of event {} change message: {}",
-                                     updateStr,
-                                     exception.getMessage());
+                // a newer update of the same event which arrived in the meantime is kept for the next dispatch
+                eventUpdates.remove(eventUpdate.id, eventUpdate);
             }
         }
-        if(dispatchLock.isLocked()){
+        finally
+        {
             dispatchLock.unlock();
         }
     }
@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk;
+
+public interface EventChangeManagerImplMBean {
+
+    /**
+     * Returns the number of seconds between now and the update time of the last processed fixture change
+     */
+    public long getFixtureChangeLag();
+
+    /**
+     * Returns the number of seconds between now and the update time of the last processed result change
+     */
+    public long getResultChangeLag();
+
+    public long getLastFixtureProcessingDuration();
+
+    public long getLastResultProcessingDuration();
+
+    public long getNumberOfProcessedFixtureChanges();
+
+    public long getNumberOfProcessedResultChanges();
+
+    public int getNumberOfPendingEventUpdates();
+}
@@ -103,7 +103,7 @@ public interface MarketDescriptionManager {
      *
      * @param markets the list of markets to be checked and fetched
      * @param onlyVariantMarkets prefetch only variant markets or all markets in the list (default: true)
-     * @param threadPoolSize the size of the fixed thread pool (default: 100)
+     * @param threadPoolSize the size of the fixed thread pool (default: 100), not used if the SDK runs the blocking work on virtual threads
      * @return the time needed for processing in ms
      */
     default long parallelPrefetchVariantMarketDescriptions(List<? extends Market> markets, boolean onlyVariantMarkets, int threadPoolSize){
@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk;
+
+/**
+ * Defines how a session message queue behaves once the configured capacity is reached
+ */
+@SuppressWarnings("java:S115") // Constant names should comply with a naming convention
+public enum MessageQueueOverflowPolicy {
+    /**
+     * The AMQP consumer thread waits until the listener dispatched enough messages to free a slot
+     */
+    Block,
+
+    /**
+     * A queued odds_change is dropped to make room for the new message: an odds_change superseded by a newer queued
+     * odds_change of the same event and producer first, then the oldest odds_change of a recovery and finally the oldest
+     * live odds_change. If no odds_change is queued, a new odds_change is dropped and any other message waits for a free slot
+     */
+    DropOddsChange,
+
+    /**
+     * A new odds_change is merged into the queued odds_change of the same event and producer, as long as no other
+     * message of that event is queued after it. The markets of the newer message replace the queued ones, the
+     * markets present only in the queued message are kept. If the message can not be coalesced, it waits for a free slot
+     */
+    CoalesceOddsChange
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk;
+
+import com.sportradar.unifiedodds.sdk.oddsentities.EventOddsBook;
+import com.sportradar.utils.URN;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Defines methods used to access the in-memory odds book, the current markets of the events maintained by the SDK
+ * from the odds changes, bet stops, bet settlements, bet cancels and their rollbacks received by the sessions.
+ *
+ * The odds book is maintained only if enabled through the <code>uf.sdk.oddsBookEnabled</code> configuration
+ * property. After a recovery the markets of the events included in the snapshot which were not part of it are
+ * removed, so the book reflects the recovered state.
+ */
+public interface OddsBookManager {
+
+    /**
+     * Indicates if the odds book is maintained
+     *
+     * @return <code>true</code> if the odds book is maintained; otherwise <code>false</code>
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns a snapshot of the current markets of the specified event provided by the specified producer
+     *
+     * @param eventId the {@link URN} identifier of the event
+     * @param producerId the id of the producer
+     * @return a snapshot of the event markets or <code>null</code> if no markets of the event were received
+     */
+    EventOddsBook getEventOddsBook(URN eventId, int producerId);
+
+    /**
+     * Returns the snapshots of the current markets of the specified event for all the producers which provided them
+     *
+     * @param eventId the {@link URN} identifier of the event
+     * @return the snapshots of the event markets, an empty list if no markets of the event were received
+     */
+    List<EventOddsBook> getEventOddsBooks(URN eventId);
+
+    /**
+     * Returns the version of the markets of the specified event provided by the specified producer, the version can
+     * be used to check if the markets changed without taking a snapshot
+     *
+     * @param eventId the {@link URN} identifier of the event
+     * @param producerId the id of the producer
+     * @return the version of the event markets or 0 if no markets of the event were received
+     */
+    long getEventVersion(URN eventId, int producerId);
+
+    /**
+     * Returns the identifiers of the events with markets in the odds book
+     *
+     * @return the identifiers of the events with markets in the odds book
+     */
+    Set<URN> getEventIds();
+
+    /**
+     * Removes all the markets of the specified event from the odds book
+     *
+     * @param eventId the {@link URN} identifier of the event
+     */
+    void removeEvent(URN eventId);
+
+    /**
+     * Returns the estimated memory(bytes) used by the markets in the odds book
+     *
+     * @return the estimated memory(bytes) used by the odds book
+     */
+    long getEstimatedMemoryUsage();
+}
@@ -128,6 +128,11 @@ public class OddsFeed {
      */
     private EventChangeManager eventChangeManager;
 
+    /**
+     * The in-memory odds book of the events received by the sessions
+     */
+    private OddsBookManager oddsBookManager;
+
     /**
      * The most basic feed constructor
      *
@@ -353,6 +358,17 @@ public class OddsFeed {
         return eventChangeManager;
     }
 
+    /**
+     * Returns the {@link OddsBookManager} instance used to access the current markets of the events received by
+     * the sessions, the odds book is maintained only if enabled through the configuration
+     *
+     * @return a {@link OddsBookManager} instance used to access the current markets of the events
+     */
+    public OddsBookManager getOddsBookManager() {
+        this.initOddsFeedInstance();
+        return oddsBookManager;
+    }
+
     /**
      * This method opens/starts the feed with all the built sessions and
      * creates the various tasks needed for optimal OddsFeed operation
@@ -395,20 +411,38 @@ public class OddsFeed {
                                 .findFirst()
                                 .orElseThrow(() -> new IllegalStateException("Feed created without sessions?"));
 
-                        systemMessagesSession.open(
-                                Lists.newArrayList(MessageInterest.SystemAliveMessages.getRoutingKeys()),
-                                MessageInterest.SystemAliveMessages,
-                                firstCreatedSession.oddsFeedListener,
-                                oddsFeedExtListener
-                        );
+                        if (firstCreatedSession.passthroughListener != null) {
+                            systemMessagesSession.openPassthrough(
+                                    Lists.newArrayList(MessageInterest.SystemAliveMessages.getRoutingKeys()),
+                                    MessageInterest.SystemAliveMessages,
+                                    firstCreatedSession.passthroughListener
+                            );
+                        } else {
+                            systemMessagesSession.open(
+                                    Lists.newArrayList(MessageInterest.SystemAliveMessages.getRoutingKeys()),
+                                    MessageInterest.SystemAliveMessages,
+                                    firstCreatedSession.oddsFeedListener,
+                                    oddsFeedExtListener
+                            );
+                        }
                     }
 
                     for (SessionData sessionData : createdSessionData) {
+                        if (sessionData.passthroughListener != null) {
+                            sessionData.session.openPassthrough(
+                                    sessionRoutingKeys.get(sessionData.hashCode()),
+                                    sessionData.messageInterest,
+                                    sessionData.passthroughListener,
+                                    sessionData.sessionOptions
+                            );
+                            continue;
+                        }
                         sessionData.session.open(
                                 sessionRoutingKeys.get(sessionData.hashCode()),
                                 sessionData.messageInterest,
                                 sessionData.oddsFeedListener,
-                                oddsFeedExtListener
+                                oddsFeedExtListener,
+                                sessionData.sessionOptions
                         );
                     }
 
@@ -470,6 +504,26 @@ public class OddsFeed {
         } catch(Exception ex) {
             logger.warn("Error during close - DataRouterManager", ex);
         }
+        try{
+            injector.getInstance(ApiRequestScheduler.class).close();
+        } catch(Exception ex) {
+            logger.warn("Error during close - ApiRequestScheduler", ex);
+        }
+        try{
+            injector.getInstance(CashOutProbabilitiesCache.class).close();
+        } catch(Exception ex) {
+            logger.warn("Error during close - CashOutProbabilitiesCache", ex);
+        }
+        try{
+            injector.getInstance(OddsBook.class).close();
+        } catch(Exception ex) {
+            logger.warn("Error during close - OddsBook", ex);
+        }
+        try{
+            injector.getInstance(RabbitMqChannelMonitor.class).close();
+        } catch(Exception ex) {
+            logger.warn("Error during close - RabbitMqChannelMonitor", ex);
+        }
         try{
             injector.getInstance(CloseableHttpClient.class).close();
         } catch(Exception ex) {
@@ -490,6 +544,11 @@ public class OddsFeed {
         } catch(Exception ex) {
             logger.warn("Error during close - SDKTaskScheduler", ex);
         }
+        try{
+            injector.getInstance(SingleRecoveryManagerSupervisor.class).stopSupervising();
+        } catch(Exception ex) {
+            logger.warn("Error during close - SingleRecoveryManagerSupervisor", ex);
+        }
         try{
             injector.getInstance(Key.get(ScheduledExecutorService.class, Names.named("DedicatedRecoveryManagerExecutor"))).shutdownNow();
         } catch(Exception ex) {
@@ -500,6 +559,11 @@ public class OddsFeed {
         } catch(Exception ex) {
             logger.warn("Error during close - ExecutorService", ex);
         }
+        try{
+            injector.getInstance(Key.get(ExecutorService.class, Names.named("DedicatedEventScheduleExecutor"))).shutdownNow();
+        } catch(Exception ex) {
+            logger.warn("Error during close - ExecutorService", ex);
+        }
         try{
             InternalCachesProvider internalCachesProvider = injector.getInstance(Key.get(InternalCachesProvider.class));
             internalCachesProvider.close();
@@ -562,6 +626,7 @@ public class OddsFeed {
         this.customBetManager = injector.getInstance(CustomBetManager.class);
         this.bookmakerDetails = whoAmI.getBookmakerDetails();
         this.eventChangeManager = injector.getInstance(EventChangeManager.class);
+        this.oddsBookManager = injector.getInstance(OddsBookManager.class);
 
         feedInitialized = true;
     }
@@ -570,11 +635,12 @@ public class OddsFeed {
         return Guice.createInjector(new MasterInjectionModule(listener, this.oddsFeedConfiguration, customisableSDKModule));
     }
 
-    private void createSession(OddsFeedSessionImpl session, MessageInterest oddsInterest, Set<URN> eventIds, OddsFeedListener oddsFeedListener) {
+    private void createSession(OddsFeedSessionImpl session, MessageInterest oddsInterest, Set<URN> eventIds, OddsFeedListener oddsFeedListener, OddsFeedPassthroughListener passthroughListener, SessionOptions sessionOptions) {
         if (this.feedOpened){
             throw new IllegalStateException("Sessions can not be created once the feed has been opened");
         } else {
-            SessionData sessionData = new SessionData(session, oddsInterest, eventIds, oddsFeedListener);
+            SessionData sessionData = new SessionData(session, oddsInterest, eventIds, oddsFeedListener, passthroughListener, sessionOptions);
+            injector.getInstance(SessionPartitions.class).register(sessionOptions.getPartition());
 
             createdSessionData.add(sessionData);
         }
@@ -599,21 +665,27 @@ public class OddsFeed {
         private final MessageInterest messageInterest;
         private final Set<URN> eventIds;
         private final OddsFeedListener oddsFeedListener;
+        private final OddsFeedPassthroughListener passthroughListener;
+        private final SessionOptions sessionOptions;
 
-        SessionData(OddsFeedSessionImpl session, MessageInterest messageInterest, Set<URN> eventIds, OddsFeedListener oddsFeedListener) {
+        SessionData(OddsFeedSessionImpl session, MessageInterest messageInterest, Set<URN> eventIds, OddsFeedListener oddsFeedListener, OddsFeedPassthroughListener passthroughListener, SessionOptions sessionOptions) {
             this.session = session;
             this.messageInterest = messageInterest;
             this.eventIds = eventIds;
             this.oddsFeedListener = oddsFeedListener;
+            this.passthroughListener = passthroughListener;
+            this.sessionOptions = sessionOptions;
         }
     }
 
     class OddsFeedSessionBuilderImpl implements OddsFeedSessionBuilder {
         private OddsFeed oddsFeed;
         private OddsFeedListener mainOddsFeedListener;
+        private OddsFeedPassthroughListener passthroughListener;
         private MessageInterest msgInterestLevel;
         private HashSet<URN> eventIds;
         private HashSet<GenericOddsFeedListener> specificOddsFeedListeners;
+        private SessionOptions sessionOptions = SessionOptions.DEFAULT;
 
         OddsFeedSessionBuilderImpl(OddsFeed oddsFeed) {
             this.oddsFeed = oddsFeed;
@@ -668,16 +740,60 @@ public class OddsFeed {
             return setSpecificEventsOnly(Collections.singleton(specificEventsOnly));
         }
 
+        @Override
+        public OddsFeedSessionBuilder setMessageQueue(int capacity, MessageQueueOverflowPolicy overflowPolicy) {
+            this.sessionOptions = sessionOptions.withMessageQueue(capacity, overflowPolicy);
+            return this;
+        }
+
+        @Override
+        public OddsFeedSessionBuilder setOddsChangeCoalescing(boolean coalesce) {
+            this.sessionOptions = sessionOptions.withOddsChangeCoalescing(coalesce);
+            return this;
+        }
+
+        @Override
+        public OddsFeedSessionBuilder setPriorityLanes(int liveLaneWeight) {
+            this.sessionOptions = sessionOptions.withPriorityLanes(liveLaneWeight);
+            return this;
+        }
+
+        @Override
+        public OddsFeedSessionBuilder setOddsChangeDeltaDispatch(boolean delta) {
+            this.sessionOptions = sessionOptions.withOddsChangeDelta(delta);
+            return this;
+        }
+
+        @Override
+        public OddsFeedSessionBuilder setPartition(int partitionIndex, int partitionCount) {
+            this.sessionOptions = sessionOptions.withPartition(partitionIndex, partitionCount);
+            return this;
+        }
+
+        @Override
+        public OddsFeedSessionBuilder setPassthroughListener(OddsFeedPassthroughListener listener) {
+            this.passthroughListener = listener;
+            return this;
+        }
+
         @Override
         public OddsFeedSession build() {
+            if (passthroughListener != null) {
+                Preconditions.checkState(mainOddsFeedListener == null, "A passthrough session can not have an odds feed listener");
+                Preconditions.checkState(!sessionOptions.isMessageQueueEnabled(), "A passthrough session can not use a message queue, odds change coalescing or priority lanes");
+                Preconditions.checkState(!sessionOptions.isOddsChangeDelta(), "A passthrough session can not use the odds change delta dispatch");
+            }
+
             // TODO @eti: handle specific event listeners
             OddsFeedSessionImpl session = injector.getInstance(OddsFeedSessionImpl.class);
-            this.oddsFeed.createSession(session, msgInterestLevel, eventIds, mainOddsFeedListener);
+            this.oddsFeed.createSession(session, msgInterestLevel, eventIds, mainOddsFeedListener, passthroughListener, sessionOptions);
 
             this.msgInterestLevel = null;
             this.eventIds = null;
             this.mainOddsFeedListener = null;
+            this.passthroughListener = null;
             this.specificOddsFeedListeners = null;
+            this.sessionOptions = SessionOptions.DEFAULT;
 
             return session;
         }
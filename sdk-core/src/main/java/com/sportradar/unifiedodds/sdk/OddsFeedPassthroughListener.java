@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk;
+
+import com.sportradar.unifiedodds.sdk.oddsentities.PassthroughMessage;
+
+/**
+ * Listener of the sessions opened in the passthrough mode (see {@link OddsFeedSessionBuilder#setPassthroughListener(OddsFeedPassthroughListener)}).
+ * The messages are dispatched without deserialization, validation or sport event entity building, which makes
+ * the mode suitable for relay nodes forwarding the feed to other systems.
+ */
+public interface OddsFeedPassthroughListener {
+    /**
+     * Invoked for every received message of the session, including the alive and snapshot complete messages
+     *
+     * @param sender the session which received the message
+     * @param message the received {@link PassthroughMessage}
+     */
+    void onPassthroughMessage(OddsFeedSession sender, PassthroughMessage message);
+
+    /**
+     * Invoked when the header of a received message could not be parsed
+     *
+     * @param sender the session which received the message
+     * @param routingKey the routing key on which the message was received
+     * @param rawMessage the raw message payload
+     */
+    default void onUnparsableMessage(OddsFeedSession sender, String routingKey, byte[] rawMessage) {
+        // NO-OP mode, implement if the unparsable messages should be handled
+    }
+}
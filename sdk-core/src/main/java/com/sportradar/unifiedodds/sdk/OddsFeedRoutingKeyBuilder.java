@@ -6,6 +6,7 @@ package com.sportradar.unifiedodds.sdk;
 
 import com.google.common.base.Preconditions;
 import com.sportradar.unifiedodds.sdk.exceptions.UnsupportedMessageInterestCombination;
+import com.sportradar.unifiedodds.sdk.impl.UnifiedFeedConstants;
 import com.sportradar.utils.URN;
 
 import java.util.*;
@@ -79,7 +80,7 @@ class OddsFeedRoutingKeyBuilder {
     private static List<String> getBasicRoutingKeys(MessageInterest messageInterest, Set<URN> eventIds) {
         return messageInterest != MessageInterest.SpecifiedMatchesOnly ?
                 messageInterest.getRoutingKeys() :
-                eventIds.stream().map(e -> String.format("#.%s:%s.%d", e.getPrefix(), e.getType(), e.getId())).collect(Collectors.toList());
+                eventIds.stream().map(e -> String.format(UnifiedFeedConstants.EVENT_ROUTING_KEY_TEMPLATE, e.getPrefix(), e.getType(), e.getId())).collect(Collectors.toList());
     }
 
     private static void validateInterestCombination(Map<Integer, Entry<MessageInterest, Set<URN>>> sessionsData) {
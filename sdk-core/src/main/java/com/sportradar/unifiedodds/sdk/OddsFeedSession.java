@@ -4,6 +4,12 @@
 
 package com.sportradar.unifiedodds.sdk;
 
+import com.sportradar.utils.URN;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+
 /**
  * This is the representation of one stream/session/connection to the Sportradar Odds Messages (It
  * is possible to have one or more such session simultaneously listening to the same or different
@@ -14,4 +20,37 @@ package com.sportradar.unifiedodds.sdk;
  */
 public interface OddsFeedSession {
 
+    /**
+     * Changes the events received by an open session created with {@link OddsFeedSessionBuilder#setSpecificEventsOnly(Set)},
+     * the routing keys of the events are bound and unbound on the live channel as a single batch. The events which
+     * are already subscribed, or not subscribed, are skipped and the changed subscriptions are kept when the channel
+     * is recreated.
+     *
+     * @param subscribe the events which should be received by the session
+     * @param unsubscribe the events which should no longer be received by the session
+     * @throws IOException if the routing keys could not be bound or unbound
+     */
+    default void updateEventSubscriptions(Set<URN> subscribe, Set<URN> unsubscribe) throws IOException {
+        throw new UnsupportedOperationException("Method not implemented. Use derived type.");
+    }
+
+    /**
+     * Starts receiving the messages of the provided events, see {@link #updateEventSubscriptions(Set, Set)}
+     *
+     * @param eventIds the events which should be received by the session
+     * @throws IOException if the routing keys could not be bound
+     */
+    default void subscribeEvents(Set<URN> eventIds) throws IOException {
+        updateEventSubscriptions(eventIds, Collections.emptySet());
+    }
+
+    /**
+     * Stops receiving the messages of the provided events, see {@link #updateEventSubscriptions(Set, Set)}
+     *
+     * @param eventIds the events which should no longer be received by the session
+     * @throws IOException if the routing keys could not be unbound
+     */
+    default void unsubscribeEvents(Set<URN> eventIds) throws IOException {
+        updateEventSubscriptions(Collections.emptySet(), eventIds);
+    }
 }
@@ -60,6 +60,98 @@ public interface OddsFeedSessionBuilder {
         return null;
     }
 
+    /**
+     * Dispatches the session messages through a bounded queue, so the AMQP consumer is not blocked by the
+     * listener until the queue is full. The messages are dispatched in the receive order by a dedicated thread.
+     * By default the messages are dispatched on the AMQP consumer thread. If the manual acknowledgement is
+     * configured(uf.sdk.messagingAckBatchSize), the messages are acknowledged to the broker once queued, so the
+     * queued messages are not redelivered if the process stops before they are dispatched.
+     *
+     * @param capacity the maximum number of messages waiting to be dispatched
+     * @param overflowPolicy the {@link MessageQueueOverflowPolicy} applied once the queue is full
+     * @return the current session builder
+     */
+    default OddsFeedSessionBuilder setMessageQueue(int capacity, MessageQueueOverflowPolicy overflowPolicy) {
+        return this;
+    }
+
+    /**
+     * Enables the odds change coalescing: while odds changes of an event are waiting in the session message queue,
+     * a newly received odds change of the same event and producer is merged into the queued one, so only the
+     * newest state of each market is built and dispatched. Bet stops, bet settlements, fixture changes and any
+     * other messages are never coalesced and the ordering relative to them is preserved. If no message queue was
+     * configured, a queue with the capacity of 1000 messages and the {@link MessageQueueOverflowPolicy#Block}
+     * policy is used.
+     *
+     * @param coalesce an indication if the odds changes should be coalesced
+     * @return the current session builder
+     */
+    default OddsFeedSessionBuilder setOddsChangeCoalescing(boolean coalesce) {
+        return this;
+    }
+
+    /**
+     * Enables the priority lanes: the messages which are part of a recovery(carrying a request id, ex: the snapshot
+     * replay) are queued separately from the live messages, so the live odds are not delayed until the snapshot is
+     * replayed. While both lanes have a backlog, the provided number of live messages is dispatched for each recovery
+     * message. The messages of the same event are still dispatched in the receive order. If no message queue was
+     * configured, a queue with the capacity of 1000 messages and the {@link MessageQueueOverflowPolicy#Block}
+     * policy is used.
+     *
+     * @param liveLaneWeight the number of live messages dispatched for each recovery message, <code>0</code>
+     *                       disables the priority lanes
+     * @return the current session builder
+     */
+    default OddsFeedSessionBuilder setPriorityLanes(int liveLaneWeight) {
+        return this;
+    }
+
+    /**
+     * Enables the odds change delta dispatch: the session keeps the last received odds, probability and active flag
+     * of each outcome and the status of each market, per event and producer, and dispatches the odds changes with
+     * the markets and outcomes which changed since the previous odds change of the event only. The complete message
+     * is still available through {@link com.sportradar.unifiedodds.sdk.oddsentities.OddsChange#getFullOddsChange()}.
+     * The odds changes which are part of a recovery and the first odds change of an event, or the first one after
+     * a bet stop, bet settlement, bet cancel or their rollback, are dispatched complete.
+     *
+     * @param delta an indication if the odds changes should be dispatched with the changed outcomes only
+     * @return the current session builder
+     */
+    default OddsFeedSessionBuilder setOddsChangeDeltaDispatch(boolean delta) {
+        return this;
+    }
+
+    /**
+     * Enables the partitioned consumption, used to spread the feed across several nodes: the events are assigned to
+     * the partitions by a consistent hash of the event id from the routing key and the messages of the events
+     * assigned to other partitions are discarded before they are deserialized. The messages which are not related
+     * to an event (alive, snapshot complete, ...) are consumed by all partitions. The sport event cache populated
+     * from the API schedules keeps only the events consumed on the node. All the nodes must use the same
+     * partition count.
+     *
+     * @param partitionIndex the zero based index of the partition consumed by the session
+     * @param partitionCount the number of partitions
+     * @return the current session builder
+     */
+    default OddsFeedSessionBuilder setPartition(int partitionIndex, int partitionCount) {
+        return this;
+    }
+
+    /**
+     * Opens the session in the passthrough mode: the messages are dispatched to the provided listener with the
+     * routing key, the raw payload and a minimal header (type, producer, event id, timestamp) extracted from the
+     * message root element. The payloads are not deserialized or validated, no sport event entities are built and
+     * the sport event caches are not populated, so the mode is meant for relay nodes which forward the feed.
+     * The recovery of the session producers is still handled by the SDK. A passthrough session can not have
+     * an {@link OddsFeedListener} or a message queue and duplicate fixture changes are not filtered.
+     *
+     * @param listener the listener which will receive the raw messages
+     * @return the current session builder
+     */
+    default OddsFeedSessionBuilder setPassthroughListener(OddsFeedPassthroughListener listener) {
+        return this;
+    }
+
     /**
      * This function creates the newly configured session using the supplied message interest and listeners
      *
@@ -23,6 +23,9 @@ public final class OperationManager
     private static int rabbitConnectionTimeout;
     private static int rabbitHeartbeat;
     private static Duration fastHttpClientTimeout;
+    private static Duration liveScheduleCacheTimeout;
+    private static Duration dateScheduleCacheTimeout;
+    private static Duration tournamentScheduleCacheTimeout;
 
     /**
      * Gets the sport event status cache timeout - how long status is cached
@@ -80,6 +83,27 @@ public final class OperationManager
      */
     public static Duration getFastHttpClientTimeout() { return fastHttpClientTimeout; }
 
+    /**
+     * Gets the live schedule cache timeout - how long the ids of the live events are cached
+     * Can be between 0 and 60 min - default 0 (not cached, absolute expiration)
+     * @return the live schedule cache timeout
+     */
+    public static Duration getLiveScheduleCacheTimeout() { return liveScheduleCacheTimeout; }
+
+    /**
+     * Gets the date schedule cache timeout - how long the ids of the events scheduled for a date are cached
+     * Can be between 0 and 60 min - default 0 (not cached, absolute expiration)
+     * @return the date schedule cache timeout
+     */
+    public static Duration getDateScheduleCacheTimeout() { return dateScheduleCacheTimeout; }
+
+    /**
+     * Gets the tournament schedule cache timeout - how long the ids of the tournament events are cached
+     * Can be between 0 and 60 min - default 0 (not cached, absolute expiration)
+     * @return the tournament schedule cache timeout
+     */
+    public static Duration getTournamentScheduleCacheTimeout() { return tournamentScheduleCacheTimeout; }
+
     /**
      * Initialization of default values of the OperationManager
      */
@@ -93,6 +117,9 @@ public final class OperationManager
         rabbitConnectionTimeout = 30; // ConnectionFactory.DEFAULT_CONNECTION_TIMEOUT / 1000;
         rabbitHeartbeat = ConnectionFactory.DEFAULT_HEARTBEAT;
         fastHttpClientTimeout = Duration.ofSeconds(5);
+        liveScheduleCacheTimeout = Duration.ZERO;
+        dateScheduleCacheTimeout = Duration.ZERO;
+        tournamentScheduleCacheTimeout = Duration.ZERO;
     }
 
     /**
@@ -238,4 +265,47 @@ public final class OperationManager
         String msg = String.format("Invalid timeout value for FastHttpClientTimeout: %s ms.", timeout.toMillis());
         throw new IllegalArgumentException(msg);
     }
+
+    /**
+     * Sets the live schedule cache timeout
+     * @param timeout timeout value
+     */
+    public static void setLiveScheduleCacheTimeout(Duration timeout)
+    {
+        liveScheduleCacheTimeout = validateScheduleCacheTimeout("LiveScheduleCacheTimeout", timeout);
+    }
+
+    /**
+     * Sets the date schedule cache timeout
+     * @param timeout timeout value
+     */
+    public static void setDateScheduleCacheTimeout(Duration timeout)
+    {
+        dateScheduleCacheTimeout = validateScheduleCacheTimeout("DateScheduleCacheTimeout", timeout);
+    }
+
+    /**
+     * Sets the tournament schedule cache timeout
+     * @param timeout timeout value
+     */
+    public static void setTournamentScheduleCacheTimeout(Duration timeout)
+    {
+        tournamentScheduleCacheTimeout = validateScheduleCacheTimeout("TournamentScheduleCacheTimeout", timeout);
+    }
+
+    private static Duration validateScheduleCacheTimeout(String name, Duration timeout)
+    {
+        if(timeout == null) {
+            String msg = String.format("Missing timeout value for %s", name);
+            throw new IllegalArgumentException(msg);
+        }
+
+        if (!timeout.isNegative() && timeout.compareTo(Duration.ofMinutes(60)) <= 0) {
+            InteractionLog.info("Set {} to {} s.", name, timeout.getSeconds());
+            return timeout;
+        }
+
+        String msg = String.format("Invalid timeout value for %s: %s s.", name, timeout.getSeconds());
+        throw new IllegalArgumentException(msg);
+    }
 }
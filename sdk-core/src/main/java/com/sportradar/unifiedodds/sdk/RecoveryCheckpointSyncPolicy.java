@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk;
+
+/**
+ * An indication of when the persisted producer recovery checkpoint should be forced(fsync) to the storage device
+ */
+@SuppressWarnings("java:S115") // Constant names should comply with a naming convention
+public enum RecoveryCheckpointSyncPolicy {
+    /**
+     * Each written checkpoint is forced to the storage device before it replaces the previous one
+     */
+    Always,
+
+    /**
+     * Only the checkpoint written while the feed is closing is forced to the storage device, the periodic
+     * checkpoints are left to the operating system
+     */
+    OnClose,
+
+    /**
+     * The checkpoints are never forced, the operating system decides when the data reaches the storage device
+     */
+    Never
+}
@@ -231,6 +231,93 @@ public abstract class SDKConfigurationReader {
         });
     }
 
+    public Optional<Integer> readMessagingPrefetchCount() {
+        return readNonNegativeInteger("uf.sdk.messagingPrefetchCount");
+    }
+
+    public Optional<Integer> readMessagingAckBatchSize() {
+        return readNonNegativeInteger("uf.sdk.messagingAckBatchSize");
+    }
+
+    public Optional<Integer> readMessagingChannelsPerSession() {
+        return readNonNegativeInteger("uf.sdk.messagingChannelsPerSession");
+    }
+
+    public Optional<Integer> readMessagingChannelStaleTimeout() {
+        return readNonNegativeInteger("uf.sdk.messagingChannelStaleTimeout");
+    }
+
+    public Optional<String> readRecoveryCheckpointFile() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.recoveryCheckpointFile"))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty());
+    }
+
+    public Optional<Integer> readRecoveryCheckpointInterval() {
+        return readNonNegativeInteger("uf.sdk.recoveryCheckpointInterval");
+    }
+
+    public Optional<RecoveryCheckpointSyncPolicy> readRecoveryCheckpointSyncPolicy() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.recoveryCheckpointSyncPolicy"))
+                .map(value -> Arrays.stream(RecoveryCheckpointSyncPolicy.values())
+                        .filter(policy -> policy.name().equalsIgnoreCase(value.trim()))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("The provided uf.sdk.recoveryCheckpointSyncPolicy is not valid, value: " + value)));
+    }
+
+    public Optional<Integer> readCustomBetCacheTimeout() {
+        return readNonNegativeInteger("uf.sdk.customBetCacheTimeout");
+    }
+
+    public Optional<Integer> readCashOutProbabilitiesCacheTimeout() {
+        return readNonNegativeInteger("uf.sdk.cashOutProbabilitiesCacheTimeout");
+    }
+
+    public Optional<Integer> readCashOutProbabilitiesMinRefreshInterval() {
+        return readNonNegativeInteger("uf.sdk.cashOutProbabilitiesMinRefreshInterval");
+    }
+
+    public Optional<Integer> readApiRequestRateLimit() {
+        return readNonNegativeInteger("uf.sdk.apiRequestRateLimit");
+    }
+
+    public Optional<Integer> readApiRequestEndpointRateLimit() {
+        return readNonNegativeInteger("uf.sdk.apiRequestEndpointRateLimit");
+    }
+
+    public Optional<Integer> readApiRequestMaxQueueTime() {
+        return readNonNegativeInteger("uf.sdk.apiRequestMaxQueueTime")
+                .map(value -> {
+                    if (value == 0) {
+                        throw new IllegalArgumentException("The provided uf.sdk.apiRequestMaxQueueTime must be greater than 0");
+                    }
+                    return value;
+                });
+    }
+
+    public Optional<Boolean> readHttpClientCompression() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.httpClientCompression"))
+                .map(value -> value.equals("true"));
+    }
+
+    public Optional<Integer> readHttpClientIdleConnectionTimeout() {
+        return readNonNegativeInteger("uf.sdk.httpClientIdleConnectionTimeout");
+    }
+
+    public Optional<Boolean> readOddsBookEnabled() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.oddsBookEnabled"))
+                .map(value -> value.equals("true"));
+    }
+
+    public Optional<Boolean> readVirtualThreadsEnabled() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.virtualThreads"))
+                .map(value -> value.equals("true"));
+    }
+
+    public Optional<Integer> readSportEventCachePurgeHorizon() {
+        return readNonNegativeInteger("uf.sdk.sportEventCachePurgeHorizon");
+    }
+
     public Environment readUfEnvironment() {
         Optional<Boolean> useIntegration = readUseIntegration();
         Environment environment = Environment.GlobalIntegration;
@@ -255,6 +342,24 @@ public abstract class SDKConfigurationReader {
         return environment;
     }
 
+    private Optional<Integer> readNonNegativeInteger(String key) {
+        return Optional.ofNullable(sdkProperties.get(key))
+                .map(value -> {
+                    int number;
+                    try {
+                        number = Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("The provided " + key + " is not a valid number, value: " + value);
+                    }
+
+                    if (number < 0) {
+                        throw new IllegalArgumentException("The provided " + key + " must not be negative, value: " + value);
+                    }
+
+                    return number;
+                });
+    }
+
     abstract Map<String,String> readConfiguration();
 
     //NOTE: Access to SDKConfigurationReader must be single-threaded
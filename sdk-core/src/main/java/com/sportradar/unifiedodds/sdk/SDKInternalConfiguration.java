@@ -44,6 +44,24 @@ public class SDKInternalConfiguration {
     private final int httpClientMaxConnPerRoute;
     private final int recoveryHttpClientMaxConnTotal;
     private final int recoveryHttpClientMaxConnPerRoute;
+    private final int messagingPrefetchCount;
+    private final int messagingAckBatchSize;
+    private final int messagingChannelsPerSession;
+    private final int messagingChannelStaleTimeout;
+    private final String recoveryCheckpointFile;
+    private final int recoveryCheckpointInterval;
+    private final RecoveryCheckpointSyncPolicy recoveryCheckpointSyncPolicy;
+    private final int customBetCacheTimeout;
+    private final int cashOutProbabilitiesCacheTimeout;
+    private final int cashOutProbabilitiesMinRefreshInterval;
+    private final int apiRequestRateLimit;
+    private final int apiRequestEndpointRateLimit;
+    private final int apiRequestMaxQueueTime;
+    private final boolean httpClientCompression;
+    private final int httpClientIdleConnectionTimeout;
+    private final boolean oddsBookEnabled;
+    private final int sportEventCachePurgeHorizon;
+    private final boolean virtualThreadsEnabled;
 
     SDKInternalConfiguration(OddsFeedConfiguration cfg,
                              SDKConfigurationPropertiesReader sdkConfigurationPropertiesReader,
@@ -93,6 +111,68 @@ public class SDKInternalConfiguration {
                 .orElse(sdkConfigurationYamlReader.readSimpleVariantCaching()
                         .orElse(false));
 
+        messagingPrefetchCount = sdkConfigurationPropertiesReader.readMessagingPrefetchCount()
+                .orElse(sdkConfigurationYamlReader.readMessagingPrefetchCount()
+                        .orElse(0));
+        messagingAckBatchSize = sdkConfigurationPropertiesReader.readMessagingAckBatchSize()
+                .orElse(sdkConfigurationYamlReader.readMessagingAckBatchSize()
+                        .orElse(0));
+        messagingChannelsPerSession = sdkConfigurationPropertiesReader.readMessagingChannelsPerSession()
+                .orElse(sdkConfigurationYamlReader.readMessagingChannelsPerSession()
+                        .orElse(1));
+        messagingChannelStaleTimeout = sdkConfigurationPropertiesReader.readMessagingChannelStaleTimeout()
+                .orElse(sdkConfigurationYamlReader.readMessagingChannelStaleTimeout()
+                        .orElse(180));
+
+        recoveryCheckpointFile = sdkConfigurationPropertiesReader.readRecoveryCheckpointFile()
+                .orElse(sdkConfigurationYamlReader.readRecoveryCheckpointFile()
+                        .orElse(null));
+        recoveryCheckpointInterval = sdkConfigurationPropertiesReader.readRecoveryCheckpointInterval()
+                .orElse(sdkConfigurationYamlReader.readRecoveryCheckpointInterval()
+                        .orElse(30));
+        recoveryCheckpointSyncPolicy = sdkConfigurationPropertiesReader.readRecoveryCheckpointSyncPolicy()
+                .orElse(sdkConfigurationYamlReader.readRecoveryCheckpointSyncPolicy()
+                        .orElse(RecoveryCheckpointSyncPolicy.Always));
+
+        customBetCacheTimeout = sdkConfigurationPropertiesReader.readCustomBetCacheTimeout()
+                .orElse(sdkConfigurationYamlReader.readCustomBetCacheTimeout()
+                        .orElse(0));
+        cashOutProbabilitiesCacheTimeout = sdkConfigurationPropertiesReader.readCashOutProbabilitiesCacheTimeout()
+                .orElse(sdkConfigurationYamlReader.readCashOutProbabilitiesCacheTimeout()
+                        .orElse(0));
+        cashOutProbabilitiesMinRefreshInterval = sdkConfigurationPropertiesReader.readCashOutProbabilitiesMinRefreshInterval()
+                .orElse(sdkConfigurationYamlReader.readCashOutProbabilitiesMinRefreshInterval()
+                        .orElse(0));
+
+        apiRequestRateLimit = sdkConfigurationPropertiesReader.readApiRequestRateLimit()
+                .orElse(sdkConfigurationYamlReader.readApiRequestRateLimit()
+                        .orElse(0));
+        apiRequestEndpointRateLimit = sdkConfigurationPropertiesReader.readApiRequestEndpointRateLimit()
+                .orElse(sdkConfigurationYamlReader.readApiRequestEndpointRateLimit()
+                        .orElse(0));
+        apiRequestMaxQueueTime = sdkConfigurationPropertiesReader.readApiRequestMaxQueueTime()
+                .orElse(sdkConfigurationYamlReader.readApiRequestMaxQueueTime()
+                        .orElse(30));
+
+        httpClientCompression = sdkConfigurationPropertiesReader.readHttpClientCompression()
+                .orElse(sdkConfigurationYamlReader.readHttpClientCompression()
+                        .orElse(true));
+        httpClientIdleConnectionTimeout = sdkConfigurationPropertiesReader.readHttpClientIdleConnectionTimeout()
+                .orElse(sdkConfigurationYamlReader.readHttpClientIdleConnectionTimeout()
+                        .orElse(0));
+
+        oddsBookEnabled = sdkConfigurationPropertiesReader.readOddsBookEnabled()
+                .orElse(sdkConfigurationYamlReader.readOddsBookEnabled()
+                        .orElse(false));
+
+        sportEventCachePurgeHorizon = sdkConfigurationPropertiesReader.readSportEventCachePurgeHorizon()
+                .orElse(sdkConfigurationYamlReader.readSportEventCachePurgeHorizon()
+                        .orElse(0));
+
+        virtualThreadsEnabled = sdkConfigurationPropertiesReader.readVirtualThreadsEnabled()
+                .orElse(sdkConfigurationYamlReader.readVirtualThreadsEnabled()
+                        .orElse(false));
+
         schedulerTasksToSkip = new HashSet<>();
         schedulerTasksToSkip.addAll(sdkConfigurationPropertiesReader.readSchedulerTasksToSkip());
         schedulerTasksToSkip.addAll(sdkConfigurationYamlReader.readSchedulerTasksToSkip());
@@ -338,6 +418,186 @@ public class SDKInternalConfiguration {
         return recoveryHttpClientMaxConnPerRoute;
     }
 
+    /**
+     * Returns the maximum number of unacknowledged messages the broker delivers to a single session channel,
+     * <code>0</code> means the broker does not limit the deliveries
+     *
+     * @return the AMQP prefetch count applied to the session channels
+     */
+    public int getMessagingPrefetchCount() {
+        return messagingPrefetchCount;
+    }
+
+    /**
+     * Returns the number of processed messages which are acknowledged to the broker with a single multiple-ack,
+     * <code>0</code> means the messages are automatically acknowledged on delivery. A message is processed once the
+     * session handed it over: if the session dispatches through a message queue, it is acknowledged once enqueued,
+     * so the queued messages which were not dispatched yet are lost if the process stops
+     *
+     * @return the number of processed messages acknowledged together
+     */
+    public int getMessagingAckBatchSize() {
+        return messagingAckBatchSize;
+    }
+
+    /**
+     * Returns the number of channels(consumers) which consume the queue of a single session, <code>1</code> by
+     * default. The broker delivers the messages of the queue round-robin to the channels, which dispatch them
+     * concurrently, so with more than one channel the messages of the session, even of the same event, are
+     * processed unordered(ex: a snapshot_complete may be dispatched before the messages of its recovery). It trades
+     * the ordering, and the memory of the additional prefetched messages, for throughput
+     *
+     * @return the number of channels which consume the queue of a single session
+     */
+    public int getMessagingChannelsPerSession() {
+        return messagingChannelsPerSession;
+    }
+
+    /**
+     * Returns the time(seconds) without received messages after which a channel is considered stale and recreated
+     *
+     * @return the time(seconds) without received messages after which a channel is considered stale
+     */
+    public int getMessagingChannelStaleTimeout() {
+        return messagingChannelStaleTimeout;
+    }
+
+    /**
+     * Returns the path of the file in which the producer recovery checkpoints are persisted, <code>null</code> means
+     * the checkpoints are not persisted and the recoveries after a restart rely on the user provided timestamps
+     *
+     * @return the path of the recovery checkpoint file if configured; otherwise null
+     */
+    public String getRecoveryCheckpointFile() {
+        return recoveryCheckpointFile;
+    }
+
+    /**
+     * Returns the interval(seconds) in which the producer recovery checkpoints are written, <code>0</code> means
+     * the checkpoint is written only when the feed is closing
+     *
+     * @return the interval(seconds) in which the producer recovery checkpoints are written
+     */
+    public int getRecoveryCheckpointInterval() {
+        return recoveryCheckpointInterval;
+    }
+
+    /**
+     * Returns the policy which defines when the written recovery checkpoints are forced to the storage device
+     *
+     * @return the {@link RecoveryCheckpointSyncPolicy} applied to the recovery checkpoint file
+     */
+    public RecoveryCheckpointSyncPolicy getRecoveryCheckpointSyncPolicy() {
+        return recoveryCheckpointSyncPolicy;
+    }
+
+    /**
+     * Returns the time(seconds) for which the custom bet available selections and calculations are cached,
+     * <code>0</code> means the results are not cached and only the concurrent identical requests are merged
+     *
+     * @return the time(seconds) for which the custom bet results are cached
+     */
+    public int getCustomBetCacheTimeout() {
+        return customBetCacheTimeout;
+    }
+
+    /**
+     * Returns the time(seconds) for which the cash out probabilities are cached, <code>0</code> means the
+     * probabilities are not cached and only the concurrent identical requests are merged
+     *
+     * @return the time(seconds) for which the cash out probabilities are cached
+     */
+    public int getCashOutProbabilitiesCacheTimeout() {
+        return cashOutProbabilitiesCacheTimeout;
+    }
+
+    /**
+     * Returns the minimum interval(milliseconds) between two fetches of the same cash out probabilities, the cached
+     * probabilities are served within this interval even if an odds change of the event was received
+     *
+     * @return the minimum interval(milliseconds) between two fetches of the same cash out probabilities
+     */
+    public int getCashOutProbabilitiesMinRefreshInterval() {
+        return cashOutProbabilitiesMinRefreshInterval;
+    }
+
+    /**
+     * Returns the max number of Sports API requests per second across all the endpoints, <code>0</code> means
+     * the requests are not limited
+     *
+     * @return the max number of Sports API requests per second
+     */
+    public int getApiRequestRateLimit() {
+        return apiRequestRateLimit;
+    }
+
+    /**
+     * Returns the max number of Sports API requests per second of each endpoint family, <code>0</code> means
+     * the requests are not limited per endpoint family
+     *
+     * @return the max number of Sports API requests per second of each endpoint family
+     */
+    public int getApiRequestEndpointRateLimit() {
+        return apiRequestEndpointRateLimit;
+    }
+
+    /**
+     * Returns the max time(seconds) a rate limited Sports API request waits to be executed before it fails
+     *
+     * @return the max time(seconds) a rate limited Sports API request waits to be executed
+     */
+    public int getApiRequestMaxQueueTime() {
+        return apiRequestMaxQueueTime;
+    }
+
+    /**
+     * Indicates if the Sports API http clients request compressed(gzip/deflate) responses
+     *
+     * @return <code>true</code> if the compressed responses are requested; otherwise <code>false</code>
+     */
+    public boolean isHttpClientCompressionEnabled() {
+        return httpClientCompression;
+    }
+
+    /**
+     * Returns the time(seconds) after which the idle pooled Sports API connections are closed, <code>0</code>(default)
+     * disables the eviction of the idle connections, so they are kept alive for as long as the server allows
+     *
+     * @return the time(seconds) after which the idle pooled Sports API connections are closed
+     */
+    public int getHttpClientIdleConnectionTimeout() {
+        return httpClientIdleConnectionTimeout;
+    }
+
+    /**
+     * Indicates if the SDK maintains the in-memory odds book of the events received by the sessions
+     *
+     * @return <code>true</code> if the odds book is maintained; otherwise <code>false</code>
+     */
+    public boolean isOddsBookEnabled() {
+        return oddsBookEnabled;
+    }
+
+    /**
+     * Returns the time(hours) after the scheduled end of an event after which the event is purged from the sport
+     * event cache, <code>0</code> means the finished events are not purged until they expire
+     *
+     * @return the time(hours) after the scheduled end of an event after which the event is purged
+     */
+    public int getSportEventCachePurgeHorizon() {
+        return sportEventCachePurgeHorizon;
+    }
+
+    /**
+     * Indicates if the blocking SDK work(API fetches, cache refreshes and message dispatch) runs on virtual threads
+     * when the running JVM supports them(Java 21+), otherwise the platform thread pools are used
+     *
+     * @return <code>true</code> if the virtual threads should be used when available; otherwise <code>false</code>
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
     /**
      * Updates the API host - this method can be used only while in replay mode, no other SDK modes support this
      *
@@ -379,6 +639,24 @@ public class SDKInternalConfiguration {
                 .add("recoveryHttpClientTimeout=" + recoveryHttpClientTimeout)
                 .add("recoveryHttpClientMaxConnTotal=" + recoveryHttpClientMaxConnTotal)
                 .add("recoveryHttpClientMaxConnPerRoute=" + recoveryHttpClientMaxConnPerRoute)
+                .add("messagingPrefetchCount=" + messagingPrefetchCount)
+                .add("messagingAckBatchSize=" + messagingAckBatchSize)
+                .add("messagingChannelsPerSession=" + messagingChannelsPerSession)
+                .add("messagingChannelStaleTimeout=" + messagingChannelStaleTimeout)
+                .add("recoveryCheckpointFile=" + recoveryCheckpointFile)
+                .add("recoveryCheckpointInterval=" + recoveryCheckpointInterval)
+                .add("recoveryCheckpointSyncPolicy=" + recoveryCheckpointSyncPolicy)
+                .add("customBetCacheTimeout=" + customBetCacheTimeout)
+                .add("cashOutProbabilitiesCacheTimeout=" + cashOutProbabilitiesCacheTimeout)
+                .add("cashOutProbabilitiesMinRefreshInterval=" + cashOutProbabilitiesMinRefreshInterval)
+                .add("apiRequestRateLimit=" + apiRequestRateLimit)
+                .add("apiRequestEndpointRateLimit=" + apiRequestEndpointRateLimit)
+                .add("apiRequestMaxQueueTime=" + apiRequestMaxQueueTime)
+                .add("httpClientCompression=" + httpClientCompression)
+                .add("httpClientIdleConnectionTimeout=" + httpClientIdleConnectionTimeout)
+                .add("oddsBookEnabled=" + oddsBookEnabled)
+                .add("sportEventCachePurgeHorizon=" + sportEventCachePurgeHorizon)
+                .add("virtualThreadsEnabled=" + virtualThreadsEnabled)
                 .add("disabledProducers=" + disabledProducers)
                 .add("simpleVariantCaching=" + simpleVariantCaching)
                 .add("schedulerTasksToSkip=" + schedulerTasksToSkip)
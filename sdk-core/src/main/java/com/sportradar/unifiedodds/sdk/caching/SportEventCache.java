@@ -12,6 +12,7 @@ import com.sportradar.utils.URN;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Consumer;
 
 /**
  * Created on 20/10/2017.
@@ -53,6 +54,16 @@ public interface SportEventCache {
      */
     void purgeCacheItem(URN id);
 
+    /**
+     * Registers a listener which gets notified with the event {@link URN} each time an item is purged from the
+     * {@link SportEventCache}, so the components holding data derived from the cache item can drop it as well
+     *
+     * @param listener the listener which should be notified about the purged items
+     */
+    default void addCacheItemPurgeListener(Consumer<URN> listener) {
+        // by default the purge notifications are not supported
+    }
+
     /**
      * Method that gets triggered when the associated event gets booked trough the {@link BookingManager}
      *
@@ -6,7 +6,6 @@ package com.sportradar.unifiedodds.sdk.caching.ci;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
-import com.google.common.collect.Maps;
 import com.sportradar.uf.sportsapi.datamodel.SAPIMatchRound;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCompleteRoundCI;
 import com.sportradar.utils.URN;
@@ -21,17 +20,17 @@ public class CompleteRoundCIImpl implements CompleteRoundCI {
     /**
      * A {@link Map} containing round names in different languages
      */
-    private final Map<Locale, String> names;
+    private final Map<Locale, String> names = LocalizedValues.deduplicating();
 
     /**
      * A {@link Map} containing round group names in different languages
      */
-    private final Map<Locale, String> groupNames;
+    private final Map<Locale, String> groupNames = LocalizedValues.deduplicating();
 
     /**
      * A {@link Map} containing phase or group name in different languages
      */
-    private final Map<Locale, String> phaseOrGroupLongNames;
+    private final Map<Locale, String> phaseOrGroupLongNames = LocalizedValues.deduplicating();
 
     /**
      * Type of the round
@@ -83,7 +82,10 @@ public class CompleteRoundCIImpl implements CompleteRoundCI {
      */
     private String betradarName;
 
-    private final List<Locale> cachedLocales;
+    /**
+     * A {@link Set} of cached {@link Locale}s
+     */
+    private final Set<Locale> cachedLocales = new LocaleSet();
 
     /**
      * Initializes a new instance of the {@link CompleteRoundCIImpl} class
@@ -95,22 +97,14 @@ public class CompleteRoundCIImpl implements CompleteRoundCI {
         Preconditions.checkNotNull(round);
         Preconditions.checkNotNull(locale);
 
-        names = Maps.newConcurrentMap();
-        groupNames = Maps.newConcurrentMap();
-        phaseOrGroupLongNames = Maps.newConcurrentMap();
-        cachedLocales = Collections.synchronizedList(new ArrayList<>());
-
         merge(round, locale);
     }
 
     public CompleteRoundCIImpl(ExportableCompleteRoundCI exportable) {
         Preconditions.checkNotNull(exportable);
 
-        this.names = Maps.newConcurrentMap();
         this.names.putAll(exportable.getNames());
-        this.groupNames = Maps.newConcurrentMap();
         this.groupNames.putAll(exportable.getGroupNames());
-        this.phaseOrGroupLongNames = Maps.newConcurrentMap();
         this.phaseOrGroupLongNames.putAll(exportable.getPhaseOrGroupLongNames());
         this.type = exportable.getType();
         this.group = exportable.getGroup();
@@ -122,7 +116,7 @@ public class CompleteRoundCIImpl implements CompleteRoundCI {
         this.betradarId = exportable.getBetradarId();
         this.phase = exportable.getPhase();
         this.betradarName = exportable.getBetradarName();
-        this.cachedLocales = Collections.synchronizedList(new ArrayList<>(exportable.getCachedLocales()));
+        this.cachedLocales.addAll(exportable.getCachedLocales());
     }
 
     /**
@@ -5,8 +5,6 @@
 package com.sportradar.unifiedodds.sdk.caching.ci;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import com.sportradar.uf.sportsapi.datamodel.SAPIDelayedInfo;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableDelayedInfoCI;
 
@@ -25,12 +23,12 @@ public class DelayedInfoCI {
     /**
      * The cached delay descriptions in various locales
      */
-    private final Map<Locale, String> descriptions;
+    private final Map<Locale, String> descriptions = new LocalizedValues();
 
     /**
      * A {@link Set} of cached {@link Locale}s
      */
-    private final Set<Locale> cachedLocales;
+    private final Set<Locale> cachedLocales = new LocaleSet();
 
 
     /**
@@ -45,18 +43,14 @@ public class DelayedInfoCI {
 
         id = delayedInfo.getId();
 
-        descriptions = Maps.newConcurrentMap();
-        cachedLocales = Sets.newConcurrentHashSet();
-
         merge(delayedInfo, locale);
     }
 
     public DelayedInfoCI(ExportableDelayedInfoCI exportable) {
         Preconditions.checkNotNull(exportable);
         this.id = exportable.getId();
-        this.descriptions = Maps.newConcurrentMap();
         this.descriptions.putAll(exportable.getDescriptions());
-        this.cachedLocales = Sets.newConcurrentHashSet(new HashSet<>(exportable.getCachedLocales()));
+        this.cachedLocales.addAll(exportable.getCachedLocales());
     }
 
 
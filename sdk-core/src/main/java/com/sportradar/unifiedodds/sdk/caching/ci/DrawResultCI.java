@@ -5,7 +5,6 @@
 package com.sportradar.unifiedodds.sdk.caching.ci;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
 import com.sportradar.uf.sportsapi.datamodel.SAPIDrawResult;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableDrawResultCI;
 
@@ -21,14 +20,12 @@ import java.util.stream.Collectors;
 public class DrawResultCI {
 
     private final Integer value;
-    private final Map<Locale, String> names;
+    private final Map<Locale, String> names = new LocalizedValues();
 
     public DrawResultCI(SAPIDrawResult.SAPIDraws.SAPIDraw dr, Locale dataLocale) {
         Preconditions.checkNotNull(dr);
         Preconditions.checkNotNull(dataLocale);
 
-        names = Maps.newConcurrentMap();
-
         value = dr.getValue();
 
         if (dr.getName() != null) {
@@ -41,7 +38,6 @@ public class DrawResultCI {
 
     public DrawResultCI(ExportableDrawResultCI exportable) {
         Preconditions.checkNotNull(exportable);
-        names = Maps.newConcurrentMap();
         names.putAll(exportable.getNames());
         value = exportable.getValue();
     }
@@ -6,7 +6,6 @@ package com.sportradar.unifiedodds.sdk.caching.ci;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
-import com.google.common.collect.Maps;
 import com.sportradar.uf.sportsapi.datamodel.SAPIMatchRound;
 import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
 import com.sportradar.unifiedodds.sdk.caching.CacheItem;
@@ -33,17 +32,17 @@ public class LoadableRoundCIImpl implements LoadableRoundCI {
     /**
      * A {@link Map} containing round names in different languages
      */
-    private final Map<Locale, String> names = Maps.newConcurrentMap();
+    private final Map<Locale, String> names = LocalizedValues.deduplicating();
 
     /**
      * A {@link Map} containing round group names in different languages
      */
-    private final Map<Locale, String> groupNames = Maps.newConcurrentMap();
+    private final Map<Locale, String> groupNames = LocalizedValues.deduplicating();
 
     /**
      * A {@link Map} containing phase or group name in different languages
      */
-    private final Map<Locale, String> phaseOrGroupLongNames = Maps.newConcurrentMap();
+    private final Map<Locale, String> phaseOrGroupLongNames = LocalizedValues.deduplicating();
 
     /**
      * The CI default {@link Locale} used to fetch data which is not translatable
@@ -121,14 +120,14 @@ public class LoadableRoundCIImpl implements LoadableRoundCI {
     private String betradarName;
 
     /**
-     * A list of cached locales
+     * A {@link Set} of cached locales
      */
-    private final List<Locale> cachedSummaryLocales = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Locale> cachedSummaryLocales = new LocaleSet();
 
     /**
-     *  A list of cached fixture locales
+     * A {@link Set} of cached fixture locales
      */
-    private final List<Locale> cachedFixtureLocales = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Locale> cachedFixtureLocales = new LocaleSet();
 
     /**
      * An {@link ReentrantLock} used to synchronize summary request operations
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.ci;
+
+import com.google.common.base.Preconditions;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * A compact thread safe {@link java.util.Set} of locales used by the cache items to track the loaded locales.
+ * The locales are kept in a small array which is replaced on every write, so the reads are lock free and the
+ * iterators work on a snapshot of the set. The iteration order follows the order in which the locales were added.
+ */
+public class LocaleSet extends AbstractSet<Locale> {
+    private static final Locale[] EMPTY = new Locale[0];
+
+    private volatile Locale[] locales = EMPTY;
+
+    @Override
+    public synchronized boolean add(Locale locale) {
+        Preconditions.checkNotNull(locale);
+
+        Locale[] current = locales;
+        if (indexOf(current, locale) >= 0) {
+            return false;
+        }
+
+        Locale[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = locale;
+        locales = updated;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object locale) {
+        return indexOf(locales, locale) >= 0;
+    }
+
+    @Override
+    public synchronized boolean remove(Object locale) {
+        Locale[] current = locales;
+        int index = indexOf(current, locale);
+        if (index < 0) {
+            return false;
+        }
+
+        Locale[] updated = new Locale[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, index);
+        System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+        locales = updated;
+        return true;
+    }
+
+    @Override
+    public synchronized void clear() {
+        locales = EMPTY;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return locales.length == 0;
+    }
+
+    @Override
+    public int size() {
+        return locales.length;
+    }
+
+    @Override
+    public Iterator<Locale> iterator() {
+        return new Iterator<Locale>() {
+            private final Locale[] snapshot = locales;
+            private int next;
+            private Locale last;
+
+            @Override
+            public boolean hasNext() {
+                return next < snapshot.length;
+            }
+
+            @Override
+            public Locale next() {
+                if (next >= snapshot.length) {
+                    throw new NoSuchElementException();
+                }
+                last = snapshot[next++];
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                LocaleSet.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    private static int indexOf(Locale[] locales, Object locale) {
+        if (locale == null) {
+            return -1;
+        }
+        for (int i = 0; i < locales.length; i++) {
+            if (locales[i] == locale || locales[i].equals(locale)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.ci;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.util.*;
+
+/**
+ * A compact thread safe {@link Map} of translated values used by the cache items instead of concurrent maps.
+ * The locales and their values are kept in a single array of alternating keys and values, which is replaced on
+ * every write, so the reads are lock free and the map costs a single small array per translated property.
+ * Deduplicating instances share equal values through a weak interner (useful for country names, nationalities, ...).
+ */
+public class LocalizedValues extends AbstractMap<Locale, String> {
+    private static final Object[] EMPTY = new Object[0];
+    private static final Interner<String> interner = Interners.newWeakInterner();
+
+    private final boolean deduplicate;
+    private volatile Object[] entries = EMPTY;
+
+    /**
+     * Initializes a new {@link LocalizedValues} instance which stores the values as provided
+     */
+    public LocalizedValues() {
+        this(false);
+    }
+
+    private LocalizedValues(boolean deduplicate) {
+        this.deduplicate = deduplicate;
+    }
+
+    /**
+     * Returns a new {@link LocalizedValues} instance which deduplicates the stored values
+     *
+     * @return a new deduplicating {@link LocalizedValues} instance
+     */
+    public static LocalizedValues deduplicating() {
+        return new LocalizedValues(true);
+    }
+
+    @Override
+    public String get(Object locale) {
+        Object[] current = entries;
+        int index = indexOf(current, locale);
+        return index < 0 ? null : (String) current[index + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object locale) {
+        return indexOf(entries, locale) >= 0;
+    }
+
+    @Override
+    public synchronized String put(Locale locale, String value) {
+        Preconditions.checkNotNull(locale);
+        Preconditions.checkNotNull(value);
+
+        Object[] current = entries;
+        int index = indexOf(current, locale);
+        Object[] updated;
+        if (index < 0) {
+            index = current.length;
+            updated = Arrays.copyOf(current, current.length + 2);
+            updated[index] = locale;
+        } else {
+            updated = current.clone();
+        }
+        String previous = (String) updated[index + 1];
+        updated[index + 1] = deduplicate ? interner.intern(value) : value;
+        entries = updated;
+        return previous;
+    }
+
+    @Override
+    public synchronized String remove(Object locale) {
+        Object[] current = entries;
+        int index = indexOf(current, locale);
+        if (index < 0) {
+            return null;
+        }
+
+        Object[] updated = new Object[current.length - 2];
+        System.arraycopy(current, 0, updated, 0, index);
+        System.arraycopy(current, index + 2, updated, index, current.length - index - 2);
+        entries = updated;
+        return (String) current[index + 1];
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries = EMPTY;
+    }
+
+    @Override
+    public int size() {
+        return entries.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    @Override
+    public Set<Entry<Locale, String>> entrySet() {
+        return new AbstractSet<Entry<Locale, String>>() {
+            @Override
+            public Iterator<Entry<Locale, String>> iterator() {
+                return new EntryIterator(entries);
+            }
+
+            @Override
+            public int size() {
+                return LocalizedValues.this.size();
+            }
+        };
+    }
+
+    private static int indexOf(Object[] entries, Object locale) {
+        if (locale == null) {
+            return -1;
+        }
+        for (int i = 0; i < entries.length; i += 2) {
+            if (entries[i] == locale || entries[i].equals(locale)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Iterates the entries of a values snapshot
+     */
+    private class EntryIterator implements Iterator<Entry<Locale, String>> {
+        private final Object[] snapshot;
+        private int next;
+        private Locale last;
+
+        EntryIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < snapshot.length;
+        }
+
+        @Override
+        public Entry<Locale, String> next() {
+            if (next >= snapshot.length) {
+                throw new NoSuchElementException();
+            }
+            last = (Locale) snapshot[next];
+            String value = (String) snapshot[next + 1];
+            next += 2;
+            return new SimpleImmutableEntry<>(last, value);
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            LocalizedValues.this.remove(last);
+            last = null;
+        }
+    }
+}
@@ -5,7 +5,6 @@
 package com.sportradar.unifiedodds.sdk.caching.ci;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
 import com.sportradar.uf.sportsapi.datamodel.SAPIManager;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableManagerCI;
 import com.sportradar.utils.URN;
@@ -25,12 +24,12 @@ public class ManagerCI {
     /**
      * A {@link Map} of translated manager names
      */
-    private final Map<Locale, String> names = Maps.newConcurrentMap();
+    private final Map<Locale, String> names = new LocalizedValues();
 
     /**
      * A {@link Map} of translated nationality names
      */
-    private final Map<Locale, String> nationalities = Maps.newConcurrentMap();
+    private final Map<Locale, String> nationalities = LocalizedValues.deduplicating();
 
     /**
      * The manager country code
@@ -38,9 +37,9 @@ public class ManagerCI {
     private String countryCode;
 
     /**
-     * A {@link List} of cached {@link Locale}s
+     * A {@link Set} of cached {@link Locale}s
      */
-    private List<Locale> cachedLocales = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Locale> cachedLocales = new LocaleSet();
 
     /**
      * Initializes as new {@link ManagerCI} instance
@@ -41,7 +41,7 @@ public class SeasonCI extends SportEntityCI {
      */
     private URN tournamentId;
 
-    private final List<Locale> cachedLocales;
+    private final Set<Locale> cachedLocales;
 
     /**
      * Initializes a new instance of the {@link SeasonCI} class
@@ -56,7 +56,7 @@ public class SeasonCI extends SportEntityCI {
         Preconditions.checkNotNull(locale);
 
         name = new HashMap<>();
-        cachedLocales = Collections.synchronizedList(new ArrayList<>());
+        cachedLocales = new LocaleSet();
         merge(season, locale);
     }
 
@@ -68,7 +68,8 @@ public class SeasonCI extends SportEntityCI {
         this.endDate = exportable.getEndDate();
         this.year = exportable.getYear();
         this.tournamentId = exportable.getTournamentId() != null ? URN.parse(exportable.getTournamentId()) : null;
-        this.cachedLocales = Collections.synchronizedList(new ArrayList<>(exportable.getCachedLocales()));
+        this.cachedLocales = new LocaleSet();
+        this.cachedLocales.addAll(exportable.getCachedLocales());
     }
 
     /**
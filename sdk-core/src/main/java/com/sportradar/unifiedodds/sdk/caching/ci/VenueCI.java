@@ -49,7 +49,7 @@ public class VenueCI extends SportEntityCI {
 
     private List<HoleCI> course;
 
-    private final List<Locale> cachedLocales;
+    private final Set<Locale> cachedLocales;
 
     /**
      * Initializes a new instance of the {@link VenueCI} class
@@ -67,7 +67,7 @@ public class VenueCI extends SportEntityCI {
         cityNames = new HashMap<>();
         countryNames = new HashMap<>();
         course = new ArrayList<>();
-        cachedLocales = Collections.synchronizedList(new ArrayList<>());
+        cachedLocales = new LocaleSet();
 
         merge(venue, locale);
     }
@@ -91,7 +91,8 @@ public class VenueCI extends SportEntityCI {
             this.course = null;
         }
 
-        cachedLocales = Collections.synchronizedList(new ArrayList<>(exportable.getCachedLocales()));
+        cachedLocales = new LocaleSet();
+        cachedLocales.addAll(exportable.getCachedLocales());
     }
 
     /**
@@ -0,0 +1,250 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.sportradar.unifiedodds.sdk.caching.DataRouterManager;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.utils.URN;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the event ids of the live, date and tournament schedules, each kind with its own timeout. The concurrent
+ * requests for the same schedule share a single API request, and a schedule requested after half of its timeout
+ * elapsed is refreshed in the background while the cached ids are still returned.
+ *
+ * The schedules containing an event are invalidated when the event is purged from the sport event cache (fixture
+ * change), each kind keeps a reverse index from the event ids to the loaded schedules containing them, so the
+ * invalidation does not scan the cached schedules. A kind with a zero timeout is not cached.
+ */
+class EventScheduleCache {
+    private static final Logger logger = LoggerFactory.getLogger(EventScheduleCache.class);
+
+    private final DataRouterManager dataRouterManager;
+    private final Schedules liveSchedules;
+    private final Schedules dateSchedules;
+    private final Schedules tournamentSchedules;
+
+    /**
+     * Initializes a new {@link EventScheduleCache} instance
+     *
+     * @param dataRouterManager the {@link DataRouterManager} used to request the schedules
+     * @param refreshExecutor the {@link Executor} on which the schedules are refreshed
+     * @param liveTimeout how long the live schedule is cached
+     * @param dateTimeout how long the date schedules are cached
+     * @param tournamentTimeout how long the tournament schedules are cached
+     */
+    EventScheduleCache(DataRouterManager dataRouterManager,
+                       Executor refreshExecutor,
+                       Duration liveTimeout,
+                       Duration dateTimeout,
+                       Duration tournamentTimeout) {
+        Preconditions.checkNotNull(dataRouterManager);
+        Preconditions.checkNotNull(refreshExecutor);
+
+        this.dataRouterManager = dataRouterManager;
+        this.liveSchedules = isCached(liveTimeout) ? new Schedules(liveTimeout, refreshExecutor) : null;
+        this.dateSchedules = isCached(dateTimeout) ? new Schedules(dateTimeout, refreshExecutor) : null;
+        this.tournamentSchedules = isCached(tournamentTimeout) ? new Schedules(tournamentTimeout, refreshExecutor) : null;
+    }
+
+    /**
+     * Returns the ids of the events which belong to the tournament
+     *
+     * @param tournamentId the id of the tournament
+     * @param locale the locale in which the schedule is requested
+     * @return the ids of the events which belong to the tournament
+     */
+    List<URN> getEventIds(URN tournamentId, Locale locale) throws CommunicationException {
+        if (tournamentSchedules == null) {
+            return dataRouterManager.requestEventsFor(locale, tournamentId);
+        }
+
+        return tournamentSchedules.get(new ScheduleKey(locale, tournamentId.toString(), tournamentId, null));
+    }
+
+    /**
+     * Returns the ids of the events scheduled for the date, or of the live events if the date is not provided
+     *
+     * @param date the date of the schedule or <code>null</code> for the live events
+     * @param locale the locale in which the schedule is requested
+     * @return the ids of the events scheduled for the date or of the live events
+     */
+    List<URN> getEventIds(Date date, Locale locale) throws CommunicationException {
+        Schedules schedules = date == null ? liveSchedules : dateSchedules;
+        if (schedules == null) {
+            return dataRouterManager.requestEventsFor(locale, date);
+        }
+
+        String target = date == null ? "live" : new SimpleDateFormat("yyyy-MM-dd").format(date);
+        return schedules.get(new ScheduleKey(locale, target, null, date));
+    }
+
+    /**
+     * Invalidates the cached schedules which contain the event
+     *
+     * @param eventId the id of the changed event
+     */
+    void invalidateEvent(URN eventId) {
+        if (liveSchedules != null) {
+            liveSchedules.invalidateEvent(eventId);
+        }
+        if (dateSchedules != null) {
+            dateSchedules.invalidateEvent(eventId);
+        }
+        if (tournamentSchedules != null) {
+            tournamentSchedules.invalidateEvent(eventId);
+        }
+    }
+
+    private List<URN> load(ScheduleKey key) throws CommunicationException {
+        logger.debug("Requesting {} schedule[{}]", key.target, key.locale);
+        List<URN> eventIds = key.tournamentId == null
+                ? dataRouterManager.requestEventsFor(key.locale, key.date)
+                : dataRouterManager.requestEventsFor(key.locale, key.tournamentId);
+        return eventIds == null ? ImmutableList.of() : ImmutableList.copyOf(eventIds);
+    }
+
+    private static boolean isCached(Duration timeout) {
+        return timeout != null && !timeout.isZero();
+    }
+
+    /**
+     * The cached schedules of a single kind together with the index of the loaded schedules containing an event.
+     * A schedule is indexed when it is loaded and removed from the index once it is evicted or replaced by a refresh,
+     * as every load creates a new {@link Schedule} instance the index entries of a replaced schedule never collide
+     * with the entries of its replacement.
+     */
+    private final class Schedules {
+        private final LoadingCache<ScheduleKey, Schedule> cache;
+        private final ConcurrentMap<URN, Set<Schedule>> eventSchedules = new ConcurrentHashMap<>();
+
+        Schedules(Duration timeout, Executor refreshExecutor) {
+            this.cache = CacheBuilder.newBuilder()
+                    .expireAfterWrite(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .refreshAfterWrite(Math.max(1, timeout.toMillis() / 2), TimeUnit.MILLISECONDS)
+                    .removalListener(this::onRemoval)
+                    .build(CacheLoader.asyncReloading(new CacheLoader<ScheduleKey, Schedule>() {
+                        @Override
+                        public Schedule load(ScheduleKey key) throws CommunicationException {
+                            return index(new Schedule(key, EventScheduleCache.this.load(key)));
+                        }
+                    }, refreshExecutor));
+        }
+
+        List<URN> get(ScheduleKey key) throws CommunicationException {
+            try {
+                return cache.get(key).eventIds;
+            } catch (ExecutionException | UncheckedExecutionException e) {
+                if (e.getCause() instanceof CommunicationException) {
+                    throw (CommunicationException) e.getCause();
+                }
+                throw new CommunicationException("Error loading the " + key.target + " schedule", e.getCause());
+            }
+        }
+
+        void invalidateEvent(URN eventId) {
+            Set<Schedule> schedules = eventSchedules.remove(eventId);
+            if (schedules == null) {
+                return;
+            }
+
+            for (Schedule schedule : schedules) {
+                // removes only the indexed schedule, not a newer one already loaded for the same key
+                cache.asMap().remove(schedule.key, schedule);
+            }
+        }
+
+        private Schedule index(Schedule schedule) {
+            for (URN eventId : schedule.eventIds) {
+                eventSchedules.compute(eventId, (id, schedules) -> {
+                    Set<Schedule> updated = schedules == null ? new HashSet<>() : schedules;
+                    updated.add(schedule);
+                    return updated;
+                });
+            }
+            return schedule;
+        }
+
+        private void onRemoval(RemovalNotification<ScheduleKey, Schedule> notification) {
+            Schedule schedule = notification.getValue();
+            if (schedule == null) {
+                return;
+            }
+
+            for (URN eventId : schedule.eventIds) {
+                eventSchedules.computeIfPresent(eventId, (id, schedules) -> {
+                    schedules.remove(schedule);
+                    return schedules.isEmpty() ? null : schedules;
+                });
+            }
+        }
+    }
+
+    /**
+     * A loaded schedule, compared by identity
+     */
+    private static final class Schedule {
+        private final ScheduleKey key;
+        private final List<URN> eventIds;
+
+        private Schedule(ScheduleKey key, List<URN> eventIds) {
+            this.key = key;
+            this.eventIds = eventIds;
+        }
+    }
+
+    private static final class ScheduleKey {
+        private final Locale locale;
+        private final String target;
+        private final URN tournamentId;
+        private final Date date;
+
+        private ScheduleKey(Locale locale, String target, URN tournamentId, Date date) {
+            this.locale = locale;
+            this.target = target;
+            this.tournamentId = tournamentId;
+            this.date = date;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ScheduleKey that = (ScheduleKey) o;
+            return locale.equals(that.locale) && target.equals(that.target);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(locale, target);
+        }
+    }
+}
@@ -8,8 +8,10 @@ import com.google.common.base.Equivalence;
 import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import com.sportradar.uf.sportsapi.datamodel.*;
 import com.sportradar.unifiedodds.sdk.BookingManager;
+import com.sportradar.unifiedodds.sdk.OperationManager;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.caching.*;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCI;
@@ -22,12 +24,18 @@ import com.sportradar.unifiedodds.sdk.exceptions.internal.CacheItemNotFoundExcep
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.IllegalCacheStateException;
 import com.sportradar.unifiedodds.sdk.impl.MappingTypeProvider;
+import com.sportradar.unifiedodds.sdk.impl.SDKTaskScheduler;
+import com.sportradar.unifiedodds.sdk.impl.SessionPartitions;
 import com.sportradar.utils.URN;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -64,23 +72,71 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
      */
     private final Locale defaultLocale;
 
+    /**
+     * The listeners which should be notified when an item is purged from the cache
+     */
+    private final List<Consumer<URN>> purgeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The partitions of the sessions, used to skip the schedule events consumed by other nodes
+     */
+    private final SessionPartitions sessionPartitions;
+
+    /**
+     * The index of the cached items by their scheduled times, maintained on put and merge and through the removal
+     * listener of the {@link #sportEventsCache}
+     */
+    private final SportEventScheduleIndex scheduleIndex;
+
+    /**
+     * The time(hours) after the scheduled end after which the finished events are purged, <code>0</code> if the
+     * finished events are not purged
+     */
+    private final int purgeHorizon;
+
+    /**
+     * The cache of the live, date and tournament schedules
+     */
+    private final EventScheduleCache scheduleCache;
+
     @Inject
     SportEventCacheImpl(CacheItemFactory cacheItemFactory,
                         MappingTypeProvider mappingTypeProvider,
                         DataRouterManager dataRouterManager,
                         SDKInternalConfiguration sdkInternalConfiguration,
-                        Cache<URN, SportEventCI> sportEventsCache) {
+                        Cache<URN, SportEventCI> sportEventsCache,
+                        SessionPartitions sessionPartitions,
+                        SportEventScheduleIndex scheduleIndex,
+                        SDKTaskScheduler sdkTaskScheduler,
+                        @Named("DedicatedEventScheduleExecutor") ExecutorService scheduleRefreshExecutor) {
         Preconditions.checkNotNull(cacheItemFactory);
         Preconditions.checkNotNull(mappingTypeProvider);
         Preconditions.checkNotNull(dataRouterManager);
         Preconditions.checkNotNull(sdkInternalConfiguration);
         Preconditions.checkNotNull(sportEventsCache);
+        Preconditions.checkNotNull(sessionPartitions);
+        Preconditions.checkNotNull(scheduleIndex);
+        Preconditions.checkNotNull(sdkTaskScheduler);
+        Preconditions.checkNotNull(scheduleRefreshExecutor);
 
         this.cacheItemFactory = cacheItemFactory;
         this.mappingTypeProvider = mappingTypeProvider;
         this.dataRouterManager = dataRouterManager;
         this.defaultLocale = sdkInternalConfiguration.getDefaultLocale();
         this.sportEventsCache = sportEventsCache;
+        this.sessionPartitions = sessionPartitions;
+        this.scheduleIndex = scheduleIndex;
+        this.purgeHorizon = sdkInternalConfiguration.getSportEventCachePurgeHorizon();
+        this.scheduleCache = new EventScheduleCache(
+                dataRouterManager,
+                scheduleRefreshExecutor,
+                OperationManager.getLiveScheduleCacheTimeout(),
+                OperationManager.getDateScheduleCacheTimeout(),
+                OperationManager.getTournamentScheduleCacheTimeout());
+
+        if (purgeHorizon > 0) {
+            sdkTaskScheduler.scheduleAtFixedRate("SportEventCachePurgeTask", this::onPurgeTimerElapsed, 1, 1, TimeUnit.HOURS);
+        }
     }
 
     /**
@@ -94,14 +150,22 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         Preconditions.checkNotNull(id);
 
         try {
-            return sportEventsCache.get(id, () -> {
+            boolean[] loaded = new boolean[1];
+            SportEventCI ci = sportEventsCache.get(id, () -> {
                 logger.info("Cache miss for[{}], providing CI", id);
                 try {
-                    return provideEventCI(id);
+                    SportEventCI provided = provideEventCI(id);
+                    loaded[0] = true;
+                    return provided;
                 } catch (IllegalCacheStateException e) {
                     throw new CacheItemNotFoundException(String.format("An error occurred while loading a new cache item '%s', ex: ", id), e);
                 }
             });
+            // only the inserted items are indexed here, the scheduled times of the cached items change only on merge
+            if (loaded[0]) {
+                index(ci);
+            }
+            return ci;
         } catch (ExecutionException e) {
             throw new CacheItemNotFoundException(String.format("Cache item could not be loaded[%s], ex: ", id), e);
         }
@@ -119,10 +183,10 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         logger.debug("Providing tournament[{}] event IDs", tournamentId);
         try {
             if(locale == null) {
-                return dataRouterManager.requestEventsFor(defaultLocale, tournamentId);
+                return scheduleCache.getEventIds(tournamentId, defaultLocale);
             }
             else{
-                return dataRouterManager.requestEventsFor(locale, tournamentId);
+                return scheduleCache.getEventIds(tournamentId, locale);
             }
         } catch (CommunicationException e) {
             throw new IllegalCacheStateException("Error occurred while fetching tournament schedule[" + tournamentId + "]", e);
@@ -143,10 +207,10 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         logger.debug("Providing event IDs for {}", date == null ? "live" : date);
         try {
             if(locale == null) {
-                return dataRouterManager.requestEventsFor(defaultLocale, date);
+                return scheduleCache.getEventIds(date, defaultLocale);
             }
             else{
-                return dataRouterManager.requestEventsFor(locale, date);
+                return scheduleCache.getEventIds(date, locale);
             }
         } catch (CommunicationException e) {
             throw new IllegalCacheStateException("Error occurred while fetching date schedule for " + (date == null ? "live" : date), e);
@@ -166,6 +230,20 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
 
         logger.debug("Purging CI[{}]", id);
         sportEventsCache.invalidate(id);
+        scheduleCache.invalidateEvent(id);
+        notifyPurgeListeners(id);
+    }
+
+    /**
+     * Registers a listener which gets notified with the event {@link URN} each time an item is purged from the cache
+     *
+     * @param listener the listener which should be notified about the purged items
+     */
+    @Override
+    public void addCacheItemPurgeListener(Consumer<URN> listener) {
+        Preconditions.checkNotNull(listener);
+
+        purgeListeners.add(listener);
     }
 
     @Override
@@ -176,6 +254,11 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
 
         SportEventCI ifPresent = sportEventsCache.getIfPresent(id);
         if (ifPresent == null) {
+            if (!sessionPartitions.isLocalEvent(id)) {
+                // the schedule event is consumed by another node, it is cached on demand if requested
+                return;
+            }
+
             Class mappingType;
             try {
                 mappingType = provideMappingType(id);
@@ -185,12 +268,13 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
             }
 
             if (mappingType.equals(Match.class)) {
-                sportEventsCache.put(id, cacheItemFactory.buildMatchCI(id, data, dataLocale));
+                cacheItem(id, cacheItemFactory.buildMatchCI(id, data, dataLocale));
             } else if (mappingType.equals(Stage.class)) {
-                sportEventsCache.put(id, cacheItemFactory.buildStageCI(id, data, dataLocale));
+                cacheItem(id, cacheItemFactory.buildStageCI(id, data, dataLocale));
             }
         } else {
             ifPresent.merge(data, dataLocale);
+            index(ifPresent);
         }
         if(data.getParent() != null){
             URN parentId = URN.parse(data.getParent().getId());
@@ -220,14 +304,15 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
             if(parentId.equals(tournamentId)){
                 StageCI ci = cacheItemFactory.buildStageCI(parentId, tournament, dataLocale);
                 ci.merge(parentStage, dataLocale);
-                sportEventsCache.put(parentId, ci);
+                cacheItem(parentId, ci);
             }
             else{
-                sportEventsCache.put(parentId, cacheItemFactory.buildStageCI(parentId, parentStage, dataLocale));
+                cacheItem(parentId, cacheItemFactory.buildStageCI(parentId, parentStage, dataLocale));
             }
         }
         else{
             stagePresent.merge(parentStage, dataLocale);
+            index(stagePresent);
         }
     }
 
@@ -248,12 +333,13 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
             }
 
             if (mappingType.equals(Match.class)) {
-                sportEventsCache.put(id, cacheItemFactory.buildMatchCI(id, data, dataLocale));
+                cacheItem(id, cacheItemFactory.buildMatchCI(id, data, dataLocale));
             } else if (mappingType.equals(Stage.class)) {
-                sportEventsCache.put(id, cacheItemFactory.buildStageCI(id, data, dataLocale));
+                cacheItem(id, cacheItemFactory.buildStageCI(id, data, dataLocale));
             }
         } else {
             ifPresent.merge(data, dataLocale);
+            index(ifPresent);
         }
     }
 
@@ -274,14 +360,15 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
             }
 
             if (isTournamentCIType(mappingType)) {
-                sportEventsCache.put(id, cacheItemFactory.buildTournamentCI(id, data, dataLocale));
+                cacheItem(id, cacheItemFactory.buildTournamentCI(id, data, dataLocale));
             } else if (mappingType.equals(Stage.class)) {
-                sportEventsCache.put(id, cacheItemFactory.buildStageCI(id, data, dataLocale));
+                cacheItem(id, cacheItemFactory.buildStageCI(id, data, dataLocale));
             } else {
                 logger.warn("SportEventCache.onTournamentExtendedFetched -> discarding data, mapping type not supported. id:{}, type:{}", id, mappingType);
             }
         } else {
             ifPresent.merge(data, dataLocale);
+            index(ifPresent);
         }
     }
 
@@ -317,9 +404,10 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         }
 
         if (ifPresent == null) {
-            sportEventsCache.put(id, cacheItemFactory.buildStageCI(id, data, dataLocale));
+            cacheItem(id, cacheItemFactory.buildStageCI(id, data, dataLocale));
         } else {
             ifPresent.merge(data, dataLocale);
+            index(ifPresent);
         }
         if(data.getSportEvent().getParent() != null){
             URN parentId = URN.parse(data.getSportEvent().getParent().getId());
@@ -345,9 +433,10 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         }
 
         if (ifPresent == null) {
-            sportEventsCache.put(id, cacheItemFactory.buildMatchCI(id, data, dataLocale));
+            cacheItem(id, cacheItemFactory.buildMatchCI(id, data, dataLocale));
         } else {
             ifPresent.merge(data, dataLocale);
+            index(ifPresent);
         }
     }
 
@@ -373,14 +462,15 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
             }
 
             if (mappingType.equals(Match.class)) {
-                sportEventsCache.put(id, cacheItemFactory.buildMatchCI(id, data, dataLocale));
+                cacheItem(id, cacheItemFactory.buildMatchCI(id, data, dataLocale));
             } else if (mappingType.equals(Stage.class)) {
-                sportEventsCache.put(id, cacheItemFactory.buildStageCI(id, data, dataLocale));
+                cacheItem(id, cacheItemFactory.buildStageCI(id, data, dataLocale));
             } else {
                 logger.warn("SportEventCache.onFixtureFetched -> discarding data, mapping type not supported. id:{}, type:{}", id, mappingType);
             }
         } else {
             ifPresent.merge(data, dataLocale);
+            index(ifPresent);
         }
         if(data.getParent() != null){
             URN parentId = URN.parse(data.getParent().getId());
@@ -410,14 +500,15 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
             }
 
             if (isTournamentCIType(mappingType)) {
-                sportEventsCache.put(id, cacheItemFactory.buildTournamentCI(id, data, locale));
+                cacheItem(id, cacheItemFactory.buildTournamentCI(id, data, locale));
             } else if (mappingType == Stage.class) {
-                sportEventsCache.put(id, cacheItemFactory.buildStageCI(id, data, locale));
+                cacheItem(id, cacheItemFactory.buildStageCI(id, data, locale));
             } else {
                 logger.warn("SportEventCache.onTournamentFetched -> discarding data, mapping type not supported. id:{}, type:{}", id, mappingType);
             }
         } else {
             ifPresent.merge(data, locale);
+            index(ifPresent);
         }
     }
 
@@ -443,9 +534,9 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
             }
 
             if (mappingType.equals(Match.class)) {
-                sportEventsCache.put(id, cacheItemFactory.buildMatchCI(id));
+                cacheItem(id, cacheItemFactory.buildMatchCI(id));
 //            } else if (mappingType.equals(Stage.class)) {
-//                sportEventsCache.put(id, cacheItemFactory.buildStageCI(id, data, dataLocale));
+//                cacheItem(id, cacheItemFactory.buildStageCI(id, data, dataLocale));
             } else {
                 logger.warn("SportEventCache.onMatchTimelineFetched -> discarding data, mapping type not supported. id:{}, type:{}", id, mappingType);
             }
@@ -453,6 +544,7 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         }
         if (ifPresent != null) {
             ifPresent.merge(data, dataLocale);
+            index(ifPresent);
         }
     }
 
@@ -469,9 +561,10 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         }
 
         if (ifPresent == null) {
-            sportEventsCache.put(id, cacheItemFactory.buildLotteryCI(id, data, dataLocale));
+            cacheItem(id, cacheItemFactory.buildLotteryCI(id, data, dataLocale));
         } else {
             ifPresent.merge(data, dataLocale);
+            index(ifPresent);
         }
     }
 
@@ -489,9 +582,10 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         }
 
         if (ifPresent == null) {
-            sportEventsCache.put(id, cacheItemFactory.buildDrawCI(id, data, dataLocale));
+            cacheItem(id, cacheItemFactory.buildDrawCI(id, data, dataLocale));
         } else {
             ifPresent.merge(data, dataLocale);
+            index(ifPresent);
         }
     }
 
@@ -509,9 +603,10 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         }
 
         if (ifPresent == null) {
-            sportEventsCache.put(id, cacheItemFactory.buildDrawCI(id, data, dataLocale));
+            cacheItem(id, cacheItemFactory.buildDrawCI(id, data, dataLocale));
         } else {
             ifPresent.merge(data, dataLocale);
+            index(ifPresent);
         }
     }
 
@@ -529,9 +624,10 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         }
 
         if (ifPresent == null) {
-            sportEventsCache.put(id, cacheItemFactory.buildDrawCI(id, data, dataLocale));
+            cacheItem(id, cacheItemFactory.buildDrawCI(id, data, dataLocale));
         } else {
             ifPresent.merge(data, dataLocale);
+            index(ifPresent);
         }
     }
 
@@ -571,24 +667,55 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
     public Integer deleteSportEventsFromCache(Date before) {
         Preconditions.checkNotNull(before);
 
-        long startCount = sportEventsCache.size();
-        List<SportEventCI> cacheItems = sportEventsCache.asMap().values().stream().collect(Collectors.toList());
-        for (SportEventCI ci : cacheItems) {
-            if(ci.getScheduledRaw() != null){
-                if(ci.getScheduledRaw().before(before)){
-                    sportEventsCache.invalidate(ci.getId());
-                }
+        int deleted = deleteCacheItems(scheduleIndex.getScheduledBefore(before));
+        logger.info("Deleted {} items from cache [before={}].", deleted, before);
+        return deleted;
+    }
+
+    /**
+     * Purges the events which ended more than the configured purge horizon ago
+     */
+    private void onPurgeTimerElapsed() {
+        Date horizon = new Date(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(purgeHorizon));
+        int purged = deleteCacheItems(scheduleIndex.getEndedBefore(horizon));
+        if (purged > 0) {
+            logger.info("Purged {} finished events from cache [ended before={}].", purged, horizon);
+        }
+    }
+
+    private int deleteCacheItems(List<URN> ids) {
+        int deleted = 0;
+        for (URN id : ids) {
+            if (sportEventsCache.getIfPresent(id) != null) {
+                sportEventsCache.invalidate(id);
+                notifyPurgeListeners(id);
+                deleted++;
             }
-            else if (ci.getScheduledEndRaw() != null){
-                if(ci.getScheduledEndRaw().before(before)){
-                    sportEventsCache.invalidate(ci.getId());
-                }
+            scheduleIndex.remove(id);
+        }
+        return deleted;
+    }
+
+    private void cacheItem(URN id, SportEventCI ci) {
+        sportEventsCache.put(id, ci);
+        index(ci);
+    }
+
+    /**
+     * Indexes the provided item by its scheduled times, unless it was removed from the cache in the meantime
+     */
+    private void index(SportEventCI ci) {
+        scheduleIndex.index(ci, indexed -> sportEventsCache.getIfPresent(indexed.getId()) == indexed);
+    }
+
+    private void notifyPurgeListeners(URN id) {
+        for (Consumer<URN> listener : purgeListeners) {
+            try {
+                listener.accept(id);
+            } catch (Exception e) {
+                logger.warn("Cache item purge listener failed for CI[{}]", id, e);
             }
         }
-        long endCount = sportEventsCache.size();
-        long diff = startCount - endCount;
-        logger.info("Deleted {} items from cache [before={}].", diff, before);
-        return (int)diff;
     }
 
     private SportEventCI provideEventCI(URN id) throws CacheItemNotFoundException, IllegalCacheStateException {
@@ -655,14 +782,15 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
             }
 
             if (isTournamentCIType(mappingType)) {
-                sportEventsCache.put(tournamentId, cacheItemFactory.buildTournamentCI(tournamentId, data, dataLocale));
+                cacheItem(tournamentId, cacheItemFactory.buildTournamentCI(tournamentId, data, dataLocale));
             } else if (mappingType.equals(Stage.class)) {
-                sportEventsCache.put(tournamentId, cacheItemFactory.buildStageCI(tournamentId, data, dataLocale));
+                cacheItem(tournamentId, cacheItemFactory.buildStageCI(tournamentId, data, dataLocale));
             } else {
                 logger.warn("SportEventCache.onTournamentInfoEndpointFetched -> discarding data, mapping type not supported. id:{}, type:{}", tournamentId, mappingType);
             }
         } else {
             ifPresent.merge(data, dataLocale);
+            index(ifPresent);
         }
     }
 
@@ -702,10 +830,12 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
             URN id = URN.parse(exportable.getId());
             SportEventCI sportEvent = cacheItemFactory.buildSportEventCI(exportable);
             SportEventCI ifPresent = sportEventsCache.getIfPresent(id);
-            if (ifPresent == null)
-                sportEventsCache.put(id, sportEvent);
-            else
+            if (ifPresent == null) {
+                cacheItem(id, sportEvent);
+            } else {
                 ifPresent.merge(exportable, null);
+                index(ifPresent);
+            }
         });
     }
 
@@ -716,9 +846,7 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
      */
     @Override
     public Map<String, Long> cacheStatus() {
-        Map<String, Long> status = new HashMap<>(sportEventsCache.asMap().values().stream()
-                .map(c -> c.getClass().getSimpleName())
-                .collect(Collectors.groupingBy(s -> s, Collectors.counting())));
+        Map<String, Long> status = scheduleIndex.getTypeCounts();
         String[] classes = {"MatchCIImpl", "RaceStageCIImpl", "TournamentStageCIImpl", "TournamentCIImpl", "LotteryCIImpl", "DrawCIImpl"};
         for (String clazz : classes) {
             if (!status.containsKey(clazz))
@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.sportradar.unifiedodds.sdk.caching.SportEventCI;
+import com.sportradar.utils.URN;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An index of the cached sport events by their scheduled and scheduled end time, used to find the events scheduled
+ * or finished before a date without checking every cached item. The event ids are kept in hourly buckets, so a lookup
+ * only visits the buckets before the requested date and checks the exact times of the events in the last one.
+ *
+ * The index also keeps the number of the indexed items per cache item type. The items are indexed by the
+ * {@link SportEventCacheImpl} when they are put in the cache or merged(not when they are only read), and removed from
+ * the index through the removal listener of the cache, so the expired items are removed as well.
+ */
+public class SportEventScheduleIndex implements RemovalListener<URN, SportEventCI> {
+    private static final long BUCKET_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final Map<URN, Entry> entries = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, Set<URN>> startBuckets = new TreeMap<>();
+    private final NavigableMap<Long, Set<URN>> endBuckets = new TreeMap<>();
+    private final Map<String, Long> typeCounts = new HashMap<>();
+
+    /**
+     * Indexes the provided cache item or updates its index entry if its scheduled times changed. The item is checked
+     * to be still cached under the index lock, so an item removed from the cache concurrently (whose removal
+     * notification may already have been processed) is not added back to the index.
+     *
+     * @param ci the cache item which was put in the cache or merged
+     * @param isCached the check if the provided item is still cached
+     */
+    public void index(SportEventCI ci, Predicate<SportEventCI> isCached) {
+        if (ci == null || ci.getId() == null) {
+            return;
+        }
+
+        Entry current = entries.get(ci.getId());
+        if (current != null && current.isOf(ci)) {
+            return;
+        }
+
+        synchronized (this) {
+            Entry previous = entries.get(ci.getId());
+            if (previous != null && previous.isOf(ci)) {
+                return;
+            }
+            if (!isCached.test(ci)) {
+                return;
+            }
+            if (previous != null) {
+                removeEntry(previous);
+            }
+            addEntry(new Entry(ci));
+        }
+    }
+
+    /**
+     * Removes the provided item from the index
+     *
+     * @param id the id of the removed item
+     */
+    public synchronized void remove(URN id) {
+        Entry previous = entries.get(id);
+        if (previous != null) {
+            removeEntry(previous);
+        }
+    }
+
+    /**
+     * Removes the items evicted or invalidated by the cache, the replaced items are re-indexed on put
+     *
+     * @param notification the removal notification of the cache
+     */
+    @Override
+    public void onRemoval(RemovalNotification<URN, SportEventCI> notification) {
+        if (notification.getKey() == null || notification.getCause() == RemovalCause.REPLACED) {
+            return;
+        }
+
+        synchronized (this) {
+            Entry previous = entries.get(notification.getKey());
+            if (previous != null && previous.ci == notification.getValue()) {
+                removeEntry(previous);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the items scheduled before the provided date, the items without a scheduled time are
+     * matched by their scheduled end time
+     *
+     * @param before the date before which the items should be scheduled
+     * @return the ids of the items scheduled before the provided date
+     */
+    public synchronized List<URN> getScheduledBefore(Date before) {
+        Preconditions.checkNotNull(before);
+
+        return collectBefore(startBuckets, before, Entry::getStart);
+    }
+
+    /**
+     * Returns the ids of the items which ended before the provided date, the items without a scheduled end time
+     * are matched by their scheduled time
+     *
+     * @param before the date before which the items should end
+     * @return the ids of the items which ended before the provided date
+     */
+    public synchronized List<URN> getEndedBefore(Date before) {
+        Preconditions.checkNotNull(before);
+
+        return collectBefore(endBuckets, before, Entry::getEnd);
+    }
+
+    /**
+     * Returns the number of the indexed items per cache item type
+     *
+     * @return a map containing the simple class names of the indexed items and their counts
+     */
+    public synchronized Map<String, Long> getTypeCounts() {
+        return new HashMap<>(typeCounts);
+    }
+
+    /**
+     * Returns the number of the indexed items
+     *
+     * @return the number of the indexed items
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private List<URN> collectBefore(NavigableMap<Long, Set<URN>> buckets, Date before, Function<Entry, Long> time) {
+        long lastBucket = bucketOf(before.getTime());
+        List<URN> result = new ArrayList<>();
+        for (Map.Entry<Long, Set<URN>> bucket : buckets.headMap(lastBucket, true).entrySet()) {
+            if (bucket.getKey() < lastBucket) {
+                result.addAll(bucket.getValue());
+                continue;
+            }
+            for (URN id : bucket.getValue()) {
+                if (time.apply(entries.get(id)) < before.getTime()) {
+                    result.add(id);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void addEntry(Entry entry) {
+        entries.put(entry.id, entry);
+        typeCounts.merge(entry.type, 1L, Long::sum);
+        if (entry.getStart() != null) {
+            startBuckets.computeIfAbsent(bucketOf(entry.getStart()), k -> new HashSet<>()).add(entry.id);
+        }
+        if (entry.getEnd() != null) {
+            endBuckets.computeIfAbsent(bucketOf(entry.getEnd()), k -> new HashSet<>()).add(entry.id);
+        }
+    }
+
+    private void removeEntry(Entry entry) {
+        entries.remove(entry.id);
+        typeCounts.computeIfPresent(entry.type, (type, count) -> count > 1 ? count - 1 : null);
+        if (entry.getStart() != null) {
+            removeFromBucket(startBuckets, bucketOf(entry.getStart()), entry.id);
+        }
+        if (entry.getEnd() != null) {
+            removeFromBucket(endBuckets, bucketOf(entry.getEnd()), entry.id);
+        }
+    }
+
+    private static void removeFromBucket(NavigableMap<Long, Set<URN>> buckets, long bucket, URN id) {
+        Set<URN> ids = buckets.get(bucket);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            buckets.remove(bucket);
+        }
+    }
+
+    private static long bucketOf(long time) {
+        return Math.floorDiv(time, BUCKET_MILLIS);
+    }
+
+    private static final class Entry {
+        private final URN id;
+        private final SportEventCI ci;
+        private final String type;
+        private final Long scheduled;
+        private final Long scheduledEnd;
+
+        private Entry(SportEventCI ci) {
+            this.id = ci.getId();
+            this.ci = ci;
+            this.type = ci.getClass().getSimpleName();
+            this.scheduled = ci.getScheduledRaw() == null ? null : ci.getScheduledRaw().getTime();
+            this.scheduledEnd = ci.getScheduledEndRaw() == null ? null : ci.getScheduledEndRaw().getTime();
+        }
+
+        private boolean isOf(SportEventCI other) {
+            return ci == other
+                    && Objects.equals(scheduled, other.getScheduledRaw() == null ? null : other.getScheduledRaw().getTime())
+                    && Objects.equals(scheduledEnd, other.getScheduledEndRaw() == null ? null : other.getScheduledEndRaw().getTime());
+        }
+
+        private Long getStart() {
+            return scheduled != null ? scheduled : scheduledEnd;
+        }
+
+        private Long getEnd() {
+            return scheduledEnd != null ? scheduledEnd : scheduled;
+        }
+    }
+}
@@ -7,7 +7,6 @@ package com.sportradar.unifiedodds.sdk.caching.impl.ci;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
 import com.sportradar.uf.sportsapi.datamodel.*;
 import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
 import com.sportradar.unifiedodds.sdk.caching.CompetitorCI;
@@ -57,17 +56,17 @@ class CompetitorCIImpl implements CompetitorCI, ExportableCacheItem {
     /**
      * A {@link Map} containing competitor names in different languages
      */
-    private final Map<Locale, String> names = Maps.newConcurrentMap();
+    private final Map<Locale, String> names = new LocalizedValues();
 
     /**
      * A {@link Map} containing competitor's country name in different languages
      */
-    private final Map<Locale, String> countryNames = Maps.newConcurrentMap();
+    private final Map<Locale, String> countryNames = LocalizedValues.deduplicating();
 
     /**
      * A {@link Map} containing competitor abbreviations in different languages
      */
-    private final Map<Locale, String> abbreviations = Maps.newConcurrentMap();
+    private final Map<Locale, String> abbreviations = LocalizedValues.deduplicating();
 
     /**
      * A value indicating whether represented competitor is virtual
@@ -139,7 +138,7 @@ class CompetitorCIImpl implements CompetitorCI, ExportableCacheItem {
     /**
      * The locales which are merged into the CI
      */
-    private final List<Locale> cachedLocales = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Locale> cachedLocales = new LocaleSet();
 
     private final ReentrantLock fetchLock = new ReentrantLock();
 
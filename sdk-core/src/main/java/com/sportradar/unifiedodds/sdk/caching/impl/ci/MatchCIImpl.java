@@ -157,24 +157,24 @@ class MatchCIImpl implements MatchCI, ExportableCacheItem {
     private SportEventType sportEventType;
 
     /**
-     * A {@link List} indicating which fixture translations were already fetched
+     * A {@link Set} indicating which fixture translations were already fetched
      */
-    private final List<Locale> loadedFixtureLocales = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Locale> loadedFixtureLocales = new LocaleSet();
 
     /**
-     * A {@link List} indicating which event summary translations were already fetched
+     * A {@link Set} indicating which event summary translations were already fetched
      */
-    private final List<Locale> loadedSummaryLocales = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Locale> loadedSummaryLocales = new LocaleSet();
 
     /**
-     * A {@link List} indicating which event competitors translations were already fetched
+     * A {@link Set} indicating which event competitors translations were already fetched
      */
-    private final List<Locale> loadedCompetitorLocales = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Locale> loadedCompetitorLocales = new LocaleSet();
 
     /**
      * A {@link Map} storing the available sport event names
      */
-    private final Map<Locale, String> sportEventNames = Maps.newConcurrentMap();
+    private final Map<Locale, String> sportEventNames = new LocalizedValues();
 
     /**
      * A {@link Map} associated translated event time lines
@@ -6,7 +6,6 @@ package com.sportradar.unifiedodds.sdk.caching.impl.ci;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
 import com.sportradar.uf.sportsapi.datamodel.SAPIPlayerCompetitor;
 import com.sportradar.uf.sportsapi.datamodel.SAPIPlayerExtended;
 import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
@@ -15,6 +14,8 @@ import com.sportradar.unifiedodds.sdk.caching.PlayerProfileCI;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCI;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCacheItem;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportablePlayerProfileCI;
+import com.sportradar.unifiedodds.sdk.caching.ci.LocalizedValues;
+import com.sportradar.unifiedodds.sdk.caching.ci.LocaleSet;
 import com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.DataRouterStreamException;
@@ -58,22 +59,22 @@ class PlayerProfileCIImpl implements PlayerProfileCI, ExportableCacheItem {
     /**
      * A {@link Map} containing player names in different languages
      */
-    private final Map<Locale, String> names = Maps.newConcurrentMap();
+    private final Map<Locale, String> names = new LocalizedValues();
 
     /**
      * A {@link Map} containing player full names in different languages
      */
-    private final Map<Locale, String> fullNames = Maps.newConcurrentMap();
+    private final Map<Locale, String> fullNames = new LocalizedValues();
 
     /**
      * A {@link Map} containing player's nationality in different languages
      */
-    private final Map<Locale, String> nationalities = Maps.newConcurrentMap();
+    private final Map<Locale, String> nationalities = LocalizedValues.deduplicating();
 
     /**
      * A {@link Map} containing player's abbreviations in different languages
      */
-    private final Map<Locale, String> abbreviations = Maps.newConcurrentMap();
+    private final Map<Locale, String> abbreviations = LocalizedValues.deduplicating();
 
     /**
      * The value describing the type(e.g. forward, defense, ...) of the player represented by current instance
@@ -123,7 +124,7 @@ class PlayerProfileCIImpl implements PlayerProfileCI, ExportableCacheItem {
     /**
      * The locales which are merged into the CI
      */
-    private final List<Locale> cachedLocales = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Locale> cachedLocales = new LocaleSet();
 
     private final ReentrantLock fetchLock = new ReentrantLock();
 
@@ -388,7 +389,7 @@ class PlayerProfileCIImpl implements PlayerProfileCI, ExportableCacheItem {
     }
 
     @Override
-    public List<Locale> getCachedLocales() { return cachedLocales; }
+    public List<Locale> getCachedLocales() { return new ArrayList<>(cachedLocales); }
 
     private void mergePlayerProfile(ExportablePlayerProfileCI exportable) {
         names.putAll(exportable.getNames());
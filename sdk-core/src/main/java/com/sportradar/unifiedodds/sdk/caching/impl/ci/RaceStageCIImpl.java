@@ -8,7 +8,6 @@ import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
 import com.sportradar.uf.sportsapi.datamodel.*;
 import com.sportradar.unifiedodds.sdk.BookingManager;
 import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
@@ -21,6 +20,8 @@ import com.sportradar.unifiedodds.sdk.caching.ci.VenueCI;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCI;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCacheItem;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableRaceStageCI;
+import com.sportradar.unifiedodds.sdk.caching.ci.LocalizedValues;
+import com.sportradar.unifiedodds.sdk.caching.ci.LocaleSet;
 import com.sportradar.unifiedodds.sdk.entities.*;
 import com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
@@ -125,7 +126,7 @@ class RaceStageCIImpl implements StageCI, ExportableCacheItem {
     /**
      * A {@link Map} storing the available sport event names
      */
-    private final Map<Locale, String> sportEventNames = Maps.newConcurrentMap();
+    private final Map<Locale, String> sportEventNames = new LocalizedValues();
 
     /**
      * An indication of what kind of stage it is
@@ -133,19 +134,19 @@ class RaceStageCIImpl implements StageCI, ExportableCacheItem {
     private StageType stageType;
 
     /**
-     * A {@link List} of locales that are already fully cached
+     * A {@link Set} of locales that are already fully cached
      */
-    private List<Locale> loadedSummaryLocales = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Locale> loadedSummaryLocales = new LocaleSet();
 
     /**
-     * A {@link List} of locales that are already fully cached
+     * A {@link Set} of locales that are already fully cached
      */
-    private List<Locale> loadedFixtureLocales = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Locale> loadedFixtureLocales = new LocaleSet();
 
     /**
-     * A {@link List} indicating which event competitors translations were already fetched
+     * A {@link Set} indicating which event competitors translations were already fetched
      */
-    private final List<Locale> loadedCompetitorLocales = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Locale> loadedCompetitorLocales = new LocaleSet();
 
     /**
      * An {@link ReentrantLock} used to synchronize summary request operations
@@ -7,7 +7,6 @@ package com.sportradar.unifiedodds.sdk.caching.impl.ci;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
 import com.sportradar.uf.sportsapi.datamodel.*;
 import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
 import com.sportradar.unifiedodds.sdk.caching.DataRouterManager;
@@ -61,7 +60,7 @@ class TournamentCIImpl implements TournamentCI, ExportableCacheItem {
     /**
      * A {@link Map} containing translated names of the item
      */
-    private final Map<Locale, String> names = Maps.newConcurrentMap();
+    private final Map<Locale, String> names = new LocalizedValues();
 
     /**
      * A {@link URN} specifying the id of the parent category
@@ -132,9 +131,9 @@ class TournamentCIImpl implements TournamentCI, ExportableCacheItem {
     private List<URN> associatedSeasonIds;
 
     /**
-     * A {@link List} of locales that are already fully cached - only when the full tournament info endpoint is cached
+     * A {@link Set} of locales that are already fully cached - only when the full tournament info endpoint is cached
      */
-    private List<Locale> cachedLocales = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Locale> cachedLocales = new LocaleSet();
 
     /**
      * A lock used to synchronize api requests
@@ -7,7 +7,6 @@ package com.sportradar.unifiedodds.sdk.caching.impl.ci;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
 import com.sportradar.uf.sportsapi.datamodel.*;
 import com.sportradar.unifiedodds.sdk.BookingManager;
 import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
@@ -19,6 +18,8 @@ import com.sportradar.unifiedodds.sdk.caching.ci.VenueCI;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCI;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCacheItem;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableTournamentStageCI;
+import com.sportradar.unifiedodds.sdk.caching.ci.LocalizedValues;
+import com.sportradar.unifiedodds.sdk.caching.ci.LocaleSet;
 import com.sportradar.unifiedodds.sdk.entities.*;
 import com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
@@ -92,7 +93,7 @@ class TournamentStageCIImpl implements StageCI, ExportableCacheItem {
     /**
      * A {@link Map} storing the available sport event names
      */
-    private final Map<Locale, String> sportEventNames = Maps.newConcurrentMap();
+    private final Map<Locale, String> sportEventNames = new LocalizedValues();
 
     /**
      * A {@link URN} specifying the id of the parent category
@@ -130,9 +131,9 @@ class TournamentStageCIImpl implements StageCI, ExportableCacheItem {
     private URN replacedBy;
 
     /**
-     * A {@link List} of locales that are already fully cached - only when the full tournament info endpoint is cached
+     * A {@link Set} of locales that are already fully cached - only when the full tournament info endpoint is cached
      */
-    private List<Locale> cachedLocales = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Locale> cachedLocales = new LocaleSet();
 
     /**
      * An {@link ReentrantLock} used to synchronize summary request operations
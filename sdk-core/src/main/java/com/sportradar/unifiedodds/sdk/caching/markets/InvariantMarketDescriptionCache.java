@@ -27,6 +27,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
@@ -44,6 +45,7 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
     private final List<Locale> prefetchLocales;
     private final List<Locale> fetchedLocales;
     private final ReentrantLock fetchLock = new ReentrantLock();
+    private final AtomicLong version = new AtomicLong();
     private boolean hasTimerElapsedOnce;
 
     public InvariantMarketDescriptionCache(Cache<String, MarketDescriptionCI> cache,
@@ -101,6 +103,7 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
     public void deleteCacheItem(int marketId, String variant) {
         String processingCacheItemId = String.valueOf(marketId);
         cache.invalidate(processingCacheItemId);
+        version.incrementAndGet();
     }
 
     @Override
@@ -109,6 +112,17 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
         if (description != null) {
             description.setLastDataReceived(new Date());
         }
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns the version of the cached market descriptions, the version changes each time the cached descriptions
+     * are fetched, enriched, updated or deleted
+     *
+     * @return the version of the cached market descriptions
+     */
+    public long getVersion() {
+        return version.get();
     }
 
     public List<MarketDescription> getAllInvariantMarketDescriptions(List<Locale> locales) throws IllegalCacheStateException, CacheItemNotFoundException {
@@ -198,6 +212,8 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
             initStaticMappingsEnrichment();
         } catch (DataProviderException e) {
             throw new IllegalCacheStateException("An error occurred while fetching invariant descriptors in [" + missingLocales + "]", e);
+        } finally {
+            version.incrementAndGet();
         }
     }
 
@@ -6,6 +6,9 @@ package com.sportradar.unifiedodds.sdk.caching.markets;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.VariantDescriptionCI;
@@ -21,7 +24,9 @@ import org.slf4j.LoggerFactory;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Created on 15/06/2017.
@@ -29,10 +34,19 @@ import java.util.Optional;
  */
 public class MarketDescriptionProviderImpl implements MarketDescriptionProvider {
     private final static Logger logger = LoggerFactory.getLogger(MarketDescriptionProviderImpl.class);
-    private final MarketDescriptionCache invariantMarketCache;
+    private final static int RESOLVED_DESCRIPTORS_CACHE_SIZE = 10_000;
+    private final InvariantMarketDescriptionCache invariantMarketCache;
     private final MarketDescriptionCache variantMarketCache;
     private final VariantDescriptionCache variantDescriptionCache;
 
+    /**
+     * The variant market descriptors resolved from the full variant market list, the resolved descriptors are never
+     * modified, they are valid until the version of the invariant or variant description cache changes
+     */
+    private final Cache<ResolvedDescriptorKey, ResolvedDescriptor> resolvedDescriptors = CacheBuilder.newBuilder()
+            .maximumSize(RESOLVED_DESCRIPTORS_CACHE_SIZE)
+            .build();
+
     @Inject
     public MarketDescriptionProviderImpl(@Named("InvariantMarketCache") InvariantMarketDescriptionCache invariantMarketCache,
                                          @Named("VariantMarketCache") MarketDescriptionCache variantMarketCache,
@@ -52,6 +66,23 @@ public class MarketDescriptionProviderImpl implements MarketDescriptionProvider
         Preconditions.checkNotNull(locales);
         Preconditions.checkArgument(!locales.isEmpty());
 
+        // the versions are read before the descriptors, so a descriptor resolved during a refresh is not reused
+        long invariantVersion = invariantMarketCache.getVersion();
+        long variantVersion = variantDescriptionCache.getVersion();
+
+        String variantValue = marketSpecifiers == null
+                ? null
+                : marketSpecifiers.get(UnifiedFeedConstants.VARIANT_DESCRIPTION_NAME);
+
+        ResolvedDescriptorKey resolvedKey = null;
+        if (!Strings.isNullOrEmpty(variantValue)) {
+            resolvedKey = new ResolvedDescriptorKey(marketId, variantValue, locales);
+            ResolvedDescriptor resolved = resolvedDescriptors.getIfPresent(resolvedKey);
+            if (resolved != null && resolved.isValid(invariantVersion, variantVersion)) {
+                return resolved.descriptor;
+            }
+        }
+
         MarketDescription marketDescriptor;
         try {
             marketDescriptor = invariantMarketCache.getMarketDescriptor(marketId, null, locales);
@@ -59,10 +90,6 @@ public class MarketDescriptionProviderImpl implements MarketDescriptionProvider
             throw new CacheItemNotFoundException("Market descriptor with id " + marketId + " could not be found", e);
         }
 
-        String variantValue = marketSpecifiers == null
-                ? null
-                : marketSpecifiers.get(UnifiedFeedConstants.VARIANT_DESCRIPTION_NAME);
-
         // case 1: if its not a variant market, return the static market descriptor as is
         if (Strings.isNullOrEmpty(variantValue)) {
             return marketDescriptor;
@@ -78,7 +105,12 @@ public class MarketDescriptionProviderImpl implements MarketDescriptionProvider
             }
 
             // case 3: "normal" variant market available on the full variant market list
+            ResolvedDescriptorKey key = resolvedKey;
             return provideFullVariantListEndpointMarket(marketId, locales, marketDescriptor, variantValue)
+                    .map(descriptor -> {
+                        resolvedDescriptors.put(key, new ResolvedDescriptor(descriptor, invariantVersion, variantVersion));
+                        return descriptor;
+                    })
                     .orElseGet(() ->
                             // case 4: dynamic market which is not defined
                             provideDynamicVariantEndpointMarket(marketId, locales, marketDescriptor, variantValue)
@@ -95,6 +127,8 @@ public class MarketDescriptionProviderImpl implements MarketDescriptionProvider
             ((MarketDescriptionImpl) marketDescriptor).mergeOutcomes(variantDescriptionCI.getOutcomes(), locales);
             ((MarketDescriptionImpl) marketDescriptor).setStaticMappingsData(variantDescriptionCI.getMappings());
             ((MarketDescriptionImpl) marketDescriptor).setFetchInfo(variantDescriptionCI.getSourceCache(), variantDescriptionCI.getLastDataReceived());
+            // the descriptor is shared through the resolved descriptors cache, so the lazy mappings are built up-front
+            marketDescriptor.getMappings();
 
             return Optional.of(marketDescriptor);
         } catch (CacheItemNotFoundException e) {
@@ -134,6 +168,7 @@ public class MarketDescriptionProviderImpl implements MarketDescriptionProvider
      * @return true if succeeded, false otherwise
      */
     public boolean reloadMarketDescription(int marketId, Map<String, String> marketSpecifiers){
+        resolvedDescriptors.invalidateAll();
         try
         {
             String variant = marketSpecifiers != null ? marketSpecifiers.getOrDefault(UnifiedFeedConstants.VARIANT_DESCRIPTION_NAME, null) : null;
@@ -154,4 +189,49 @@ public class MarketDescriptionProviderImpl implements MarketDescriptionProvider
             return false;
         }
     }
+
+    private static final class ResolvedDescriptorKey {
+        private final int marketId;
+        private final String variant;
+        private final Set<Locale> locales;
+
+        private ResolvedDescriptorKey(int marketId, String variant, List<Locale> locales) {
+            this.marketId = marketId;
+            this.variant = variant;
+            this.locales = ImmutableSet.copyOf(locales);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ResolvedDescriptorKey that = (ResolvedDescriptorKey) o;
+            return marketId == that.marketId && variant.equals(that.variant) && locales.equals(that.locales);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(marketId, variant, locales);
+        }
+    }
+
+    private static final class ResolvedDescriptor {
+        private final MarketDescription descriptor;
+        private final long invariantVersion;
+        private final long variantVersion;
+
+        private ResolvedDescriptor(MarketDescription descriptor, long invariantVersion, long variantVersion) {
+            this.descriptor = descriptor;
+            this.invariantVersion = invariantVersion;
+            this.variantVersion = variantVersion;
+        }
+
+        private boolean isValid(long currentInvariantVersion, long currentVariantVersion) {
+            return invariantVersion == currentInvariantVersion && variantVersion == currentVariantVersion;
+        }
+    }
 }
@@ -19,4 +19,12 @@ public interface VariantDescriptionCache {
     VariantDescriptionCI getVariantDescription(String id, List<Locale> locales) throws IllegalCacheStateException, CacheItemNotFoundException;
 
     boolean loadMarketDescriptions();
+
+    /**
+     * Returns the version of the cached variant descriptions, the version changes each time the cached descriptions
+     * are fetched
+     *
+     * @return the version of the cached variant descriptions
+     */
+    long getVersion();
 }
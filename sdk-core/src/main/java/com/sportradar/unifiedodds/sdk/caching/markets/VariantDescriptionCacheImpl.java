@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
@@ -40,6 +41,7 @@ public class VariantDescriptionCacheImpl implements VariantDescriptionCache {
     private final List<Locale> prefetchLocales;
     private final List<Locale> fetchedLocales;
     private final ReentrantLock fetchLock = new ReentrantLock();
+    private final AtomicLong version = new AtomicLong();
     private boolean hasTimerElapsedOnce;
 
     public VariantDescriptionCacheImpl(Cache<String, VariantDescriptionCI> cache,
@@ -116,6 +118,11 @@ public class VariantDescriptionCacheImpl implements VariantDescriptionCache {
         return true;
     }
 
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
     private VariantDescriptionCI getVariantDescriptionInternal(String id, List<Locale> locales2fetch) throws CacheItemNotFoundException, IllegalCacheStateException {
         Preconditions.checkNotNull(id);
         Preconditions.checkNotNull(locales2fetch);
@@ -158,6 +165,8 @@ public class VariantDescriptionCacheImpl implements VariantDescriptionCache {
             }
         } catch (DataProviderException e) {
             throw new IllegalCacheStateException("An error occurred while fetching variant descriptors in [" + missingLocales + "]", e);
+        } finally {
+            version.incrementAndGet();
         }
     }
 
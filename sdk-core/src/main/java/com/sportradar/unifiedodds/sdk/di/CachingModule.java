@@ -50,7 +50,7 @@ public class CachingModule extends AbstractModule {
         bind(DataRouter.class).to(DataRouterImpl.class).in(Singleton.class);
 
         bind(NamedValuesProvider.class).to(NamedValuesProviderImpl.class);
-        bind(MarketDescriptionProvider.class).to(MarketDescriptionProviderImpl.class);
+        bind(MarketDescriptionProvider.class).to(MarketDescriptionProviderImpl.class).in(Singleton.class);
         bind(new TypeLiteral<Cache<String, String>>(){}).annotatedWith(Names.named("DispatchedFixturesChangesCache")).toInstance(internalCachesProvider.getDispatchedFixtureChanges());
     }
 
@@ -59,6 +59,11 @@ public class CachingModule extends AbstractModule {
         return internalCachesProvider.getSportEventCache();
     }
 
+    @Provides @Singleton
+    protected SportEventScheduleIndex provideSportEventScheduleIndex() {
+        return internalCachesProvider.getSportEventScheduleIndex();
+    }
+
     @Provides @Singleton
     protected Cache<URN, SportCI> provideSportDataCICache() {
         return internalCachesProvider.getSportDataCache();
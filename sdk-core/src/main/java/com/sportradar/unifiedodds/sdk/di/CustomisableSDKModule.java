@@ -23,8 +23,10 @@ public class CustomisableSDKModule extends AbstractModule {
     @Override
     protected final void configure() {
 
+        bind(RabbitMqChannel.class).to(provideRabbitMqChannelImplementationClass());
         bind(ChannelMessageConsumer.class).to(provideMessageConsumerImplementationClass());
         bind(SnapshotRequestManager.class).to(provideSnapshotRequestSchedulerImplementationClass()).in(Singleton.class);
+        bind(BlockingTaskExecutorFactory.class).to(provideBlockingTaskExecutorFactoryImplementationClass()).in(Singleton.class);
 
         bind(new TypeLiteral<ObservableDataProvider<MarketDescriptions>>() { })
                 .annotatedWith(Names.named("AdditionalMarketMappingsProvider"))
@@ -32,6 +34,14 @@ public class CustomisableSDKModule extends AbstractModule {
                 .in(Singleton.class);
     }
 
+    /**
+     * Binds the channel that should be used to receive the feed messages (ex: an in-process channel used for offline
+     * load testing), a new instance is created for each session
+     */
+    protected Class<? extends RabbitMqChannel> provideRabbitMqChannelImplementationClass() {
+        return RabbitMqChannelImpl.class;
+    }
+
     /**
      * Binds the message receiver that should be used to process received messages
      */
@@ -46,6 +56,14 @@ public class CustomisableSDKModule extends AbstractModule {
         return DefaultSnapshotRequestManager.class;
     }
 
+    /**
+     * Binds the factory of the executors which run the blocking SDK work(ex: a factory providing executors with
+     * a custom thread configuration)
+     */
+    protected Class<? extends BlockingTaskExecutorFactory> provideBlockingTaskExecutorFactoryImplementationClass() {
+        return DefaultBlockingTaskExecutorFactory.class;
+    }
+
     /**
      * Binds the optional additional market mappings provider
      */
@@ -14,6 +14,7 @@ import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 import com.rabbitmq.client.ConnectionFactory;
 import com.sportradar.unifiedodds.sdk.*;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
 import com.sportradar.unifiedodds.sdk.impl.*;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.HttpHelper;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
@@ -127,20 +128,22 @@ public class GeneralModule implements Module {
         binder.bind(AMQPConnectionFactory.class).to(SingleInstanceAMQPConnectionFactory.class);
         binder.bind(SingleInstanceAMQPConnectionFactory.class).in(Singleton.class);
 
-        // other rabbit instances
-        binder.bind(RabbitMqChannel.class).to(RabbitMqChannelImpl.class);
+        // other rabbit instances, the RabbitMqChannel is bound by the CustomisableSDKModule
         binder.bind(MessageReceiver.class).to(RabbitMqMessageReceiver.class);
 
         // managers
         binder.bind(ProducerDataProvider.class).to(ProducerDataProviderImpl.class).in(Singleton.class);
         binder.bind(SDKProducerManager.class).to(ProducerManagerImpl.class).in(Singleton.class);
         binder.bind(SportsInfoManager.class).to(SportsInfoManagerImpl.class).in(Singleton.class);
+        binder.bind(SessionPartitions.class).in(Singleton.class);
         binder.bind(MarketDescriptionManager.class).to(MarketManagerImpl.class).in(Singleton.class);
         binder.bind(CashOutProbabilitiesManager.class).to(CashOutProbabilitiesManagerImpl.class).in(Singleton.class);
         binder.bind(MappingTypeProvider.class).to(MappingTypeProviderImpl.class).in(Singleton.class);
         binder.bind(BookingManager.class).to(BookingManagerImpl.class).in(Singleton.class);
         binder.bind(CustomBetManager.class).to(CustomBetManagerImpl.class).in(Singleton.class);
+        binder.bind(CustomBetCache.class).in(Singleton.class);
         binder.bind(EventChangeManager.class).to(EventChangeManagerImpl.class).in(Singleton.class);
+        binder.bind(OddsBookManager.class).to(OddsBook.class);
 
         // session
         binder.bind(OddsFeedSessionImpl.class);
@@ -250,6 +253,67 @@ public class GeneralModule implements Module {
         return statsBean;
     }
 
+    /**
+     * Returns the scheduler which rate limits and prioritizes the API requests of the sdk
+     *
+     * @return the scheduler which rate limits and prioritizes the API requests of the sdk
+     */
+    @Provides @Singleton
+    private ApiRequestScheduler provideApiRequestScheduler() {
+        ApiRequestScheduler scheduler = new ApiRequestScheduler(
+                configuration.getApiRequestRateLimit(),
+                configuration.getApiRequestEndpointRateLimit(),
+                configuration.getApiRequestMaxQueueTime());
+        scheduler.registerMBean();
+
+        return scheduler;
+    }
+
+    /**
+     * Returns the cache of the cash out probabilities used by the sdk
+     *
+     * @return the cache of the cash out probabilities used by the sdk
+     */
+    @Provides @Singleton
+    private CashOutProbabilitiesCache provideCashOutProbabilitiesCache() {
+        CashOutProbabilitiesCache cache = new CashOutProbabilitiesCache(
+                configuration.getCashOutProbabilitiesCacheTimeout(),
+                configuration.getCashOutProbabilitiesMinRefreshInterval());
+        cache.registerMBean();
+
+        return cache;
+    }
+
+    /**
+     * Returns the monitor which supervises the channels of the sessions
+     *
+     * @return the monitor which supervises the channels of the sessions
+     */
+    @Provides @Singleton
+    private RabbitMqChannelMonitor provideRabbitMqChannelMonitor() {
+        RabbitMqChannelMonitor monitor = new RabbitMqChannelMonitor(configuration.getMessagingChannelStaleTimeout());
+        monitor.registerMBean();
+
+        return monitor;
+    }
+
+    /**
+     * Returns the in-memory odds book of the events received by the sessions
+     *
+     * @param marketDescriptionProvider the provider used to resolve the bet stop market groups
+     * @return the in-memory odds book of the events received by the sessions
+     */
+    @Provides @Singleton
+    private OddsBook provideOddsBook(MarketDescriptionProvider marketDescriptionProvider) {
+        OddsBook oddsBook = new OddsBook(
+                configuration.isOddsBookEnabled(),
+                marketDescriptionProvider,
+                configuration.getDesiredLocales());
+        oddsBook.registerMBean();
+
+        return oddsBook;
+    }
+
     /**
      * Provides the http client used to fetch data from the API
      */
@@ -259,7 +323,7 @@ public class GeneralModule implements Module {
         int connectionPoolSize = configuration.getHttpClientMaxConnTotal();
         int maxConcurrentConnectionsPerRoute = configuration.getHttpClientMaxConnPerRoute();
 
-        return httpClientFactory.create(maxTimeoutInMillis, connectionPoolSize, maxConcurrentConnectionsPerRoute);
+        return httpClientFactory.create("Default", maxTimeoutInMillis, connectionPoolSize, maxConcurrentConnectionsPerRoute);
     }
 
     /**
@@ -271,7 +335,7 @@ public class GeneralModule implements Module {
         int connectionPoolSize = configuration.getHttpClientMaxConnTotal();
         int maxConcurrentConnectionsPerRoute = configuration.getHttpClientMaxConnPerRoute();
 
-        return httpClientFactory.create(maxTimeoutInMillis, connectionPoolSize, maxConcurrentConnectionsPerRoute);
+        return httpClientFactory.create("Fast", maxTimeoutInMillis, connectionPoolSize, maxConcurrentConnectionsPerRoute);
     }
 
     /**
@@ -283,15 +347,15 @@ public class GeneralModule implements Module {
         int connectionPoolSize = configuration.getRecoveryHttpClientMaxConnTotal();
         int maxConcurrentConnectionsPerRoute = configuration.getRecoveryHttpClientMaxConnPerRoute();
 
-        return httpClientFactory.create(maxTimeoutInMillis, connectionPoolSize, maxConcurrentConnectionsPerRoute);
+        return httpClientFactory.create("Recovery", maxTimeoutInMillis, connectionPoolSize, maxConcurrentConnectionsPerRoute);
     }
 
     /**
      * Provides the http client used to fetch data from the API
      */
     @Provides @Named("RecoveryHttpHelper")
-    private HttpHelper provideRecoveryHttpHelper(SDKInternalConfiguration config, @Named("RecoveryHttpClient") CloseableHttpClient httpClient, @Named("SportsApiJaxbDeserializer") Deserializer apiDeserializer) {
-        return new HttpHelper(config, httpClient, apiDeserializer);
+    private HttpHelper provideRecoveryHttpHelper(SDKInternalConfiguration config, @Named("RecoveryHttpClient") CloseableHttpClient httpClient, @Named("SportsApiJaxbDeserializer") Deserializer apiDeserializer, ApiRequestScheduler requestScheduler) {
+        return new HttpHelper(config, httpClient, apiDeserializer, requestScheduler);
     }
 
     /**
@@ -342,15 +406,25 @@ public class GeneralModule implements Module {
      * @return the {@link ExecutorService} exclusive to the {@link SingleInstanceAMQPConnectionFactory}
      */
     @Provides @Singleton @Named("DedicatedRabbitMqExecutor")
-    private ExecutorService providesDedicatedRabbitMqExecutor(WhoAmIReader whoAmIReader) {
+    private ExecutorService providesDedicatedRabbitMqExecutor(WhoAmIReader whoAmIReader, BlockingTaskExecutorFactory executorFactory) {
         Preconditions.checkNotNull(whoAmIReader);
-
-        ThreadFactory namedThreadFactory =
-                new ThreadFactoryBuilder()
-                        .setNameFormat(whoAmIReader.getSdkContextDescription() + "-amqp-t-%d")
-                        .build();
+        Preconditions.checkNotNull(executorFactory);
 
         // current max channels is 4(Prematch + Live + Virtuals + System), so max 4 concurrent consumptions
-        return Executors.newFixedThreadPool(5, namedThreadFactory);
+        return executorFactory.createExecutor(whoAmIReader.getSdkContextDescription() + "-amqp-t", 5);
+    }
+
+    /**
+     * Provides an {@link ExecutorService} which is being used exclusively to refresh the cached event schedules
+     *
+     * @return the {@link ExecutorService} exclusive to the event schedule refreshes
+     */
+    @Provides @Singleton @Named("DedicatedEventScheduleExecutor")
+    private ExecutorService providesDedicatedEventScheduleExecutor(WhoAmIReader whoAmIReader, BlockingTaskExecutorFactory executorFactory) {
+        Preconditions.checkNotNull(whoAmIReader);
+        Preconditions.checkNotNull(executorFactory);
+
+        // the refreshes are blocking Sports API requests, kept off the shared SDKTaskScheduler
+        return executorFactory.createExecutor(whoAmIReader.getSdkContextDescription() + "-schedule-t", 2, true);
     }
 }
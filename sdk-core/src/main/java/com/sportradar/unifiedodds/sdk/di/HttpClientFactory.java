@@ -1,28 +1,172 @@
 package com.sportradar.unifiedodds.sdk.di;
 
+import com.google.common.base.Preconditions;
+import com.sportradar.unifiedodds.sdk.impl.HttpClientPoolStatistics;
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.LaxRedirectStrategy;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 class HttpClientFactory {
 
+  private static final Logger logger = LoggerFactory.getLogger(HttpClientFactory.class);
+
   private static final LaxRedirectStrategy LAX_REDIRECT_STRATEGY = new LaxRedirectStrategy();
 
+  private final boolean compression;
+  private final int idleConnectionTimeout;
+
+  HttpClientFactory() {
+    this(true, 0);
+  }
+
+  /**
+   * @param compression an indication if the compressed(gzip/deflate) responses should be requested
+   * @param idleConnectionTimeout the time(seconds) after which the idle pooled connections are closed by the pool
+   *                              monitor, 0 disables the monitor
+   */
+  HttpClientFactory(boolean compression, int idleConnectionTimeout) {
+    Preconditions.checkArgument(idleConnectionTimeout >= 0);
+
+    this.compression = compression;
+    this.idleConnectionTimeout = idleConnectionTimeout;
+  }
+
   public CloseableHttpClient create(int maxTimeoutInMillis, int connectionPoolSize,
       int maxConcurrentConnectionsPerRoute) {
+    return create(null, maxTimeoutInMillis, connectionPoolSize, maxConcurrentConnectionsPerRoute);
+  }
+
+  /**
+   * Creates a new http client, the statistics of its connection pool are exposed through JMX if the pool name is
+   * provided
+   */
+  public CloseableHttpClient create(String poolName, int maxTimeoutInMillis, int connectionPoolSize,
+      int maxConcurrentConnectionsPerRoute) {
     RequestConfig requestConfig = RequestConfig.custom()
         .setConnectTimeout(maxTimeoutInMillis)
         .setConnectionRequestTimeout(maxTimeoutInMillis)
         .setSocketTimeout(maxTimeoutInMillis)
         .build();
 
-    return HttpClientBuilder.create()
-        .useSystemProperties()
+    PoolingHttpClientConnectionManager connectionManager = createConnectionManager(connectionPoolSize,
+        maxConcurrentConnectionsPerRoute);
+
+    PoolHttpClientBuilder builder = new PoolHttpClientBuilder();
+    builder.useSystemProperties()
         .setRedirectStrategy(LAX_REDIRECT_STRATEGY)
         .setDefaultRequestConfig(requestConfig)
-        .setMaxConnTotal(connectionPoolSize)
-        .setMaxConnPerRoute(maxConcurrentConnectionsPerRoute)
+        .setConnectionManager(connectionManager);
+
+    if (!compression) {
+      builder.disableContentCompression();
+    }
+
+    if (idleConnectionTimeout > 0) {
+      // the pool monitor thread is owned(and stopped) by the built client
+      builder.setKeepAliveStrategy(boundedKeepAliveStrategy(TimeUnit.SECONDS.toMillis(idleConnectionTimeout)))
+          .evictExpiredConnections()
+          .evictIdleConnections(idleConnectionTimeout, TimeUnit.SECONDS);
+    }
+
+    if (poolName != null) {
+      ObjectName statisticsName = registerPoolStatistics(poolName, new HttpClientPoolStatistics(connectionManager));
+      if (statisticsName != null) {
+        // the statistics are unregistered when the client(and its pool) is closed
+        builder.closeWith(() -> unregisterPoolStatistics(statisticsName));
+      }
+    }
+
+    return builder.build();
+  }
+
+  private static PoolingHttpClientConnectionManager createConnectionManager(int connectionPoolSize,
+      int maxConcurrentConnectionsPerRoute) {
+    // the same socket factories as used by the builder with the system properties
+    Registry<ConnectionSocketFactory> socketFactories = RegistryBuilder.<ConnectionSocketFactory>create()
+        .register("http", PlainConnectionSocketFactory.getSocketFactory())
+        .register("https", SSLConnectionSocketFactory.getSystemSocketFactory())
         .build();
+
+    PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactories);
+    if (connectionPoolSize > 0) {
+      connectionManager.setMaxTotal(connectionPoolSize);
+    }
+    if (maxConcurrentConnectionsPerRoute > 0) {
+      connectionManager.setDefaultMaxPerRoute(maxConcurrentConnectionsPerRoute);
+    }
+    return connectionManager;
+  }
+
+  /**
+   * Keeps the connections alive for as long as the server allows, but not longer than the provided time
+   */
+  private static ConnectionKeepAliveStrategy boundedKeepAliveStrategy(long maxKeepAliveInMillis) {
+    return (response, context) -> {
+      long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+      return keepAlive > 0 ? Math.min(keepAlive, maxKeepAliveInMillis) : maxKeepAliveInMillis;
+    };
+  }
+
+  /**
+   * Registers the pool statistics, the statistics are not registered if the statistics of another pool with the same
+   * name are already registered
+   *
+   * @return the name of the registered statistics or <code>null</code> if the statistics were not registered
+   */
+  private static ObjectName registerPoolStatistics(String poolName, HttpClientPoolStatistics statistics) {
+    MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName name = new ObjectName("com.sportradar.unifiedodds.sdk.impl:type=HttpClientPool,name=" + poolName);
+      if (mbeanServer.isRegistered(name)) {
+        return null;
+      }
+      mbeanServer.registerMBean(statistics, name);
+      return name;
+    } catch (MalformedObjectNameException | NotCompliantMBeanException | MBeanRegistrationException
+        | InstanceAlreadyExistsException e) {
+      logger.warn("HttpClientPool statistics registration failed w/ ex.:", e);
+      return null;
+    }
+  }
+
+  private static void unregisterPoolStatistics(ObjectName name) {
+    MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+    try {
+      if (mbeanServer.isRegistered(name)) {
+        mbeanServer.unregisterMBean(name);
+      }
+    } catch (MBeanRegistrationException | InstanceNotFoundException e) {
+      logger.warn("HttpClientPool statistics unregistration failed w/ ex.:", e);
+    }
+  }
+
+  /**
+   * Exposes the closeables of the built client, which are closed together with the client
+   */
+  private static class PoolHttpClientBuilder extends HttpClientBuilder {
+    void closeWith(Closeable closeable) {
+      addCloseable(closeable);
+    }
   }
 }
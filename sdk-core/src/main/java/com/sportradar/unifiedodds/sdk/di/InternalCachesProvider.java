@@ -2,6 +2,7 @@ package com.sportradar.unifiedodds.sdk.di;
 
 import com.google.common.cache.Cache;
 import com.sportradar.unifiedodds.sdk.caching.*;
+import com.sportradar.unifiedodds.sdk.caching.impl.SportEventScheduleIndex;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.VariantDescriptionCI;
 import com.sportradar.utils.URN;
@@ -21,6 +22,8 @@ public interface InternalCachesProvider extends Closeable {
 
     Cache<URN, SportEventCI> getSportEventCache();
 
+    SportEventScheduleIndex getSportEventScheduleIndex();
+
     Cache<URN, PlayerProfileCI> getPlayerProfileCache();
 
     Cache<URN, CompetitorCI> getCompetitorCache();
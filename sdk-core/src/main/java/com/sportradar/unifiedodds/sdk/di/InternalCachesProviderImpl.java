@@ -2,8 +2,10 @@ package com.sportradar.unifiedodds.sdk.di;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
 import com.sportradar.unifiedodds.sdk.OperationManager;
 import com.sportradar.unifiedodds.sdk.caching.*;
+import com.sportradar.unifiedodds.sdk.caching.impl.SportEventScheduleIndex;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.VariantDescriptionCI;
 import com.sportradar.utils.URN;
@@ -21,6 +23,7 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
     private final Cache<URN, SportCI> sportDataCache;
     private final Cache<URN, CategoryCI> categoryDataCache;
     private final Cache<URN, SportEventCI> sportEventCache;
+    private final SportEventScheduleIndex sportEventScheduleIndex;
     private final Cache<URN, PlayerProfileCI> playerProfileCache;
     private final Cache<URN, CompetitorCI> competitorCache;
     private final Cache<URN, CompetitorCI> simpleTeamCompetitorCache;
@@ -47,9 +50,13 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
         sportDataCache = CacheBuilder.newBuilder().build();
         categoryDataCache = CacheBuilder.newBuilder().build();
 
+        sportEventScheduleIndex = new SportEventScheduleIndex();
         sportEventCache = CacheBuilder.newBuilder()
                 .expireAfterWrite(12, TimeUnit.HOURS)
-                .removalListener(removalListenerSportEventCache)
+                .removalListener((RemovalListener<URN, SportEventCI>) notification -> {
+                    removalListenerSportEventCache.onRemoval(notification);
+                    sportEventScheduleIndex.onRemoval(notification);
+                })
                 .build();
 
         playerProfileCache = CacheBuilder.newBuilder()
@@ -92,6 +99,11 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
     @Override
     public Cache<URN, SportEventCI> getSportEventCache() { return sportEventCache; }
 
+    @Override
+    public SportEventScheduleIndex getSportEventScheduleIndex() {
+        return sportEventScheduleIndex;
+    }
+
     @Override
     public Cache<URN, PlayerProfileCI> getPlayerProfileCache() {
         return playerProfileCache;
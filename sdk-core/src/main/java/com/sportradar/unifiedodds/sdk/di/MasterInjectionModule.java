@@ -40,7 +40,8 @@ public class MasterInjectionModule extends AbstractModule {
         InternalCachesProvider internalCachesProvider = new InternalCachesProviderImpl();
         bind(InternalCachesProvider.class).toInstance(internalCachesProvider);
 
-        install(new GeneralModule(sdkListener, config, new HttpClientFactory()));
+        install(new GeneralModule(sdkListener, config,
+                new HttpClientFactory(config.isHttpClientCompressionEnabled(), config.getHttpClientIdleConnectionTimeout())));
         install(new ReadersModule());
         install(new DataProvidersModule());
         install(new CachingModule(internalCachesProvider));
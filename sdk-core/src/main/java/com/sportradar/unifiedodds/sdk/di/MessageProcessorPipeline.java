@@ -11,6 +11,8 @@ import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
 import com.sportradar.unifiedodds.sdk.caching.SportEventStatusCache;
+import com.sportradar.unifiedodds.sdk.impl.CashOutProbabilitiesCache;
+import com.sportradar.unifiedodds.sdk.impl.CustomBetCache;
 import com.sportradar.unifiedodds.sdk.impl.FeedMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.CacheMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.CompositeMessageProcessor;
@@ -30,8 +32,10 @@ public class MessageProcessorPipeline extends AbstractModule {
     protected FeedMessageProcessor providesCacheMessageProcessor(
             SportEventStatusCache sportEventStatusCache,
             SportEventCache sportEventCache,
-            ProcessedFixtureChangesTracker processedFixtureChangesTracker) {
-        return new CacheMessageProcessor(sportEventStatusCache, sportEventCache, processedFixtureChangesTracker);
+            ProcessedFixtureChangesTracker processedFixtureChangesTracker,
+            CustomBetCache customBetCache,
+            CashOutProbabilitiesCache cashOutProbabilitiesCache) {
+        return new CacheMessageProcessor(sportEventStatusCache, sportEventCache, processedFixtureChangesTracker, customBetCache, cashOutProbabilitiesCache);
     }
 
     @Provides
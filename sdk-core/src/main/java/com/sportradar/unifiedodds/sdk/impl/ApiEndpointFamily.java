@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * The families of the Sports API endpoints, used by the {@link ApiRequestScheduler} to rate limit and prioritize
+ * the API requests
+ */
+@SuppressWarnings("java:S115") // Constant names should comply with a naming convention
+public enum ApiEndpointFamily {
+    /**
+     * Producer and event recovery requests
+     */
+    Recovery(0),
+
+    /**
+     * Market descriptions, variants and other static descriptions (including the producers list)
+     */
+    MarketDescriptions(0),
+
+    /**
+     * Sport event summaries, fixtures and timelines
+     */
+    Summaries(1),
+
+    /**
+     * Requests which do not belong to any other family (ex: whoami, cash out, custom bet, replay)
+     */
+    Other(1),
+
+    /**
+     * Competitor and player profiles
+     */
+    Profiles(2),
+
+    /**
+     * Bulk schedules and lists (ex: schedules, tournaments, sports, fixture and result changes)
+     */
+    Schedules(3);
+
+    private final int priority;
+
+    ApiEndpointFamily(int priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Returns the priority of the family, lower values are dispatched first
+     *
+     * @return the priority of the family
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Resolves the family of the endpoint addressed by the provided request path
+     *
+     * @param path the request path or URI
+     * @return the {@link ApiEndpointFamily} of the addressed endpoint
+     */
+    public static ApiEndpointFamily fromPath(String path) {
+        Preconditions.checkNotNull(path);
+
+        int queryStart = path.indexOf('?');
+        String resource = queryStart < 0 ? path : path.substring(0, queryStart);
+
+        if (resource.contains("initiate_request")) {
+            return Recovery;
+        }
+        if (resource.contains("/descriptions/")) {
+            return MarketDescriptions;
+        }
+        if (resource.endsWith("summary.xml") || resource.endsWith("fixture.xml") || resource.endsWith("timeline.xml")) {
+            return Summaries;
+        }
+        if (resource.endsWith("profile.xml")) {
+            return Profiles;
+        }
+        if (resource.endsWith("schedule.xml") || resource.endsWith("changes.xml") || resource.endsWith("tournaments.xml")
+                || resource.endsWith("sports.xml") || resource.endsWith("seasons.xml") || resource.endsWith("categories.xml")
+                || resource.endsWith("lotteries.xml")) {
+            return Schedules;
+        }
+        return Other;
+    }
+}
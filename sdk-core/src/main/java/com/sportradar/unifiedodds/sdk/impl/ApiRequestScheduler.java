@@ -0,0 +1,365 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.unifiedodds.sdk.impl.util.MBeanRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.ObjectName;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * A central admission control of the Sports API requests. Each request waits for a token of its
+ * {@link ApiEndpointFamily} and of the global token bucket before it is executed, the waiting requests are admitted
+ * by the priority of their family.
+ * <p>
+ * The requests wait in bounded queues, the requests which could not be admitted within the max queue time are shed
+ * and fail with a {@link CommunicationException}. The scheduler is disabled(the requests are executed immediately)
+ * if neither the global nor the per endpoint rate limit is configured.
+ * </p>
+ */
+public class ApiRequestScheduler implements ApiRequestSchedulerMBean {
+    private static final Logger logger = LoggerFactory.getLogger(ApiRequestScheduler.class);
+    private static final int QUEUE_CAPACITY = 1_000;
+    private static final String MBEAN_NAME = "com.sportradar.unifiedodds.sdk.impl:type=ApiRequestScheduler";
+
+    private final TokenBucket globalBucket;
+    private final Map<ApiEndpointFamily, TokenBucket> endpointBuckets = new EnumMap<>(ApiEndpointFamily.class);
+    private final Map<ApiEndpointFamily, Deque<Ticket>> queues = new EnumMap<>(ApiEndpointFamily.class);
+    private final List<ApiEndpointFamily> dispatchOrder;
+    private final long maxQueueTimeNanos;
+    private final boolean enabled;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private Thread dispatcher;
+    private boolean closed;
+    private volatile ObjectName registeredMBeanName;
+
+    private final AtomicLong scheduledRequests = new AtomicLong();
+    private final AtomicLong shedRequests = new AtomicLong();
+    private final AtomicLong rejectedRequests = new AtomicLong();
+    private final AtomicLong totalQueueTime = new AtomicLong();
+    private final AtomicLong maxQueueTime = new AtomicLong();
+
+    /**
+     * Initializes a new {@link ApiRequestScheduler} instance
+     *
+     * @param rateLimit the max number of requests per second across all the endpoints, 0 means unlimited
+     * @param endpointRateLimit the max number of requests per second of each endpoint family, 0 means unlimited
+     * @param maxQueueTime the max time(seconds) a request waits to be admitted before it is shed, ignored if the
+     *                     requests are not limited
+     */
+    public ApiRequestScheduler(int rateLimit, int endpointRateLimit, int maxQueueTime) {
+        Preconditions.checkArgument(rateLimit >= 0);
+        Preconditions.checkArgument(endpointRateLimit >= 0);
+        Preconditions.checkArgument(maxQueueTime > 0 || (rateLimit == 0 && endpointRateLimit == 0));
+
+        this.globalBucket = rateLimit > 0 ? new TokenBucket(rateLimit) : null;
+        for (ApiEndpointFamily family : ApiEndpointFamily.values()) {
+            queues.put(family, new ArrayDeque<>());
+            if (endpointRateLimit > 0) {
+                endpointBuckets.put(family, new TokenBucket(endpointRateLimit));
+            }
+        }
+        this.dispatchOrder = Arrays.stream(ApiEndpointFamily.values())
+                .sorted(Comparator.comparingInt(ApiEndpointFamily::getPriority))
+                .collect(Collectors.toList());
+        this.maxQueueTimeNanos = TimeUnit.SECONDS.toNanos(maxQueueTime);
+        this.enabled = rateLimit > 0 || endpointRateLimit > 0;
+    }
+
+    /**
+     * Blocks until the request to the provided path is admitted
+     *
+     * @param path the request path or URI
+     * @throws CommunicationException if the request was rejected, shed or the waiting thread was interrupted
+     */
+    public void acquire(String path) throws CommunicationException {
+        Preconditions.checkNotNull(path);
+
+        if (!enabled) {
+            return;
+        }
+
+        ApiEndpointFamily family = ApiEndpointFamily.fromPath(path);
+        Ticket ticket = new Ticket(System.nanoTime() + maxQueueTimeNanos);
+        Deque<Ticket> queue = queues.get(family);
+
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (queue.size() >= QUEUE_CAPACITY) {
+                rejectedRequests.incrementAndGet();
+                throw new CommunicationException("The " + family + " API request queue is full, request rejected: " + path);
+            }
+            startDispatcher();
+            queue.add(ticket);
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            ticket.admitted.await(maxQueueTimeNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            withdraw(queue, ticket);
+            throw new CommunicationException("Interrupted while waiting for the API request admission: " + path, e);
+        }
+
+        if (!withdraw(queue, ticket)) {
+            throw new CommunicationException("The " + family + " API request was shed after waiting for "
+                    + TimeUnit.NANOSECONDS.toMillis(maxQueueTimeNanos) + "ms: " + path);
+        }
+    }
+
+    /**
+     * Registers the statistics of the scheduler, unless the statistics of another scheduler are already registered
+     */
+    public void registerMBean() {
+        registeredMBeanName = MBeanRegistration.register(this, MBEAN_NAME);
+    }
+
+    /**
+     * Releases all the waiting requests, stops the dispatching thread and unregisters the statistics of the scheduler
+     */
+    public void close() {
+        MBeanRegistration.unregister(registeredMBeanName);
+        registeredMBeanName = null;
+
+        lock.lock();
+        try {
+            closed = true;
+            for (Deque<Ticket> queue : queues.values()) {
+                Ticket ticket;
+                while ((ticket = queue.poll()) != null) {
+                    ticket.admit();
+                }
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getQueuedRequests() {
+        lock.lock();
+        try {
+            return queues.values().stream().mapToInt(Deque::size).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String getQueueDepths() {
+        lock.lock();
+        try {
+            return dispatchOrder.stream()
+                    .map(family -> family + "=" + queues.get(family).size())
+                    .collect(Collectors.joining(", "));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getNumberOfScheduledRequests() {
+        return scheduledRequests.get();
+    }
+
+    @Override
+    public long getNumberOfShedRequests() {
+        return shedRequests.get();
+    }
+
+    @Override
+    public long getNumberOfRejectedRequests() {
+        return rejectedRequests.get();
+    }
+
+    @Override
+    public long getAverageQueueTime() {
+        long scheduled = scheduledRequests.get();
+        return scheduled == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalQueueTime.get() / scheduled);
+    }
+
+    @Override
+    public long getMaxQueueTime() {
+        return TimeUnit.NANOSECONDS.toMillis(maxQueueTime.get());
+    }
+
+    /**
+     * Removes the ticket from the queue if it was not admitted yet
+     *
+     * @return <code>true</code> if the ticket was admitted; otherwise <code>false</code>
+     */
+    private boolean withdraw(Deque<Ticket> queue, Ticket ticket) {
+        lock.lock();
+        try {
+            if (ticket.isAdmitted()) {
+                return true;
+            }
+            if (queue.remove(ticket)) {
+                shedRequests.incrementAndGet();
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void startDispatcher() {
+        if (dispatcher != null) {
+            return;
+        }
+
+        dispatcher = new Thread(this::dispatchLoop, "ApiRequestScheduler-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    private void dispatchLoop() {
+        lock.lock();
+        try {
+            while (!closed) {
+                long waitNanos = dispatchNext(System.nanoTime());
+                if (waitNanos == 0) {
+                    continue;
+                }
+                if (waitNanos == Long.MAX_VALUE) {
+                    changed.await();
+                } else {
+                    changed.awaitNanos(waitNanos);
+                }
+            }
+        } catch (InterruptedException e) {
+            logger.warn("ApiRequestScheduler dispatcher interrupted");
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Admits the head of the highest priority queue for which the tokens are available
+     *
+     * @return 0 if a request was admitted, otherwise the time(nanoseconds) to wait before the next attempt
+     */
+    private long dispatchNext(long now) {
+        long waitNanos = Long.MAX_VALUE;
+        for (ApiEndpointFamily family : dispatchOrder) {
+            Deque<Ticket> queue = queues.get(family);
+            shedExpired(queue, now);
+
+            Ticket head = queue.peek();
+            if (head == null) {
+                continue;
+            }
+
+            TokenBucket endpointBucket = endpointBuckets.get(family);
+            long tokenWait = Math.max(nanosUntilToken(endpointBucket, now), nanosUntilToken(globalBucket, now));
+            if (tokenWait == 0) {
+                if (endpointBucket != null) {
+                    endpointBucket.take();
+                }
+                if (globalBucket != null) {
+                    globalBucket.take();
+                }
+                queue.poll();
+                onAdmitted(head, now);
+                return 0;
+            }
+
+            waitNanos = Math.min(waitNanos, Math.min(tokenWait, head.deadline - now));
+        }
+        return waitNanos;
+    }
+
+    private void shedExpired(Deque<Ticket> queue, long now) {
+        Ticket head;
+        while ((head = queue.peek()) != null && head.deadline - now <= 0) {
+            queue.poll();
+            shedRequests.incrementAndGet();
+            head.admitted.countDown();
+        }
+    }
+
+    private void onAdmitted(Ticket ticket, long now) {
+        long queueTime = now - (ticket.deadline - maxQueueTimeNanos);
+        scheduledRequests.incrementAndGet();
+        totalQueueTime.addAndGet(queueTime);
+        maxQueueTime.accumulateAndGet(queueTime, Math::max);
+        ticket.admit();
+    }
+
+    private static long nanosUntilToken(TokenBucket bucket, long now) {
+        return bucket == null ? 0 : bucket.nanosUntilAvailable(now);
+    }
+
+    private static final class Ticket {
+        private final long deadline;
+        private final CountDownLatch admitted = new CountDownLatch(1);
+        private volatile boolean isAdmitted;
+
+        private Ticket(long deadline) {
+            this.deadline = deadline;
+        }
+
+        private void admit() {
+            isAdmitted = true;
+            admitted.countDown();
+        }
+
+        private boolean isAdmitted() {
+            return isAdmitted;
+        }
+    }
+
+    /**
+     * A token bucket which allows bursts up to the number of requests per second
+     */
+    private static final class TokenBucket {
+        private final double tokensPerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefill;
+
+        private TokenBucket(int ratePerSecond) {
+            this.tokensPerNano = ratePerSecond / (double) TimeUnit.SECONDS.toNanos(1);
+            this.capacity = ratePerSecond;
+            this.tokens = ratePerSecond;
+            this.lastRefill = System.nanoTime();
+        }
+
+        private long nanosUntilAvailable(long now) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+
+        private void take() {
+            tokens -= 1;
+        }
+    }
+}
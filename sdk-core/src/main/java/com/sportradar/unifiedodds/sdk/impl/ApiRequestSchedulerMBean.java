@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+public interface ApiRequestSchedulerMBean {
+
+    public boolean isEnabled();
+
+    public int getQueuedRequests();
+
+    /**
+     * Returns the number of queued requests per endpoint family (ex: Summaries=3, Profiles=0)
+     */
+    public String getQueueDepths();
+
+    public long getNumberOfScheduledRequests();
+
+    /**
+     * Returns the number of requests which were dropped after waiting longer than the max queue time
+     */
+    public long getNumberOfShedRequests();
+
+    /**
+     * Returns the number of requests which were rejected because the queue of the endpoint family was full
+     */
+    public long getNumberOfRejectedRequests();
+
+    public long getAverageQueueTime();
+
+    public long getMaxQueueTime();
+}
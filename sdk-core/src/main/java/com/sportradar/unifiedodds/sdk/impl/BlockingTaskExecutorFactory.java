@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Defines methods implemented by classes which create the executors running the blocking SDK work(Sports API
+ * fetches, cache refreshes, AMQP consumption and session message dispatch)
+ */
+public interface BlockingTaskExecutorFactory {
+    /**
+     * Creates a new executor for blocking tasks running on non-daemon threads, the caller owns the returned executor
+     * and shuts it down once it is no longer needed
+     *
+     * @param name the name of the executor, used to name its threads
+     * @param parallelism the number of threads used by a thread pool based executor, an executor which creates
+     *                    a thread per task(ex: virtual threads) may run more tasks concurrently
+     * @return a new {@link ExecutorService} for blocking tasks
+     */
+    default ExecutorService createExecutor(String name, int parallelism) {
+        return createExecutor(name, parallelism, false);
+    }
+
+    /**
+     * Creates a new executor for blocking tasks, the caller owns the returned executor and shuts it down once it is
+     * no longer needed
+     *
+     * @param name the name of the executor, used to name its threads
+     * @param parallelism the number of threads used by a thread pool based executor, an executor which creates
+     *                    a thread per task(ex: virtual threads) may run more tasks concurrently
+     * @param daemon an indication if the threads of the executor should not prevent the JVM from exiting, the
+     *               virtual threads are always daemon threads
+     * @return a new {@link ExecutorService} for blocking tasks
+     */
+    ExecutorService createExecutor(String name, int parallelism, boolean daemon);
+
+    /**
+     * Indicates if the executors created by this factory run the tasks on virtual threads
+     *
+     * @return <code>true</code> if the tasks run on virtual threads; otherwise <code>false</code>
+     */
+    boolean isVirtual();
+}
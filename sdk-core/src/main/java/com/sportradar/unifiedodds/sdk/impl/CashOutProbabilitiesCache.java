@@ -0,0 +1,226 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.unifiedodds.sdk.impl.util.MBeanRegistration;
+import com.sportradar.unifiedodds.sdk.oddsentities.CashOutProbabilities;
+import com.sportradar.utils.URN;
+
+import javax.management.ObjectName;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A cache of the latest cash out probabilities per event(and market). The concurrent identical requests are always
+ * merged into a single API request, the probabilities are additionally cached for the configured time if enabled.
+ * <p>
+ * The cached probabilities of an event are refreshed on the next request after an odds change or a bet stop of the
+ * event was received, but not sooner than the configured minimum refresh interval after the previous fetch.
+ * </p>
+ */
+public class CashOutProbabilitiesCache implements CashOutProbabilitiesCacheMBean {
+    private static final int MAX_CACHED_PROBABILITIES = 10_000;
+    private static final String MBEAN_NAME = "com.sportradar.unifiedodds.sdk.impl:type=CashOutProbabilitiesCache";
+
+    private final Cache<String, CachedProbabilities> probabilities;
+
+    /**
+     * The time of the last odds change/bet stop of the events, used to detect outdated probabilities
+     */
+    private final Cache<URN, Long> eventInvalidations;
+
+    private final long minRefreshIntervalNanos;
+    private final ConcurrentMap<String, CompletableFuture<CashOutProbabilities<?>>> pendingRequests = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong throttledRefreshes = new AtomicLong();
+    private final AtomicLong sharedRequests = new AtomicLong();
+    private volatile ObjectName registeredMBeanName;
+
+    /**
+     * Initializes a new {@link CashOutProbabilitiesCache} instance
+     *
+     * @param cacheTimeout the time(seconds) for which the probabilities are cached, 0 disables the caching
+     * @param minRefreshInterval the minimum interval(milliseconds) between two fetches of the same probabilities
+     */
+    public CashOutProbabilitiesCache(int cacheTimeout, int minRefreshInterval) {
+        Preconditions.checkArgument(cacheTimeout >= 0);
+        Preconditions.checkArgument(minRefreshInterval >= 0);
+
+        if (cacheTimeout > 0) {
+            probabilities = CacheBuilder.newBuilder()
+                    .maximumSize(MAX_CACHED_PROBABILITIES)
+                    .expireAfterWrite(cacheTimeout, TimeUnit.SECONDS)
+                    .build();
+            eventInvalidations = CacheBuilder.newBuilder()
+                    .expireAfterWrite(cacheTimeout, TimeUnit.SECONDS)
+                    .build();
+        } else {
+            probabilities = null;
+            eventInvalidations = null;
+        }
+        this.minRefreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minRefreshInterval);
+    }
+
+    /**
+     * Returns the cash out probabilities identified by the provided request parameter, the loader is invoked only if
+     * no valid probabilities are cached and no identical request is already in progress
+     *
+     * @param eventId the {@link URN} identifier of the event to which the probabilities belong
+     * @param param the cash out probabilities request parameter (event or event/market/specifiers)
+     * @param locale the {@link Locale} in which the probabilities are provided
+     * @param loader the loader which fetches and builds the probabilities
+     * @param <T> a SportEvent inherited instance
+     * @return the requested probabilities or null if the loader provided none
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends SportEvent> CashOutProbabilities<T> get(URN eventId, String param, Locale locale, Supplier<CashOutProbabilities<T>> loader) {
+        Preconditions.checkNotNull(eventId);
+        Preconditions.checkNotNull(param);
+        Preconditions.checkNotNull(locale);
+        Preconditions.checkNotNull(loader);
+
+        String key = param + ";" + locale;
+        if (probabilities != null) {
+            CachedProbabilities cached = probabilities.getIfPresent(key);
+            if (cached != null) {
+                if (!isOutdated(eventId, cached)) {
+                    hits.incrementAndGet();
+                    return (CashOutProbabilities<T>) cached.value;
+                }
+                if (System.nanoTime() - cached.requested < minRefreshIntervalNanos) {
+                    throttledRefreshes.incrementAndGet();
+                    return (CashOutProbabilities<T>) cached.value;
+                }
+            }
+        }
+        misses.incrementAndGet();
+
+        CompletableFuture<CashOutProbabilities<?>> request = new CompletableFuture<>();
+        CompletableFuture<CashOutProbabilities<?>> pending = pendingRequests.putIfAbsent(key, request);
+        if (pending != null) {
+            sharedRequests.incrementAndGet();
+            try {
+                return (CashOutProbabilities<T>) pending.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        try {
+            long started = System.nanoTime();
+            CashOutProbabilities<T> result = loader.get();
+            if (probabilities != null && result != null) {
+                probabilities.put(key, new CachedProbabilities(result, started));
+            }
+            request.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            request.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingRequests.remove(key, request);
+        }
+    }
+
+    /**
+     * Marks the cached probabilities of the provided event as outdated, invoked when an odds change or a bet stop
+     * of the event is received
+     *
+     * @param eventId the {@link URN} identifier of the event
+     */
+    public void onEventOddsChanged(URN eventId) {
+        Preconditions.checkNotNull(eventId);
+
+        if (eventInvalidations != null) {
+            eventInvalidations.put(eventId, System.nanoTime());
+        }
+    }
+
+    /**
+     * Registers the statistics of the cache, unless the statistics of another cache are already registered
+     */
+    public void registerMBean() {
+        registeredMBeanName = MBeanRegistration.register(this, MBEAN_NAME);
+    }
+
+    /**
+     * Unregisters the statistics of the cache and drops the cached probabilities
+     */
+    public void close() {
+        MBeanRegistration.unregister(registeredMBeanName);
+        registeredMBeanName = null;
+
+        if (probabilities != null) {
+            probabilities.invalidateAll();
+            eventInvalidations.invalidateAll();
+        }
+    }
+
+    @Override
+    public boolean isCachingEnabled() {
+        return probabilities != null;
+    }
+
+    @Override
+    public long getCachedProbabilitiesCount() {
+        return probabilities == null ? 0 : probabilities.size();
+    }
+
+    @Override
+    public long getNumberOfHits() {
+        return hits.get();
+    }
+
+    @Override
+    public long getNumberOfMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public long getNumberOfThrottledRefreshes() {
+        return throttledRefreshes.get();
+    }
+
+    @Override
+    public long getNumberOfSharedRequests() {
+        return sharedRequests.get();
+    }
+
+    @Override
+    public double getHitRate() {
+        long served = hits.get() + throttledRefreshes.get();
+        long total = served + misses.get();
+        return total == 0 ? 0 : (double) served / total;
+    }
+
+    private boolean isOutdated(URN eventId, CachedProbabilities cached) {
+        Long invalidated = eventInvalidations.getIfPresent(eventId);
+        return invalidated != null && invalidated - cached.requested >= 0;
+    }
+
+    private static final class CachedProbabilities {
+        private final CashOutProbabilities<?> value;
+        private final long requested;
+
+        private CachedProbabilities(CashOutProbabilities<?> value, long requested) {
+            this.value = value;
+            this.requested = requested;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+public interface CashOutProbabilitiesCacheMBean {
+
+    public boolean isCachingEnabled();
+
+    public long getCachedProbabilitiesCount();
+
+    public long getNumberOfHits();
+
+    public long getNumberOfMisses();
+
+    /**
+     * Returns the number of requests which were served from the cache even though an odds change was received,
+     * because the minimum refresh interval did not pass yet
+     */
+    public long getNumberOfThrottledRefreshes();
+
+    /**
+     * Returns the number of requests which waited for an identical request already in progress
+     */
+    public long getNumberOfSharedRequests();
+
+    public double getHitRate();
+}
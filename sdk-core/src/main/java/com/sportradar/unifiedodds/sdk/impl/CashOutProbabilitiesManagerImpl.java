@@ -62,6 +62,11 @@ public class CashOutProbabilitiesManagerImpl implements CashOutProbabilitiesMana
      */
     private final ExceptionHandlingStrategy exceptionHandlingStrategy;
 
+    /**
+     * The {@link CashOutProbabilitiesCache} used to share and cache the provided probabilities
+     */
+    private final CashOutProbabilitiesCache cashOutProbabilitiesCache;
+
 
     /**
      * Construct a new {@link CashOutProbabilitiesManagerImpl} instance with the provided data
@@ -69,16 +74,19 @@ public class CashOutProbabilitiesManagerImpl implements CashOutProbabilitiesMana
      * @param cashoutDataProvider a {@link DataProvider} instance used to fetch CashOut information
      * @param feedMessageFactory the factory used to build return objects
      * @param sportEntityFactory the factory used to build sport events
+     * @param cashOutProbabilitiesCache the cache used to share and cache the provided probabilities
      * @param configuration the SDK internal configuration
      */
     @Inject
-    CashOutProbabilitiesManagerImpl(DataProvider<UFCashout> cashoutDataProvider, FeedMessageFactory feedMessageFactory, SportEntityFactory sportEntityFactory, SDKInternalConfiguration configuration) {
+    CashOutProbabilitiesManagerImpl(DataProvider<UFCashout> cashoutDataProvider, FeedMessageFactory feedMessageFactory, SportEntityFactory sportEntityFactory, CashOutProbabilitiesCache cashOutProbabilitiesCache, SDKInternalConfiguration configuration) {
         Preconditions.checkNotNull(cashoutDataProvider);
         Preconditions.checkNotNull(feedMessageFactory);
         Preconditions.checkNotNull(sportEntityFactory);
+        Preconditions.checkNotNull(cashOutProbabilitiesCache);
         Preconditions.checkNotNull(configuration);
 
         this.cashoutDataProvider = cashoutDataProvider;
+        this.cashOutProbabilitiesCache = cashOutProbabilitiesCache;
         this.feedMessageFactory = feedMessageFactory;
         this.sportEntityFactory = sportEntityFactory;
         this.defaultLocale = configuration.getDefaultLocale();
@@ -158,7 +166,8 @@ public class CashOutProbabilitiesManagerImpl implements CashOutProbabilitiesMana
     }
 
     /**
-     * Builds the requested instance with the provided data
+     * Provides the requested instance from the {@link CashOutProbabilitiesCache}, the probabilities are fetched only
+     * if the cache does not hold valid ones
      *
      * @param param the request parameter
      * @param locale the locale in which the data should be provided
@@ -168,6 +177,18 @@ public class CashOutProbabilitiesManagerImpl implements CashOutProbabilitiesMana
         Preconditions.checkNotNull(eventId);
         Preconditions.checkArgument(!Strings.isNullOrEmpty(param));
 
+        return cashOutProbabilitiesCache.get(eventId, param, locale, () -> fetchCashOutProbabilities(eventId, param, locale));
+    }
+
+    /**
+     * Builds the requested instance with the provided data
+     *
+     * @param param the request parameter
+     * @param locale the locale in which the data should be provided
+     * @return a {@link CashOutProbabilities} providing the probabilities for the provided param
+     */
+    private <T extends SportEvent> CashOutProbabilities<T> fetchCashOutProbabilities(URN eventId, String param, Locale locale) {
+
         UFCashout cashoutData;
         try {
             cashoutData = cashoutDataProvider.getData((Locale) null, param);
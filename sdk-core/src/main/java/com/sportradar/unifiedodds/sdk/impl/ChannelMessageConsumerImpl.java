@@ -159,6 +159,19 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
 
         RoutingKeyInfo routingKeyInfo = routingKeyParser.getRoutingKeyInfo(routingKey);
 
+        if (routingKeyInfo.getEventId() != null && messageConsumer.isEventDiscarded(routingKeyInfo.getEventId())) {
+            // the event is consumed by another partition, the producer level messages have no event id
+            return;
+        }
+
+        if (messageConsumer.isPassthroughEnabled()) {
+            if (body != null && loggerTraffic.isInfoEnabled()) {
+                loggerTraffic.info("{} {} {} {} {}", messageConsumer.getConsumerDescription(), trafficLogDelimiter, routingKey, trafficLogDelimiter, provideCleanMsgForLog(body));
+            }
+            messageConsumer.onPassthroughMessageReceived(body, routingKeyInfo, timestamp);
+            return;
+        }
+
         if (body == null) {
             loggerTrafficFailure.warn("{} {} {} {} {}", messageConsumer.getConsumerDescription(), trafficLogDelimiter, routingKey, trafficLogDelimiter, "Message payload is a null reference");
             dispatchUnparsableMessage(String.format("Received a null message from routingKey:%s", routingKey), null, routingKeyInfo.getEventId(), timestamp);
@@ -0,0 +1,309 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Inject;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.custombetentities.AvailableSelections;
+import com.sportradar.unifiedodds.sdk.custombetentities.Calculation;
+import com.sportradar.unifiedodds.sdk.custombetentities.CalculationFilter;
+import com.sportradar.unifiedodds.sdk.custombetentities.Selection;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.utils.URN;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A short lived cache of the custom bet API results. The concurrent identical requests are always merged into a
+ * single API request, the results are additionally cached for the configured time if enabled.
+ * <p>
+ * The cached results of an event are discarded when an odds change or a bet stop of the event is received, the
+ * calculations are keyed by the canonical(order independent) form of the selections.
+ * </p>
+ */
+public class CustomBetCache {
+    private static final int MAX_CACHED_AVAILABLE_SELECTIONS = 10_000;
+    private static final int MAX_CACHED_CALCULATIONS = 10_000;
+
+    private final Cache<URN, CachedResult<AvailableSelections>> availableSelections;
+    private final Cache<List<SelectionKey>, CachedResult<Calculation>> calculations;
+    private final Cache<List<SelectionKey>, CachedResult<CalculationFilter>> filteredCalculations;
+
+    /**
+     * The time of the last odds change/bet stop of the events, used to discard the results which were fetched before
+     */
+    private final Cache<URN, Long> eventInvalidations;
+
+    private final ConcurrentMap<Object, CompletableFuture<?>> pendingRequests = new ConcurrentHashMap<>();
+
+    @Inject
+    public CustomBetCache(SDKInternalConfiguration configuration) {
+        Preconditions.checkNotNull(configuration);
+
+        int timeout = configuration.getCustomBetCacheTimeout();
+        if (timeout > 0) {
+            availableSelections = CacheBuilder.newBuilder()
+                    .maximumSize(MAX_CACHED_AVAILABLE_SELECTIONS)
+                    .expireAfterWrite(timeout, TimeUnit.SECONDS)
+                    .build();
+            calculations = CacheBuilder.newBuilder()
+                    .maximumSize(MAX_CACHED_CALCULATIONS)
+                    .expireAfterWrite(timeout, TimeUnit.SECONDS)
+                    .build();
+            filteredCalculations = CacheBuilder.newBuilder()
+                    .maximumSize(MAX_CACHED_CALCULATIONS)
+                    .expireAfterWrite(timeout, TimeUnit.SECONDS)
+                    .build();
+            eventInvalidations = CacheBuilder.newBuilder()
+                    .expireAfterWrite(timeout, TimeUnit.SECONDS)
+                    .build();
+        } else {
+            availableSelections = null;
+            calculations = null;
+            filteredCalculations = null;
+            eventInvalidations = null;
+        }
+    }
+
+    /**
+     * Returns the available selections of the provided event, the loader is invoked only if no valid result is cached
+     * and no identical request is already in progress
+     *
+     * @param eventId the {@link URN} identifier of the event
+     * @param loader the loader which requests the available selections from the API
+     * @return the available selections of the event
+     * @throws CommunicationException if the available selections could not be fetched
+     */
+    public AvailableSelections getAvailableSelections(URN eventId, Loader<AvailableSelections> loader) throws CommunicationException {
+        Preconditions.checkNotNull(eventId);
+        Preconditions.checkNotNull(loader);
+
+        return get(availableSelections, eventId, eventId, ImmutableList.of(eventId), loader);
+    }
+
+    /**
+     * Returns the probability calculation of the provided selections, the loader is invoked only if no valid result
+     * is cached and no identical request is already in progress
+     *
+     * @param selections the selections for which the probability is calculated
+     * @param loader the loader which requests the calculation from the API
+     * @return the calculation of the provided selections
+     * @throws CommunicationException if the calculation could not be fetched
+     */
+    public Calculation getCalculation(List<Selection> selections, Loader<Calculation> loader) throws CommunicationException {
+        Preconditions.checkNotNull(selections);
+        Preconditions.checkNotNull(loader);
+
+        List<SelectionKey> key = canonicalize(selections);
+        return get(calculations, key, new PendingCalculationKey(key, false), eventIds(key), loader);
+    }
+
+    /**
+     * Returns the filtered probability calculation of the provided selections, the loader is invoked only if no valid
+     * result is cached and no identical request is already in progress
+     *
+     * @param selections the selections for which the probability is calculated
+     * @param loader the loader which requests the calculation from the API
+     * @return the filtered calculation of the provided selections
+     * @throws CommunicationException if the calculation could not be fetched
+     */
+    public CalculationFilter getCalculationFilter(List<Selection> selections, Loader<CalculationFilter> loader) throws CommunicationException {
+        Preconditions.checkNotNull(selections);
+        Preconditions.checkNotNull(loader);
+
+        List<SelectionKey> key = canonicalize(selections);
+        return get(filteredCalculations, key, new PendingCalculationKey(key, true), eventIds(key), loader);
+    }
+
+    /**
+     * Discards the cached results associated with the provided event, invoked when an odds change or a bet stop
+     * of the event is received
+     *
+     * @param eventId the {@link URN} identifier of the event
+     */
+    public void onEventOddsChanged(URN eventId) {
+        Preconditions.checkNotNull(eventId);
+
+        if (eventInvalidations == null) {
+            return;
+        }
+
+        eventInvalidations.put(eventId, System.nanoTime());
+        availableSelections.invalidate(eventId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, T> T get(Cache<K, CachedResult<T>> cache, K cacheKey, Object requestKey, List<URN> eventIds, Loader<T> loader) throws CommunicationException {
+        if (cache != null) {
+            CachedResult<T> cached = cache.getIfPresent(cacheKey);
+            if (cached != null && isValid(cached, eventIds)) {
+                return cached.value;
+            }
+        }
+
+        CompletableFuture<T> request = new CompletableFuture<>();
+        CompletableFuture<T> pending = (CompletableFuture<T>) pendingRequests.putIfAbsent(requestKey, request);
+        if (pending != null) {
+            return await(pending);
+        }
+
+        try {
+            long started = System.nanoTime();
+            T result = loader.load();
+            if (cache != null && result != null) {
+                CachedResult<T> cachedResult = new CachedResult<>(result, started);
+                if (isValid(cachedResult, eventIds)) {
+                    cache.put(cacheKey, cachedResult);
+                }
+            }
+            request.complete(result);
+            return result;
+        } catch (CommunicationException | RuntimeException e) {
+            request.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingRequests.remove(requestKey, request);
+        }
+    }
+
+    private boolean isValid(CachedResult<?> cached, List<URN> eventIds) {
+        for (URN eventId : eventIds) {
+            Long invalidated = eventInvalidations.getIfPresent(eventId);
+            if (invalidated != null && invalidated - cached.requested >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> T await(CompletableFuture<T> pending) throws CommunicationException {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CommunicationException) {
+                throw (CommunicationException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static List<SelectionKey> canonicalize(List<Selection> selections) {
+        return selections.stream()
+                .map(SelectionKey::new)
+                .sorted(SelectionKey.ORDER)
+                .collect(ImmutableList.toImmutableList());
+    }
+
+    private static List<URN> eventIds(List<SelectionKey> selections) {
+        return selections.stream()
+                .map(s -> s.eventId)
+                .distinct()
+                .collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Defines the request of a custom bet API result
+     *
+     * @param <T> the type of the requested result
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws CommunicationException;
+    }
+
+    private static final class CachedResult<T> {
+        private final T value;
+        private final long requested;
+
+        private CachedResult(T value, long requested) {
+            this.value = value;
+            this.requested = requested;
+        }
+    }
+
+    /**
+     * The key of the pending calculation requests, which distinguishes the filtered and the plain calculations
+     */
+    private static final class PendingCalculationKey {
+        private final List<SelectionKey> selections;
+        private final boolean filtered;
+
+        private PendingCalculationKey(List<SelectionKey> selections, boolean filtered) {
+            this.selections = selections;
+            this.filtered = filtered;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PendingCalculationKey)) {
+                return false;
+            }
+            PendingCalculationKey that = (PendingCalculationKey) o;
+            return filtered == that.filtered && selections.equals(that.selections);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * selections.hashCode() + (filtered ? 1 : 0);
+        }
+    }
+
+    private static final class SelectionKey {
+        private static final Comparator<SelectionKey> ORDER = Comparator
+                .comparing((SelectionKey s) -> s.eventId.toString())
+                .thenComparingInt(s -> s.marketId)
+                .thenComparing(s -> s.specifiers)
+                .thenComparing(s -> s.outcomeId);
+
+        private final URN eventId;
+        private final int marketId;
+        private final String specifiers;
+        private final String outcomeId;
+
+        private SelectionKey(Selection selection) {
+            this.eventId = selection.getEventId();
+            this.marketId = selection.getMarketId();
+            this.specifiers = selection.getSpecifiers() == null ? "" : selection.getSpecifiers();
+            this.outcomeId = selection.getOutcomeId();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SelectionKey)) {
+                return false;
+            }
+            SelectionKey that = (SelectionKey) o;
+            return marketId == that.marketId &&
+                    eventId.equals(that.eventId) &&
+                    specifiers.equals(that.specifiers) &&
+                    outcomeId.equals(that.outcomeId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(eventId, marketId, specifiers, outcomeId);
+        }
+    }
+}
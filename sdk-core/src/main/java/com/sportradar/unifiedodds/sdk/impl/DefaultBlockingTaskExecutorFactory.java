@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The default {@link BlockingTaskExecutorFactory}, which creates a thread per task executor on virtual threads if
+ * they are enabled by the configuration and supported by the running JVM(Java 21+), otherwise a fixed platform
+ * thread pool.
+ *
+ * The SDK is compiled for Java 8, so the virtual thread API is resolved reflectively once and the factory falls back
+ * to the platform thread pools if it is not available.
+ */
+public class DefaultBlockingTaskExecutorFactory implements BlockingTaskExecutorFactory {
+    private static final Logger logger = LoggerFactory.getLogger(DefaultBlockingTaskExecutorFactory.class);
+    private static final VirtualThreadSupport VIRTUAL_THREAD_SUPPORT = VirtualThreadSupport.resolve();
+
+    private final boolean virtual;
+
+    @Inject
+    DefaultBlockingTaskExecutorFactory(SDKInternalConfiguration configuration) {
+        this(configuration.isVirtualThreadsEnabled());
+    }
+
+    /**
+     * Initializes a new {@link DefaultBlockingTaskExecutorFactory} instance
+     *
+     * @param virtualThreadsEnabled an indication if the virtual threads should be used when the JVM supports them
+     */
+    public DefaultBlockingTaskExecutorFactory(boolean virtualThreadsEnabled) {
+        if (virtualThreadsEnabled && VIRTUAL_THREAD_SUPPORT == null) {
+            logger.warn("Virtual threads are enabled but not supported by the running JVM({}), the platform thread pools are used",
+                    System.getProperty("java.version"));
+        }
+        this.virtual = virtualThreadsEnabled && VIRTUAL_THREAD_SUPPORT != null;
+    }
+
+    /**
+     * Creates a new executor for blocking tasks
+     *
+     * @param name the name of the executor, used to name its threads
+     * @param parallelism the number of threads of the platform thread pool, ignored by the virtual thread executor
+     * @param daemon an indication if the platform threads should be daemon threads, the virtual threads always are
+     * @return a new {@link ExecutorService} for blocking tasks
+     */
+    @Override
+    public ExecutorService createExecutor(String name, int parallelism, boolean daemon) {
+        Preconditions.checkNotNull(name);
+        Preconditions.checkArgument(parallelism > 0, "the parallelism must be positive");
+
+        if (virtual) {
+            try {
+                return VIRTUAL_THREAD_SUPPORT.newThreadPerTaskExecutor(name + "-");
+            } catch (ReflectiveOperationException e) {
+                logger.warn("Virtual thread executor {} could not be created, a platform thread pool is used instead. ex:", name, e);
+            }
+        }
+
+        ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat(name + "-%d").setDaemon(daemon).build();
+        return Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+
+    @Override
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * The reflectively resolved virtual thread API: Thread.ofVirtual().name(prefix, 0).factory() and
+     * Executors.newThreadPerTaskExecutor(ThreadFactory)
+     */
+    private static final class VirtualThreadSupport {
+        private final Method ofVirtual;
+        private final Method name;
+        private final Method factory;
+        private final Method newThreadPerTaskExecutor;
+
+        private VirtualThreadSupport(Method ofVirtual, Method name, Method factory, Method newThreadPerTaskExecutor) {
+            this.ofVirtual = ofVirtual;
+            this.name = name;
+            this.factory = factory;
+            this.newThreadPerTaskExecutor = newThreadPerTaskExecutor;
+        }
+
+        private static VirtualThreadSupport resolve() {
+            try {
+                Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+                Method ofVirtual = Thread.class.getMethod("ofVirtual");
+                // Thread.ofVirtual() throws on Java 19 and 20 if the preview features are not enabled
+                ofVirtual.invoke(null);
+                return new VirtualThreadSupport(
+                        ofVirtual,
+                        builderClass.getMethod("name", String.class, long.class),
+                        builderClass.getMethod("factory"),
+                        Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class));
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+
+        private ExecutorService newThreadPerTaskExecutor(String namePrefix) throws ReflectiveOperationException {
+            try {
+                Object builder = name.invoke(ofVirtual.invoke(null), namePrefix, 0L);
+                ThreadFactory threadFactory = (ThreadFactory) factory.invoke(builder);
+                return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+            } catch (InvocationTargetException e) {
+                throw new ReflectiveOperationException(e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.impl.oddsentities.OddsChangeColumnsImpl;
+import com.sportradar.unifiedodds.sdk.oddsentities.EventOddsBook;
+import com.sportradar.utils.URN;
+
+/**
+ * An immutable {@link EventOddsBook} taken from the {@link EventOddsBookState}
+ */
+class EventOddsBookSnapshot extends OddsChangeColumnsImpl implements EventOddsBook {
+    private final URN eventId;
+    private final int producerId;
+    private final long version;
+    private final long timestamp;
+    private final int[] results;
+    private final double[] voidFactors;
+
+    EventOddsBookSnapshot(Builder builder, URN eventId, int producerId, long version, long timestamp, int[] results, double[] voidFactors) {
+        super(builder);
+
+        this.eventId = eventId;
+        this.producerId = producerId;
+        this.version = version;
+        this.timestamp = timestamp;
+        this.results = results;
+        this.voidFactors = voidFactors;
+    }
+
+    @Override
+    public URN getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public int getProducerId() {
+        return producerId;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public int getResult(int outcomeIndex) {
+        return results[outcomeIndex];
+    }
+
+    @Override
+    public double getVoidFactor(int outcomeIndex) {
+        return voidFactors[outcomeIndex];
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.uf.datamodel.*;
+import com.sportradar.unifiedodds.sdk.impl.oddsentities.ColumnHandles;
+import com.sportradar.unifiedodds.sdk.impl.oddsentities.OddsChangeColumnsImpl;
+import com.sportradar.unifiedodds.sdk.oddsentities.EventOddsBook;
+import com.sportradar.unifiedodds.sdk.oddsentities.MarketStatus;
+import com.sportradar.utils.URN;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+/**
+ * The mutable markets of an event provided by a single producer. The markets are keyed by the market id and the
+ * specifiers handle, the outcomes of each market are held in primitive arrays which are updated in place.
+ *
+ * The changes are applied under the write lock, the snapshots are taken under the read lock. The specifiers and
+ * outcome ids are mapped to the handles of the event, which are shared by all its snapshots and released with it.
+ */
+final class EventOddsBookState {
+    /**
+     * The estimated size of a market row, its map entry and key, without the outcomes
+     */
+    private static final int MARKET_SIZE = 160;
+
+    /**
+     * The estimated size of an outcome in the market row arrays
+     */
+    private static final int OUTCOME_SIZE = 4 + 8 + 8 + 1 + 4 + 8;
+
+    private final URN eventId;
+    private final int producerId;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, MarketRow> markets = new LinkedHashMap<>();
+    private final ColumnHandles handles = new ColumnHandles();
+    private volatile long version;
+    private volatile long estimatedMemoryUsage;
+    private long timestamp;
+    private long snapshotRequestId;
+    private int outcomeCount;
+
+    EventOddsBookState(URN eventId, int producerId) {
+        this.eventId = eventId;
+        this.producerId = producerId;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    long getEstimatedMemoryUsage() {
+        return estimatedMemoryUsage;
+    }
+
+    void applyOddsChange(UFOddsChange message) {
+        if (message.getOdds() == null || message.getOdds().getMarket() == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            long requestId = onRequest(message.getRequestId());
+            for (UFOddsChangeMarket market : message.getOdds().getMarket()) {
+                MarketRow row = getOrCreate(market.getId(), market.getSpecifiers());
+                row.status = MarketStatus.fromFeedValue(market.getStatus());
+                row.requestId = requestId;
+                for (UFOddsChangeMarket.UFOutcome outcome : market.getOutcome()) {
+                    int index = row.indexOf(handles.handleOf(outcome.getId()));
+                    row.odds[index] = outcome.getOdds() == null ? Double.NaN : outcome.getOdds();
+                    row.probabilities[index] = outcome.getProbabilities() == null ? Double.NaN : outcome.getProbabilities();
+                    row.active[index] = outcome.getActive() == null || outcome.getActive() == UFOutcomeActive.ACTIVE;
+                }
+            }
+            onChanged(message.getTimestamp());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void applyBetStop(UFBetStop message, IntPredicate isMarketStopped) {
+        MarketStatus status = message.getMarketStatus() == null
+                ? MarketStatus.Suspended
+                : MarketStatus.fromFeedValue(message.getMarketStatus());
+
+        lock.writeLock().lock();
+        try {
+            for (MarketRow row : markets.values()) {
+                if (row.status == MarketStatus.Active && isMarketStopped.test(row.marketId)) {
+                    row.status = status;
+                }
+            }
+            onChanged(message.getTimestamp());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void applyBetSettlement(UFBetSettlement message) {
+        if (message.getOutcomes() == null || message.getOutcomes().getMarket() == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            long requestId = onRequest(message.getRequestId());
+            for (UFBetSettlementMarket market : message.getOutcomes().getMarket()) {
+                MarketRow row = getOrCreate(market.getId(), market.getSpecifiers());
+                row.status = MarketStatus.Settled;
+                row.requestId = requestId;
+                for (UFBetSettlementMarket.UFOutcome outcome : market.getOutcome()) {
+                    int index = row.indexOf(handles.handleOf(outcome.getId()));
+                    row.results[index] = outcome.getResult() == null ? -1 : outcome.getResult().value();
+                    row.voidFactors[index] = outcome.getVoidFactor() == null ? 0 : outcome.getVoidFactor().value();
+                }
+            }
+            onChanged(message.getTimestamp());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void applyBetCancel(UFBetCancel message) {
+        lock.writeLock().lock();
+        try {
+            long requestId = onRequest(message.getRequestId());
+            for (UFMarket market : message.getMarket()) {
+                MarketRow row = getOrCreate(market.getId(), market.getSpecifiers());
+                row.status = MarketStatus.Cancelled;
+                row.requestId = requestId;
+            }
+            onChanged(message.getTimestamp());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Suspends the rolled back markets until the producer sends their odds again
+     */
+    void applyRollback(List<UFMarket> rolledBackMarkets, long messageTimestamp) {
+        lock.writeLock().lock();
+        try {
+            for (UFMarket market : rolledBackMarkets) {
+                MarketRow row = markets.get(key(market.getId(), handles.handleOf(market.getSpecifiers())));
+                if (row != null) {
+                    row.status = MarketStatus.Suspended;
+                    Arrays.fill(row.results, -1);
+                    Arrays.fill(row.voidFactors, 0);
+                }
+            }
+            onChanged(messageTimestamp);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the markets which were not included in the completed snapshot, if the event was part of it
+     *
+     * @return <code>true</code> if the event was part of the snapshot; otherwise <code>false</code>
+     */
+    boolean completeSnapshot(long requestId, long messageTimestamp) {
+        lock.writeLock().lock();
+        try {
+            if (snapshotRequestId != requestId) {
+                return false;
+            }
+
+            Iterator<MarketRow> rows = markets.values().iterator();
+            while (rows.hasNext()) {
+                MarketRow row = rows.next();
+                if (row.requestId != requestId) {
+                    outcomeCount -= row.outcomeIds.length;
+                    rows.remove();
+                }
+            }
+            snapshotRequestId = 0;
+            onChanged(messageTimestamp);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    EventOddsBook snapshot() {
+        lock.readLock().lock();
+        try {
+            OddsChangeColumnsImpl.Builder builder = new OddsChangeColumnsImpl.Builder(handles, markets.size(), outcomeCount);
+            int[] results = new int[outcomeCount];
+            double[] voidFactors = new double[outcomeCount];
+            int outcomeIndex = 0;
+            for (MarketRow row : markets.values()) {
+                builder.addMarket(row.marketId, row.specifiersHandle, row.status);
+                for (int i = 0; i < row.outcomeIds.length; i++) {
+                    builder.addOutcome(row.outcomeIds[i], row.odds[i], row.probabilities[i], row.active[i]);
+                    results[outcomeIndex] = row.results[i];
+                    voidFactors[outcomeIndex] = row.voidFactors[i];
+                    outcomeIndex++;
+                }
+            }
+            return new EventOddsBookSnapshot(builder, eventId, producerId, version, timestamp, results, voidFactors);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long onRequest(Long requestId) {
+        if (requestId == null) {
+            return 0;
+        }
+        snapshotRequestId = requestId;
+        return requestId;
+    }
+
+    private void onChanged(long messageTimestamp) {
+        timestamp = messageTimestamp;
+        estimatedMemoryUsage = (long) markets.size() * MARKET_SIZE + (long) outcomeCount * OUTCOME_SIZE;
+        version++;
+    }
+
+    private MarketRow getOrCreate(int marketId, String specifiers) {
+        int specifiersHandle = handles.handleOf(specifiers);
+        return markets.computeIfAbsent(key(marketId, specifiersHandle), k -> new MarketRow(marketId, specifiersHandle));
+    }
+
+    private static long key(int marketId, int specifiersHandle) {
+        return ((long) marketId << 32) | (specifiersHandle & 0xFFFFFFFFL);
+    }
+
+    private final class MarketRow {
+        private final int marketId;
+        private final int specifiersHandle;
+        private MarketStatus status = MarketStatus.Active;
+        private long requestId;
+        private int[] outcomeIds = new int[0];
+        private double[] odds = new double[0];
+        private double[] probabilities = new double[0];
+        private boolean[] active = new boolean[0];
+        private int[] results = new int[0];
+        private double[] voidFactors = new double[0];
+
+        private MarketRow(int marketId, int specifiersHandle) {
+            this.marketId = marketId;
+            this.specifiersHandle = specifiersHandle;
+        }
+
+        /**
+         * Returns the index of the outcome, the outcome is appended if the market does not contain it yet
+         */
+        private int indexOf(int outcomeIdHandle) {
+            for (int i = 0; i < outcomeIds.length; i++) {
+                if (outcomeIds[i] == outcomeIdHandle) {
+                    return i;
+                }
+            }
+
+            int index = outcomeIds.length;
+            outcomeIds = Arrays.copyOf(outcomeIds, index + 1);
+            odds = Arrays.copyOf(odds, index + 1);
+            probabilities = Arrays.copyOf(probabilities, index + 1);
+            active = Arrays.copyOf(active, index + 1);
+            results = Arrays.copyOf(results, index + 1);
+            voidFactors = Arrays.copyOf(voidFactors, index + 1);
+
+            outcomeIds[index] = outcomeIdHandle;
+            odds[index] = Double.NaN;
+            probabilities[index] = Double.NaN;
+            active[index] = true;
+            results[index] = -1;
+            outcomeCount++;
+            return index;
+        }
+    }
+}
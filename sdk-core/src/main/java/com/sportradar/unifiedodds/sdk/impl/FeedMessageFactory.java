@@ -33,6 +33,8 @@ public interface FeedMessageFactory {
 
     <T extends SportEvent> OddsChange<T> buildOddsChange(T sportEvent, UFOddsChange message, byte[] rawMessage, MessageTimestamp timestamp);
 
+    <T extends SportEvent> OddsChange<T> buildOddsChangeDelta(T sportEvent, UFOddsChange delta, UFOddsChange message, byte[] rawMessage, MessageTimestamp timestamp);
+
     <T extends SportEvent> RollbackBetCancel<T> buildRollbackBetCancel(T sportEvent, UFRollbackBetCancel message, byte[] rawMessage, MessageTimestamp timestamp);
 
     <T extends SportEvent> BetCancel<T> buildBetCancel(T sportEvent, UFBetCancel message, byte[] rawMessage, MessageTimestamp timestamp);
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import org.apache.http.pool.ConnPoolControl;
+
+/**
+ * Exposes the connection pool usage of a Sports API http client
+ */
+public class HttpClientPoolStatistics implements HttpClientPoolStatisticsMBean {
+    private final ConnPoolControl<?> pool;
+
+    public HttpClientPoolStatistics(ConnPoolControl<?> pool) {
+        Preconditions.checkNotNull(pool);
+
+        this.pool = pool;
+    }
+
+    @Override
+    public int getLeased() {
+        return pool.getTotalStats().getLeased();
+    }
+
+    @Override
+    public int getPending() {
+        return pool.getTotalStats().getPending();
+    }
+
+    @Override
+    public int getAvailable() {
+        return pool.getTotalStats().getAvailable();
+    }
+
+    @Override
+    public int getMax() {
+        return pool.getMaxTotal();
+    }
+
+    @Override
+    public int getMaxPerRoute() {
+        return pool.getDefaultMaxPerRoute();
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+public interface HttpClientPoolStatisticsMBean {
+
+    /**
+     * Returns the number of connections which are currently executing a request
+     */
+    public int getLeased();
+
+    /**
+     * Returns the number of requests which are waiting for a connection
+     */
+    public int getPending();
+
+    /**
+     * Returns the number of idle connections kept alive in the pool
+     */
+    public int getAvailable();
+
+    public int getMax();
+
+    public int getMaxPerRoute();
+}
@@ -33,17 +33,20 @@ class HttpDataFetcher {
     private final CloseableHttpClient httpClient;
     private final UnifiedOddsStatistics statsBean;
     private final Deserializer apiDeserializer;
+    private final ApiRequestScheduler requestScheduler;
 
-    HttpDataFetcher(SDKInternalConfiguration config, CloseableHttpClient httpClient, UnifiedOddsStatistics statsBean, Deserializer apiDeserializer) {
+    HttpDataFetcher(SDKInternalConfiguration config, CloseableHttpClient httpClient, UnifiedOddsStatistics statsBean, Deserializer apiDeserializer, ApiRequestScheduler requestScheduler) {
         Preconditions.checkNotNull(config);
         Preconditions.checkNotNull(httpClient);
         Preconditions.checkNotNull(statsBean);
         Preconditions.checkNotNull(apiDeserializer);
+        Preconditions.checkNotNull(requestScheduler);
 
         this.config = config;
         this.httpClient = httpClient;
         this.statsBean = statsBean;
         this.apiDeserializer = apiDeserializer;
+        this.requestScheduler = requestScheduler;
     }
 
     /**
@@ -88,6 +91,7 @@ class HttpDataFetcher {
             String errorMessage = null;
             int statusCode;
             try {
+                requestScheduler.acquire(path);
                 resp = httpClient.execute(request);
                 statusCode = resp.getStatusLine().getStatusCode();
 
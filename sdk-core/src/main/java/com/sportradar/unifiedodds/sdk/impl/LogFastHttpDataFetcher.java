@@ -28,8 +28,9 @@ public class LogFastHttpDataFetcher extends HttpDataFetcher {
     public LogFastHttpDataFetcher(SDKInternalConfiguration config,
                                   @Named("FastHttpClient") CloseableHttpClient httpClient,
                                   UnifiedOddsStatistics statsBean,
-                                  @Named("SportsApiJaxbDeserializer") Deserializer apiDeserializer) {
-        super(config, httpClient, statsBean, apiDeserializer);
+                                  @Named("SportsApiJaxbDeserializer") Deserializer apiDeserializer,
+                              ApiRequestScheduler requestScheduler) {
+        super(config, httpClient, statsBean, apiDeserializer, requestScheduler);
     }
 
     @Override
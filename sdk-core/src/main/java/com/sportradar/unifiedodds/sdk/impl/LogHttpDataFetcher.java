@@ -28,8 +28,9 @@ public class LogHttpDataFetcher extends HttpDataFetcher {
     public LogHttpDataFetcher(SDKInternalConfiguration config,
                               CloseableHttpClient httpClient,
                               UnifiedOddsStatistics statsBean,
-                              @Named("SportsApiJaxbDeserializer") Deserializer apiDeserializer) {
-        super(config, httpClient, statsBean, apiDeserializer);
+                              @Named("SportsApiJaxbDeserializer") Deserializer apiDeserializer,
+                              ApiRequestScheduler requestScheduler) {
+        super(config, httpClient, statsBean, apiDeserializer, requestScheduler);
     }
 
     @Override
@@ -55,4 +55,34 @@ public interface MessageConsumer {
      * @param messageInterest the associated {@link MessageInterest}
      */
     void onRawFeedMessageReceived(RoutingKeyInfo routingKey, UnmarshalledMessage feedMessage, MessageTimestamp timestamp, MessageInterest messageInterest);
+
+    /**
+     * Indicates if the messages of the specified event should be discarded before they are deserialized, which is
+     * the case for the events assigned to other partitions
+     *
+     * @param eventId the {@link URN} identifier of the event from the message routing key
+     * @return <code>true</code> if the messages of the event should be discarded; otherwise <code>false</code>
+     */
+    default boolean isEventDiscarded(URN eventId) {
+        return false;
+    }
+
+    /**
+     * Indicates if the consumer operates in the passthrough mode, in which the message payloads are not
+     * deserialized and should be provided through {@link #onPassthroughMessageReceived(byte[], RoutingKeyInfo, MessageTimestamp)}
+     *
+     * @return <code>true</code> if the consumer operates in the passthrough mode; otherwise <code>false</code>
+     */
+    default boolean isPassthroughEnabled() {
+        return false;
+    }
+
+    /**
+     * Consumes the provided message payload without prior deserialization
+     *
+     * @param body - the raw message payload
+     * @param routingKeyInfo - a {@link RoutingKeyInfo} instance describing the message routing key
+     * @param timestamp - all message timestamps
+     */
+    void onPassthroughMessageReceived(byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp);
 }
@@ -5,6 +5,7 @@
 package com.sportradar.unifiedodds.sdk.impl;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -33,4 +34,14 @@ public interface MessageReceiver {
      * @return - <code>true</code> if the instance is opeened; otherwise <code>false</code>
      */
     boolean isOpened();
+
+    /**
+     * Starts receiving the messages of the provided routing keys and stops receiving the messages of the routing keys
+     * which should be removed, the changes are applied as a single batch
+     *
+     * @param routingKeysToBind the routing keys which should be added
+     * @param routingKeysToUnbind the routing keys which should be removed
+     * @throws IOException if the routing keys could not be changed
+     */
+    void updateRoutingKeys(Collection<String> routingKeysToBind, Collection<String> routingKeysToUnbind) throws IOException;
 }
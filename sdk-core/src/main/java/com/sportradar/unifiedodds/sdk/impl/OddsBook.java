@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.sportradar.uf.datamodel.*;
+import com.sportradar.unifiedodds.sdk.OddsBookManager;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
+import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CacheItemNotFoundException;
+import com.sportradar.unifiedodds.sdk.impl.util.MBeanRegistration;
+import com.sportradar.unifiedodds.sdk.oddsentities.EventOddsBook;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import com.sportradar.utils.URN;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.ObjectName;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * The in-memory odds book of the events, maintained from the odds changes, bet stops, bet settlements, bet cancels
+ * and their rollbacks received by the sessions. The markets of each event are kept per producer in an
+ * {@link EventOddsBookState}, the events which were neither updated nor read for a day are evicted.
+ *
+ * The messages are applied before they are dispatched to the session listener, so the listener observes the odds
+ * book with the dispatched message already applied.
+ */
+public class OddsBook implements OddsBookManager, OddsBookMBean {
+    private static final Logger logger = LoggerFactory.getLogger(OddsBook.class);
+    private static final long EVENT_EXPIRATION_HOURS = 24;
+    private static final String MBEAN_NAME = "com.sportradar.unifiedodds.sdk.impl:type=OddsBook";
+
+    private final boolean enabled;
+    private final MarketDescriptionProvider marketDescriptionProvider;
+    private final List<Locale> locales;
+    private final Cache<BookKey, EventOddsBookState> books = CacheBuilder.newBuilder()
+            .expireAfterAccess(EVENT_EXPIRATION_HOURS, TimeUnit.HOURS)
+            .build();
+
+    private final AtomicLong appliedMessages = new AtomicLong();
+    private final AtomicLong failedMessages = new AtomicLong();
+    private final AtomicLong completedSnapshots = new AtomicLong();
+    private volatile ObjectName registeredMBeanName;
+
+    /**
+     * Initializes a new {@link OddsBook} instance
+     *
+     * @param enabled an indication if the odds book is maintained
+     * @param marketDescriptionProvider the provider of the market descriptions, used to resolve the bet stop groups
+     * @param locales the locales in which the market descriptions are requested
+     */
+    public OddsBook(boolean enabled, MarketDescriptionProvider marketDescriptionProvider, List<Locale> locales) {
+        Preconditions.checkNotNull(marketDescriptionProvider);
+
+        this.enabled = enabled;
+        this.marketDescriptionProvider = marketDescriptionProvider;
+        this.locales = locales;
+    }
+
+    /**
+     * Applies the provided feed message to the odds book, the messages which do not affect the markets are ignored
+     *
+     * @param message the received feed message
+     */
+    public void onMessage(UnmarshalledMessage message) {
+        if (!enabled || message == null) {
+            return;
+        }
+
+        try {
+            if (message instanceof UFOddsChange) {
+                UFOddsChange oddsChange = (UFOddsChange) message;
+                getOrCreate(oddsChange.getEventId(), oddsChange.getProduct()).applyOddsChange(oddsChange);
+            } else if (message instanceof UFBetStop) {
+                UFBetStop betStop = (UFBetStop) message;
+                Set<String> groups = betStop.getGroups() == null
+                        ? Collections.singleton(UnifiedFeedConstants.MARKET_GROUPS_ALL)
+                        : ImmutableSet.copyOf(betStop.getGroups().split(UnifiedFeedConstants.MARKET_GROUPS_DELIMITER));
+                getOrCreate(betStop.getEventId(), betStop.getProduct()).applyBetStop(betStop, marketId -> isInGroups(marketId, groups));
+            } else if (message instanceof UFBetSettlement) {
+                UFBetSettlement betSettlement = (UFBetSettlement) message;
+                getOrCreate(betSettlement.getEventId(), betSettlement.getProduct()).applyBetSettlement(betSettlement);
+            } else if (message instanceof UFRollbackBetSettlement) {
+                UFRollbackBetSettlement rollback = (UFRollbackBetSettlement) message;
+                getOrCreate(rollback.getEventId(), rollback.getProduct()).applyRollback(rollback.getMarket(), rollback.getTimestamp());
+            } else if (message instanceof UFBetCancel) {
+                UFBetCancel betCancel = (UFBetCancel) message;
+                getOrCreate(betCancel.getEventId(), betCancel.getProduct()).applyBetCancel(betCancel);
+            } else if (message instanceof UFRollbackBetCancel) {
+                UFRollbackBetCancel rollback = (UFRollbackBetCancel) message;
+                getOrCreate(rollback.getEventId(), rollback.getProduct()).applyRollback(rollback.getMarket(), rollback.getTimestamp());
+            } else if (message instanceof UFSnapshotComplete) {
+                onSnapshotComplete((UFSnapshotComplete) message);
+            } else {
+                return;
+            }
+            appliedMessages.incrementAndGet();
+        } catch (Exception e) {
+            failedMessages.incrementAndGet();
+            logger.warn("Failed to apply the {} message to the odds book, ex:", message.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Registers the statistics of the odds book if it is enabled, unless the statistics of another odds book are
+     * already registered
+     */
+    public void registerMBean() {
+        if (enabled) {
+            registeredMBeanName = MBeanRegistration.register(this, MBEAN_NAME);
+        }
+    }
+
+    /**
+     * Unregisters the statistics of the odds book and drops the books of all the events
+     */
+    public void close() {
+        MBeanRegistration.unregister(registeredMBeanName);
+        registeredMBeanName = null;
+
+        books.invalidateAll();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public EventOddsBook getEventOddsBook(URN eventId, int producerId) {
+        Preconditions.checkNotNull(eventId);
+
+        EventOddsBookState state = books.getIfPresent(new BookKey(eventId, producerId));
+        return state == null ? null : state.snapshot();
+    }
+
+    @Override
+    public List<EventOddsBook> getEventOddsBooks(URN eventId) {
+        Preconditions.checkNotNull(eventId);
+
+        return books.asMap().entrySet().stream()
+                .filter(entry -> entry.getKey().eventId.equals(eventId))
+                .map(entry -> entry.getValue().snapshot())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long getEventVersion(URN eventId, int producerId) {
+        Preconditions.checkNotNull(eventId);
+
+        EventOddsBookState state = books.getIfPresent(new BookKey(eventId, producerId));
+        return state == null ? 0 : state.getVersion();
+    }
+
+    @Override
+    public Set<URN> getEventIds() {
+        return books.asMap().keySet().stream()
+                .map(key -> key.eventId)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void removeEvent(URN eventId) {
+        Preconditions.checkNotNull(eventId);
+
+        books.asMap().keySet().removeIf(key -> key.eventId.equals(eventId));
+    }
+
+    @Override
+    public long getEstimatedMemoryUsage() {
+        return books.asMap().values().stream()
+                .mapToLong(EventOddsBookState::getEstimatedMemoryUsage)
+                .sum();
+    }
+
+    @Override
+    public long getEventCount() {
+        return books.size();
+    }
+
+    @Override
+    public long getNumberOfAppliedMessages() {
+        return appliedMessages.get();
+    }
+
+    @Override
+    public long getNumberOfFailedMessages() {
+        return failedMessages.get();
+    }
+
+    @Override
+    public long getNumberOfCompletedSnapshots() {
+        return completedSnapshots.get();
+    }
+
+    private void onSnapshotComplete(UFSnapshotComplete snapshotComplete) {
+        for (Map.Entry<BookKey, EventOddsBookState> entry : books.asMap().entrySet()) {
+            if (entry.getKey().producerId == snapshotComplete.getProduct()
+                    && entry.getValue().completeSnapshot(snapshotComplete.getRequestId(), snapshotComplete.getTimestamp())) {
+                completedSnapshots.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Checks if the market belongs to one of the bet stop groups, the markets without a description are stopped
+     */
+    private boolean isInGroups(int marketId, Set<String> groups) {
+        if (groups.contains(UnifiedFeedConstants.MARKET_GROUPS_ALL)) {
+            return true;
+        }
+
+        try {
+            MarketDescription description = marketDescriptionProvider.getMarketDescription(marketId, null, locales, false);
+            return description.getGroups() == null || description.getGroups().stream().anyMatch(groups::contains);
+        } catch (CacheItemNotFoundException e) {
+            return true;
+        }
+    }
+
+    private EventOddsBookState getOrCreate(String eventId, int producerId) throws ExecutionException {
+        URN eventUrn = URN.parse(eventId);
+        return books.get(new BookKey(eventUrn, producerId), () -> new EventOddsBookState(eventUrn, producerId));
+    }
+
+    private static final class BookKey {
+        private final URN eventId;
+        private final int producerId;
+
+        private BookKey(URN eventId, int producerId) {
+            this.eventId = eventId;
+            this.producerId = producerId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            BookKey bookKey = (BookKey) o;
+            return producerId == bookKey.producerId && eventId.equals(bookKey.eventId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(eventId, producerId);
+        }
+    }
+}
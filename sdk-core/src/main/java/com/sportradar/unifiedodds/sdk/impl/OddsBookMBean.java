@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+public interface OddsBookMBean {
+
+    public boolean isEnabled();
+
+    public long getEventCount();
+
+    public long getEstimatedMemoryUsage();
+
+    public long getNumberOfAppliedMessages();
+
+    /**
+     * Returns the number of messages which could not be applied to the odds book
+     */
+    public long getNumberOfFailedMessages();
+
+    /**
+     * Returns the number of completed snapshots which removed the markets not included in them
+     */
+    public long getNumberOfCompletedSnapshots();
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.sportradar.uf.datamodel.*;
+import com.sportradar.unifiedodds.sdk.impl.oddsentities.ColumnHandles;
+import com.sportradar.unifiedodds.sdk.impl.util.FeedMessageHelper;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the last received odds, probability and active flag of each outcome and the status of each market, per event
+ * and producer, and reduces the odds changes to the markets and outcomes which changed since the previous odds
+ * change of the event.
+ *
+ * The odds changes which are part of a recovery and the first odds change of an event are not reduced. Any other
+ * message of the event which affects the markets(bet stop, bet settlement, bet cancel and their rollbacks) discards
+ * the kept state, so the following odds change is not reduced either.
+ *
+ * The filter is safe for concurrent callers, the state of each event is only updated while holding its monitor. The
+ * state discarded while an odds change is being reduced is not reused, the following odds change starts a new state.
+ */
+class OddsChangeDeltaFilter {
+    private static final long EVENT_EXPIRATION_HOURS = 24;
+
+    private final Cache<String, EventState> events = CacheBuilder.newBuilder()
+            .expireAfterAccess(EVENT_EXPIRATION_HOURS, TimeUnit.HOURS)
+            .build();
+
+    /**
+     * Reduces the provided odds change to the markets and outcomes which changed since the previous odds change of
+     * the event and records their new state
+     *
+     * @param message the received odds change
+     * @return the reduced odds change or the provided message if it should be dispatched complete
+     */
+    UFOddsChange filter(UFOddsChange message) {
+        String eventKey = eventKey(message.getEventId(), message.getProduct());
+        EventState event;
+        try {
+            event = events.get(eventKey, EventState::new);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The state of the event " + eventKey + " could not be created", e);
+        }
+
+        // the odds changes of the same event are reduced one at a time, the ones of different events do not block
+        // each other
+        synchronized (event) {
+            boolean dispatchComplete = !event.initialized || message.getRequestId() != null;
+            event.initialized = true;
+            return reduce(message, event, dispatchComplete);
+        }
+    }
+
+    /**
+     * Reduces the provided odds change against the kept state of the event and records the new state, must be invoked
+     * while holding the event monitor
+     */
+    private static UFOddsChange reduce(UFOddsChange message, EventState event, boolean dispatchComplete) {
+        if (message.getOdds() == null || message.getOdds().getMarket() == null) {
+            return message;
+        }
+
+        UFOddsChange.UFOdds deltaOdds = new UFOddsChange.UFOdds();
+        deltaOdds.setBetstopReason(message.getOdds().getBetstopReason());
+        deltaOdds.setBettingStatus(message.getOdds().getBettingStatus());
+
+        for (UFOddsChangeMarket market : message.getOdds().getMarket()) {
+            long key = marketKey(market.getId(), event.handles.handleOf(market.getSpecifiers()));
+            MarketState state = event.markets.get(key);
+            boolean marketChanged = state == null || state.status != market.getStatus();
+            if (state == null) {
+                state = new MarketState();
+                event.markets.put(key, state);
+            }
+            state.status = market.getStatus();
+
+            UFOddsChangeMarket deltaMarket = null;
+            for (UFOddsChangeMarket.UFOutcome outcome : market.getOutcome()) {
+                boolean outcomeChanged = state.update(event.handles.handleOf(outcome.getId()), outcome);
+                if (!dispatchComplete && (outcomeChanged || marketChanged)) {
+                    if (deltaMarket == null) {
+                        deltaMarket = copyOf(market);
+                    }
+                    deltaMarket.getOutcome().add(outcome);
+                }
+            }
+            if (!dispatchComplete && deltaMarket == null && marketChanged) {
+                deltaMarket = copyOf(market);
+            }
+            if (deltaMarket != null) {
+                deltaOdds.getMarket().add(deltaMarket);
+            }
+        }
+
+        if (dispatchComplete) {
+            return message;
+        }
+
+        UFOddsChange delta = new UFOddsChange();
+        delta.setProduct(message.getProduct());
+        delta.setEventId(message.getEventId());
+        delta.setTimestamp(message.getTimestamp());
+        delta.setRequestId(message.getRequestId());
+        delta.setOddsChangeReason(message.getOddsChangeReason());
+        delta.setSportEventStatus(message.getSportEventStatus());
+        delta.setOddsGenerationProperties(message.getOddsGenerationProperties());
+        delta.setOdds(deltaOdds);
+        return delta;
+    }
+
+    /**
+     * Discards the kept state of the event if the provided message affects its markets
+     *
+     * @param message the received message
+     */
+    void onMessage(UnmarshalledMessage message) {
+        if (message instanceof UFBetStop
+                || message instanceof UFBetSettlement
+                || message instanceof UFRollbackBetSettlement
+                || message instanceof UFBetCancel
+                || message instanceof UFRollbackBetCancel) {
+            String eventId = FeedMessageHelper.provideEventIdFromMessage(message);
+            if (eventId != null) {
+                events.invalidate(eventKey(eventId, FeedMessageHelper.provideProducerIdFromMessage(message)));
+            }
+        }
+    }
+
+    private static UFOddsChangeMarket copyOf(UFOddsChangeMarket market) {
+        UFOddsChangeMarket copy = new UFOddsChangeMarket();
+        copy.setId(market.getId());
+        copy.setSpecifiers(market.getSpecifiers());
+        copy.setExtendedSpecifiers(market.getExtendedSpecifiers());
+        copy.setStatus(market.getStatus());
+        copy.setFavourite(market.getFavourite());
+        copy.setCashoutStatus(market.getCashoutStatus());
+        copy.setMarketMetadata(market.getMarketMetadata());
+        return copy;
+    }
+
+    private static String eventKey(String eventId, int producerId) {
+        return producerId + "_" + eventId;
+    }
+
+    private static long marketKey(int marketId, int specifiersHandle) {
+        return ((long) marketId << 32) | (specifiersHandle & 0xFFFFFFFFL);
+    }
+
+    /**
+     * The kept state of an event, the specifiers and outcome ids are mapped to the handles of the event, so they are
+     * released together with it
+     */
+    private static final class EventState {
+        private final ColumnHandles handles = new ColumnHandles();
+        private final Map<Long, MarketState> markets = new HashMap<>();
+        private boolean initialized;
+    }
+
+    private static final class MarketState {
+        private UFMarketStatus status;
+        private int[] outcomeIds = new int[0];
+        private double[] odds = new double[0];
+        private double[] probabilities = new double[0];
+        private boolean[] active = new boolean[0];
+
+        /**
+         * Records the state of the provided outcome
+         *
+         * @return <code>true</code> if the outcome was not known or its odds, probability or active flag changed
+         */
+        private boolean update(int outcomeId, UFOddsChangeMarket.UFOutcome outcome) {
+            double outcomeOdds = outcome.getOdds() == null ? Double.NaN : outcome.getOdds();
+            double outcomeProbability = outcome.getProbabilities() == null ? Double.NaN : outcome.getProbabilities();
+            boolean outcomeActive = outcome.getActive() == null || outcome.getActive() == UFOutcomeActive.ACTIVE;
+
+            int index = indexOf(outcomeId);
+            if (index < 0) {
+                index = outcomeIds.length;
+                outcomeIds = Arrays.copyOf(outcomeIds, index + 1);
+                odds = Arrays.copyOf(odds, index + 1);
+                probabilities = Arrays.copyOf(probabilities, index + 1);
+                active = Arrays.copyOf(active, index + 1);
+                outcomeIds[index] = outcomeId;
+            } else if (Double.compare(odds[index], outcomeOdds) == 0
+                    && Double.compare(probabilities[index], outcomeProbability) == 0
+                    && active[index] == outcomeActive) {
+                return false;
+            }
+
+            odds[index] = outcomeOdds;
+            probabilities[index] = outcomeProbability;
+            active[index] = outcomeActive;
+            return true;
+        }
+
+        private int indexOf(int outcomeId) {
+            for (int i = 0; i < outcomeIds.length; i++) {
+                if (outcomeIds[i] == outcomeId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.sportradar.unifiedodds.sdk.entities.SportEvent;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.extended.OddsFeedExtListener;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.MessageTimestampImpl;
+import com.sportradar.unifiedodds.sdk.impl.oddsentities.PassthroughMessageImpl;
 import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.CompositeMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.util.FeedMessageHelper;
 import com.sportradar.unifiedodds.sdk.oddsentities.*;
@@ -24,12 +25,16 @@ import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, FeedMessageProcessor {
     private static final Logger logger = LoggerFactory.getLogger(OddsFeedSessionImpl.class);
@@ -46,9 +51,15 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
     private final FeedMessageFactory messageFactory;
     private final FeedMessageValidator feedMessageValidator;
     private final Cache<String, String> dispatchedFixtureChangesCache;
+    private final OddsBook oddsBook;
+    private final BlockingTaskExecutorFactory executorFactory;
     private OddsFeedListener oddsFeedListener;
     private MessageInterest messageInterest;
     private OddsFeedExtListener oddsFeedExtListener;
+    private OddsFeedPassthroughListener passthroughListener;
+    private SessionMessageQueue messageQueue;
+    private OddsChangeDeltaFilter oddsChangeDeltaFilter;
+    private SessionPartition partition;
     private boolean isFeedClosed;
 
     @Inject
@@ -62,7 +73,9 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
                                FeedMessageFactory messageFactory,
                                FeedMessageValidator feedMessageValidator,
                                UnifiedOddsStatistics ufStats,
-                               @Named("DispatchedFixturesChangesCache") Cache<String, String> dispatchedFixtureChangesCache) {
+                               @Named("DispatchedFixturesChangesCache") Cache<String, String> dispatchedFixtureChangesCache,
+                               OddsBook oddsBook,
+                               BlockingTaskExecutorFactory executorFactory) {
         checkNotNull(messageReceiver, "messageReceiver cannot be a null reference");
         checkNotNull(recoveryManager, "recoveryManager cannot be a null reference");
         checkNotNull(messageProcessor, "messageProcessor cannot be a null reference");
@@ -74,6 +87,8 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         checkNotNull(messageFactory, "messageFactory cannot be a null reference");
         checkNotNull(feedMessageValidator, "feedMessageValidator cannot be a null reference");
         checkNotNull(dispatchedFixtureChangesCache);
+        checkNotNull(oddsBook, "oddsBook cannot be a null reference");
+        checkNotNull(executorFactory, "executorFactory cannot be a null reference");
 
         this.config = config;
         this.messageProcessor = messageProcessor;
@@ -86,24 +101,106 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         this.messageFactory = messageFactory;
         this.feedMessageValidator = feedMessageValidator;
         this.dispatchedFixtureChangesCache = dispatchedFixtureChangesCache;
+        this.oddsBook = oddsBook;
+        this.executorFactory = executorFactory;
         this.processorId = UUID.randomUUID().toString();
         this.isFeedClosed = false;
     }
 
     public void open(List<String> routingKeys, MessageInterest messageInterest, OddsFeedListener oddsFeedListener, OddsFeedExtListener oddsFeedExtListener) throws IOException {
+        open(routingKeys, messageInterest, oddsFeedListener, oddsFeedExtListener, SessionOptions.DEFAULT);
+    }
+
+    public void open(List<String> routingKeys, MessageInterest messageInterest, OddsFeedListener oddsFeedListener, OddsFeedExtListener oddsFeedExtListener, SessionOptions sessionOptions) throws IOException {
         checkNotNull(routingKeys, "Session routing keys can not be a null reference");
         checkNotNull(messageInterest, "oddsInterest cannot be a null reference");
         checkNotNull(oddsFeedListener, "listener cannot be a null reference");
+        checkNotNull(sessionOptions, "sessionOptions cannot be a null reference");
         checkArgument(!routingKeys.isEmpty(), "session routing keys can not be empty");
 
         this.oddsFeedListener = oddsFeedListener;
         this.messageInterest = messageInterest;
         this.oddsFeedExtListener = oddsFeedExtListener;
+        this.partition = sessionOptions.getPartition();
+
+        if (sessionOptions.isMessageQueueEnabled()) {
+            messageQueue = new SessionMessageQueue(
+                    sessionOptions.getMessageQueueCapacity(),
+                    sessionOptions.getMessageQueueOverflowPolicy(),
+                    sessionOptions.isOddsChangeCoalescing(),
+                    sessionOptions.getLiveLaneWeight(),
+                    getConsumerDescription() + "-" + processorId.substring(0, 8),
+                    this::processReceivedMessage,
+                    executorFactory);
+            messageQueue.open();
+        }
+        if (sessionOptions.isOddsChangeDelta()) {
+            oddsChangeDeltaFilter = new OddsChangeDeltaFilter();
+        }
 
         messageProcessor.init(this);
         messageReceiver.open(routingKeys, this);
 
-        logger.info("OddsFeedSession opened(Message interest: {})", messageInterest);
+        logger.info("OddsFeedSession opened(Message interest: {}, {})", messageInterest, sessionOptions);
+    }
+
+    /**
+     * Opens the session in the passthrough mode, the received messages are not deserialized, validated or
+     * enriched with sport event entities, they are dispatched to the provided listener on the AMQP consumer thread
+     *
+     * @param routingKeys the routing keys to which the session binds
+     * @param messageInterest the session {@link MessageInterest}
+     * @param passthroughListener the listener which will receive the messages
+     * @throws IOException if the session message receiver failed to open
+     */
+    public void openPassthrough(List<String> routingKeys, MessageInterest messageInterest, OddsFeedPassthroughListener passthroughListener) throws IOException {
+        openPassthrough(routingKeys, messageInterest, passthroughListener, SessionOptions.DEFAULT);
+    }
+
+    /**
+     * Opens the session in the passthrough mode, the message queue and odds change related options are not used
+     *
+     * @param routingKeys the routing keys to which the session binds
+     * @param messageInterest the session {@link MessageInterest}
+     * @param passthroughListener the listener which will receive the messages
+     * @param sessionOptions the {@link SessionOptions} of the session
+     * @throws IOException if the session message receiver failed to open
+     */
+    public void openPassthrough(List<String> routingKeys, MessageInterest messageInterest, OddsFeedPassthroughListener passthroughListener, SessionOptions sessionOptions) throws IOException {
+        checkNotNull(routingKeys, "Session routing keys can not be a null reference");
+        checkNotNull(messageInterest, "oddsInterest cannot be a null reference");
+        checkNotNull(passthroughListener, "passthroughListener cannot be a null reference");
+        checkNotNull(sessionOptions, "sessionOptions cannot be a null reference");
+        checkArgument(!routingKeys.isEmpty(), "session routing keys can not be empty");
+
+        this.passthroughListener = passthroughListener;
+        this.messageInterest = messageInterest;
+        this.partition = sessionOptions.getPartition();
+
+        messageReceiver.open(routingKeys, this);
+
+        logger.info("OddsFeedSession opened in passthrough mode(Message interest: {}, {})", messageInterest, sessionOptions);
+    }
+
+    /**
+     * Binds the routing keys of the events which should be received by the session and unbinds the routing keys of
+     * the events which should no longer be received, as a single batch on the live channel
+     *
+     * @param subscribe the events which should be received by the session
+     * @param unsubscribe the events which should no longer be received by the session
+     * @throws IOException if the routing keys could not be bound or unbound
+     */
+    @Override
+    public void updateEventSubscriptions(Set<URN> subscribe, Set<URN> unsubscribe) throws IOException {
+        checkNotNull(subscribe, "subscribe cannot be a null reference");
+        checkNotNull(unsubscribe, "unsubscribe cannot be a null reference");
+        checkArgument(Collections.disjoint(subscribe, unsubscribe), "an event can not be subscribed and unsubscribed in the same batch");
+        checkState(messageInterest == MessageInterest.SpecifiedMatchesOnly, "the event subscriptions can be changed only on sessions receiving specific events");
+        checkState(!isFeedClosed, "the event subscriptions of a closed session can not be changed");
+
+        messageReceiver.updateRoutingKeys(eventRoutingKeys(subscribe), eventRoutingKeys(unsubscribe));
+
+        logger.info("OddsFeedSession event subscriptions updated(subscribed: {}, unsubscribed: {})", subscribe.size(), unsubscribe.size());
     }
 
     public void close(){
@@ -113,6 +210,19 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         }
         catch (IOException ignored) {
         }
+
+        if (messageQueue != null) {
+            messageQueue.close();
+        }
+    }
+
+    /**
+     * Returns the statistics of the session message queue
+     *
+     * @return the statistics of the session message queue or <code>null</code> if the session does not use a queue
+     */
+    public SessionMessageQueueMBean getMessageQueueStatistics() {
+        return messageQueue;
     }
 
     /**
@@ -132,6 +242,27 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
             return;
         }
 
+        if (messageQueue != null) {
+            messageQueue.enqueue(unmarshalledMessage, body, routingKeyInfo, timestamp);
+            return;
+        }
+
+        processReceivedMessage(unmarshalledMessage, body, routingKeyInfo, timestamp);
+    }
+
+    /**
+     * Validates the received message and passes it through the message processing pipeline
+     *
+     * @param unmarshalledMessage - an unmarshalled message payload
+     * @param body - the raw payload (mainly used for logging and user exposure)
+     * @param routingKeyInfo - a {@link RoutingKeyInfo} instance describing the message routing key
+     * @param timestamp - all message timestamps
+     */
+    private void processReceivedMessage(UnmarshalledMessage unmarshalledMessage, byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp) {
+        if(isFeedClosed){
+            return;
+        }
+
         long now = System.currentTimeMillis();
         ValidationResult validationResult = feedMessageValidator.validate(unmarshalledMessage, routingKeyInfo);
         String eventId = FeedMessageHelper.provideEventIdFromMessage(unmarshalledMessage);
@@ -179,6 +310,98 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         statisticsMBean.onMessageReceived(now, System.currentTimeMillis(), unmarshalledMessage);
     }
 
+    /**
+     * Builds the routing keys of the provided events, matching the ones generated for the session when the feed
+     * was opened
+     */
+    private List<String> eventRoutingKeys(Set<URN> eventIds) {
+        List<String> routingKeys = new ArrayList<>(eventIds.size() * 2);
+        for (URN eventId : eventIds) {
+            String basicRoutingKey = String.format(UnifiedFeedConstants.EVENT_ROUTING_KEY_TEMPLATE, eventId.getPrefix(), eventId.getType(), eventId.getId());
+            if (config.getSdkNodeId() != null) {
+                routingKeys.add(basicRoutingKey + "." + config.getSdkNodeId() + ".#");
+                routingKeys.add(basicRoutingKey + ".-.#");
+            } else {
+                routingKeys.add(basicRoutingKey + ".#");
+            }
+        }
+        return routingKeys;
+    }
+
+    /**
+     * Indicates if the messages of the specified event are discarded, which is the case for the events assigned
+     * to other partitions than the one consumed by the session
+     *
+     * @param eventId the {@link URN} identifier of the event from the message routing key
+     * @return <code>true</code> if the event messages are discarded; otherwise <code>false</code>
+     */
+    @Override
+    public boolean isEventDiscarded(URN eventId) {
+        return partition != null && !partition.contains(eventId);
+    }
+
+    /**
+     * Indicates if the session was opened in the passthrough mode
+     *
+     * @return <code>true</code> if the session was opened in the passthrough mode; otherwise <code>false</code>
+     */
+    @Override
+    public boolean isPassthroughEnabled() {
+        return passthroughListener != null;
+    }
+
+    /**
+     * Parses the message header, informs the recovery manager about the message and dispatches the raw
+     * message to the passthrough listener
+     *
+     * @param body - the raw message payload
+     * @param routingKeyInfo - a {@link RoutingKeyInfo} instance describing the message routing key
+     * @param timestamp - all message timestamps
+     */
+    @Override
+    public void onPassthroughMessageReceived(byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp) {
+        if(isFeedClosed){
+            return;
+        }
+
+        PassthroughMessageHeader header;
+        try {
+            header = PassthroughMessageHeader.parse(body == null ? new byte[0] : body);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Problem parsing the header of message received on {}: {}", routingKeyInfo.getFullRoutingKey(), e.getMessage());
+            try {
+                passthroughListener.onUnparsableMessage(this, routingKeyInfo.getFullRoutingKey(), body);
+            } catch (Exception re) {
+                logger.warn("Problems dispatching onUnparsableMessage() of the passthrough listener", re);
+            }
+            return;
+        }
+
+        int producerId = header.getProducerId();
+        if (isProducerDiscardable(producerId)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        URN eventId = routingKeyInfo.getEventId();
+        MessageTimestamp messageTimestamp = new MessageTimestampImpl(header.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), now);
+
+        recoveryManager.onMessageProcessingStarted(this.hashCode(), producerId, header.getRequestId(), now);
+        if (PassthroughMessageHeader.SNAPSHOT_COMPLETE.equals(header.getMessageType())) {
+            recoveryManager.onSnapshotCompleteReceived(producerId, now, header.getRequestId(), messageInterest);
+        } else if (PassthroughMessageHeader.ALIVE.equals(header.getMessageType())) {
+            recoveryManager.onAliveReceived(producerId, header.getTimestamp(), now, header.isSubscribed(), messageInterest == MessageInterest.SystemAliveMessages);
+        }
+
+        PassthroughMessage message = new PassthroughMessageImpl(routingKeyInfo.getFullRoutingKey(), body, header.getMessageType(), producerId, eventId, messageTimestamp);
+        try {
+            passthroughListener.onPassthroughMessage(this, message);
+        } catch (Exception e) {
+            logger.warn("User unhandled exception detected while dispatching the passthrough message {}", message, e);
+        }
+        recoveryManager.onMessageProcessingEnded(this.hashCode(), producerId, header.getTimestamp(), eventId == null ? null : eventId.toString());
+    }
+
     /**
      * Dispatches the "unparsable message received event"
      *
@@ -217,12 +440,20 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
      */
     public void processMessage(UnmarshalledMessage o, byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp) {
 //        long now = System.currentTimeMillis();
+        // the odds book is updated before the dispatch, so the listener observes the book with the message applied
+        oddsBook.onMessage(o);
+        if (oddsChangeDeltaFilter != null) {
+            oddsChangeDeltaFilter.onMessage(o);
+        }
         try {
             if (o instanceof UFOddsChange) {
                 UFOddsChange message = (UFOddsChange) o;
                 timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
                 SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
-                OddsChange<SportEvent> oc = messageFactory.buildOddsChange(se, message, body, timestamp);
+                UFOddsChange delta = oddsChangeDeltaFilter == null ? message : oddsChangeDeltaFilter.filter(message);
+                OddsChange<SportEvent> oc = delta == message
+                        ? messageFactory.buildOddsChange(se, message, body, timestamp)
+                        : messageFactory.buildOddsChangeDelta(se, delta, message, body, timestamp);
                 checkUserException(() -> oddsFeedListener.onOddsChange(this, oc));
             } else if (o instanceof UFBetStop) {
                 UFBetStop message = (UFBetStop) o;
@@ -408,11 +639,7 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
             return false;
         }
 
-        if (!producerManager.isProducerEnabled(producerId)) {
-            return true;
-        }
-
-        if (!messageInterest.isProducerInScope(producerManager.getProducer(producerId))) {
+        if (isProducerDiscardable(producerId)) {
             return true;
         }
 
@@ -428,6 +655,24 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         return false;
     }
 
+    /**
+     * Check if the messages of the provided producer can/should be discarded (ex: disabled producer)
+     *
+     * @param producerId - the identifier of the producer which generated the message
+     * @return - <code>true</code> if the message can be discarded, else <code>false</code>
+     */
+    private boolean isProducerDiscardable(int producerId) {
+        if(config.getEnvironment() == Environment.Replay){
+            return false;
+        }
+
+        if (!producerManager.isProducerEnabled(producerId)) {
+            return true;
+        }
+
+        return !messageInterest.isProducerInScope(producerManager.getProducer(producerId));
+    }
+
     private void checkUserException(Runnable runnable) {
         try {
             runnable.run();
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The minimal header of a feed message, extracted from the attributes of the message root element without
+ * deserializing the whole payload (used by the sessions in the passthrough mode)
+ */
+public class PassthroughMessageHeader {
+    /**
+     * The root element name of the alive messages
+     */
+    static final String ALIVE = "alive";
+
+    /**
+     * The root element name of the snapshot complete messages
+     */
+    static final String SNAPSHOT_COMPLETE = "snapshot_complete";
+
+    private final String messageType;
+    private final int producerId;
+    private final long timestamp;
+    private final Long requestId;
+    private final boolean subscribed;
+
+    private PassthroughMessageHeader(String messageType, int producerId, long timestamp, Long requestId, boolean subscribed) {
+        this.messageType = messageType;
+        this.producerId = producerId;
+        this.timestamp = timestamp;
+        this.requestId = requestId;
+        this.subscribed = subscribed;
+    }
+
+    /**
+     * Parses the header of the provided message payload, only the root element is inspected
+     *
+     * @param body the message payload
+     * @return the parsed {@link PassthroughMessageHeader}
+     * @throws IllegalArgumentException if the payload root element is malformed or misses the required attributes
+     */
+    public static PassthroughMessageHeader parse(byte[] body) {
+        Preconditions.checkNotNull(body);
+
+        int pos = skipProlog(body);
+        int nameStart = pos;
+        while (pos < body.length && !isWhitespace(body[pos]) && body[pos] != '>' && body[pos] != '/') {
+            pos++;
+        }
+        if (pos == nameStart) {
+            throw new IllegalArgumentException("The message root element has no name");
+        }
+        String messageType = new String(body, nameStart, pos - nameStart, StandardCharsets.US_ASCII);
+
+        Integer producerId = null;
+        Long timestamp = null;
+        Long requestId = null;
+        boolean subscribed = false;
+        while (true) {
+            pos = skipWhitespace(body, pos);
+            if (pos >= body.length) {
+                throw new IllegalArgumentException("The message root element is not terminated");
+            }
+            if (body[pos] == '>' || body[pos] == '/') {
+                break;
+            }
+
+            int attributeStart = pos;
+            while (pos < body.length && body[pos] != '=' && !isWhitespace(body[pos])) {
+                pos++;
+            }
+            int attributeEnd = pos;
+            pos = skipWhitespace(body, pos);
+            if (pos >= body.length || body[pos] != '=') {
+                throw new IllegalArgumentException("Malformed attribute in the message root element");
+            }
+            pos = skipWhitespace(body, pos + 1);
+            if (pos >= body.length || (body[pos] != '"' && body[pos] != '\'')) {
+                throw new IllegalArgumentException("Malformed attribute value in the message root element");
+            }
+            byte quote = body[pos];
+            int valueStart = ++pos;
+            while (pos < body.length && body[pos] != quote) {
+                pos++;
+            }
+            if (pos >= body.length) {
+                throw new IllegalArgumentException("Unterminated attribute value in the message root element");
+            }
+            int valueEnd = pos++;
+
+            if (attributeIs(body, attributeStart, attributeEnd, "product")) {
+                producerId = (int) parseLong(body, valueStart, valueEnd);
+            } else if (attributeIs(body, attributeStart, attributeEnd, "timestamp")) {
+                timestamp = parseLong(body, valueStart, valueEnd);
+            } else if (attributeIs(body, attributeStart, attributeEnd, "request_id")) {
+                requestId = parseLong(body, valueStart, valueEnd);
+            } else if (attributeIs(body, attributeStart, attributeEnd, "subscribed")) {
+                subscribed = parseLong(body, valueStart, valueEnd) == 1;
+            }
+        }
+
+        if (producerId == null || timestamp == null) {
+            throw new IllegalArgumentException("The message '" + messageType + "' is missing the product or timestamp attribute");
+        }
+        if (SNAPSHOT_COMPLETE.equals(messageType) && requestId == null) {
+            throw new IllegalArgumentException("The snapshot complete message is missing the request_id attribute");
+        }
+
+        return new PassthroughMessageHeader(messageType, producerId, timestamp, requestId, subscribed);
+    }
+
+    /**
+     * Returns the message type, the name of the message root element (ex: odds_change, bet_stop, alive)
+     *
+     * @return the message type
+     */
+    public String getMessageType() {
+        return messageType;
+    }
+
+    /**
+     * Returns the identifier of the producer which generated the message
+     *
+     * @return the identifier of the producer which generated the message
+     */
+    public int getProducerId() {
+        return producerId;
+    }
+
+    /**
+     * Returns the message generation timestamp (milliseconds since EPOCH UTC)
+     *
+     * @return the message generation timestamp
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the identifier of the recovery request which triggered the message
+     *
+     * @return the recovery request identifier if available; otherwise null
+     */
+    public Long getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * Returns an indication if the producer is subscribed (only relevant for alive messages)
+     *
+     * @return <code>true</code> if the alive message reported the producer as subscribed; otherwise <code>false</code>
+     */
+    public boolean isSubscribed() {
+        return subscribed;
+    }
+
+    /**
+     * Skips the optional byte order mark, the XML declaration, comments and whitespaces preceding the root element
+     *
+     * @return the position of the first root element name character
+     */
+    private static int skipProlog(byte[] body) {
+        int pos = 0;
+        if (body.length >= 3 && body[0] == (byte) 0xEF && body[1] == (byte) 0xBB && body[2] == (byte) 0xBF) {
+            pos = 3;
+        }
+
+        while (true) {
+            pos = skipWhitespace(body, pos);
+            if (pos >= body.length || body[pos] != '<') {
+                throw new IllegalArgumentException("The message payload does not contain a root element");
+            }
+            if (pos + 1 < body.length && (body[pos + 1] == '?' || body[pos + 1] == '!')) {
+                while (pos < body.length && body[pos] != '>') {
+                    pos++;
+                }
+                pos++;
+                continue;
+            }
+            return pos + 1;
+        }
+    }
+
+    private static int skipWhitespace(byte[] body, int pos) {
+        while (pos < body.length && isWhitespace(body[pos])) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    private static boolean attributeIs(byte[] body, int start, int end, String name) {
+        if (end - start != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (body[start + i] != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseLong(byte[] body, int start, int end) {
+        if (start == end) {
+            throw new IllegalArgumentException("Empty numeric attribute value in the message root element");
+        }
+
+        boolean negative = body[start] == '-';
+        int pos = negative ? start + 1 : start;
+        if (pos == end) {
+            throw new IllegalArgumentException("Malformed numeric attribute value in the message root element");
+        }
+
+        long value = 0;
+        for (; pos < end; pos++) {
+            int digit = body[pos] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Malformed numeric attribute value in the message root element");
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+}
@@ -5,6 +5,7 @@
 package com.sportradar.unifiedodds.sdk.impl;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -34,4 +35,15 @@ public interface RabbitMqChannel {
      * @return - <code>true</code> if the channel is opened; <code>false</code> otherwise
      */
     boolean isOpened();
+
+    /**
+     * Binds the channel queue to the provided routing keys and unbinds it from the routing keys which should be
+     * removed, the changes are applied as a single batch and are kept if the channel is recreated. The channels which
+     * do not support bindings(e.g. replaying a log file) ignore the changes
+     *
+     * @param routingKeysToBind the routing keys which should be bound
+     * @param routingKeysToUnbind the routing keys which should be unbound
+     * @throws IOException if the bindings could not be changed
+     */
+    void updateBindings(Collection<String> routingKeysToBind, Collection<String> routingKeysToUnbind) throws IOException;
 }
@@ -8,6 +8,7 @@ import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import com.rabbitmq.client.*;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
 import com.sportradar.utils.SdkHelper;
 import org.slf4j.Logger;
@@ -18,12 +19,13 @@ import java.io.IOException;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
-import java.time.*;
-import java.util.Date;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 /**
  * An implementation of the {@link RabbitMqChannel}
@@ -36,6 +38,10 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
      */
     private static final String UF_EXCHANGE = System.getProperty("sportradar.receiving.exchange", "unifiedfeed");
 
+    private static final long NO_MESSAGE = Long.MIN_VALUE;
+
+    private static final int NO_CHANNEL = -1;
+
     /**
      * A {@link RabbitMqSystemListener} instance used to dispatch system events
      */
@@ -61,23 +67,93 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
      */
     private Channel channel;
 
+    /**
+     * The number of the {@link #channel}, {@link #NO_CHANNEL} if there is no channel. The status checks read it
+     * instead of the {@link #channel}, so they do not need the channel lock which is held while the broker is contacted
+     */
+    private volatile int channelNumber = NO_CHANNEL;
+
+    /**
+     * Additional {@link Channel} instances consuming the queue declared on the {@link #channel}, used only if more
+     * than one channel per session is configured
+     */
+    private final List<Channel> parallelChannels = new CopyOnWriteArrayList<>();
+
+    /**
+     * The consumers currently attached to the queue of this instance
+     */
+    private final List<SessionConsumer> consumers = new CopyOnWriteArrayList<>();
+
+    /**
+     * The maximum number of unacknowledged deliveries per channel, <code>0</code> if unlimited
+     */
+    private final int prefetchCount;
+
+    /**
+     * The number of processed messages acknowledged together, <code>0</code> if the messages are auto-acknowledged
+     */
+    private final int ackBatchSize;
+
+    /**
+     * The number of channels consuming the queue, the messages are processed unordered if more than one
+     */
+    private final int channelCount;
+
     /**
      * An indication if the current channel should be opened
      */
-    private boolean shouldBeOpened = false;
+    private volatile boolean shouldBeOpened = false;
 
-    private LocalDateTime channelLastMessage;
+    /**
+     * The {@link System#nanoTime()} of the last received message, {@link #NO_MESSAGE} if no message was received
+     * since the channel was started
+     */
+    private volatile long lastMessageNanos = NO_MESSAGE;
+
+    /**
+     * The {@link System#nanoTime()} when the channel was started
+     */
+    private volatile long channelStartedNanos;
 
+    /**
+     * The routing keys to which the queue is bound, replaced on each binding change so the channel recreation
+     * binds the current set
+     */
     private List<String> routingKeys;
 
+    /**
+     * The binding changes requested while another change was being applied, applied together as the next batch
+     */
+    private PendingBindings pendingBindings;
+
+    /**
+     * The lock guarding the {@link #pendingBindings}, the channel lock is not required to request a binding change
+     */
+    private final Object pendingBindingsLock = new Object();
+
+    /**
+     * The name of the queue declared on the {@link #channel}
+     */
+    private String queueName;
+
     private String messageInterest;
 
     private String sdkVersion;
 
-    private long channelStarted;
+    private volatile long channelStarted;
 
     private TimeUtils timeUtils;
 
+    /**
+     * The {@link RabbitMqChannelMonitor} which supervises the channel
+     */
+    private final RabbitMqChannelMonitor channelMonitor;
+
+    /**
+     * The periodic status check of the channel, scheduled while the channel should be opened
+     */
+    private ScheduledFuture<?> statusCheck;
+
     /**
      * Initializes a new instance of the {@link RabbitMqChannelImpl}
      *
@@ -85,19 +161,33 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
      * @param whoAmIReader a {@link WhoAmIReader} used to access current SDK instance context information
      * @param sdkVersion version of the sdk
      * @param connectionFactory Connection factory for getting actual connection
+     * @param configuration the {@link SDKInternalConfiguration} providing the consumption settings
+     * @param channelMonitor the {@link RabbitMqChannelMonitor} which supervises the channel
      */
     @Inject
-    public RabbitMqChannelImpl(RabbitMqSystemListener rabbitMqSystemListener, WhoAmIReader whoAmIReader, @Named("version") String sdkVersion, AMQPConnectionFactory connectionFactory) {
+    public RabbitMqChannelImpl(RabbitMqSystemListener rabbitMqSystemListener, WhoAmIReader whoAmIReader, @Named("version") String sdkVersion, AMQPConnectionFactory connectionFactory, SDKInternalConfiguration configuration, RabbitMqChannelMonitor channelMonitor) {
         Preconditions.checkNotNull(rabbitMqSystemListener);
         Preconditions.checkNotNull(whoAmIReader);
         Preconditions.checkNotNull(connectionFactory);
+        Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(channelMonitor);
 
         this.rabbitMqSystemListener = rabbitMqSystemListener;
         this.sdkMdcContextDescription = whoAmIReader.getAssociatedSdkMdcContextMap();
         this.sdkVersion = sdkVersion;
         this.connectionFactory = connectionFactory;
-        this.channelLastMessage = LocalDateTime.MIN;
+        this.channelMonitor = channelMonitor;
         this.channelStarted = 0;
+        this.prefetchCount = Math.max(0, configuration.getMessagingPrefetchCount());
+        this.channelCount = Math.max(1, configuration.getMessagingChannelsPerSession());
+
+        int batchSize = Math.max(0, configuration.getMessagingAckBatchSize());
+        if (prefetchCount > 0 && batchSize > prefetchCount) {
+            // the broker stops the deliveries once the prefetch count is reached, so a bigger batch would never be acknowledged
+            logger.warn("The messaging ack batch size {} exceeds the prefetch count {}, using the prefetch count as batch size", batchSize, prefetchCount);
+            batchSize = prefetchCount;
+        }
+        this.ackBatchSize = batchSize;
     }
 
     /**
@@ -119,24 +209,11 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
         }
 
         this.shouldBeOpened = true;
-        this.routingKeys = routingKeys;
+        this.routingKeys = new ArrayList<>(routingKeys);
         this.channelMessageConsumer = channelMessageConsumer;
         this.messageInterest = messageInterest;
         this.timeUtils = new TimeUtilsImpl();
-
-//        new Thread(this::checkChannelStatus).start();
-
-        Thread monitorThread = new Thread(this::checkChannelStatus);
-        monitorThread.setName("MqChannelMonitor-" + messageInterest + "-" + hashCode());
-        monitorThread.setUncaughtExceptionHandler(
-                new Thread.UncaughtExceptionHandler() {
-                    @Override
-                    public void uncaughtException(Thread thread, Throwable throwable) {
-                        logger.error(String.format("Uncaught thread exception monitoring %s", messageInterest), throwable);
-                    }
-                });
-
-        monitorThread.start();
+        this.statusCheck = channelMonitor.register(this, this::checkChannelStatus);
 
         internalOpen();
     }
@@ -159,62 +236,87 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
     private void initChannelQueue(List<String> routingKeys, String messageInterest) throws IOException {
 
         if(channel == null){
-            try {
-                Connection conn = connectionFactory.getConnection();
-                if(conn == null){
-                    logger.error("Error creating channel: no connection");
-                    return;
-                }
-                channel = conn.createChannel();
-            } catch (TimeoutException e) {
-                logger.error(String.format("Error creating channel: %s", e.getMessage()), e);
-                Thread.currentThread().interrupt();
-                return;
-            } catch (NoSuchAlgorithmException | KeyManagementException | IOException e) {
-                logger.error(String.format("Error creating channel: %s", e.getMessage()), e);
-                return;
-            } catch (Exception e) {
-                logger.error(String.format("Error creating channel: %s", e.getMessage()), e);
+            channel = createChannel();
+            if (channel == null) {
                 return;
             }
+            channelNumber = channel.getChannelNumber();
         }
 
         String qName = channel.queueDeclare().getQueue();
+        queueName = qName;
         for (String routingKey : routingKeys) {
             logger.debug("Binding queue={} with routingKey={}", qName, routingKey);
             channel.queueBind(qName, UF_EXCHANGE, routingKey);
         }
 
-        DefaultConsumer consumer = new DefaultConsumer(channel) {
-            @Override
-            public synchronized void handleDelivery(String tag, Envelope envelope, AMQP.BasicProperties properties, byte[] body) {
-                MDC.setContextMap(sdkMdcContextDescription);
-                try {
-                    channelLastMessage = LocalDateTime.now();
-                    channelMessageConsumer.onMessageReceived(envelope.getRoutingKey(), body, properties, new TimeUtilsImpl().now());
-                } catch (Exception e) {
-                    logger.error(String.format("An exception occurred while processing AMQP message. Routing key: '%s', body: '%s'",
-                            envelope.getRoutingKey(),
-                            body == null ? "null" : new String(body)),
-                            e
-                    );
-                }
-                MDC.clear();
+        // by default a single consumer per session queue, so the messages are processed in the order the broker routed them
+        startConsumer(channel, qName, messageInterest);
+        for (int i = 1; i < channelCount; i++) {
+            Channel parallelChannel = createChannel();
+            if (parallelChannel == null) {
+                break;
             }
-        };
+            parallelChannels.add(parallelChannel);
+            startConsumer(parallelChannel, qName, messageInterest);
+        }
+
+        channelStarted = timeUtils.now();
+        channelStartedNanos = System.nanoTime();
+        lastMessageNanos = NO_MESSAGE;
+    }
 
-        channel.addShutdownListener(rabbitMqSystemListener);
-        ((Recoverable) channel).addRecoveryListener(rabbitMqSystemListener);
+    /**
+     * Creates a new {@link Channel} on the shared connection
+     *
+     * @return the created {@link Channel} or <code>null</code> if the channel could not be created
+     */
+    private Channel createChannel() {
+        try {
+            Connection conn = connectionFactory.getConnection();
+            if(conn == null){
+                logger.error("Error creating channel: no connection");
+                return null;
+            }
+            return conn.createChannel();
+        } catch (TimeoutException e) {
+            logger.error(String.format("Error creating channel: %s", e.getMessage()), e);
+            Thread.currentThread().interrupt();
+        } catch (NoSuchAlgorithmException | KeyManagementException | IOException e) {
+            logger.error(String.format("Error creating channel: %s", e.getMessage()), e);
+        } catch (Exception e) {
+            logger.error(String.format("Error creating channel: %s", e.getMessage()), e);
+        }
+        return null;
+    }
+
+    /**
+     * Applies the configured QoS to the provided channel and attaches a new consumer to the provided queue
+     *
+     * @param consumerChannel the {@link Channel} on which the consumer should be started
+     * @param qName the name of the queue which should be consumed
+     * @param messageInterest message interest this channel is linked to
+     * @throws IOException - thrown if any channel operation fails to complete
+     */
+    private void startConsumer(Channel consumerChannel, String qName, String messageInterest) throws IOException {
+        if (prefetchCount > 0) {
+            consumerChannel.basicQos(prefetchCount);
+        }
+
+        SessionConsumer consumer = new SessionConsumer(consumerChannel);
+
+        consumerChannel.addShutdownListener(rabbitMqSystemListener);
+        ((Recoverable) consumerChannel).addRecoveryListener(rabbitMqSystemListener);
         String consumerTag = String.format("UfSdk-Java|%s|%s|%s|%s|%s",
                                            sdkVersion,
                                            SdkHelper.stringIsNullOrEmpty(messageInterest) ? "system" : messageInterest,
-                                           channel.getChannelNumber(),
+                                           consumerChannel.getChannelNumber(),
                                            new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()),
                                            SdkHelper.getUuid(8));
-        channel.basicConsume(qName, true, consumerTag, consumer);
-        logger.info("BasicConsume for channel={}, queue={} and consumer tag {} executed.", channel.getChannelNumber(), qName, consumerTag);
-        channelStarted = timeUtils.now();
-        channelLastMessage = LocalDateTime.MIN;
+        consumerChannel.basicConsume(qName, ackBatchSize == 0, consumerTag, consumer);
+        consumers.add(consumer);
+        logger.info("BasicConsume for channel={}, queue={}, prefetch={}, ackBatchSize={} and consumer tag {} executed.",
+                    consumerChannel.getChannelNumber(), qName, prefetchCount, ackBatchSize, consumerTag);
     }
 
     /**
@@ -232,10 +334,101 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
         }
 
         shouldBeOpened = false;
-        channelLastMessage = LocalDateTime.MIN;
+        lastMessageNanos = NO_MESSAGE;
+        channelMonitor.unregister(this, statusCheck);
+        statusCheck = null;
         channelClosePure();
     }
 
+    /**
+     * Binds the channel queue to the provided routing keys and unbinds it from the routing keys which should be
+     * removed. The routing keys which are already bound, or not bound, are skipped. The changed set is used
+     * whenever the channel is recreated, so it is kept even if the changes could not be applied to the current
+     * channel.
+     *
+     * The changes requested while another change is being applied are coalesced: they are merged into a single
+     * batch in the order they were requested, so a routing key bound and unbound again before the batch is applied
+     * is not changed at all, and the whole batch is applied by the first of its callers which acquires the channel.
+     * All the callers of a batch return once it was applied and fail if it could not be applied.
+     *
+     * @param routingKeysToBind the routing keys which should be bound
+     * @param routingKeysToUnbind the routing keys which should be unbound
+     * @throws IOException if the bindings of the current channel could not be changed
+     */
+    @Override
+    public void updateBindings(Collection<String> routingKeysToBind, Collection<String> routingKeysToUnbind) throws IOException {
+        Preconditions.checkNotNull(routingKeysToBind);
+        Preconditions.checkNotNull(routingKeysToUnbind);
+
+        PendingBindings batch;
+        synchronized (pendingBindingsLock) {
+            if (pendingBindings == null) {
+                pendingBindings = new PendingBindings();
+            }
+            batch = pendingBindings;
+            batch.add(routingKeysToBind, routingKeysToUnbind);
+        }
+
+        synchronized (this) {
+            if (!batch.applied) {
+                synchronized (pendingBindingsLock) {
+                    if (pendingBindings == batch) {
+                        pendingBindings = null;
+                    }
+                }
+                batch.applied = true;
+                try {
+                    Preconditions.checkState(shouldBeOpened, "The bindings of a closed channel can not be changed");
+                    applyBindings(batch.changes);
+                } catch (IOException | RuntimeException e) {
+                    batch.failure = e;
+                }
+            }
+
+            if (batch.failure instanceof IOException) {
+                throw new IOException("The bindings of queue=" + queueName + " could not be changed", batch.failure);
+            }
+            if (batch.failure != null) {
+                throw (RuntimeException) batch.failure;
+            }
+        }
+    }
+
+    /**
+     * Applies the provided binding changes, must be invoked while holding the channel lock
+     *
+     * @param changes the routing keys which should be bound(<code>true</code>) or unbound(<code>false</code>)
+     */
+    private void applyBindings(Map<String, Boolean> changes) throws IOException {
+        Set<String> currentKeys = new LinkedHashSet<>(routingKeys);
+        List<String> unbind = new ArrayList<>();
+        List<String> bind = new ArrayList<>();
+        changes.forEach((routingKey, shouldBeBound) -> {
+            if (shouldBeBound ? currentKeys.add(routingKey) : currentKeys.remove(routingKey)) {
+                (shouldBeBound ? bind : unbind).add(routingKey);
+            }
+        });
+        if (bind.isEmpty() && unbind.isEmpty()) {
+            return;
+        }
+        routingKeys = new ArrayList<>(currentKeys);
+
+        if (channel == null || !channel.isOpen()) {
+            logger.info("Channel not available, {} bindings added and {} removed will be applied when the channel is recreated", bind.size(), unbind.size());
+            return;
+        }
+
+        for (String routingKey : unbind) {
+            logger.debug("Unbinding queue={} from routingKey={}", queueName, routingKey);
+            channel.queueUnbind(queueName, UF_EXCHANGE, routingKey);
+        }
+        for (String routingKey : bind) {
+            logger.debug("Binding queue={} with routingKey={}", queueName, routingKey);
+            channel.queueBind(queueName, UF_EXCHANGE, routingKey);
+        }
+        logger.info("Bindings of queue={} updated, {} added and {} removed", queueName, bind.size(), unbind.size());
+    }
+
     /**
      * Indicates if the associated channel instance is opened
      *
@@ -246,125 +439,180 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
         return channel != null && channel.isOpen();
     }
 
-    // todo: should use Scheduler without thread.sleep
-    private void checkChannelStatus()
-    {
-        try{
-        while(shouldBeOpened) {
+    /**
+     * Returns the time since the channel received the last message, or since it was started if it did not receive
+     * any message
+     *
+     * @param now the current {@link System#nanoTime()}
+     * @return the time(nanoseconds) since the last message, <code>0</code> if the channel is not started
+     */
+    long getNanosSinceLastMessage(long now) {
+        if (channelStarted == 0) {
+            return 0;
+        }
+        long lastMessage = lastMessageNanos;
+        return now - (lastMessage == NO_MESSAGE ? channelStartedNanos : lastMessage);
+    }
 
-            try {
-                Thread.sleep(1000L * 20L);
-            }
-            catch (InterruptedException e) {
-                logger.warn("Interrupted!", e);
-                Thread.currentThread().interrupt();
-            }
+    /**
+     * Checks the status of the channel, executed periodically by the {@link RabbitMqChannelMonitor} while the
+     * channel should be opened
+     */
+    private void checkChannelStatus() {
+        if (!shouldBeOpened) {
+            return;
+        }
 
-            if(!connectionFactory.canConnectionOpen()){
+        if(!connectionFactory.canConnectionOpen()){
+            channelMonitor.recover(this, () -> {
                 try {
                     close();
                 } catch (IOException ignored) { }
-                return;
-            }
+                logger.warn(String.format("Monitoring %s ended", messageInterest));
+            });
+            return;
+        }
 
-            if (channel == null) {
+        if (channelNumber == NO_CHANNEL) {
+            logger.info("No channel. Creating connection channel ...");
+            channelMonitor.recover(this, () -> {
                 try {
-                    logger.info("No channel. Creating connection channel ...");
-                    initChannelQueue(routingKeys, messageInterest);
+                    internalOpen();
+                } catch (IOException e) {
+                    logger.warn("Error creating the channel for {}: {}", messageInterest, e.getMessage());
                 }
-                catch (IOException e) {
-                    continue;
-                }
-            }
+            });
+            return;
+        }
 
-            // it means, the connection was reset in between
-            if(connectionFactory.getConnectionStarted() > channelStarted) {
-                logger.warn("Channel to old. Recreating connection channel ...");
-                restartChannel();
-                continue;
-            }
+        consumers.forEach(SessionConsumer::acknowledgePending);
 
-            // no messages arrived in last maxTimeBetweenMessages seconds, from the start of the channel
-            Instant channelStartedInstant = Instant.ofEpochMilli(channelStarted);
-            LocalDateTime channelStartedDateTime = LocalDateTime.ofInstant(channelStartedInstant, ZoneId.systemDefault());
-            Duration channelDuration = Duration.between(LocalDateTime.now(), channelStartedDateTime).abs();
-            long channelStartedDiff = channelDuration.toMinutes() != 0 && channelDuration.toMinutes() < 1000 ? channelDuration.toMillis() : 1; // to avoid long overflow
-            channelStartedDiff = Math.abs(channelStartedDiff / 1000);
-            if (channelLastMessage == LocalDateTime.MIN && channelStarted > 0 && channelStartedDiff >= 180)
-            {
-                String isOpen = connectionFactory.isConnectionOpen() ? "s" : "";
-                logger.warn("There were no message{} in more then {}s for the channel with channelNumber: {} ({}). Last message arrived: {}. Recreating channel...",
-                            isOpen,
-                            180,
-                            channel == null ? 0 : channel.getChannelNumber(),
-                            messageInterest,
-                            channelLastMessage);
-                restartChannel();
-                continue;
-            }
+        // it means, the connection was reset in between
+        if(connectionFactory.getConnectionStarted() > channelStarted) {
+            logger.warn("Channel to old. Recreating connection channel ...");
+            channelMonitor.recover(this, this::restartChannel);
+            return;
+        }
 
-            // we have received messages in the past, but not in last maxTimeBetweenMessages seconds
-            Duration duration = Duration.between(LocalDateTime.now(), channelLastMessage).abs();
-            long lastMessageDiff = duration.toMinutes() != 0 && duration.toMinutes() < 1000 ? duration.toMillis() : 1; // to avoid long overflow
-            lastMessageDiff = Math.abs(lastMessageDiff / 1000);
-            if (channelLastMessage != LocalDateTime.MIN && lastMessageDiff >= 180)
-            {
-                String isOpen = connectionFactory.isConnectionOpen() ? "s" : "";
-                logger.warn("There were no message{} in more then {}s for the channel with channelNumber: {} ({}). Last message arrived: {}",
-                            isOpen,
-                            180,
-                            channel == null ? 0 : channel.getChannelNumber(),
-                            messageInterest,
-                            channelLastMessage);
-                int channelNumber = channel == null ? 0 : channel.getChannelNumber();
-
-                if(connectionFactory.getConnectionStarted() < channelStarted) {
-                    channelClosePure();
-                    logger.info("Resetting connection for the channel with channelNumber: {}", channelNumber);
-                    try {
-                        synchronized (connectionFactory) {
-                            if (connectionFactory.isConnectionOpen()) {
-                                // Throws rabbit AlreadyClosedException which is a RuntimeException
-                                connectionFactory.close(false);
-                            }
-                        }
-                        Thread.sleep(5000);
-                    }
-                    catch (IOException | InterruptedException e) {
-                        String msg = String.format("Error closing connection: %s", e.getMessage());
-                        logger.error(msg, e);
-                        Thread.currentThread().interrupt();
-                    }
-                    catch(Exception ex){
-                        logger.error("Error closing connection", ex);
-                    }
-                    logger.info("Resetting connection finished for the channel with channelNumber: {}", channelNumber);
+        long sinceLastMessage = getNanosSinceLastMessage(System.nanoTime());
+        if (channelStarted == 0 || !channelMonitor.isStale(sinceLastMessage)) {
+            return;
+        }
+
+        int staleChannelNumber = channelNumber;
+        channelMonitor.recover(this, () -> recoverStaleChannel(staleChannelNumber, sinceLastMessage));
+    }
+
+    /**
+     * Reports the stale channel and recreates it, resetting the connection if it is older than the channel.
+     * Executed on the recovery executor of the {@link RabbitMqChannelMonitor}, as the connection state is read
+     * under the lock of the connection factory
+     *
+     * @param channelNumber the number of the stale channel
+     * @param sinceLastMessage the time(nanoseconds) since the last message of the channel
+     */
+    private void recoverStaleChannel(int channelNumber, long sinceLastMessage) {
+        String isOpen = connectionFactory.isConnectionOpen() ? "s" : "";
+        if (lastMessageNanos == NO_MESSAGE)
+        {
+            // no messages arrived in the stale timeout, from the start of the channel
+            logger.warn("There were no message{} in more then {}s for the channel with channelNumber: {} ({}). Last message arrived: {}s ago. Recreating channel...",
+                        isOpen,
+                        channelMonitor.getStaleTimeout(),
+                        channelNumber,
+                        messageInterest,
+                        TimeUnit.NANOSECONDS.toSeconds(sinceLastMessage));
+            restartChannel();
+            return;
+        }
+
+        // we have received messages in the past, but not in the stale timeout
+        logger.warn("There were no message{} in more then {}s for the channel with channelNumber: {} ({}). Last message arrived: {}s ago",
+                    isOpen,
+                    channelMonitor.getStaleTimeout(),
+                    channelNumber,
+                    messageInterest,
+                    TimeUnit.NANOSECONDS.toSeconds(sinceLastMessage));
+
+        if(connectionFactory.getConnectionStarted() < channelStarted) {
+            resetConnection(channelNumber);
+            return;
+        }
+        restartChannel();
+    }
+
+    /**
+     * Closes the channel and its connection and recreates the channel once the connection had the time to close
+     *
+     * @param channelNumber the number of the stale channel
+     */
+    private void resetConnection(int channelNumber) {
+        synchronized (this) {
+            channelClosePure();
+        }
+        logger.info("Resetting connection for the channel with channelNumber: {}", channelNumber);
+        try {
+            synchronized (connectionFactory) {
+                if (connectionFactory.isConnectionOpen()) {
+                    // Throws rabbit AlreadyClosedException which is a RuntimeException
+                    connectionFactory.close(false);
                 }
-                restartChannel();
             }
         }
-        } finally {
-            logger.warn(String.format("Thread monitoring %s ended", messageInterest));
+        catch (IOException e) {
+            String msg = String.format("Error closing connection: %s", e.getMessage());
+            logger.error(msg, e);
+        }
+        catch(Exception ex){
+            logger.error("Error closing connection", ex);
         }
+        logger.info("Resetting connection finished for the channel with channelNumber: {}", channelNumber);
+
+        try {
+            TimeUnit.SECONDS.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        restartChannel();
     }
 
     private void channelClosePure(){
+        consumers.forEach(SessionConsumer::acknowledgePending);
+        consumers.clear();
+
+        for (Channel parallelChannel : parallelChannels) {
+            closeChannel(parallelChannel);
+        }
+        parallelChannels.clear();
+
         try {
-            if (channel != null && channel.isOpen()) {
-                ((Recoverable) channel).removeRecoveryListener(rabbitMqSystemListener);
-                channel.close();
-            }
-        } catch (TimeoutException | IOException e) {
-            logger.error(String.format("Error closing channel: %s", e.getMessage()));
+            closeChannel(channel);
         } finally {
             channel = null;
+            channelNumber = NO_CHANNEL;
             channelStarted = 0;
         }
     }
 
-    private void restartChannel(){
+    private void closeChannel(Channel channelToClose) {
+        try {
+            if (channelToClose != null && channelToClose.isOpen()) {
+                ((Recoverable) channelToClose).removeRecoveryListener(rabbitMqSystemListener);
+                channelToClose.close();
+            }
+        } catch (TimeoutException | IOException e) {
+            logger.error(String.format("Error closing channel: %s", e.getMessage()));
+        }
+    }
+
+    private synchronized void restartChannel(){
+        if (!shouldBeOpened) {
+            return;
+        }
 
         channelClosePure();
+        channelMonitor.onChannelRestarted();
 
         try {
             initChannelQueue(routingKeys, messageInterest);
@@ -373,4 +621,86 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
             logger.error(String.format("Error creating channel: %s", e.getMessage()));
         }
     }
+
+    /**
+     * A {@link DefaultConsumer} dispatching the deliveries to the {@link ChannelMessageConsumer} and, when the
+     * manual acknowledgement is enabled, acknowledging the processed deliveries in batches.
+     *
+     * The deliveries are dispatched sequentially by the channel consumer thread, which only publishes the tag of the
+     * last processed delivery. The pending deliveries are acknowledged under a lock guarding just the acknowledgement,
+     * so the status checks flushing them are never blocked by a listener processing a message.
+     */
+    private class SessionConsumer extends DefaultConsumer {
+        private final AtomicInteger pendingAcks = new AtomicInteger();
+        private final Object ackLock = new Object();
+        private volatile long lastDeliveryTag;
+        private long acknowledgedDeliveryTag;
+
+        SessionConsumer(Channel channel) {
+            super(channel);
+        }
+
+        @Override
+        public void handleDelivery(String tag, Envelope envelope, AMQP.BasicProperties properties, byte[] body) {
+            MDC.setContextMap(sdkMdcContextDescription);
+            try {
+                lastMessageNanos = System.nanoTime();
+                channelMessageConsumer.onMessageReceived(envelope.getRoutingKey(), body, properties, new TimeUtilsImpl().now());
+            } catch (Exception e) {
+                logger.error(String.format("An exception occurred while processing AMQP message. Routing key: '%s', body: '%s'",
+                        envelope.getRoutingKey(),
+                        body == null ? "null" : new String(body)),
+                        e
+                );
+            }
+
+            if (ackBatchSize > 0) {
+                lastDeliveryTag = envelope.getDeliveryTag();
+                if (pendingAcks.incrementAndGet() >= ackBatchSize) {
+                    acknowledgePending();
+                }
+            }
+            MDC.clear();
+        }
+
+        /**
+         * Acknowledges all the processed deliveries which were not acknowledged yet, a delivery tag is acknowledged
+         * at most once as the broker closes the channel on an unknown delivery tag
+         */
+        void acknowledgePending() {
+            if (pendingAcks.getAndSet(0) == 0) {
+                return;
+            }
+
+            synchronized (ackLock) {
+                long deliveryTag = lastDeliveryTag;
+                if (deliveryTag <= acknowledgedDeliveryTag) {
+                    return;
+                }
+                try {
+                    if (getChannel().isOpen()) {
+                        getChannel().basicAck(deliveryTag, true);
+                    }
+                } catch (Exception e) {
+                    logger.warn(String.format("Error acknowledging deliveries up to %s: %s", deliveryTag, e.getMessage()));
+                } finally {
+                    acknowledgedDeliveryTag = deliveryTag;
+                }
+            }
+        }
+    }
+
+    /**
+     * A batch of binding changes, the latest requested change of each routing key wins
+     */
+    private static final class PendingBindings {
+        private final Map<String, Boolean> changes = new LinkedHashMap<>();
+        private boolean applied;
+        private Exception failure;
+
+        private void add(Collection<String> routingKeysToBind, Collection<String> routingKeysToUnbind) {
+            routingKeysToUnbind.forEach(routingKey -> changes.put(routingKey, false));
+            routingKeysToBind.forEach(routingKey -> changes.put(routingKey, true));
+        }
+    }
 }
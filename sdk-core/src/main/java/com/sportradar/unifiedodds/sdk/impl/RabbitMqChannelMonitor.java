@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sportradar.unifiedodds.sdk.impl.util.MBeanRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.ObjectName;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Supervises the opened {@link RabbitMqChannelImpl} instances of an SDK instance. The status checks of all the
+ * channels, of all the SDK instances in the JVM, run on a single shared scheduler instead of a monitor thread per
+ * channel, and the channels which did not receive a message within the stale timeout are reported and recreated.
+ * The blocking recoveries (recreating a channel, resetting the connection) are handed to a shared recovery executor,
+ * so a channel waiting for the broker does not delay the checks of the other channels.
+ */
+public class RabbitMqChannelMonitor implements RabbitMqChannelMonitorMBean {
+    private static final Logger logger = LoggerFactory.getLogger(RabbitMqChannelMonitor.class);
+    private static final String MBEAN_NAME = "com.sportradar.unifiedodds.sdk.impl:type=RabbitMqChannelMonitor";
+
+    /**
+     * The default time(seconds) without messages after which a channel is considered stale
+     */
+    static final int DEFAULT_STALE_TIMEOUT = 180;
+
+    /**
+     * The maximum time(seconds) between two status checks of a channel
+     */
+    private static final long CHECK_PERIOD = 20;
+
+    /**
+     * The scheduler shared by the monitors of all the SDK instances, the channel checks never block
+     */
+    private static final ScheduledExecutorService SHARED_SCHEDULER = createSharedScheduler();
+
+    /**
+     * The executor shared by the monitors of all the SDK instances on which the blocking channel recoveries run,
+     * its threads are created on demand and released once idle
+     */
+    private static final ExecutorService SHARED_RECOVERY_EXECUTOR = createSharedRecoveryExecutor();
+
+    private final int staleTimeout;
+    private final long staleTimeoutNanos;
+    private final Set<RabbitMqChannelImpl> channels = ConcurrentHashMap.newKeySet();
+    private final Set<RabbitMqChannelImpl> recoveringChannels = ConcurrentHashMap.newKeySet();
+    private final AtomicLong channelRestarts = new AtomicLong();
+    private volatile ObjectName registeredMBeanName;
+
+    /**
+     * Initializes a new {@link RabbitMqChannelMonitor} instance
+     *
+     * @param staleTimeout the time(seconds) without messages after which a channel is considered stale,
+     *                     <code>0</code> for the default timeout
+     */
+    public RabbitMqChannelMonitor(int staleTimeout) {
+        Preconditions.checkArgument(staleTimeout >= 0);
+
+        this.staleTimeout = staleTimeout == 0 ? DEFAULT_STALE_TIMEOUT : staleTimeout;
+        this.staleTimeoutNanos = TimeUnit.SECONDS.toNanos(this.staleTimeout);
+    }
+
+    /**
+     * Starts the periodic status checks of the provided channel
+     *
+     * @param channel the opened channel
+     * @param statusCheck the status check of the channel
+     * @return the {@link ScheduledFuture} which should be cancelled with {@link #unregister} once the channel closes
+     */
+    ScheduledFuture<?> register(RabbitMqChannelImpl channel, Runnable statusCheck) {
+        Preconditions.checkNotNull(channel);
+        Preconditions.checkNotNull(statusCheck);
+
+        long period = Math.min(CHECK_PERIOD, staleTimeout);
+        channels.add(channel);
+        return SHARED_SCHEDULER.scheduleWithFixedDelay(() -> {
+            try {
+                statusCheck.run();
+            } catch (Exception e) {
+                logger.error("Uncaught exception monitoring the channel {}", channel, e);
+            }
+        }, period, period, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the status checks of the provided channel
+     *
+     * @param channel the closed channel
+     * @param statusCheck the {@link ScheduledFuture} returned by {@link #register}
+     */
+    void unregister(RabbitMqChannelImpl channel, ScheduledFuture<?> statusCheck) {
+        channels.remove(channel);
+        if (statusCheck != null) {
+            statusCheck.cancel(false);
+        }
+    }
+
+    /**
+     * Executes the blocking recovery of the provided channel on the shared recovery executor. The recovery is skipped
+     * if the previous recovery of the same channel is still running
+     *
+     * @param channel the channel being recovered
+     * @param recovery the recovery of the channel
+     * @return <code>true</code> if the recovery was started; otherwise <code>false</code>
+     */
+    boolean recover(RabbitMqChannelImpl channel, Runnable recovery) {
+        Preconditions.checkNotNull(channel);
+        Preconditions.checkNotNull(recovery);
+
+        if (!recoveringChannels.add(channel)) {
+            logger.debug("Recovery of the channel {} still running, skipping", channel);
+            return false;
+        }
+
+        try {
+            SHARED_RECOVERY_EXECUTOR.execute(() -> {
+                try {
+                    recovery.run();
+                } catch (Exception e) {
+                    logger.error("Uncaught exception recovering the channel {}", channel, e);
+                } finally {
+                    recoveringChannels.remove(channel);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            recoveringChannels.remove(channel);
+            logger.warn("Recovery of the channel {} rejected", channel, e);
+            return false;
+        }
+    }
+
+    /**
+     * Checks if a channel with the provided time since its last message is stale
+     *
+     * @param nanosSinceLastMessage the time(nanoseconds) since the last message of the channel
+     * @return <code>true</code> if the channel is stale; otherwise <code>false</code>
+     */
+    boolean isStale(long nanosSinceLastMessage) {
+        return nanosSinceLastMessage >= staleTimeoutNanos;
+    }
+
+    void onChannelRestarted() {
+        channelRestarts.incrementAndGet();
+    }
+
+    /**
+     * Registers the statistics of the monitor, unless the statistics of another monitor are already registered
+     */
+    public void registerMBean() {
+        registeredMBeanName = MBeanRegistration.register(this, MBEAN_NAME);
+    }
+
+    /**
+     * Unregisters the statistics of the monitor, the shared scheduler and recovery executor keep serving the monitors
+     * of the other SDK instances
+     */
+    public void close() {
+        MBeanRegistration.unregister(registeredMBeanName);
+        registeredMBeanName = null;
+    }
+
+    @Override
+    public int getMonitoredChannelCount() {
+        return channels.size();
+    }
+
+    @Override
+    public int getStaleChannelCount() {
+        long now = System.nanoTime();
+        return (int) channels.stream()
+                .mapToLong(channel -> channel.getNanosSinceLastMessage(now))
+                .filter(this::isStale)
+                .count();
+    }
+
+    @Override
+    public long getChannelRestartCount() {
+        return channelRestarts.get();
+    }
+
+    @Override
+    public long getLongestTimeSinceLastMessage() {
+        long now = System.nanoTime();
+        return TimeUnit.NANOSECONDS.toSeconds(channels.stream()
+                .mapToLong(channel -> channel.getNanosSinceLastMessage(now))
+                .max()
+                .orElse(0));
+    }
+
+    @Override
+    public int getStaleTimeout() {
+        return staleTimeout;
+    }
+
+    private static ScheduledExecutorService createSharedScheduler() {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("MqChannelMonitor-%d")
+                .setDaemon(true)
+                .build();
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(2, threadFactory);
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    private static ExecutorService createSharedRecoveryExecutor() {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("MqChannelRecovery-%d")
+                .setDaemon(true)
+                .build();
+        return Executors.newCachedThreadPool(threadFactory);
+    }
+}
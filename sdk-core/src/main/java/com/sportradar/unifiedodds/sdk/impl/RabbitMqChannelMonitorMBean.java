@@ -0,0 +1,25 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+public interface RabbitMqChannelMonitorMBean {
+
+    public int getMonitoredChannelCount();
+
+    /**
+     * Returns the number of monitored channels which did not receive a message within the stale timeout
+     */
+    public int getStaleChannelCount();
+
+    public long getChannelRestartCount();
+
+    /**
+     * Returns the longest time(seconds) since a monitored channel received a message, or since it was started if
+     * it did not receive any
+     */
+    public long getLongestTimeSinceLastMessage();
+
+    public int getStaleTimeout();
+}
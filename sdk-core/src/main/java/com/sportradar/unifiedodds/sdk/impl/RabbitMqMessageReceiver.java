@@ -8,6 +8,7 @@ import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -62,6 +63,19 @@ public class RabbitMqMessageReceiver implements MessageReceiver {
         rabbitMqChannel.close();
     }
 
+    /**
+     * Starts receiving the messages of the provided routing keys and stops receiving the messages of the routing keys
+     * which should be removed, the changes are applied as a single batch
+     *
+     * @param routingKeysToBind the routing keys which should be added
+     * @param routingKeysToUnbind the routing keys which should be removed
+     * @throws IOException if the RabbitMq bindings could not be changed
+     */
+    @Override
+    public void updateRoutingKeys(Collection<String> routingKeysToBind, Collection<String> routingKeysToUnbind) throws IOException {
+        rabbitMqChannel.updateBindings(routingKeysToBind, routingKeysToUnbind);
+    }
+
     /**
      * Indicates if the current instance is opened and receiving messages
      *
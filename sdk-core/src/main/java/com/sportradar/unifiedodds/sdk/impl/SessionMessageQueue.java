@@ -0,0 +1,701 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.unifiedodds.sdk.MessageQueueOverflowPolicy;
+import com.sportradar.unifiedodds.sdk.impl.util.FeedMessageHelper;
+import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded queue placed between the AMQP consumer thread and the session listener. The received messages are
+ * dispatched in the receive order by a dedicated thread, so a slow listener does not stall the AMQP consumer
+ * until the queue is full. Once the queue is full, the configured {@link MessageQueueOverflowPolicy} is applied.
+ *
+ * When the odds change coalescing is enabled, a received odds change is merged into the queued odds change of the
+ * same event whenever that one is still the latest queued message of the event, so only the newest state of each
+ * market is built and dispatched once the listener catches up.
+ *
+ * When the priority lanes are enabled, the messages which are part of a recovery(carrying a request id) are queued
+ * in a separate recovery lane, so the live messages are not delayed by the snapshot replay. While both lanes have a
+ * backlog, the configured number of live messages is dispatched for each recovery message. The ordering of the
+ * messages of the same event is preserved across the lanes: a live message of an event with queued recovery messages
+ * joins the recovery lane and a recovery message is not dispatched while older live messages of its event are queued.
+ */
+public class SessionMessageQueue implements SessionMessageQueueMBean {
+    private static final Logger logger = LoggerFactory.getLogger(SessionMessageQueue.class);
+    private static final String MBEAN_NAME_FORMAT = "com.sportradar.unifiedodds.sdk.impl:type=SessionMessageQueue,name=%s";
+
+    private final int capacity;
+    private final MessageQueueOverflowPolicy overflowPolicy;
+    private final boolean coalesceOddsChanges;
+    private final int liveLaneWeight;
+    private final String name;
+    private final QueuedMessageDispatcher dispatcher;
+
+    /**
+     * The queued messages, the {@link ArrayDeque} is used as a bounded ring buffer guarded by the {@link #lock}.
+     * When the priority lanes are enabled, the queue holds the live lane messages
+     */
+    private final ArrayDeque<QueuedMessage> queue;
+
+    /**
+     * The queued recovery lane messages, used only when the priority lanes are enabled
+     */
+    private final ArrayDeque<QueuedMessage> recoveryQueue = new ArrayDeque<>();
+
+    /**
+     * The number of queued messages of each event per lane, used to preserve the event ordering across the lanes
+     */
+    private final Map<String, Integer> liveLaneEvents = new HashMap<>();
+    private final Map<String, Integer> recoveryLaneEvents = new HashMap<>();
+
+    /**
+     * The number of live messages dispatched since the last recovery lane message
+     */
+    private int liveDispatchedInRow;
+
+    /**
+     * The most recently queued message of each event, used to coalesce the odds changes
+     */
+    private final Map<String, QueuedMessage> latestEventMessages = new HashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    private final AtomicLong enqueuedMessages = new AtomicLong();
+    private final AtomicLong dispatchedMessages = new AtomicLong();
+    private final AtomicLong droppedMessages = new AtomicLong();
+    private final AtomicLong coalescedMessages = new AtomicLong();
+    private final AtomicLong totalDispatchLatencyNanos = new AtomicLong();
+    private volatile long maxDispatchLatencyNanos;
+    private volatile long lastDispatchLatencyNanos;
+    private final LaneStatistics liveLaneStatistics = new LaneStatistics();
+    private final LaneStatistics recoveryLaneStatistics = new LaneStatistics();
+
+    private final BlockingTaskExecutorFactory executorFactory;
+    private ExecutorService executorService;
+    private ObjectName mbeanName;
+    private volatile Map<String, String> mdcContext;
+    private volatile boolean closed;
+
+    /**
+     * Initializes a new instance of the {@link SessionMessageQueue}
+     *
+     * @param capacity the maximum number of queued messages
+     * @param overflowPolicy the {@link MessageQueueOverflowPolicy} applied once the queue is full
+     * @param coalesceOddsChanges an indication if the odds changes should be coalesced whenever a backlog exists
+     * @param name the name of the queue, used to name the dispatching thread and the associated MBean
+     * @param dispatcher the {@link QueuedMessageDispatcher} which processes the dequeued messages
+     */
+    public SessionMessageQueue(int capacity, MessageQueueOverflowPolicy overflowPolicy, boolean coalesceOddsChanges, String name, QueuedMessageDispatcher dispatcher) {
+        this(capacity, overflowPolicy, coalesceOddsChanges, 0, name, dispatcher);
+    }
+
+    /**
+     * Initializes a new instance of the {@link SessionMessageQueue}
+     *
+     * @param capacity the maximum number of queued messages(both lanes together)
+     * @param overflowPolicy the {@link MessageQueueOverflowPolicy} applied once the queue is full
+     * @param coalesceOddsChanges an indication if the odds changes should be coalesced whenever a backlog exists
+     * @param liveLaneWeight the number of live messages dispatched for each recovery message while both lanes have
+     *                       a backlog, <code>0</code> disables the priority lanes
+     * @param name the name of the queue, used to name the dispatching thread and the associated MBean
+     * @param dispatcher the {@link QueuedMessageDispatcher} which processes the dequeued messages
+     */
+    public SessionMessageQueue(int capacity, MessageQueueOverflowPolicy overflowPolicy, boolean coalesceOddsChanges, int liveLaneWeight, String name, QueuedMessageDispatcher dispatcher) {
+        this(capacity, overflowPolicy, coalesceOddsChanges, liveLaneWeight, name, dispatcher, new DefaultBlockingTaskExecutorFactory(false));
+    }
+
+    /**
+     * Initializes a new instance of the {@link SessionMessageQueue}
+     *
+     * @param capacity the maximum number of queued messages(both lanes together)
+     * @param overflowPolicy the {@link MessageQueueOverflowPolicy} applied once the queue is full
+     * @param coalesceOddsChanges an indication if the odds changes should be coalesced whenever a backlog exists
+     * @param liveLaneWeight the number of live messages dispatched for each recovery message while both lanes have
+     *                       a backlog, <code>0</code> disables the priority lanes
+     * @param name the name of the queue, used to name the dispatching thread and the associated MBean
+     * @param dispatcher the {@link QueuedMessageDispatcher} which processes the dequeued messages
+     * @param executorFactory the {@link BlockingTaskExecutorFactory} which creates the executor of the dispatching thread
+     */
+    public SessionMessageQueue(int capacity, MessageQueueOverflowPolicy overflowPolicy, boolean coalesceOddsChanges, int liveLaneWeight, String name, QueuedMessageDispatcher dispatcher, BlockingTaskExecutorFactory executorFactory) {
+        Preconditions.checkArgument(capacity > 0, "the queue capacity must be positive");
+        Preconditions.checkArgument(liveLaneWeight >= 0, "the live lane weight can not be negative");
+        Preconditions.checkNotNull(overflowPolicy);
+        Preconditions.checkNotNull(name);
+        Preconditions.checkNotNull(dispatcher);
+        Preconditions.checkNotNull(executorFactory);
+
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.coalesceOddsChanges = coalesceOddsChanges;
+        this.liveLaneWeight = liveLaneWeight;
+        this.name = name;
+        this.dispatcher = dispatcher;
+        this.executorFactory = executorFactory;
+        this.queue = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Starts the dispatching thread and registers the queue statistics MBean
+     */
+    public synchronized void open() {
+        if (executorService != null) {
+            return;
+        }
+
+        closed = false;
+        executorService = executorFactory.createExecutor(name + "-dispatcher", 1);
+        executorService.submit(this::dispatchLoop);
+
+        try {
+            mbeanName = new ObjectName(String.format(MBEAN_NAME_FORMAT, ObjectName.quote(name)));
+            MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+            if (!mbeanServer.isRegistered(mbeanName)) {
+                mbeanServer.registerMBean(this, mbeanName);
+            }
+        } catch (MalformedObjectNameException | NotCompliantMBeanException | MBeanRegistrationException | InstanceAlreadyExistsException e) {
+            logger.warn("SessionMessageQueue statistics registration failed w/ ex.:", e);
+        }
+    }
+
+    /**
+     * Stops the dispatching thread, the messages which were not dispatched yet are discarded
+     */
+    public synchronized void close() {
+        if (executorService == null) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            closed = true;
+            queue.clear();
+            recoveryQueue.clear();
+            liveLaneEvents.clear();
+            recoveryLaneEvents.clear();
+            latestEventMessages.clear();
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        executorService.shutdownNow();
+        executorService = null;
+
+        try {
+            MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+            if (mbeanName != null && mbeanServer.isRegistered(mbeanName)) {
+                mbeanServer.unregisterMBean(mbeanName);
+            }
+        } catch (MBeanRegistrationException | InstanceNotFoundException e) {
+            logger.warn("SessionMessageQueue statistics unregistration failed w/ ex.:", e);
+        }
+    }
+
+    /**
+     * Queues the provided message, if the queue is full the configured {@link MessageQueueOverflowPolicy} is applied
+     *
+     * @param message the unmarshalled message
+     * @param body the raw message payload
+     * @param routingKeyInfo the {@link RoutingKeyInfo} of the message
+     * @param timestamp the message timestamps
+     */
+    public void enqueue(UnmarshalledMessage message, byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp) {
+        if (mdcContext == null) {
+            mdcContext = MDC.getCopyOfContextMap();
+        }
+
+        QueuedMessage queuedMessage = new QueuedMessage(message, body, routingKeyInfo, timestamp);
+
+        lock.lock();
+        try {
+            if (coalesceOddsChanges && !closed && tryCoalesce(queuedMessage)) {
+                return;
+            }
+
+            while (!closed && size() >= capacity) {
+                if (handleOverflow(queuedMessage)) {
+                    return;
+                }
+                if (size() >= capacity) {
+                    notFull.await();
+                }
+            }
+
+            if (closed) {
+                return;
+            }
+
+            addToLane(queuedMessage);
+            if (queuedMessage.eventKey != null) {
+                latestEventMessages.put(queuedMessage.eventKey, queuedMessage);
+            }
+            enqueuedMessages.incrementAndGet();
+            notEmpty.signal();
+        } catch (InterruptedException e) {
+            logger.warn("Interrupted while waiting for a free slot in {}, message {} dropped", name, message.getClass().getSimpleName());
+            droppedMessages.incrementAndGet();
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isPriorityLanesEnabled() {
+        return liveLaneWeight > 0;
+    }
+
+    @Override
+    public int getLiveLaneDepth() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getRecoveryLaneDepth() {
+        lock.lock();
+        try {
+            return recoveryQueue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the time the oldest queued live lane message is waiting to be dispatched(milliseconds)
+     *
+     * @return the current live lane lag(milliseconds), <code>0</code> if the lane is empty
+     */
+    @Override
+    public long getLiveLaneLag() {
+        return laneLag(queue);
+    }
+
+    /**
+     * Returns the time the oldest queued recovery lane message is waiting to be dispatched(milliseconds)
+     *
+     * @return the current recovery lane lag(milliseconds), <code>0</code> if the lane is empty
+     */
+    @Override
+    public long getRecoveryLaneLag() {
+        return laneLag(recoveryQueue);
+    }
+
+    @Override
+    public long getNumberOfLiveLaneDispatchedMessages() {
+        return liveLaneStatistics.dispatched.get();
+    }
+
+    @Override
+    public long getNumberOfRecoveryLaneDispatchedMessages() {
+        return recoveryLaneStatistics.dispatched.get();
+    }
+
+    /**
+     * Returns the average time the dispatched live lane messages spent in the queue(milliseconds)
+     *
+     * @return the average time the dispatched live lane messages spent in the queue(milliseconds)
+     */
+    @Override
+    public long getLiveLaneAverageDispatchLatency() {
+        return liveLaneStatistics.getAverageLatencyMillis();
+    }
+
+    /**
+     * Returns the average time the dispatched recovery lane messages spent in the queue(milliseconds)
+     *
+     * @return the average time the dispatched recovery lane messages spent in the queue(milliseconds)
+     */
+    @Override
+    public long getRecoveryLaneAverageDispatchLatency() {
+        return recoveryLaneStatistics.getAverageLatencyMillis();
+    }
+
+    @Override
+    public long getNumberOfEnqueuedMessages() {
+        return enqueuedMessages.get();
+    }
+
+    @Override
+    public long getNumberOfDispatchedMessages() {
+        return dispatchedMessages.get();
+    }
+
+    @Override
+    public long getNumberOfDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    @Override
+    public long getNumberOfCoalescedMessages() {
+        return coalescedMessages.get();
+    }
+
+    /**
+     * Returns the average time the dispatched messages spent in the queue(milliseconds)
+     *
+     * @return the average time the dispatched messages spent in the queue(milliseconds)
+     */
+    @Override
+    public long getAverageDispatchLatency() {
+        long dispatched = dispatchedMessages.get();
+        return dispatched == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalDispatchLatencyNanos.get() / dispatched);
+    }
+
+    /**
+     * Returns the longest time a dispatched message spent in the queue(milliseconds)
+     *
+     * @return the longest time a dispatched message spent in the queue(milliseconds)
+     */
+    @Override
+    public long getMaxDispatchLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(maxDispatchLatencyNanos);
+    }
+
+    /**
+     * Returns the time the last dispatched message spent in the queue(milliseconds)
+     *
+     * @return the time the last dispatched message spent in the queue(milliseconds)
+     */
+    @Override
+    public long getLastDispatchLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(lastDispatchLatencyNanos);
+    }
+
+    /**
+     * Applies the overflow policy to the provided message, must be invoked while holding the {@link #lock}
+     *
+     * @param incoming the message which should be queued
+     * @return <code>true</code> if the incoming message was handled(coalesced or dropped); otherwise <code>false</code>
+     */
+    private boolean handleOverflow(QueuedMessage incoming) {
+        switch (overflowPolicy) {
+            case CoalesceOddsChange:
+                if (tryCoalesce(incoming)) {
+                    return true;
+                }
+                break;
+            case DropOddsChange:
+                if (dropOddsChange()) {
+                    return false;
+                }
+                if (incoming.message instanceof UFOddsChange) {
+                    droppedMessages.incrementAndGet();
+                    logger.debug("Queue {} is full, dropping odds_change for {}", name, incoming.eventKey);
+                    return true;
+                }
+                break;
+            case Block:
+            default:
+                break;
+        }
+
+        return false;
+    }
+
+    /**
+     * Merges the provided odds change into the queued odds change of the same event and producer, if the queued
+     * odds change is the latest queued message of the event. Odds changes which are part of a recovery are never
+     * coalesced, neither are any other messages, so the ordering relative to them is preserved.
+     */
+    private boolean tryCoalesce(QueuedMessage incoming) {
+        if (!incoming.isCoalescable()) {
+            return false;
+        }
+
+        QueuedMessage latest = latestEventMessages.get(incoming.eventKey);
+        if (latest == null || !latest.isCoalescable() || latest.producerId != incoming.producerId) {
+            return false;
+        }
+
+        latest.supersede(incoming);
+        coalescedMessages.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Drops a queued odds_change to make room for a new message, must be invoked while holding the {@link #lock}.
+     * An odds_change superseded by a newer queued odds_change of the same event is dropped first, then the oldest
+     * recovery odds_change and only then the oldest live odds_change
+     */
+    private boolean dropOddsChange() {
+        return dropOddsChange(recoveryQueue, recoveryLaneEvents, findSupersededOddsChange(recoveryQueue))
+                || dropOddsChange(queue, liveLaneEvents, findSupersededOddsChange(queue))
+                || dropOddsChange(recoveryQueue, recoveryLaneEvents, findOldestOddsChange(recoveryQueue, false))
+                || dropOddsChange(queue, liveLaneEvents, findOldestOddsChange(queue, true))
+                || dropOddsChange(queue, liveLaneEvents, findOldestOddsChange(queue, false));
+    }
+
+    private boolean dropOddsChange(ArrayDeque<QueuedMessage> lane, Map<String, Integer> laneEvents, QueuedMessage dropped) {
+        if (dropped == null) {
+            return false;
+        }
+
+        lane.removeFirstOccurrence(dropped);
+        decrementEventCount(laneEvents, dropped.eventKey);
+        // the previous messages of the event are still queued, so coalescing into them is no longer possible
+        latestEventMessages.remove(dropped.eventKey, dropped);
+        droppedMessages.incrementAndGet();
+        logger.debug("Queue {} is full, dropped a queued odds_change for {}", name, dropped.eventKey);
+        return true;
+    }
+
+    /**
+     * Returns the newest odds_change of the provided lane which is followed by a newer odds_change of the same event
+     * and producer
+     */
+    private static QueuedMessage findSupersededOddsChange(ArrayDeque<QueuedMessage> lane) {
+        Set<String> newerOddsChangeEvents = new HashSet<>();
+        Iterator<QueuedMessage> iterator = lane.descendingIterator();
+        while (iterator.hasNext()) {
+            QueuedMessage queued = iterator.next();
+            if (queued.message instanceof UFOddsChange && queued.eventKey != null
+                    && !newerOddsChangeEvents.add(queued.eventKey + "/" + queued.producerId)) {
+                return queued;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the oldest odds_change of the provided lane, limited to the odds_changes of a recovery if requested
+     * (the recovery odds_changes share the lane with the live ones if the priority lanes are disabled)
+     */
+    private static QueuedMessage findOldestOddsChange(ArrayDeque<QueuedMessage> lane, boolean recoveryOnly) {
+        for (QueuedMessage queued : lane) {
+            if (queued.message instanceof UFOddsChange && (!recoveryOnly || queued.recovery)) {
+                return queued;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of queued messages in both lanes, must be invoked while holding the {@link #lock}
+     */
+    private int size() {
+        return queue.size() + recoveryQueue.size();
+    }
+
+    /**
+     * Queues the provided message to the proper lane, must be invoked while holding the {@link #lock}
+     */
+    private void addToLane(QueuedMessage message) {
+        if (liveLaneWeight == 0) {
+            queue.addLast(message);
+            return;
+        }
+
+        // a live message can not overtake the queued recovery messages of the same event
+        boolean recoveryLane = message.recovery
+                || (message.eventKey != null && recoveryLaneEvents.containsKey(message.eventKey));
+        message.recoveryLane = recoveryLane;
+        if (recoveryLane) {
+            recoveryQueue.addLast(message);
+            incrementEventCount(recoveryLaneEvents, message.eventKey);
+        } else {
+            queue.addLast(message);
+            incrementEventCount(liveLaneEvents, message.eventKey);
+        }
+    }
+
+    /**
+     * Removes the next message which should be dispatched, must be invoked while holding the {@link #lock}
+     */
+    private QueuedMessage pollNext() {
+        if (recoveryQueue.isEmpty()) {
+            QueuedMessage next = queue.pollFirst();
+            if (liveLaneWeight > 0) {
+                decrementEventCount(liveLaneEvents, next.eventKey);
+            }
+            return next;
+        }
+
+        QueuedMessage recoveryHead = recoveryQueue.peekFirst();
+        // the recovery message waits for the older live messages of its event
+        boolean recoveryHeadBlocked = recoveryHead.eventKey != null && liveLaneEvents.containsKey(recoveryHead.eventKey);
+        if (queue.isEmpty() || (liveDispatchedInRow >= liveLaneWeight && !recoveryHeadBlocked)) {
+            liveDispatchedInRow = 0;
+            recoveryQueue.pollFirst();
+            decrementEventCount(recoveryLaneEvents, recoveryHead.eventKey);
+            return recoveryHead;
+        }
+
+        liveDispatchedInRow++;
+        QueuedMessage next = queue.pollFirst();
+        decrementEventCount(liveLaneEvents, next.eventKey);
+        return next;
+    }
+
+    private long laneLag(ArrayDeque<QueuedMessage> lane) {
+        lock.lock();
+        try {
+            QueuedMessage head = lane.peekFirst();
+            return head == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - head.enqueuedAt);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void incrementEventCount(Map<String, Integer> laneEvents, String eventKey) {
+        if (eventKey != null) {
+            laneEvents.merge(eventKey, 1, Integer::sum);
+        }
+    }
+
+    private static void decrementEventCount(Map<String, Integer> laneEvents, String eventKey) {
+        if (eventKey != null) {
+            laneEvents.computeIfPresent(eventKey, (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    private void dispatchLoop() {
+        while (!closed) {
+            QueuedMessage next;
+            lock.lock();
+            try {
+                while (size() == 0 && !closed) {
+                    notEmpty.await();
+                }
+                if (closed) {
+                    return;
+                }
+
+                next = pollNext();
+                if (next.eventKey != null) {
+                    latestEventMessages.remove(next.eventKey, next);
+                }
+                notFull.signal();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            long latency = System.nanoTime() - next.enqueuedAt;
+            lastDispatchLatencyNanos = latency;
+            if (latency > maxDispatchLatencyNanos) {
+                maxDispatchLatencyNanos = latency;
+            }
+            totalDispatchLatencyNanos.addAndGet(latency);
+            dispatchedMessages.incrementAndGet();
+            if (liveLaneWeight > 0) {
+                (next.recoveryLane ? recoveryLaneStatistics : liveLaneStatistics).onDispatched(latency);
+            }
+
+            Map<String, String> context = mdcContext;
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                dispatcher.dispatch(next.message, next.body, next.routingKeyInfo, next.timestamp);
+            } catch (Exception e) {
+                logger.error(String.format("An exception occurred while dispatching queued message %s on %s", next.message.getClass().getSimpleName(), name), e);
+            }
+        }
+    }
+
+    /**
+     * Defines the processing of the dequeued messages
+     */
+    public interface QueuedMessageDispatcher {
+        void dispatch(UnmarshalledMessage message, byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp);
+    }
+
+    private static class LaneStatistics {
+        private final AtomicLong dispatched = new AtomicLong();
+        private final AtomicLong totalLatencyNanos = new AtomicLong();
+
+        void onDispatched(long latencyNanos) {
+            totalLatencyNanos.addAndGet(latencyNanos);
+            dispatched.incrementAndGet();
+        }
+
+        long getAverageLatencyMillis() {
+            long count = dispatched.get();
+            return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos.get() / count);
+        }
+    }
+
+    private static class QueuedMessage {
+        private final long enqueuedAt;
+        private final String eventKey;
+        private final int producerId;
+        private final boolean recovery;
+        private boolean recoveryLane;
+        private UnmarshalledMessage message;
+        private byte[] body;
+        private RoutingKeyInfo routingKeyInfo;
+        private MessageTimestamp timestamp;
+
+        QueuedMessage(UnmarshalledMessage message, byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp) {
+            this.enqueuedAt = System.nanoTime();
+            this.message = message;
+            this.body = body;
+            this.routingKeyInfo = routingKeyInfo;
+            this.timestamp = timestamp;
+
+            this.eventKey = routingKeyInfo.getEventId() == null ? null : routingKeyInfo.getEventId().toString();
+            this.producerId = FeedMessageHelper.provideProducerIdFromMessage(message);
+            this.recovery = FeedMessageHelper.provideRequestIdFromMessage(message) != null;
+        }
+
+        boolean isCoalescable() {
+            return eventKey != null
+                    && !recovery
+                    && message instanceof UFOddsChange;
+        }
+
+        /**
+         * Merges the provided newer odds change into the queued one, the queue position and enqueue time are kept.
+         * The raw body and timestamps of the newer message are exposed for the merged message.
+         */
+        void supersede(QueuedMessage newer) {
+            this.message = FeedMessageHelper.mergeOddsChanges((UFOddsChange) message, (UFOddsChange) newer.message);
+            this.body = newer.body;
+            this.routingKeyInfo = newer.routingKeyInfo;
+            this.timestamp = newer.timestamp;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+public interface SessionMessageQueueMBean {
+
+    public int getCapacity();
+
+    public int getQueueDepth();
+
+    public long getNumberOfEnqueuedMessages();
+
+    public long getNumberOfDispatchedMessages();
+
+    public long getNumberOfDroppedMessages();
+
+    public long getNumberOfCoalescedMessages();
+
+    public long getAverageDispatchLatency();
+
+    public long getMaxDispatchLatency();
+
+    public long getLastDispatchLatency();
+
+    public boolean isPriorityLanesEnabled();
+
+    public int getLiveLaneDepth();
+
+    public int getRecoveryLaneDepth();
+
+    public long getLiveLaneLag();
+
+    public long getRecoveryLaneLag();
+
+    public long getNumberOfLiveLaneDispatchedMessages();
+
+    public long getNumberOfRecoveryLaneDispatchedMessages();
+
+    public long getLiveLaneAverageDispatchLatency();
+
+    public long getRecoveryLaneAverageDispatchLatency();
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.unifiedodds.sdk.MessageQueueOverflowPolicy;
+
+import java.util.StringJoiner;
+
+/**
+ * The options used to set up an {@link OddsFeedSessionImpl}, the instances are immutable
+ */
+public class SessionOptions {
+    /**
+     * The options used by sessions which were not explicitly configured
+     */
+    public static final SessionOptions DEFAULT = new SessionOptions(0, MessageQueueOverflowPolicy.Block, false, 0, false, null);
+
+    /**
+     * The message queue capacity used when the odds change coalescing or the priority lanes are enabled without
+     * an explicit queue
+     */
+    static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    private final int messageQueueCapacity;
+    private final MessageQueueOverflowPolicy messageQueueOverflowPolicy;
+    private final boolean oddsChangeCoalescing;
+    private final int liveLaneWeight;
+    private final boolean oddsChangeDelta;
+    private final SessionPartition partition;
+
+    private SessionOptions(int messageQueueCapacity, MessageQueueOverflowPolicy messageQueueOverflowPolicy, boolean oddsChangeCoalescing, int liveLaneWeight, boolean oddsChangeDelta, SessionPartition partition) {
+        this.messageQueueCapacity = messageQueueCapacity;
+        this.messageQueueOverflowPolicy = messageQueueOverflowPolicy;
+        this.oddsChangeCoalescing = oddsChangeCoalescing;
+        this.liveLaneWeight = liveLaneWeight;
+        this.oddsChangeDelta = oddsChangeDelta;
+        this.partition = partition;
+    }
+
+    /**
+     * Returns a copy of the current options with the provided message queue settings
+     *
+     * @param capacity the maximum number of messages waiting to be dispatched, <code>0</code> disables the queue
+     * @param overflowPolicy the {@link MessageQueueOverflowPolicy} applied once the queue is full
+     * @return a copy of the current options with the provided message queue settings
+     */
+    public SessionOptions withMessageQueue(int capacity, MessageQueueOverflowPolicy overflowPolicy) {
+        Preconditions.checkArgument(capacity >= 0, "the message queue capacity can not be negative");
+        Preconditions.checkNotNull(overflowPolicy);
+
+        return new SessionOptions(capacity, overflowPolicy, oddsChangeCoalescing, liveLaneWeight, oddsChangeDelta, partition);
+    }
+
+    /**
+     * Returns a copy of the current options with the provided odds change coalescing mode
+     *
+     * @param coalesce an indication if the queued odds changes should be coalesced
+     * @return a copy of the current options with the provided odds change coalescing mode
+     */
+    public SessionOptions withOddsChangeCoalescing(boolean coalesce) {
+        return new SessionOptions(messageQueueCapacity, messageQueueOverflowPolicy, coalesce, liveLaneWeight, oddsChangeDelta, partition);
+    }
+
+    /**
+     * Returns a copy of the current options with the provided priority lanes settings
+     *
+     * @param liveLaneWeight the number of live messages dispatched for each recovery message while both lanes have
+     *                       a backlog, <code>0</code> disables the priority lanes
+     * @return a copy of the current options with the provided priority lanes settings
+     */
+    public SessionOptions withPriorityLanes(int liveLaneWeight) {
+        Preconditions.checkArgument(liveLaneWeight >= 0, "the live lane weight can not be negative");
+
+        return new SessionOptions(messageQueueCapacity, messageQueueOverflowPolicy, oddsChangeCoalescing, liveLaneWeight, oddsChangeDelta, partition);
+    }
+
+    /**
+     * Returns a copy of the current options with the provided odds change delta dispatch mode
+     *
+     * @param delta an indication if the odds changes should be dispatched with the changed outcomes only
+     * @return a copy of the current options with the provided odds change delta dispatch mode
+     */
+    public SessionOptions withOddsChangeDelta(boolean delta) {
+        return new SessionOptions(messageQueueCapacity, messageQueueOverflowPolicy, oddsChangeCoalescing, liveLaneWeight, delta, partition);
+    }
+
+    /**
+     * Returns a copy of the current options with the provided partition settings
+     *
+     * @param partitionIndex the zero based index of the partition consumed by the session
+     * @param partitionCount the number of partitions, <code>1</code> disables the partitioning
+     * @return a copy of the current options with the provided partition settings
+     */
+    public SessionOptions withPartition(int partitionIndex, int partitionCount) {
+        SessionPartition sessionPartition = partitionCount == 1 && partitionIndex == 0
+                ? null
+                : new SessionPartition(partitionIndex, partitionCount);
+
+        return new SessionOptions(messageQueueCapacity, messageQueueOverflowPolicy, oddsChangeCoalescing, liveLaneWeight, oddsChangeDelta, sessionPartition);
+    }
+
+    /**
+     * Returns the maximum number of messages waiting to be dispatched to the session listener
+     *
+     * @return the message queue capacity, <code>0</code> if the messages are dispatched on the AMQP consumer thread
+     */
+    public int getMessageQueueCapacity() {
+        if (messageQueueCapacity == 0 && (oddsChangeCoalescing || liveLaneWeight > 0)) {
+            return DEFAULT_QUEUE_CAPACITY;
+        }
+        return messageQueueCapacity;
+    }
+
+    /**
+     * Returns the policy applied once the message queue is full
+     *
+     * @return the policy applied once the message queue is full
+     */
+    public MessageQueueOverflowPolicy getMessageQueueOverflowPolicy() {
+        return messageQueueOverflowPolicy;
+    }
+
+    /**
+     * Indicates if the session messages are dispatched through a message queue
+     *
+     * @return <code>true</code> if the session uses a message queue; otherwise <code>false</code>
+     */
+    public boolean isMessageQueueEnabled() {
+        return getMessageQueueCapacity() > 0;
+    }
+
+    /**
+     * Indicates if the queued odds changes of the same event are coalesced whenever a backlog exists
+     *
+     * @return <code>true</code> if the odds changes are coalesced; otherwise <code>false</code>
+     */
+    public boolean isOddsChangeCoalescing() {
+        return oddsChangeCoalescing;
+    }
+
+    /**
+     * Returns the number of live messages dispatched for each recovery message while both priority lanes have a backlog
+     *
+     * @return the live lane weight, <code>0</code> if the priority lanes are disabled
+     */
+    public int getLiveLaneWeight() {
+        return liveLaneWeight;
+    }
+
+    /**
+     * Indicates if the odds changes are dispatched with the outcomes which changed since the previous odds change only
+     *
+     * @return <code>true</code> if the odds changes are dispatched as deltas; otherwise <code>false</code>
+     */
+    public boolean isOddsChangeDelta() {
+        return oddsChangeDelta;
+    }
+
+    /**
+     * Returns the partition of the events consumed by the session
+     *
+     * @return the {@link SessionPartition} consumed by the session, <code>null</code> if the session consumes all the events
+     */
+    public SessionPartition getPartition() {
+        return partition;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", SessionOptions.class.getSimpleName() + "[", "]")
+                .add("messageQueueCapacity=" + messageQueueCapacity)
+                .add("messageQueueOverflowPolicy=" + messageQueueOverflowPolicy)
+                .add("oddsChangeCoalescing=" + oddsChangeCoalescing)
+                .add("liveLaneWeight=" + liveLaneWeight)
+                .add("oddsChangeDelta=" + oddsChangeDelta)
+                .add("partition=" + partition)
+                .toString();
+    }
+}
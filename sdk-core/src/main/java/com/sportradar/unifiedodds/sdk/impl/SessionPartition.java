@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.sportradar.utils.URN;
+
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+/**
+ * A partition of the sport events consumed by a session. The events are assigned to the partitions by a consistent
+ * hash of their identifier, so all the nodes configured with the same partition count agree on the assignment and
+ * only a minimal share of the events is reassigned when the partition count changes.
+ */
+public final class SessionPartition {
+    private static final HashFunction EVENT_HASH = Hashing.murmur3_32();
+
+    private final int index;
+    private final int count;
+
+    /**
+     * Initializes a new {@link SessionPartition} instance
+     *
+     * @param index the zero based index of the partition
+     * @param count the number of partitions
+     */
+    public SessionPartition(int index, int count) {
+        Preconditions.checkArgument(count > 0, "the partition count must be positive");
+        Preconditions.checkArgument(index >= 0 && index < count, "the partition index must be between 0 and the partition count");
+
+        this.index = index;
+        this.count = count;
+    }
+
+    /**
+     * Returns the index of the partition to which the specified event is assigned
+     *
+     * @param eventId the {@link URN} identifier of the event
+     * @param count the number of partitions
+     * @return the zero based index of the partition to which the event is assigned
+     */
+    public static int partitionOf(URN eventId, int count) {
+        Preconditions.checkNotNull(eventId);
+        Preconditions.checkArgument(count > 0, "the partition count must be positive");
+
+        return Hashing.consistentHash(EVENT_HASH.hashString(eventId.toString(), StandardCharsets.UTF_8), count);
+    }
+
+    /**
+     * Indicates if the specified event is assigned to the partition
+     *
+     * @param eventId the {@link URN} identifier of the event
+     * @return <code>true</code> if the event is assigned to the partition; otherwise <code>false</code>
+     */
+    public boolean contains(URN eventId) {
+        return count == 1 || partitionOf(eventId, count) == index;
+    }
+
+    /**
+     * Returns the zero based index of the partition
+     *
+     * @return the zero based index of the partition
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the number of partitions
+     *
+     * @return the number of partitions
+     */
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", SessionPartition.class.getSimpleName() + "[", "]")
+                .add("index=" + index)
+                .add("count=" + count)
+                .toString();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.utils.URN;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps the partitions of the sessions created on the current node, so the caches populated from the API schedules
+ * can skip the events which are consumed by other nodes. The node consumes all the events until a partitioned
+ * session is registered and keeps doing so if any of its sessions is not partitioned.
+ */
+public class SessionPartitions {
+    private final List<SessionPartition> partitions = new CopyOnWriteArrayList<>();
+    private volatile boolean unpartitionedSessionRegistered;
+
+    /**
+     * Registers the partition of a created session
+     *
+     * @param partition the {@link SessionPartition} of the session or <code>null</code> if the session is not partitioned
+     */
+    public void register(SessionPartition partition) {
+        if (partition == null) {
+            unpartitionedSessionRegistered = true;
+        } else {
+            partitions.add(partition);
+        }
+    }
+
+    /**
+     * Indicates if the specified event is consumed by any of the sessions on the current node
+     *
+     * @param eventId the {@link URN} identifier of the event
+     * @return <code>true</code> if the event is consumed on the current node; otherwise <code>false</code>
+     */
+    public boolean isLocalEvent(URN eventId) {
+        if (unpartitionedSessionRegistered || partitions.isEmpty()) {
+            return true;
+        }
+        for (SessionPartition partition : partitions) {
+            if (partition.contains(eventId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -5,6 +5,8 @@
 package com.sportradar.unifiedodds.sdk.impl;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.inject.Inject;
 import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
@@ -22,6 +24,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -29,6 +35,17 @@ import java.util.stream.Collectors;
  */
 public class SportEntityFactoryImpl implements SportEntityFactory {
     private final static Logger logger = LoggerFactory.getLogger(SportEntityFactoryImpl.class);
+
+    /**
+     * The maximum number of events for which the built sport event entities are retained
+     */
+    private static final int SPORT_EVENT_ENTITY_CACHE_SIZE = 10_000;
+
+    /**
+     * The number of minutes after the last access after which a retained sport event entity is dropped
+     */
+    private static final int SPORT_EVENT_ENTITY_CACHE_EXPIRATION_MINUTES = 60;
+
     /**
      * A {@link SportsDataCache} instance used to retrieve sport related info
      */
@@ -66,6 +83,16 @@ public class SportEntityFactoryImpl implements SportEntityFactory {
 
     private final List<URN> soccerSportUrns = new ArrayList<URN>(Arrays.asList(URN.parse("sr:sport:1"), URN.parse("sr:sport:137")));
 
+    /**
+     * The already built sport event entities, keyed by the event id and the requested sport id and locales. The entities
+     * are thin handles which read everything through the caches, so the same instance can be returned for each message
+     * of the event until the associated cache item is purged
+     */
+    private final Cache<URN, EventEntities> sportEventEntities = CacheBuilder.newBuilder()
+            .maximumSize(SPORT_EVENT_ENTITY_CACHE_SIZE)
+            .expireAfterAccess(SPORT_EVENT_ENTITY_CACHE_EXPIRATION_MINUTES, TimeUnit.MINUTES)
+            .build();
+
     /**
      * Initializes a new instance of the {@link SportEntityFactoryImpl}
      *
@@ -97,6 +124,8 @@ public class SportEntityFactoryImpl implements SportEntityFactory {
         this.mappingTypeProvider = mappingTypeProvider;
         this.exceptionHandlingStrategy = oddsFeedConfiguration.getExceptionHandlingStrategy();
         this.defaultLocale = oddsFeedConfiguration.getDefaultLocale();
+
+        sportEventCache.addCacheItemPurgeListener(this::purgeSportEventEntities);
     }
 
     /**
@@ -347,7 +376,24 @@ public class SportEntityFactoryImpl implements SportEntityFactory {
         Optional<Class> mappingType = mappingTypeProvider.getMappingType(id);
 
         if (mappingType.isPresent()) {
-            return buildEntityWithType(mappingType.get(), id, sportId, locales);
+            SportEventEntityKey key = new SportEventEntityKey(sportId, locales);
+            EventEntities eventEntities;
+            try {
+                eventEntities = sportEventEntities.get(id, EventEntities::new);
+            } catch (ExecutionException e) {
+                // the value loader can not fail
+                return buildEntityWithType(mappingType.get(), id, sportId, locales);
+            }
+
+            SportEvent entity = eventEntities.get(key);
+            if (entity != null) {
+                return entity;
+            }
+
+            // the generation is read before the entity is built, so a purge during the build is not lost
+            long generation = eventEntities.getGeneration();
+            entity = buildEntityWithType(mappingType.get(), id, sportId, locales);
+            return eventEntities.retain(key, entity, generation);
         }
 
         if (buildBasicEventImpl) {
@@ -358,6 +404,19 @@ public class SportEntityFactoryImpl implements SportEntityFactory {
         throw new ObjectNotFoundException("The requested sport event[" + id + "] could not be built - unknown mapping type");
     }
 
+    /**
+     * Drops the retained entities of the purged event
+     *
+     * @param id the id of the purged event
+     */
+    private void purgeSportEventEntities(URN id) {
+        EventEntities eventEntities = sportEventEntities.getIfPresent(id);
+        if (eventEntities != null) {
+            eventEntities.purge();
+            sportEventEntities.invalidate(id);
+        }
+    }
+
     private SportEvent buildEntityWithType(Class type, URN id, URN sportId, List<Locale> locales) throws ObjectNotFoundException {
         Preconditions.checkNotNull(type);
         Preconditions.checkNotNull(id);
@@ -489,4 +548,64 @@ public class SportEntityFactoryImpl implements SportEntityFactory {
                 categoryCI.getNames(locales),
                 categoryCI.getCountryCode());
     }
+
+    /**
+     * The key of a built sport event entity, besides the event id the entity depends on the requested sport id and locales
+     */
+    /**
+     * The retained entities of a single event and the generation of the event, advanced on each purge of the event.
+     * An entity is retained only if the event was not purged since its build started
+     */
+    private static final class EventEntities {
+        private final ConcurrentMap<SportEventEntityKey, SportEvent> entities = new ConcurrentHashMap<>();
+        private long generation;
+
+        SportEvent get(SportEventEntityKey key) {
+            return entities.get(key);
+        }
+
+        synchronized long getGeneration() {
+            return generation;
+        }
+
+        synchronized SportEvent retain(SportEventEntityKey key, SportEvent entity, long builtGeneration) {
+            if (generation != builtGeneration) {
+                return entity;
+            }
+            SportEvent existing = entities.putIfAbsent(key, entity);
+            return existing == null ? entity : existing;
+        }
+
+        synchronized void purge() {
+            generation++;
+            entities.clear();
+        }
+    }
+
+    private static final class SportEventEntityKey {
+        private final URN sportId;
+        private final List<Locale> locales;
+
+        SportEventEntityKey(URN sportId, List<Locale> locales) {
+            this.sportId = sportId;
+            this.locales = new ArrayList<>(locales);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SportEventEntityKey)) {
+                return false;
+            }
+            SportEventEntityKey that = (SportEventEntityKey) o;
+            return Objects.equals(sportId, that.sportId) && locales.equals(that.locales);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sportId, locales);
+        }
+    }
 }
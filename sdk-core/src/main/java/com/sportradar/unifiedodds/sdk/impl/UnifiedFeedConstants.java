@@ -13,6 +13,7 @@ public final class UnifiedFeedConstants {
     public static final int UNKNOWN_PRODUCER_ID = 99;
     public static final String SPECIFIERS_DELIMITER = "\\|";
     public static final String MARKET_GROUPS_DELIMITER = "\\|";
+    public static final String MARKET_GROUPS_ALL = "all";
     public static final String MARKET_MAPPING_PRODUCTS_DELIMITER = "\\|";
     public static final String VARIANT_DESCRIPTION_NAME = "variant";
     public static final String OUTCOMETEXT_VARIANT_VALUE = "pre:outcometext"; // "playerprops" tag
@@ -20,6 +21,7 @@ public final class UnifiedFeedConstants {
     public static final String PLAYER_PROPS_MARKET_GROUP = "player_props";
     public static final String FLEX_SCORE_MARKET_ATTRIBUTE_NAME = "is_flex_score";
     public static final String PLAYER_URN_TYPE = "player";
+    public static final String EVENT_ROUTING_KEY_TEMPLATE = "#.%s:%s.%d";
     //public static final String SIMPLETEAM_URN_TYPE = "simpleteam";
 
     private UnifiedFeedConstants() {}
@@ -14,6 +14,7 @@ import com.sportradar.unifiedodds.sdk.LoggerDefinitions;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
+import com.sportradar.unifiedodds.sdk.impl.ApiRequestScheduler;
 import com.sportradar.unifiedodds.sdk.impl.Deserializer;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.*;
@@ -34,16 +35,19 @@ public class HttpHelper {
     private final SDKInternalConfiguration config;
     private final CloseableHttpClient httpClient;
     private final Deserializer apiDeserializer;
+    private final ApiRequestScheduler requestScheduler;
 
     @Inject
-    public HttpHelper(SDKInternalConfiguration config, CloseableHttpClient httpClient, @Named("SportsApiJaxbDeserializer") Deserializer apiDeserializer) {
+    public HttpHelper(SDKInternalConfiguration config, CloseableHttpClient httpClient, @Named("SportsApiJaxbDeserializer") Deserializer apiDeserializer, ApiRequestScheduler requestScheduler) {
         Preconditions.checkNotNull(config);
         Preconditions.checkNotNull(httpClient);
         Preconditions.checkNotNull(apiDeserializer);
+        Preconditions.checkNotNull(requestScheduler);
 
         this.config = config;
         this.httpClient = httpClient;
         this.apiDeserializer = apiDeserializer;
+        this.requestScheduler = requestScheduler;
     }
 
     public ResponseData post(String path) throws CommunicationException {
@@ -90,6 +94,7 @@ public class HttpHelper {
         ResponseData responseData;
         try {
             httpRequest.addHeader("x-access-token", config.getAccessToken());
+            requestScheduler.acquire(path);
             resp = httpClient.execute(httpRequest);
 
             statusCode = resp.getStatusLine().getStatusCode();
@@ -54,11 +54,6 @@ public class MatchImpl extends SportEventImpl implements Match {
      */
     private final SportEntityFactory sportEntityFactory;
 
-    /**
-     * A {@link MatchStatus} containing information about the progress of the match associated with the current instance
-     */
-    private MatchStatus status;
-
     /**
      * An indication of which exception handling strategy should be used by the instance
      */
@@ -100,10 +95,7 @@ public class MatchImpl extends SportEventImpl implements Match {
      */
     @Override
     public MatchStatus getStatus() {
-        if (status == null) {
-            status = sportEventStatusFactory.buildSportEventStatus(id, MatchStatus.class, true);
-        }
-        return status;
+        return sportEventStatusFactory.buildSportEventStatus(id, MatchStatus.class, true);
     }
 
     /**
@@ -115,13 +107,8 @@ public class MatchImpl extends SportEventImpl implements Match {
      */
     @Override
     public Optional<CompetitionStatus> getStatusIfPresent()  {
-        if (status == null) {
-            status = sportEventStatusFactory.buildSportEventStatus(id, MatchStatus.class, false);
-        }
-        if(status == null) {
-            return Optional.empty();
-        }
-        return Optional.of(status);
+        MatchStatus status = sportEventStatusFactory.buildSportEventStatus(id, MatchStatus.class, false);
+        return Optional.ofNullable(status);
     }
 
     /**
@@ -29,11 +29,6 @@ public class SoccerEventImpl extends MatchImpl implements SoccerEvent {
      */
     private final SportEventStatusFactory sportEventStatusFactory;
 
-    /**
-     * A {@link MatchStatus} containing information about the progress of the match associated with the current instance
-     */
-    private SoccerStatus status;
-
     /**
      * Initializes a new instance of the {@link SoccerEventImpl}
      *
@@ -62,11 +57,7 @@ public class SoccerEventImpl extends MatchImpl implements SoccerEvent {
      */
     @Override
     public SoccerStatus getStatus() {
-        if (status == null) {
-            status = sportEventStatusFactory.buildSportEventStatus(id, SoccerStatus.class, true);
-        }
-
-        return status;
+        return sportEventStatusFactory.buildSportEventStatus(id, SoccerStatus.class, true);
     }
 
     /**
@@ -78,12 +69,7 @@ public class SoccerEventImpl extends MatchImpl implements SoccerEvent {
      */
     @Override
     public Optional<CompetitionStatus> getStatusIfPresent()  {
-        if (status == null) {
-            status = sportEventStatusFactory.buildSportEventStatus(id, SoccerStatus.class, false);
-        }
-        if(status == null) {
-            return Optional.empty();
-        }
-        return Optional.of(status);
+        SoccerStatus status = sportEventStatusFactory.buildSportEventStatus(id, SoccerStatus.class, false);
+        return Optional.ofNullable(status);
     }
 }
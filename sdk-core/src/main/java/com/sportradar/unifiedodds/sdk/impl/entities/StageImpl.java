@@ -51,11 +51,6 @@ public class StageImpl extends SportEventImpl implements Stage {
      */
     private final SportEntityFactory sportEntityFactory;
 
-    /**
-     * A {@link StageStatus} containing information about the progress of the event associated with the current instance
-     */
-    private StageStatus status;
-
     /**
      * The exception strategy that should be used within the instance
      */
@@ -239,11 +234,7 @@ public class StageImpl extends SportEventImpl implements Stage {
             return null;
         }
 
-        if (status == null) {
-            status = sportEventStatusFactory.buildSportEventStatus(id, StageStatus.class, true);
-        }
-
-        return status;
+        return sportEventStatusFactory.buildSportEventStatus(id, StageStatus.class, true);
     }
 
     /**
@@ -255,13 +246,8 @@ public class StageImpl extends SportEventImpl implements Stage {
      */
     @Override
     public Optional<CompetitionStatus> getStatusIfPresent()  {
-        if (status == null) {
-            status = sportEventStatusFactory.buildSportEventStatus(id, StageStatus.class, false);
-        }
-        if(status == null) {
-            return Optional.empty();
-        }
-        return Optional.of(status);
+        StageStatus status = sportEventStatusFactory.buildSportEventStatus(id, StageStatus.class, false);
+        return Optional.ofNullable(status);
     }
 
     /**
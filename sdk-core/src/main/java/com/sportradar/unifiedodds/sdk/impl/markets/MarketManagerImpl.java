@@ -22,6 +22,7 @@ import com.sportradar.unifiedodds.sdk.entities.markets.MarketMappingData;
 import com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CacheItemNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.IllegalCacheStateException;
+import com.sportradar.unifiedodds.sdk.impl.BlockingTaskExecutorFactory;
 import com.sportradar.unifiedodds.sdk.oddsentities.Market;
 import com.sportradar.unifiedodds.sdk.oddsentities.Producer;
 import com.sportradar.utils.SdkHelper;
@@ -31,7 +32,6 @@ import org.slf4j.LoggerFactory;
 import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -44,17 +44,20 @@ public class MarketManagerImpl implements MarketDescriptionManager {
     private final VariantDescriptionCache variantMarketDescriptionListCache;
     private final MarketDescriptionCache variantMarketDescriptionCache;
     private final ExceptionHandlingStrategy exceptionHandlingStrategy;
+    private final BlockingTaskExecutorFactory executorFactory;
 
     @Inject
     public MarketManagerImpl(SDKInternalConfiguration config,
                              MarketDescriptionProvider marketDescriptionProvider,
                              @Named("InvariantMarketCache") InvariantMarketDescriptionCache invariantMarketDescriptionCache,
                              VariantDescriptionCache variantMarketDescriptionListCache,
-                             @Named("VariantMarketCache") MarketDescriptionCache variantMarketDescriptionCache) {
+                             @Named("VariantMarketCache") MarketDescriptionCache variantMarketDescriptionCache,
+                             BlockingTaskExecutorFactory executorFactory) {
         Preconditions.checkNotNull(config);
         Preconditions.checkNotNull(marketDescriptionProvider);
         Preconditions.checkNotNull(invariantMarketDescriptionCache);
         Preconditions.checkNotNull(variantMarketDescriptionCache);
+        Preconditions.checkNotNull(executorFactory);
 
         this.config = config;
         this.marketDescriptionProvider = marketDescriptionProvider;
@@ -62,6 +65,7 @@ public class MarketManagerImpl implements MarketDescriptionManager {
         this.variantMarketDescriptionListCache = variantMarketDescriptionListCache;
         this.variantMarketDescriptionCache = variantMarketDescriptionCache;
         this.exceptionHandlingStrategy = config.getExceptionHandlingStrategy();
+        this.executorFactory = executorFactory;
     }
 
     /**
@@ -227,7 +231,7 @@ public class MarketManagerImpl implements MarketDescriptionManager {
      *
      * @param markets the list of markets to be checked and fetched
      * @param onlyVariantMarkets prefetch only variant markets or all markets in the list (default: true)
-     * @param threadPoolSize the size of the fixed thread pool (default: 100)
+     * @param threadPoolSize the size of the fixed thread pool (default: 100), not used if the SDK runs the blocking work on virtual threads
      * @return the time needed for processing in ms
      */
     @Override
@@ -238,7 +242,7 @@ public class MarketManagerImpl implements MarketDescriptionManager {
         }
 
         Stopwatch stopwatch = Stopwatch.createStarted();
-        ExecutorService threadPool = Executors.newFixedThreadPool(threadPoolSize);
+        ExecutorService threadPool = executorFactory.createExecutor("MarketDescriptionPrefetch", threadPoolSize);
         List<Callable<String>> tasks = new ArrayList<>();
         for (Market market : markets) {
             if(onlyVariantMarkets) {
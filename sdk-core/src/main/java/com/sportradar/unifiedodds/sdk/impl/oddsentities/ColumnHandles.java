@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.oddsentities;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps the specifiers and outcome ids to int handles within a single scope(a message, the odds book of an event, ...),
+ * the handles are assigned on the first use and released together with the instance. The handle 0 represents a
+ * missing value.
+ *
+ * The handles are assigned under the instance lock, the values of the assigned handles are resolved lock free.
+ */
+public final class ColumnHandles {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, Integer> handles = new HashMap<>();
+    private volatile String[] values = new String[INITIAL_CAPACITY];
+    private int nextHandle = 1;
+
+    public synchronized int handleOf(String value) {
+        if (value == null) {
+            return 0;
+        }
+
+        Integer handle = handles.get(value);
+        if (handle != null) {
+            return handle;
+        }
+
+        int newHandle = nextHandle++;
+        String[] current = values;
+        if (newHandle == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[newHandle] = value;
+        // the array is published before the handle, so a handle is always resolvable
+        values = current;
+        handles.put(value, newHandle);
+        return newHandle;
+    }
+
+    public String valueOf(int handle) {
+        return handle == 0 ? null : values[handle];
+    }
+}
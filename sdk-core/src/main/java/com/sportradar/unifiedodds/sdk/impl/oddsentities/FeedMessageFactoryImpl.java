@@ -80,6 +80,13 @@ public class FeedMessageFactoryImpl implements FeedMessageFactory {
         return new OddsChangeImpl<>(sportEvent, message, producerManager.getProducer(message.getProduct()), rawMessage, marketFactory, namedValuesProvider, message.getOddsGenerationProperties(), timestamp);
     }
 
+    @Override
+    public <T extends SportEvent> OddsChange<T> buildOddsChangeDelta(T sportEvent, UFOddsChange delta, UFOddsChange message, byte[] rawMessage, MessageTimestamp timestamp) {
+        Producer producer = producerManager.getProducer(message.getProduct());
+        return new OddsChangeDeltaImpl<>(sportEvent, delta, producer, rawMessage, marketFactory, namedValuesProvider, delta.getOddsGenerationProperties(), timestamp,
+                () -> new OddsChangeImpl<>(sportEvent, message, producer, rawMessage, marketFactory, namedValuesProvider, message.getOddsGenerationProperties(), timestamp));
+    }
+
     @Override
     public <T extends SportEvent> RollbackBetCancel<T> buildRollbackBetCancel(T sportEvent, UFRollbackBetCancel message, byte[] rawMessage, MessageTimestamp timestamp) {
         return new RollbackBetCancelImpl<>(sportEvent, message, producerManager.getProducer(message.getProduct()), rawMessage, marketFactory, timestamp);
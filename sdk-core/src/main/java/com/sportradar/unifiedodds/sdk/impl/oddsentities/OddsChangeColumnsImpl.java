@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.oddsentities;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.uf.datamodel.UFOddsChangeMarket;
+import com.sportradar.uf.datamodel.UFOutcomeActive;
+import com.sportradar.unifiedodds.sdk.oddsentities.MarketStatus;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsChangeColumns;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsDisplayType;
+import com.sportradar.utils.SdkHelper;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An {@link OddsChangeColumns} built from the markets of the {@link UFOddsChange} message
+ */
+public class OddsChangeColumnsImpl implements OddsChangeColumns {
+    private final int[] marketIds;
+    private final int[] specifiersHandles;
+    private final MarketStatus[] marketStatuses;
+    private final int[] outcomeOffsets;
+
+    private final int[] outcomeIdHandles;
+    private final double[] odds;
+    private final double[] americanOdds;
+    private final double[] probabilities;
+    private final boolean[] active;
+    private final ColumnHandles handles;
+
+    OddsChangeColumnsImpl(UFOddsChange message) {
+        this(new Builder(new ColumnHandles(), countMarkets(message), countOutcomes(message)).addMarkets(message));
+    }
+
+    protected OddsChangeColumnsImpl(Builder builder) {
+        Preconditions.checkNotNull(builder);
+        Preconditions.checkArgument(builder.marketIndex == builder.marketIds.length, "Not all the markets were added");
+        Preconditions.checkArgument(builder.outcomeIndex == builder.odds.length, "Not all the outcomes were added");
+
+        marketIds = builder.marketIds;
+        specifiersHandles = builder.specifiersHandles;
+        marketStatuses = builder.marketStatuses;
+        outcomeOffsets = builder.outcomeOffsets;
+        outcomeIdHandles = builder.outcomeIdHandles;
+        odds = builder.odds;
+        americanOdds = new double[odds.length];
+        for (int i = 0; i < odds.length; i++) {
+            Double us = SdkHelper.convertEuOddsToUs(odds[i]);
+            americanOdds[i] = us == null ? Double.NaN : us;
+        }
+        probabilities = builder.probabilities;
+        active = builder.active;
+        handles = builder.handles;
+    }
+
+    @Override
+    public int getMarketCount() {
+        return marketIds.length;
+    }
+
+    @Override
+    public int getMarketId(int marketIndex) {
+        return marketIds[marketIndex];
+    }
+
+    @Override
+    public int getSpecifiersHandle(int marketIndex) {
+        return specifiersHandles[marketIndex];
+    }
+
+    @Override
+    public MarketStatus getMarketStatus(int marketIndex) {
+        return marketStatuses[marketIndex];
+    }
+
+    @Override
+    public int getFirstOutcome(int marketIndex) {
+        return outcomeOffsets[marketIndex];
+    }
+
+    @Override
+    public int getLastOutcome(int marketIndex) {
+        return outcomeOffsets[marketIndex + 1];
+    }
+
+    @Override
+    public int getOutcomeCount() {
+        return odds.length;
+    }
+
+    @Override
+    public int getOutcomeIdHandle(int outcomeIndex) {
+        return outcomeIdHandles[outcomeIndex];
+    }
+
+    @Override
+    public double getOdds(int outcomeIndex) {
+        return odds[outcomeIndex];
+    }
+
+    @Override
+    public double getOdds(int outcomeIndex, OddsDisplayType oddsDisplayType) {
+        return oddsDisplayType == OddsDisplayType.American ? americanOdds[outcomeIndex] : odds[outcomeIndex];
+    }
+
+    @Override
+    public double getProbability(int outcomeIndex) {
+        return probabilities[outcomeIndex];
+    }
+
+    @Override
+    public boolean isActive(int outcomeIndex) {
+        return active[outcomeIndex];
+    }
+
+    @Override
+    public String resolveHandle(int handle) {
+        return handles.valueOf(handle);
+    }
+
+    private static List<UFOddsChangeMarket> marketsOf(UFOddsChange message) {
+        return message.getOdds() == null || message.getOdds().getMarket() == null
+                ? Collections.emptyList()
+                : message.getOdds().getMarket();
+    }
+
+    private static int countMarkets(UFOddsChange message) {
+        Preconditions.checkNotNull(message);
+
+        return marketsOf(message).size();
+    }
+
+    private static int countOutcomes(UFOddsChange message) {
+        int outcomeCount = 0;
+        for (UFOddsChangeMarket market : marketsOf(message)) {
+            outcomeCount += market.getOutcome().size();
+        }
+        return outcomeCount;
+    }
+
+    /**
+     * Fills the columns market by market, the number of markets and outcomes must be known up-front. The provided
+     * handles must be resolvable by the {@link ColumnHandles} of the builder
+     */
+    public static class Builder {
+        private final ColumnHandles handles;
+        private final int[] marketIds;
+        private final int[] specifiersHandles;
+        private final MarketStatus[] marketStatuses;
+        private final int[] outcomeOffsets;
+        private final int[] outcomeIdHandles;
+        private final double[] odds;
+        private final double[] probabilities;
+        private final boolean[] active;
+        private int marketIndex;
+        private int outcomeIndex;
+
+        public Builder(ColumnHandles handles, int marketCount, int outcomeCount) {
+            Preconditions.checkNotNull(handles);
+
+            this.handles = handles;
+            marketIds = new int[marketCount];
+            specifiersHandles = new int[marketCount];
+            marketStatuses = new MarketStatus[marketCount];
+            outcomeOffsets = new int[marketCount + 1];
+            outcomeIdHandles = new int[outcomeCount];
+            odds = new double[outcomeCount];
+            probabilities = new double[outcomeCount];
+            active = new boolean[outcomeCount];
+        }
+
+        /**
+         * Starts the next market, the following outcomes belong to it
+         */
+        public Builder addMarket(int marketId, int specifiersHandle, MarketStatus status) {
+            marketIds[marketIndex] = marketId;
+            specifiersHandles[marketIndex] = specifiersHandle;
+            marketStatuses[marketIndex] = status;
+            outcomeOffsets[marketIndex] = outcomeIndex;
+            marketIndex++;
+            outcomeOffsets[marketIndex] = outcomeIndex;
+            return this;
+        }
+
+        public Builder addOutcome(int outcomeIdHandle, double outcomeOdds, double probability, boolean isActive) {
+            outcomeIdHandles[outcomeIndex] = outcomeIdHandle;
+            odds[outcomeIndex] = outcomeOdds;
+            probabilities[outcomeIndex] = probability;
+            active[outcomeIndex] = isActive;
+            outcomeIndex++;
+            outcomeOffsets[marketIndex] = outcomeIndex;
+            return this;
+        }
+
+        private Builder addMarkets(UFOddsChange message) {
+            for (UFOddsChangeMarket market : marketsOf(message)) {
+                addMarket(market.getId(), handles.handleOf(market.getSpecifiers()), MarketStatus.fromFeedValue(market.getStatus()));
+                for (UFOddsChangeMarket.UFOutcome outcome : market.getOutcome()) {
+                    addOutcome(handles.handleOf(outcome.getId()),
+                            outcome.getOdds() == null ? Double.NaN : outcome.getOdds(),
+                            outcome.getProbabilities() == null ? Double.NaN : outcome.getProbabilities(),
+                            outcome.getActive() == null || outcome.getActive() == UFOutcomeActive.ACTIVE);
+                }
+            }
+            return this;
+        }
+    }
+}
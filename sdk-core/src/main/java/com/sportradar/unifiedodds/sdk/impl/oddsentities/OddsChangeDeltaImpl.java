@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.oddsentities;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.uf.datamodel.UFOddsGenerationProperties;
+import com.sportradar.unifiedodds.sdk.caching.NamedValuesProvider;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.unifiedodds.sdk.impl.oddsentities.markets.MarketFactory;
+import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsChange;
+import com.sportradar.unifiedodds.sdk.oddsentities.Producer;
+
+/**
+ * An {@link OddsChange} built from the markets and outcomes which changed since the previous odds change of the
+ * event, the complete odds change is built on the first access
+ */
+class OddsChangeDeltaImpl<T extends SportEvent> extends OddsChangeImpl<T> {
+    private final Supplier<OddsChange<T>> fullOddsChange;
+
+    OddsChangeDeltaImpl(T sportEvent, UFOddsChange delta, Producer producer, byte[] rawMessage, MarketFactory marketFactory, NamedValuesProvider namedValuesProvider, UFOddsGenerationProperties oddsGenerationProperties, MessageTimestamp timestamp, Supplier<OddsChange<T>> fullOddsChange) {
+        super(sportEvent, delta, producer, rawMessage, marketFactory, namedValuesProvider, oddsGenerationProperties, timestamp);
+        Preconditions.checkNotNull(fullOddsChange);
+
+        this.fullOddsChange = Suppliers.memoize(fullOddsChange);
+    }
+
+    /**
+     * Indicates if the message contains only the markets and outcomes which changed since the previous odds change
+     *
+     * @return <code>true</code>
+     */
+    @Override
+    public boolean isDelta() { return true; }
+
+    /**
+     * Returns the complete odds change as received from the feed
+     *
+     * @return the complete odds change as received from the feed
+     */
+    @Override
+    public OddsChange<T> getFullOddsChange() { return fullOddsChange.get(); }
+}
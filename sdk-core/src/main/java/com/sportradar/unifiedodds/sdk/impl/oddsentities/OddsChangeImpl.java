@@ -5,6 +5,8 @@
 package com.sportradar.unifiedodds.sdk.impl.oddsentities;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.sportradar.uf.datamodel.UFOddsChange;
 import com.sportradar.uf.datamodel.UFOddsGenerationProperties;
 import com.sportradar.unifiedodds.sdk.caching.NamedValuesProvider;
@@ -30,7 +32,8 @@ class OddsChangeImpl<T extends SportEvent> extends EventMessageImpl<T> implement
     private final OddsChangeReason oddsChangeReason;
     private final Integer betstopReason;
     private final Integer bettingStatus;
-    private final List<MarketWithOdds> affectedMarkets;
+    private final Supplier<List<MarketWithOdds>> affectedMarkets;
+    private final Supplier<OddsChangeColumns> oddsColumns;
     private final NamedValuesProvider namedValuesProvider;
     private final OddsGeneration oddsGeneration;
 
@@ -59,23 +62,25 @@ class OddsChangeImpl<T extends SportEvent> extends EventMessageImpl<T> implement
             bettingStatus = message.getOdds().getBettingStatus();
 
             if (message.getOdds().getMarket() != null) {
-                affectedMarkets = message.getOdds().getMarket().stream()
+                // the markets are built on the first access, so they are not built if only the columnar view is used
+                affectedMarkets = Suppliers.memoize(() -> message.getOdds().getMarket().stream()
                         .map(m -> marketFactory.buildMarketWithOdds(sportEvent, m, message.getProduct()))
                         .filter(Optional::isPresent)
                         .map(Optional::get)
-                        .collect(Collectors.toList());
+                        .collect(Collectors.toList()));
             } else {
                 logger.info("Processing oddsChange message with empty odds list. sportEvent:{}, producer:{}", sportEvent.getId(), producer);
-                affectedMarkets = Collections.emptyList();
+                affectedMarkets = Collections::emptyList;
             }
         } else {
             betstopReason = null;
             bettingStatus = null;
-            affectedMarkets = Collections.emptyList();
+            affectedMarkets = Collections::emptyList;
             logger.info("Processing oddsChange message without odds info. sportEvent:{}, producer:{}", sportEvent.getId(), producer);
         }
 
         oddsGeneration = oddsGenerationProperties == null ? null : new OddsGenerationImpl(message.getOddsGenerationProperties());
+        oddsColumns = Suppliers.memoize(() -> new OddsChangeColumnsImpl(message));
     }
 
     /**
@@ -155,7 +160,7 @@ class OddsChangeImpl<T extends SportEvent> extends EventMessageImpl<T> implement
      * @return a list of {@link MarketWithOdds} associated with the message
      */
     @Override
-    public List<MarketWithOdds> getMarkets() { return affectedMarkets; }
+    public List<MarketWithOdds> getMarkets() { return affectedMarkets.get(); }
 
     /**
      * Gets the odds generation properties (contains a few key-parameters that can be used in a client’s own special odds model, or even offer spread betting bets based on it)
@@ -163,4 +168,11 @@ class OddsChangeImpl<T extends SportEvent> extends EventMessageImpl<T> implement
      */
     @Override
     public OddsGeneration getOddsGenerationProperties(){ return oddsGeneration; }
+
+    /**
+     * Returns a flat, columnar view of the markets and outcomes of the message
+     * @return a columnar view of the markets and outcomes of the message
+     */
+    @Override
+    public OddsChangeColumns getOddsColumns() { return oddsColumns.get(); }
 }
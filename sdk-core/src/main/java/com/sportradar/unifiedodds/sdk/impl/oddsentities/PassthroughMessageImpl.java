@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.oddsentities;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
+import com.sportradar.unifiedodds.sdk.oddsentities.PassthroughMessage;
+import com.sportradar.utils.URN;
+
+/**
+ * A basic implementation of the {@link PassthroughMessage} interface
+ */
+public class PassthroughMessageImpl implements PassthroughMessage {
+    private final String routingKey;
+    private final byte[] body;
+    private final String messageType;
+    private final int producerId;
+    private final URN eventId;
+    private final MessageTimestamp timestamps;
+
+    public PassthroughMessageImpl(String routingKey, byte[] body, String messageType, int producerId, URN eventId, MessageTimestamp timestamps) {
+        Preconditions.checkNotNull(routingKey);
+        Preconditions.checkNotNull(body);
+        Preconditions.checkNotNull(messageType);
+        Preconditions.checkNotNull(timestamps);
+
+        this.routingKey = routingKey;
+        this.body = body;
+        this.messageType = messageType;
+        this.producerId = producerId;
+        this.eventId = eventId;
+        this.timestamps = timestamps;
+    }
+
+    @Override
+    public String getRoutingKey() {
+        return routingKey;
+    }
+
+    @Override
+    public byte[] getBody() {
+        return body;
+    }
+
+    @Override
+    public String getMessageType() {
+        return messageType;
+    }
+
+    @Override
+    public int getProducerId() {
+        return producerId;
+    }
+
+    @Override
+    public URN getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public MessageTimestamp getTimestamps() {
+        return timestamps;
+    }
+
+    @Override
+    public String toString() {
+        return "PassthroughMessageImpl{" +
+                "routingKey='" + routingKey + '\'' +
+                ", messageType='" + messageType + '\'' +
+                ", producerId=" + producerId +
+                ", eventId=" + eventId +
+                '}';
+    }
+}
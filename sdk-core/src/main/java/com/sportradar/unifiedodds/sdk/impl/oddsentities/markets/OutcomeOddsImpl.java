@@ -10,9 +10,8 @@ import com.sportradar.unifiedodds.sdk.oddsentities.AdditionalProbabilities;
 import com.sportradar.unifiedodds.sdk.oddsentities.OddsDisplayType;
 import com.sportradar.unifiedodds.sdk.oddsentities.OutcomeDefinition;
 import com.sportradar.unifiedodds.sdk.oddsentities.OutcomeOdds;
+import com.sportradar.utils.SdkHelper;
 
-import java.math.BigDecimal;
-import java.math.MathContext;
 import java.util.Locale;
 
 /**
@@ -63,36 +62,6 @@ class OutcomeOddsImpl extends OutcomeProbabilitiesImpl implements OutcomeOdds {
             return this.odds;
         }
 
-        return convertEuOddsToUs(this.odds);
-    }
-
-    /**
-     * Convert decimal EU odds to decimal American odds
-     *
-     * <p>if EU_odds >= 2 then US_odds=(EU_odds - 1)</p>
-     * <p>100 if EU_odds <2 then US_odds=(-100)/(EU_odds-1)</p>
-     *
-     * @param oddsEUDouble EU odds not null
-     */
-    private static Double convertEuOddsToUs(Double oddsEUDouble) {
-        if(oddsEUDouble == null || oddsEUDouble.isNaN()){
-            return oddsEUDouble;
-        }
-        BigDecimal oddsEu = BigDecimal.valueOf(oddsEUDouble);
-        Double oddUs;
-        if (oddsEu.doubleValue() == 1) {
-            oddUs = null;
-        } else if (oddsEu.doubleValue() >= 2) {
-            oddUs = oddsEu
-                        .subtract(BigDecimal.valueOf(1d))
-                        .multiply(BigDecimal.valueOf(100))
-                        .doubleValue();
-        } else {
-            oddUs = (BigDecimal.valueOf(-100d))
-                        .divide(oddsEu.subtract(BigDecimal.valueOf(1)), MathContext.DECIMAL128)
-                        .doubleValue();
-        }
-
-        return oddUs;
+        return SdkHelper.convertEuOddsToUs(this.odds);
     }
 }
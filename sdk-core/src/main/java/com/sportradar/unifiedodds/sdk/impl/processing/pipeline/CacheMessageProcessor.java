@@ -12,6 +12,8 @@ import com.sportradar.uf.datamodel.UFOddsChange;
 import com.sportradar.unifiedodds.sdk.caching.DataRouterListener;
 import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
 import com.sportradar.unifiedodds.sdk.caching.SportEventStatusCache;
+import com.sportradar.unifiedodds.sdk.impl.CashOutProbabilitiesCache;
+import com.sportradar.unifiedodds.sdk.impl.CustomBetCache;
 import com.sportradar.unifiedodds.sdk.impl.FeedMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.RoutingKeyInfo;
 import com.sportradar.unifiedodds.sdk.impl.dto.SportEventStatusDTO;
@@ -45,6 +47,16 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
      */
     private final ProcessedFixtureChangesTracker processedFixtureChangesTracker;
 
+    /**
+     * A {@link CustomBetCache} used to discard the custom bet results of the events with changed odds
+     */
+    private final CustomBetCache customBetCache;
+
+    /**
+     * A {@link CashOutProbabilitiesCache} used to refresh the cash out probabilities of the events with changed odds
+     */
+    private final CashOutProbabilitiesCache cashOutProbabilitiesCache;
+
     /**
      * The {@link FeedMessageProcessor} implementation which should be called after the message has been processed
      */
@@ -56,19 +68,27 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
      * @param sportEventStatusCache the {@link SportEventStatusCache} used by the associated SDK instance
      * @param sportEventCache the {@link SportEventCache} used by the associated SDK instance
      * @param processedFixtureChangesTracker used to track processed fixture change messages
+     * @param customBetCache the {@link CustomBetCache} used by the associated SDK instance
+     * @param cashOutProbabilitiesCache the {@link CashOutProbabilitiesCache} used by the associated SDK instance
      */
     public CacheMessageProcessor(
             SportEventStatusCache sportEventStatusCache,
             SportEventCache sportEventCache,
-            ProcessedFixtureChangesTracker processedFixtureChangesTracker) {
+            ProcessedFixtureChangesTracker processedFixtureChangesTracker,
+            CustomBetCache customBetCache,
+            CashOutProbabilitiesCache cashOutProbabilitiesCache) {
         Preconditions.checkNotNull(sportEventStatusCache);
         Preconditions.checkNotNull(sportEventCache);
         Preconditions.checkNotNull(processedFixtureChangesTracker);
+        Preconditions.checkNotNull(customBetCache);
+        Preconditions.checkNotNull(cashOutProbabilitiesCache);
 
         this.processorId = UUID.randomUUID().toString();
         this.sportEventStatusCache = sportEventStatusCache;
         this.sportEventCache = sportEventCache;
         this.processedFixtureChangesTracker = processedFixtureChangesTracker;
+        this.customBetCache = customBetCache;
+        this.cashOutProbabilitiesCache = cashOutProbabilitiesCache;
     }
 
     /**
@@ -86,6 +106,7 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
         if (message instanceof UFOddsChange) {
             UFOddsChange fm = (UFOddsChange) message;
             sportEventStatusCache.addEventIdForTimelineIgnore(URN.parse(fm.getEventId()), fm.getProduct(), fm.getClass().getSimpleName());
+            onEventOddsChanged(URN.parse(fm.getEventId()));
             processOddsChangeMessage(fm);
         } else if (message instanceof UFFixtureChange) {
             UFFixtureChange fm = (UFFixtureChange) message;
@@ -94,6 +115,7 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
         } else if (message instanceof UFBetStop) {
             UFBetStop fm = (UFBetStop) message;
             sportEventStatusCache.addEventIdForTimelineIgnore(URN.parse(fm.getEventId()), fm.getProduct(), fm.getClass().getSimpleName());
+            onEventOddsChanged(URN.parse(fm.getEventId()));
             processBetStopMessage(fm);
         } else if (message instanceof UFBetSettlement) {
             UFBetSettlement fm = (UFBetSettlement) message;
@@ -127,6 +149,16 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
         this.nextMessageProcessor = nextMessageProcessor;
     }
 
+    /**
+     * Discards the cached odds related data of the event for which an odds change or a bet stop was received
+     *
+     * @param eventId - the {@link URN} identifier of the event
+     */
+    private void onEventOddsChanged(URN eventId) {
+        customBetCache.onEventOddsChanged(eventId);
+        cashOutProbabilitiesCache.onEventOddsChanged(eventId);
+    }
+
     /**
      * Processes the messages of type {@link UFFixtureChange}
      *
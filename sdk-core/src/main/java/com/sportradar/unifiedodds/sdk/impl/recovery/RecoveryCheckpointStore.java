@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.recovery;
+
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A local file store of the per producer recovery checkpoints, used to resume the producer recoveries from the last
+ * valid alive timestamp after a process restart.
+ * <p>
+ * The checkpoint is written to a temporary file which then atomically replaces the previous checkpoint, so a crash
+ * during the write never leaves a truncated checkpoint behind.
+ * </p>
+ */
+class RecoveryCheckpointStore {
+    private static final Logger logger = LoggerFactory.getLogger(RecoveryCheckpointStore.class);
+    private static final String HEADER = "# UF SDK producer recovery checkpoint";
+    private static final String VERSION = "version=1";
+    private static final String PRODUCER_PREFIX = "producer.";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path file;
+    private final Path tempFile;
+
+    /**
+     * The last written checkpoint content, used to skip the writes when nothing changed
+     */
+    private String lastWrittenContent;
+
+    RecoveryCheckpointStore(Path file) {
+        Preconditions.checkNotNull(file);
+
+        this.file = file.toAbsolutePath();
+        this.tempFile = this.file.resolveSibling(this.file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * Loads the persisted checkpoints, a missing or unreadable checkpoint file results in an empty result
+     *
+     * @return the persisted checkpoints mapped by the producer identifier
+     */
+    Map<Integer, ProducerCheckpoint> load() {
+        if (!Files.exists(file)) {
+            logger.info("Recovery checkpoint file {} does not exist, producers will recover from the user provided timestamps", file);
+            return Collections.emptyMap();
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Failed to read the recovery checkpoint file {}, the checkpoint is ignored", file, e);
+            return Collections.emptyMap();
+        }
+
+        Map<Integer, ProducerCheckpoint> checkpoints = new TreeMap<>();
+        for (String line : lines) {
+            line = line.trim();
+            if (!line.startsWith(PRODUCER_PREFIX)) {
+                continue;
+            }
+
+            try {
+                ProducerCheckpoint checkpoint = ProducerCheckpoint.parse(line.substring(PRODUCER_PREFIX.length()));
+                checkpoints.put(checkpoint.getProducerId(), checkpoint);
+            } catch (IllegalArgumentException e) {
+                logger.warn("Invalid recovery checkpoint entry '{}' in {}, the checkpoint is ignored", line, file);
+                return Collections.emptyMap();
+            }
+        }
+
+        return checkpoints;
+    }
+
+    /**
+     * Writes the provided checkpoints, replacing the previously persisted ones
+     *
+     * @param checkpoints the checkpoints which should be persisted
+     * @param sync an indication if the written data should be forced to the storage device
+     * @throws IOException if the checkpoint could not be written
+     */
+    synchronized void write(Collection<ProducerCheckpoint> checkpoints, boolean sync) throws IOException {
+        Preconditions.checkNotNull(checkpoints);
+
+        StringBuilder content = new StringBuilder(HEADER).append('\n').append(VERSION).append('\n');
+        for (ProducerCheckpoint checkpoint : checkpoints) {
+            content.append(PRODUCER_PREFIX).append(checkpoint.format()).append('\n');
+        }
+        String newContent = content.toString();
+        if (!sync && newContent.equals(lastWrittenContent)) {
+            return;
+        }
+
+        Path directory = file.getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(newContent.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (sync) {
+                channel.force(true);
+            }
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        if (sync && directory != null) {
+            syncDirectory(directory);
+        }
+
+        lastWrittenContent = newContent;
+    }
+
+    /**
+     * Forces the directory entry of the replaced checkpoint file, not supported on all platforms(ex: Windows)
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.debug("Recovery checkpoint directory {} could not be synced", directory, e);
+        }
+    }
+
+    /**
+     * The persisted recovery state of a single producer
+     */
+    static class ProducerCheckpoint {
+        private final int producerId;
+        private final long timestampForRecovery;
+        private final long lastProcessedMessageGenTimestamp;
+        private final boolean flaggedDown;
+
+        ProducerCheckpoint(int producerId, long timestampForRecovery, long lastProcessedMessageGenTimestamp, boolean flaggedDown) {
+            this.producerId = producerId;
+            this.timestampForRecovery = timestampForRecovery;
+            this.lastProcessedMessageGenTimestamp = lastProcessedMessageGenTimestamp;
+            this.flaggedDown = flaggedDown;
+        }
+
+        int getProducerId() {
+            return producerId;
+        }
+
+        /**
+         * Returns the generation timestamp of the last alive message received while the producer was up
+         *
+         * @return the timestamp from which the producer recovery can be resumed
+         */
+        long getTimestampForRecovery() {
+            return timestampForRecovery;
+        }
+
+        long getLastProcessedMessageGenTimestamp() {
+            return lastProcessedMessageGenTimestamp;
+        }
+
+        boolean isFlaggedDown() {
+            return flaggedDown;
+        }
+
+        String format() {
+            return producerId + "=" + timestampForRecovery + "," + lastProcessedMessageGenTimestamp + "," + (flaggedDown ? "down" : "up");
+        }
+
+        static ProducerCheckpoint parse(String entry) {
+            int separator = entry.indexOf('=');
+            if (separator < 1) {
+                throw new IllegalArgumentException("Missing producer identifier");
+            }
+
+            String[] values = entry.substring(separator + 1).split(",");
+            if (values.length != 3 || !("up".equals(values[2]) || "down".equals(values[2]))) {
+                throw new IllegalArgumentException("Malformed producer checkpoint");
+            }
+
+            try {
+                return new ProducerCheckpoint(
+                        Integer.parseInt(entry.substring(0, separator)),
+                        Long.parseLong(values[0]),
+                        Long.parseLong(values[1]),
+                        "down".equals(values[2]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed producer checkpoint", e);
+            }
+        }
+    }
+}
@@ -6,20 +6,35 @@ import com.sportradar.unifiedodds.sdk.*;
 import com.sportradar.unifiedodds.sdk.impl.*;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.HttpHelper;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
+import com.sportradar.unifiedodds.sdk.oddsentities.Producer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 public class SingleRecoveryManagerSupervisor {
+    private static final Logger logger = LoggerFactory.getLogger(SingleRecoveryManagerSupervisor.class);
 
     private final RecoveryManagerImpl recoveryManager;
     private final ScheduledExecutorService executorServices;
+    private final SDKProducerManager producerManager;
+    private final RecoveryCheckpointStore checkpointStore;
+    private final RecoveryCheckpointSyncPolicy checkpointSyncPolicy;
+    private final int checkpointInterval;
 
     private boolean isStarted;
 
     private ScheduledFuture<?> supervisionJob;
 
+    private ScheduledFuture<?> checkpointJob;
+
     @Inject
     public SingleRecoveryManagerSupervisor(SDKInternalConfiguration config,
                                        SDKProducerManager producerManager,
@@ -34,6 +49,14 @@ public class SingleRecoveryManagerSupervisor {
                                        SequenceGenerator sequenceGenerator,
                                        TimeUtils timeUtils) {
         this.executorServices = executorServices;
+        this.producerManager = producerManager;
+        this.checkpointStore = config.getRecoveryCheckpointFile() == null
+                ? null
+                : new RecoveryCheckpointStore(Paths.get(config.getRecoveryCheckpointFile()));
+        this.checkpointSyncPolicy = config.getRecoveryCheckpointSyncPolicy() == null
+                ? RecoveryCheckpointSyncPolicy.Always
+                : config.getRecoveryCheckpointSyncPolicy();
+        this.checkpointInterval = config.getRecoveryCheckpointInterval();
         recoveryManager = new RecoveryManagerImpl(config, producerManager
                 , producerStatusListener, eventRecoveryStatusListener, snapshotRequestManager, taskScheduler, httpHelper, messageFactory,whoAmIReader,sequenceGenerator, timeUtils);
     }
@@ -43,17 +66,28 @@ public class SingleRecoveryManagerSupervisor {
     }
 
     public void startSupervising() {
+        if (!isStarted) {
+            restoreCheckpoint();
+        }
         scheduleSupervisionJob();
         recoveryManager.init();
     }
 
     public void stopSupervising() {
+        if (isStarted) {
+            writeCheckpoint(checkpointSyncPolicy != RecoveryCheckpointSyncPolicy.Never);
+        }
         stopSupervisionJob();
     }
 
     private void scheduleSupervisionJob() {
         if (!isStarted) {
             supervisionJob = executorServices.scheduleAtFixedRate(() -> recoveryManager.onTimerElapsed(), 20L, 10L, TimeUnit.SECONDS);
+            if (checkpointStore != null && checkpointInterval > 0) {
+                checkpointJob = executorServices.scheduleAtFixedRate(
+                        () -> writeCheckpoint(checkpointSyncPolicy == RecoveryCheckpointSyncPolicy.Always),
+                        checkpointInterval, checkpointInterval, TimeUnit.SECONDS);
+            }
             isStarted = true;
         }
     }
@@ -61,7 +95,63 @@ public class SingleRecoveryManagerSupervisor {
     private void stopSupervisionJob() {
         if (isStarted) {
             supervisionJob.cancel(false);
+            if (checkpointJob != null) {
+                checkpointJob.cancel(false);
+                checkpointJob = null;
+            }
             isStarted = false;
         }
     }
+
+    /**
+     * Applies the persisted recovery checkpoints to the producers which have no user provided recovery timestamp,
+     * so the first recovery after a restart is an incremental one. Must be invoked before the producer manager is opened
+     */
+    private void restoreCheckpoint() {
+        if (checkpointStore == null) {
+            return;
+        }
+
+        Map<Integer, RecoveryCheckpointStore.ProducerCheckpoint> checkpoints = checkpointStore.load();
+        for (Producer producer : producerManager.getActiveProducers().values()) {
+            RecoveryCheckpointStore.ProducerCheckpoint checkpoint = checkpoints.get(producer.getId());
+            if (checkpoint == null || checkpoint.getTimestampForRecovery() <= 0) {
+                continue;
+            }
+            if (producer.getTimestampForRecovery() != 0) {
+                logger.info("Producer {} has a user provided recovery timestamp, the persisted checkpoint is ignored", producer.getId());
+                continue;
+            }
+
+            try {
+                producerManager.setProducerRecoveryFromTimestamp(producer.getId(), checkpoint.getTimestampForRecovery());
+                logger.info("Producer {} will recover from the persisted checkpoint, timestamp: {}, last processed message: {}, was {}",
+                        producer.getId(),
+                        checkpoint.getTimestampForRecovery(),
+                        checkpoint.getLastProcessedMessageGenTimestamp(),
+                        checkpoint.isFlaggedDown() ? "down" : "up");
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                logger.info("Producer {} persisted checkpoint can not be used, a full recovery will be requested. Reason: {}",
+                        producer.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private void writeCheckpoint(boolean sync) {
+        if (checkpointStore == null) {
+            return;
+        }
+
+        List<RecoveryCheckpointStore.ProducerCheckpoint> checkpoints = producerManager.getActiveProducers().values().stream()
+                .filter(Producer::isEnabled)
+                .map(p -> new RecoveryCheckpointStore.ProducerCheckpoint(
+                        p.getId(), p.getTimestampForRecovery(), p.getLastProcessedMessageGenTimestamp(), p.isFlaggedDown()))
+                .collect(Collectors.toList());
+
+        try {
+            checkpointStore.write(checkpoints, sync);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to write the recovery checkpoint to {}", checkpointStore.getFile(), e);
+        }
+    }
 }
@@ -4,6 +4,8 @@ import com.sportradar.uf.datamodel.*;
 import com.sportradar.unifiedodds.sdk.impl.UnifiedFeedConstants;
 import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
 
+import java.util.*;
+
 public class FeedMessageHelper {
 
     /**
@@ -165,4 +167,50 @@ public class FeedMessageHelper {
 
         return requestId;
     }
-}
\ No newline at end of file
+
+    /**
+     * Merges two odds changes of the same event into a new odds change which represents the state after both
+     * messages were processed. The markets of the newer message replace the markets of the older message with the
+     * same id and specifiers, the markets present only in the older message are kept. All the other properties
+     * are taken from the newer message. The provided instances are not modified.
+     *
+     * @param older the odds change which was received first
+     * @param newer the odds change which was received later
+     * @return a new {@link UFOddsChange} combining both messages
+     */
+    public static UFOddsChange mergeOddsChanges(UFOddsChange older, UFOddsChange newer) {
+        UFOddsChange merged = new UFOddsChange();
+        merged.setProduct(newer.getProduct());
+        merged.setEventId(newer.getEventId());
+        merged.setTimestamp(newer.getTimestamp());
+        merged.setRequestId(newer.getRequestId());
+        merged.setOddsChangeReason(newer.getOddsChangeReason());
+        merged.setSportEventStatus(newer.getSportEventStatus() != null ? newer.getSportEventStatus() : older.getSportEventStatus());
+        merged.setOddsGenerationProperties(newer.getOddsGenerationProperties() != null ? newer.getOddsGenerationProperties() : older.getOddsGenerationProperties());
+
+        UFOddsChange.UFOdds olderOdds = older.getOdds();
+        UFOddsChange.UFOdds newerOdds = newer.getOdds();
+        if (olderOdds == null || newerOdds == null) {
+            merged.setOdds(newerOdds != null ? newerOdds : olderOdds);
+            return merged;
+        }
+
+        UFOddsChange.UFOdds mergedOdds = new UFOddsChange.UFOdds();
+        mergedOdds.setBettingStatus(newerOdds.getBettingStatus());
+        mergedOdds.setBetstopReason(newerOdds.getBetstopReason());
+
+        Set<String> newerMarketKeys = new HashSet<>();
+        for (UFOddsChangeMarket market : newerOdds.getMarket()) {
+            newerMarketKeys.add(market.getId() + "|" + market.getSpecifiers());
+            mergedOdds.getMarket().add(market);
+        }
+        for (UFOddsChangeMarket market : olderOdds.getMarket()) {
+            if (!newerMarketKeys.contains(market.getId() + "|" + market.getSpecifiers())) {
+                mergedOdds.getMarket().add(market);
+            }
+        }
+        merged.setOdds(mergedOdds);
+
+        return merged;
+    }
+}
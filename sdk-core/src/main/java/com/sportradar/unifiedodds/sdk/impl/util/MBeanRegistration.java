@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Registers the statistics of the sdk components on the platform MBean server. A component unregisters only the
+ * statistics it registered itself, so closing one feed instance does not remove the statistics of another one
+ */
+public final class MBeanRegistration {
+    private static final Logger logger = LoggerFactory.getLogger(MBeanRegistration.class);
+
+    private MBeanRegistration() {
+    }
+
+    /**
+     * Registers the provided MBean under the provided name, unless the name is already registered
+     *
+     * @param mbean the MBean which should be registered
+     * @param name the name under which the MBean should be registered
+     * @return the name of the registered MBean or <code>null</code> if the MBean was not registered
+     */
+    public static ObjectName register(Object mbean, String name) {
+        MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = new ObjectName(name);
+            if (mbeanServer.isRegistered(objectName)) {
+                return null;
+            }
+            mbeanServer.registerMBean(mbean, objectName);
+            return objectName;
+        } catch (MalformedObjectNameException | NotCompliantMBeanException | MBeanRegistrationException | InstanceAlreadyExistsException e) {
+            logger.warn("{} statistics registration failed w/ ex.:", name, e);
+            return null;
+        }
+    }
+
+    /**
+     * Unregisters the MBean registered under the provided name
+     *
+     * @param name the name returned by {@link #register(Object, String)}, <code>null</code> is ignored
+     */
+    public static void unregister(ObjectName name) {
+        if (name == null) {
+            return;
+        }
+
+        MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (mbeanServer.isRegistered(name)) {
+                mbeanServer.unregisterMBean(name);
+            }
+        } catch (MBeanRegistrationException | InstanceNotFoundException e) {
+            logger.warn("{} statistics unregistration failed w/ ex.:", name, e);
+        }
+    }
+}
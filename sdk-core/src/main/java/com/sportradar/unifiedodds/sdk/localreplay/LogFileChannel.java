@@ -11,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.util.Collection;
 import java.util.List;
 import java.util.Scanner;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -90,6 +91,20 @@ public class LogFileChannel implements RabbitMqChannel {
         isOpened.set(false);
     }
 
+    /**
+     * The log file is replayed regardless of the routing keys, so the binding changes are ignored
+     *
+     * @param routingKeysToBind the routing keys which should be bound
+     * @param routingKeysToUnbind the routing keys which should be unbound
+     */
+    @Override
+    public void updateBindings(Collection<String> routingKeysToBind, Collection<String> routingKeysToUnbind) {
+        Preconditions.checkNotNull(routingKeysToBind);
+        Preconditions.checkNotNull(routingKeysToUnbind);
+
+        logger.debug("Replaying log file channel ignores the binding changes({} added, {} removed)", routingKeysToBind.size(), routingKeysToUnbind.size());
+    }
+
     /**
      * Indicates if the associated channel instance is opened
      *
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.oddsentities;
+
+import com.sportradar.utils.URN;
+
+/**
+ * A consistent snapshot of the current markets of an event as provided by a single producer. The markets and
+ * outcomes are provided in the same columnar layout as the {@link OddsChangeColumns} of an {@link OddsChange}.
+ *
+ * The snapshot is immutable, the changes received after the snapshot was taken are reflected by a new snapshot
+ * with a greater {@link #getVersion()}.
+ */
+public interface EventOddsBook extends OddsChangeColumns {
+
+    /**
+     * Returns the id of the event
+     *
+     * @return the id of the event
+     */
+    URN getEventId();
+
+    /**
+     * Returns the id of the producer which provided the markets
+     *
+     * @return the id of the producer
+     */
+    int getProducerId();
+
+    /**
+     * Returns the version of the event markets, the version is incremented by each message which changed them
+     *
+     * @return the version of the event markets
+     */
+    long getVersion();
+
+    /**
+     * Returns the generation timestamp of the last message which changed the event markets
+     *
+     * @return the generation timestamp(milliseconds since the epoch) of the last applied message
+     */
+    long getTimestamp();
+
+    /**
+     * Returns the settlement result of the outcome at the provided index
+     *
+     * @param outcomeIndex the index of the outcome
+     * @return 1 if the outcome won, 0 if the outcome lost, -1 if the outcome is not settled or the result is not
+     *         decided yet
+     */
+    int getResult(int outcomeIndex);
+
+    /**
+     * Returns the void factor of the settled outcome at the provided index
+     *
+     * @param outcomeIndex the index of the outcome
+     * @return the void factor(the refunded part of the stake), 0 if the stake is not refunded
+     */
+    double getVoidFactor(int outcomeIndex);
+}
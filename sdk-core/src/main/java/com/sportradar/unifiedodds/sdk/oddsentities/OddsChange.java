@@ -70,4 +70,34 @@ public interface OddsChange<T extends SportEvent> extends MarketMessage<T> {
     default OddsGeneration getOddsGenerationProperties(){
         throw new UnsupportedOperationException("Method not implemented. Use derived type.");
     }
+
+    /**
+     * Returns a flat, columnar view of the markets and outcomes of the message. The view is built on the first call
+     * directly from the feed message, so the {@link MarketWithOdds} are not built if only the view is used
+     *
+     * @return a columnar view of the markets and outcomes of the message
+     */
+    default OddsChangeColumns getOddsColumns(){
+        throw new UnsupportedOperationException("Method not implemented. Use derived type.");
+    }
+
+    /**
+     * Indicates if the message contains only the markets and outcomes which changed since the previous odds change
+     * of the event, which is the case for the sessions with the odds change delta dispatch enabled
+     *
+     * @return <code>true</code> if the message contains only the changed markets and outcomes; otherwise <code>false</code>
+     */
+    default boolean isDelta(){
+        return false;
+    }
+
+    /**
+     * Returns the complete odds change as received from the feed, if the message is not a delta the current
+     * instance is returned
+     *
+     * @return the complete odds change as received from the feed
+     */
+    default OddsChange<T> getFullOddsChange(){
+        return this;
+    }
 }
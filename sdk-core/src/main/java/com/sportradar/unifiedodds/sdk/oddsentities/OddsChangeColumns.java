@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.oddsentities;
+
+/**
+ * A flat, columnar view of the markets and outcomes of an {@link OddsChange}, built directly from the feed message
+ * without the {@link MarketWithOdds} and {@link OutcomeOdds} object graph.
+ *
+ * The markets and outcomes are addressed by their index. The outcomes of a market are stored contiguously, from
+ * {@link #getFirstOutcome(int)} (inclusive) to {@link #getLastOutcome(int)} (exclusive), so all the outcomes of the
+ * message can be scanned with a single loop from 0 to {@link #getOutcomeCount()}.
+ *
+ * The specifiers and outcome ids are provided as handles, the same string always maps to the same handle within the
+ * view(and within all the snapshots of the same odds book), so the handles can be compared and used as keys instead of
+ * the strings. The handles of unrelated views are not comparable. The handle 0 represents a missing value.
+ */
+public interface OddsChangeColumns {
+
+    /**
+     * Returns the number of markets in the message
+     *
+     * @return the number of markets in the message
+     */
+    int getMarketCount();
+
+    /**
+     * Returns the id of the market at the provided index
+     *
+     * @param marketIndex the index of the market
+     * @return the market id
+     */
+    int getMarketId(int marketIndex);
+
+    /**
+     * Returns the handle of the specifiers of the market at the provided index
+     *
+     * @param marketIndex the index of the market
+     * @return the handle of the market specifiers, 0 if the market has no specifiers
+     */
+    int getSpecifiersHandle(int marketIndex);
+
+    /**
+     * Returns the status of the market at the provided index
+     *
+     * @param marketIndex the index of the market
+     * @return the market status
+     */
+    MarketStatus getMarketStatus(int marketIndex);
+
+    /**
+     * Returns the index of the first outcome of the market at the provided index
+     *
+     * @param marketIndex the index of the market
+     * @return the index of the first outcome of the market
+     */
+    int getFirstOutcome(int marketIndex);
+
+    /**
+     * Returns the index following the last outcome of the market at the provided index
+     *
+     * @param marketIndex the index of the market
+     * @return the index following the last outcome of the market
+     */
+    int getLastOutcome(int marketIndex);
+
+    /**
+     * Returns the number of outcomes of all the markets in the message
+     *
+     * @return the number of outcomes in the message
+     */
+    int getOutcomeCount();
+
+    /**
+     * Returns the handle of the id of the outcome at the provided index
+     *
+     * @param outcomeIndex the index of the outcome
+     * @return the handle of the outcome id
+     */
+    int getOutcomeIdHandle(int outcomeIndex);
+
+    /**
+     * Returns the decimal odds of the outcome at the provided index
+     *
+     * @param outcomeIndex the index of the outcome
+     * @return the decimal odds, {@link Double#NaN} if the odds are not provided
+     */
+    double getOdds(int outcomeIndex);
+
+    /**
+     * Returns the odds of the outcome at the provided index in the requested format, the conversions are computed
+     * when the view is built
+     *
+     * @param outcomeIndex the index of the outcome
+     * @param oddsDisplayType the requested odds format
+     * @return the odds in the requested format, {@link Double#NaN} if the odds are not provided or can not be
+     *         converted
+     */
+    double getOdds(int outcomeIndex, OddsDisplayType oddsDisplayType);
+
+    /**
+     * Returns the probability of the outcome at the provided index
+     *
+     * @param outcomeIndex the index of the outcome
+     * @return the probability, {@link Double#NaN} if the probability is not provided
+     */
+    double getProbability(int outcomeIndex);
+
+    /**
+     * Indicates if the outcome at the provided index is active
+     *
+     * @param outcomeIndex the index of the outcome
+     * @return <code>true</code> if the outcome is active; otherwise <code>false</code>
+     */
+    boolean isActive(int outcomeIndex);
+
+    /**
+     * Returns the string represented by the provided specifiers or outcome id handle
+     *
+     * @param handle the handle of the specifiers or outcome id
+     * @return the string represented by the handle, <code>null</code> for the handle 0
+     */
+    String resolveHandle(int handle);
+}
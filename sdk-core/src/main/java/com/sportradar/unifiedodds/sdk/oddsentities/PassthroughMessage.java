@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.oddsentities;
+
+import com.sportradar.utils.URN;
+
+/**
+ * A feed message dispatched by a session opened in the passthrough mode. The message payload is not
+ * deserialized, only the minimal header is extracted from the message root element.
+ */
+public interface PassthroughMessage {
+    /**
+     * Returns the routing key on which the message was received
+     *
+     * @return the routing key on which the message was received
+     */
+    String getRoutingKey();
+
+    /**
+     * Returns the raw message payload as received from the broker
+     *
+     * @return the raw message payload
+     */
+    byte[] getBody();
+
+    /**
+     * Returns the message type, the name of the message root element (ex: odds_change, bet_stop, alive)
+     *
+     * @return the message type
+     */
+    String getMessageType();
+
+    /**
+     * Returns the identifier of the producer which generated the message
+     *
+     * @return the identifier of the producer which generated the message
+     */
+    int getProducerId();
+
+    /**
+     * Returns the identifier of the event to which the message relates, as provided by the routing key
+     *
+     * @return the related event identifier if available; otherwise null
+     */
+    URN getEventId();
+
+    /**
+     * Returns the message timestamps, the created value is the message generation timestamp
+     *
+     * @return the message timestamps
+     */
+    MessageTimestamp getTimestamps();
+}
@@ -16,6 +16,8 @@ import org.slf4j.LoggerFactory;
 
 import javax.xml.datatype.DatatypeConstants;
 import javax.xml.datatype.XMLGregorianCalendar;
+import java.math.BigDecimal;
+import java.math.MathContext;
 import java.security.InvalidParameterException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -397,4 +399,34 @@ public final class SdkHelper {
         return strUuid.substring(0, size);
     }
 
+    /**
+     * Convert decimal EU odds to decimal American odds
+     *
+     * <p>if EU_odds >= 2 then US_odds=(EU_odds - 1)</p>
+     * <p>100 if EU_odds <2 then US_odds=(-100)/(EU_odds-1)</p>
+     *
+     * @param oddsEUDouble EU odds
+     * @return the American odds or null if the EU odds are 1
+     */
+    public static Double convertEuOddsToUs(Double oddsEUDouble) {
+        if(oddsEUDouble == null || oddsEUDouble.isNaN()){
+            return oddsEUDouble;
+        }
+        BigDecimal oddsEu = BigDecimal.valueOf(oddsEUDouble);
+        Double oddUs;
+        if (oddsEu.doubleValue() == 1) {
+            oddUs = null;
+        } else if (oddsEu.doubleValue() >= 2) {
+            oddUs = oddsEu
+                        .subtract(BigDecimal.valueOf(1d))
+                        .multiply(BigDecimal.valueOf(100))
+                        .doubleValue();
+        } else {
+            oddUs = (BigDecimal.valueOf(-100d))
+                        .divide(oddsEu.subtract(BigDecimal.valueOf(1)), MathContext.DECIMAL128)
+                        .doubleValue();
+        }
+
+        return oddUs;
+    }
 }
@@ -0,0 +1,165 @@
+package com.sportradar.unifiedodds.sdk;
+
+import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
+import com.sportradar.unifiedodds.sdk.entities.FixtureChange;
+import com.sportradar.unifiedodds.sdk.entities.ResultChange;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.unifiedodds.sdk.impl.BlockingTaskExecutorFactory;
+import com.sportradar.unifiedodds.sdk.impl.DefaultBlockingTaskExecutorFactory;
+import com.sportradar.unifiedodds.sdk.impl.SportsInfoManagerImpl;
+import com.sportradar.utils.URN;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class EventChangeManagerImplTest {
+    private static final URN FIRST_EVENT = URN.parse("sr:match:1");
+    private static final URN SECOND_EVENT = URN.parse("sr:match:2");
+
+    private final SportsInfoManagerImpl sportsInfoManager = mock(SportsInfoManagerImpl.class);
+    private final SportEventCache sportEventCache = mock(SportEventCache.class);
+    private final EventChangeListener listener = mock(EventChangeListener.class);
+    private final SportEvent firstEvent = mock(SportEvent.class);
+    private final SportEvent secondEvent = mock(SportEvent.class);
+    private final long now = System.currentTimeMillis();
+    private final SDKInternalConfiguration config = mock(SDKInternalConfiguration.class);
+    private EventChangeManagerImpl manager;
+
+    @Before
+    public void setup() {
+        when(config.getDefaultLocale()).thenReturn(Locale.ENGLISH);
+        when(sportsInfoManager.getSportEventForEventChange(FIRST_EVENT)).thenReturn(firstEvent);
+        when(sportsInfoManager.getSportEventForEventChange(SECOND_EVENT)).thenReturn(secondEvent);
+
+        manager = new EventChangeManagerImpl(sportsInfoManager, sportEventCache, config, new DefaultBlockingTaskExecutorFactory(false));
+        manager.setListener(listener);
+        manager.start();
+    }
+
+    @After
+    public void tearDown() {
+        manager.stop();
+    }
+
+    @Test
+    public void dispatchesLatestChangeOfEachEventInUpdateOrder() {
+        FixtureChange older = fixtureChange(FIRST_EVENT, now - 3000);
+        FixtureChange second = fixtureChange(SECOND_EVENT, now - 2000);
+        FixtureChange latest = fixtureChange(FIRST_EVENT, now - 1000);
+        when(sportsInfoManager.getFixtureChanges(Locale.ENGLISH)).thenReturn(Arrays.asList(latest, older, second));
+
+        manager.fetchFixtures();
+
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).onFixtureChange(SECOND_EVENT, new Date(now - 2000), secondEvent);
+        inOrder.verify(listener).onFixtureChange(FIRST_EVENT, new Date(now - 1000), firstEvent);
+        verifyNoMoreInteractions(listener);
+        verify(sportEventCache, times(1)).purgeCacheItem(FIRST_EVENT);
+        assertEquals(new Date(now - 1000), manager.getLastFixtureChange());
+        assertEquals(3, manager.getNumberOfProcessedFixtureChanges());
+        assertEquals(0, manager.getNumberOfPendingEventUpdates());
+    }
+
+    @Test
+    public void resultChangesAdvanceTheLastResultChange() {
+        ResultChange change = resultChange(FIRST_EVENT, now - 1000);
+        when(sportsInfoManager.getResultChanges(Locale.ENGLISH)).thenReturn(Arrays.asList(change));
+
+        manager.fetchResults();
+
+        verify(listener).onResultChange(FIRST_EVENT, new Date(now - 1000), firstEvent);
+        assertEquals(new Date(now - 1000), manager.getLastResultChange());
+        assertNull(manager.getLastFixtureChange());
+    }
+
+    @Test
+    public void failedRefreshHoldsTheLastChangeBeforeTheFailedEvent() {
+        FixtureChange first = fixtureChange(FIRST_EVENT, now - 2000);
+        FixtureChange failing = fixtureChange(SECOND_EVENT, now - 1000);
+        when(sportsInfoManager.getFixtureChanges(Locale.ENGLISH)).thenReturn(Arrays.asList(first, failing));
+        when(sportsInfoManager.getSportEventForEventChange(SECOND_EVENT)).thenThrow(new IllegalStateException("unavailable"));
+
+        manager.fetchFixtures();
+
+        verify(listener).onFixtureChange(FIRST_EVENT, new Date(now - 2000), firstEvent);
+        verify(listener, never()).onFixtureChange(eq(SECOND_EVENT), any(), any());
+        assertEquals(new Date(now - 2000), manager.getLastFixtureChange());
+    }
+
+    @Test
+    public void listenerFailureDoesNotBlockTheDispatch() {
+        FixtureChange first = fixtureChange(FIRST_EVENT, now - 2000);
+        FixtureChange second = fixtureChange(SECOND_EVENT, now - 1000);
+        when(sportsInfoManager.getFixtureChanges(Locale.ENGLISH)).thenReturn(Arrays.asList(first, second));
+        doThrow(new RuntimeException("listener")).when(listener).onFixtureChange(eq(FIRST_EVENT), any(), any());
+
+        manager.fetchFixtures();
+
+        verify(listener).onFixtureChange(SECOND_EVENT, new Date(now - 1000), secondEvent);
+        assertEquals(0, manager.getNumberOfPendingEventUpdates());
+    }
+
+    @Test
+    public void refreshesAreCappedAlsoOnAnUnboundedExecutor() {
+        BlockingTaskExecutorFactory unboundedFactory = mock(BlockingTaskExecutorFactory.class);
+        when(unboundedFactory.createExecutor(anyString(), anyInt(), anyBoolean())).thenAnswer(invocation -> Executors.newCachedThreadPool());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<FixtureChange> changes = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            URN id = URN.parse("sr:match:" + (100 + i));
+            changes.add(fixtureChange(id, now - i * 1000L));
+            when(sportsInfoManager.getSportEventForEventChange(id)).thenAnswer(invocation -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return firstEvent;
+            });
+        }
+        when(sportsInfoManager.getFixtureChanges(Locale.ENGLISH)).thenReturn(changes);
+        EventChangeManagerImpl unboundedManager = new EventChangeManagerImpl(sportsInfoManager, sportEventCache, config, unboundedFactory);
+        unboundedManager.setListener(listener);
+        unboundedManager.start();
+
+        try {
+            unboundedManager.fetchFixtures();
+        } finally {
+            unboundedManager.stop();
+        }
+
+        verify(listener, times(20)).onFixtureChange(any(), any(), eq(firstEvent));
+        assertTrue(maxRunning.get() <= 4);
+        verify(unboundedFactory).createExecutor("EventChangeRefresh", 4, true);
+    }
+
+    private static FixtureChange fixtureChange(URN id, long updated) {
+        FixtureChange change = mock(FixtureChange.class);
+        when(change.getSportEventId()).thenReturn(id);
+        when(change.getUpdateTime()).thenReturn(new Date(updated));
+        return change;
+    }
+
+    private static ResultChange resultChange(URN id, long updated) {
+        ResultChange change = mock(ResultChange.class);
+        when(change.getSportEventId()).thenReturn(id);
+        when(change.getUpdateTime()).thenReturn(new Date(updated));
+        return change;
+    }
+}
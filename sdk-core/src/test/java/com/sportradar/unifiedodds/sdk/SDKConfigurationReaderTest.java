@@ -2,10 +2,13 @@ package com.sportradar.unifiedodds.sdk;
 
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class SDKConfigurationReaderTest {
     //Default config files:
@@ -57,4 +60,82 @@ public class SDKConfigurationReaderTest {
 
         assertFalse(token.isPresent());
     }
+
+    @Test
+    public void readsMessagingConsumptionSettings() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("uf.sdk.messagingPrefetchCount", "200");
+        properties.put("uf.sdk.messagingAckBatchSize", "50");
+        SDKConfigurationReader reader = readerFor(properties);
+
+        assertEquals(200, (int) reader.readMessagingPrefetchCount().get());
+        assertEquals(50, (int) reader.readMessagingAckBatchSize().get());
+        assertFalse(reader.readMessagingChannelsPerSession().isPresent());
+        assertFalse(reader.readMessagingChannelStaleTimeout().isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeMessagingPrefetchCountIsRejected() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("uf.sdk.messagingPrefetchCount", "-1");
+
+        readerFor(properties).readMessagingPrefetchCount();
+    }
+
+    @Test
+    public void invalidMessagingAckBatchSizeIsRejected() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("uf.sdk.messagingAckBatchSize", "two");
+
+        try {
+            readerFor(properties).readMessagingAckBatchSize();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("uf.sdk.messagingAckBatchSize"));
+            return;
+        }
+        throw new AssertionError("The invalid value was accepted");
+    }
+
+    @Test
+    public void invalidMessagingChannelsPerSessionIsRejected() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("uf.sdk.messagingChannelsPerSession", "two");
+
+        try {
+            readerFor(properties).readMessagingChannelsPerSession();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("uf.sdk.messagingChannelsPerSession"));
+            return;
+        }
+        throw new AssertionError("The invalid value was accepted");
+    }
+
+    @Test
+    public void readsRecoveryCheckpointSettings() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("uf.sdk.recoveryCheckpointFile", " /var/lib/uf/recovery.checkpoint ");
+        properties.put("uf.sdk.recoveryCheckpointSyncPolicy", "onclose");
+        SDKConfigurationReader reader = readerFor(properties);
+
+        assertEquals("/var/lib/uf/recovery.checkpoint", reader.readRecoveryCheckpointFile().get());
+        assertEquals(RecoveryCheckpointSyncPolicy.OnClose, reader.readRecoveryCheckpointSyncPolicy().get());
+        assertFalse(reader.readRecoveryCheckpointInterval().isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidRecoveryCheckpointSyncPolicyIsRejected() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("uf.sdk.recoveryCheckpointSyncPolicy", "sometimes");
+
+        readerFor(properties).readRecoveryCheckpointSyncPolicy();
+    }
+
+    private static SDKConfigurationReader readerFor(Map<String, String> properties) {
+        return new SDKConfigurationReader() {
+            @Override
+            Map<String, String> readConfiguration() {
+                return properties;
+            }
+        };
+    }
 }
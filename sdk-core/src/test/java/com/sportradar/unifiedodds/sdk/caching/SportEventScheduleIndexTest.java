@@ -0,0 +1,112 @@
+package com.sportradar.unifiedodds.sdk.caching;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.sportradar.unifiedodds.sdk.caching.impl.SportEventScheduleIndex;
+import com.sportradar.utils.URN;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SportEventScheduleIndexTest {
+    private static final long HOUR = 3_600_000L;
+    private static final long NOW = 1_600_000_000_000L;
+
+    private static final Predicate<SportEventCI> ALWAYS_CACHED = ci -> true;
+
+    private final SportEventScheduleIndex index = new SportEventScheduleIndex();
+
+    @Test
+    public void findsEventsScheduledBefore() {
+        index.index(event(1, new Date(NOW - 2 * HOUR), null), ALWAYS_CACHED);
+        index.index(event(2, new Date(NOW - 1000), null), ALWAYS_CACHED);
+        index.index(event(3, new Date(NOW + 1000), null), ALWAYS_CACHED);
+        index.index(event(4, null, new Date(NOW - 3 * HOUR)), ALWAYS_CACHED);
+        index.index(event(5, null, null), ALWAYS_CACHED);
+
+        assertEquals(3, index.getScheduledBefore(new Date(NOW)).size());
+        assertFalse(index.getScheduledBefore(new Date(NOW)).contains(URN.parse("sr:match:3")));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    public void findsEventsEndedBefore() {
+        index.index(event(1, new Date(NOW - 5 * HOUR), new Date(NOW - 3 * HOUR)), ALWAYS_CACHED);
+        index.index(event(2, new Date(NOW - 5 * HOUR), new Date(NOW + HOUR)), ALWAYS_CACHED);
+        index.index(event(3, new Date(NOW - 4 * HOUR), null), ALWAYS_CACHED);
+
+        assertEquals(2, index.getEndedBefore(new Date(NOW)).size());
+        assertFalse(index.getEndedBefore(new Date(NOW)).contains(URN.parse("sr:match:2")));
+    }
+
+    @Test
+    public void reindexesChangedScheduledTime() {
+        SportEventCI ci = event(1, new Date(NOW - HOUR), null);
+        index.index(ci, ALWAYS_CACHED);
+
+        when(ci.getScheduledRaw()).thenReturn(new Date(NOW + HOUR));
+        index.index(ci, ALWAYS_CACHED);
+
+        assertTrue(index.getScheduledBefore(new Date(NOW)).isEmpty());
+        assertEquals(1, index.getScheduledBefore(new Date(NOW + 2 * HOUR)).size());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void countsIndexedTypes() {
+        index.index(event(1, null, null), ALWAYS_CACHED);
+        index.index(event(2, null, null), ALWAYS_CACHED);
+
+        String type = event(3, null, null).getClass().getSimpleName();
+        assertEquals(Long.valueOf(2), index.getTypeCounts().get(type));
+
+        index.remove(URN.parse("sr:match:1"));
+        index.remove(URN.parse("sr:match:2"));
+
+        assertTrue(index.getTypeCounts().isEmpty());
+    }
+
+    @Test
+    public void removesItemsInvalidatedByTheCache() {
+        Cache<URN, SportEventCI> cache = CacheBuilder.newBuilder().removalListener(index).build();
+        SportEventCI first = event(1, new Date(NOW - HOUR), null);
+        SportEventCI second = event(1, new Date(NOW - HOUR), null);
+        cache.put(first.getId(), first);
+        index.index(first, ci -> cache.getIfPresent(ci.getId()) == ci);
+
+        cache.put(second.getId(), second);
+        index.index(second, ci -> cache.getIfPresent(ci.getId()) == ci);
+        assertEquals(1, index.size());
+
+        cache.invalidate(second.getId());
+        assertEquals(0, index.size());
+        assertEquals(Collections.emptyList(), index.getScheduledBefore(new Date(NOW)));
+    }
+
+    @Test
+    public void doesNotIndexItemsNoLongerCached() {
+        Cache<URN, SportEventCI> cache = CacheBuilder.newBuilder().removalListener(index).build();
+        SportEventCI ci = event(1, new Date(NOW - HOUR), null);
+        cache.put(ci.getId(), ci);
+        cache.invalidate(ci.getId());
+
+        index.index(ci, indexed -> cache.getIfPresent(indexed.getId()) == indexed);
+
+        assertEquals(0, index.size());
+        assertEquals(Collections.emptyList(), index.getScheduledBefore(new Date(NOW)));
+    }
+
+    private static SportEventCI event(int id, Date scheduled, Date scheduledEnd) {
+        SportEventCI ci = mock(SportEventCI.class);
+        when(ci.getId()).thenReturn(URN.parse("sr:match:" + id));
+        when(ci.getScheduledRaw()).thenReturn(scheduled);
+        when(ci.getScheduledEndRaw()).thenReturn(scheduledEnd);
+        return ci;
+    }
+}
@@ -0,0 +1,61 @@
+package com.sportradar.unifiedodds.sdk.caching.ci;
+
+import com.sportradar.utils.SdkHelper;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class LocaleSetTest {
+
+    @Test
+    public void tracksAddedLocales() {
+        Set<Locale> locales = new LocaleSet();
+        assertTrue(locales.isEmpty());
+
+        assertTrue(locales.add(Locale.ENGLISH));
+        assertFalse(locales.add(Locale.ENGLISH));
+        locales.add(Locale.GERMAN);
+
+        assertEquals(2, locales.size());
+        assertTrue(locales.containsAll(Arrays.asList(Locale.GERMAN, Locale.ENGLISH)));
+        assertFalse(locales.contains(Locale.KOREAN));
+        assertFalse(locales.contains("en"));
+        assertEquals(new HashSet<>(Arrays.asList(Locale.ENGLISH, Locale.GERMAN)), new HashSet<>(locales));
+    }
+
+    @Test
+    public void worksWithMissingLocalesLookup() {
+        Set<Locale> locales = new LocaleSet();
+        locales.add(Locale.ENGLISH);
+
+        List<Locale> missing = SdkHelper.findMissingLocales(locales, Arrays.asList(Locale.ENGLISH, Locale.FRENCH));
+
+        assertEquals(Collections.singletonList(Locale.FRENCH), missing);
+    }
+
+    @Test
+    public void removesLocales() {
+        Set<Locale> locales = new LocaleSet();
+        locales.addAll(Arrays.asList(Locale.ENGLISH, Locale.ITALIAN));
+
+        assertTrue(locales.remove(Locale.ENGLISH));
+        assertFalse(locales.remove(Locale.ENGLISH));
+        assertEquals(Collections.singleton(Locale.ITALIAN), new HashSet<>(locales));
+
+        locales.clear();
+        assertTrue(locales.isEmpty());
+    }
+
+    @Test
+    public void holdsAnyNumberOfLocales() {
+        Set<Locale> locales = new LocaleSet();
+        for (int i = 0; i < 100; i++) {
+            locales.add(new Locale("x" + i));
+        }
+
+        assertEquals(100, locales.size());
+        assertTrue(locales.contains(new Locale("x99")));
+    }
+}
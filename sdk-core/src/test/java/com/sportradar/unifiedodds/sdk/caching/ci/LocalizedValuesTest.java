@@ -0,0 +1,84 @@
+package com.sportradar.unifiedodds.sdk.caching.ci;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class LocalizedValuesTest {
+
+    @Test
+    public void behavesAsMapOfTranslations() {
+        Map<Locale, String> values = new LocalizedValues();
+        values.put(Locale.ENGLISH, "Germany");
+        values.put(Locale.GERMAN, "Deutschland");
+
+        assertEquals("Germany", values.get(Locale.ENGLISH));
+        assertEquals("Deutschland", values.get(Locale.GERMAN));
+        assertNull(values.get(Locale.CHINESE));
+        assertTrue(values.containsKey(Locale.GERMAN));
+        assertTrue(values.keySet().containsAll(Arrays.asList(Locale.ENGLISH, Locale.GERMAN)));
+        assertEquals(2, values.size());
+        assertEquals(ImmutableMap.of(Locale.ENGLISH, "Germany", Locale.GERMAN, "Deutschland"), ImmutableMap.copyOf(values));
+        assertEquals(new HashMap<>(values), values);
+    }
+
+    @Test
+    public void putReplacesAndRemoveClearsTheValue() {
+        Map<Locale, String> values = new LocalizedValues();
+        assertNull(values.put(Locale.ENGLISH, "first"));
+
+        assertEquals("first", values.put(Locale.ENGLISH, "second"));
+        assertEquals("second", values.remove(Locale.ENGLISH));
+        assertTrue(values.isEmpty());
+        assertNull(values.remove(Locale.ENGLISH));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void nullValuesAreRejected() {
+        new LocalizedValues().put(Locale.ENGLISH, null);
+    }
+
+    @Test
+    public void deduplicatingInstancesShareEqualValues() {
+        Map<Locale, String> first = LocalizedValues.deduplicating();
+        Map<Locale, String> second = LocalizedValues.deduplicating();
+        first.put(Locale.ENGLISH, new String("Germany"));
+        second.put(Locale.ENGLISH, new String("Germany"));
+
+        assertSame(first.get(Locale.ENGLISH), second.get(Locale.ENGLISH));
+    }
+
+    @Test
+    public void iteratorWorksOnSnapshot() {
+        Map<Locale, String> values = new LocalizedValues();
+        values.put(Locale.ENGLISH, "en");
+        values.put(Locale.FRENCH, "fr");
+
+        Iterator<Map.Entry<Locale, String>> iterator = values.entrySet().iterator();
+        values.put(Locale.ITALIAN, "it");
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+
+        assertEquals(2, count);
+        assertEquals(3, values.size());
+    }
+
+    @Test
+    public void holdsAnyNumberOfLocales() {
+        Map<Locale, String> values = new LocalizedValues();
+        for (int i = 0; i < 100; i++) {
+            values.put(new Locale("x" + i), "value" + i);
+        }
+
+        assertEquals(100, values.size());
+        assertEquals("value99", values.get(new Locale("x99")));
+        assertEquals("value42", values.remove(new Locale("x42")));
+        assertEquals("value43", values.get(new Locale("x43")));
+    }
+}
@@ -0,0 +1,142 @@
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.sportradar.unifiedodds.sdk.caching.DataRouterManager;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.utils.URN;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class EventScheduleCacheTest {
+    private static final Locale LOCALE = Locale.ENGLISH;
+    private static final URN TOURNAMENT_ID = URN.parse("sr:tournament:40");
+    private static final URN EVENT_ID = URN.parse("sr:match:10116681");
+    private static final List<URN> EVENT_IDS = Arrays.asList(EVENT_ID, URN.parse("sr:match:10116682"));
+
+    private final DataRouterManager dataRouterManager = mock(DataRouterManager.class);
+
+    @Test
+    public void disabledScheduleIsAlwaysRequested() throws Exception {
+        EventScheduleCache cache = cache(Duration.ZERO);
+        when(dataRouterManager.requestEventsFor(LOCALE, (Date) null)).thenReturn(EVENT_IDS);
+
+        cache.getEventIds((Date) null, LOCALE);
+        cache.getEventIds((Date) null, LOCALE);
+
+        verify(dataRouterManager, times(2)).requestEventsFor(LOCALE, (Date) null);
+    }
+
+    @Test
+    public void cachesScheduleOfTheSameDay() throws Exception {
+        EventScheduleCache cache = cache(Duration.ofMinutes(1));
+        when(dataRouterManager.requestEventsFor(eq(LOCALE), any(Date.class))).thenReturn(EVENT_IDS);
+        Date date = new Date(120, 0, 29, 10, 0);
+
+        assertEquals(EVENT_IDS, cache.getEventIds(date, LOCALE));
+        assertEquals(EVENT_IDS, cache.getEventIds(new Date(120, 0, 29, 18, 0), LOCALE));
+        cache.getEventIds(new Date(120, 0, 30), LOCALE);
+
+        verify(dataRouterManager, times(2)).requestEventsFor(eq(LOCALE), any(Date.class));
+    }
+
+    @Test
+    public void coalescesConcurrentRequests() throws Exception {
+        EventScheduleCache cache = cache(Duration.ofMinutes(1));
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        when(dataRouterManager.requestEventsFor(LOCALE, TOURNAMENT_ID)).thenAnswer(invocation -> {
+            requested.countDown();
+            released.await();
+            return EVENT_IDS;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<URN>> first = executor.submit(() -> cache.getEventIds(TOURNAMENT_ID, LOCALE));
+            requested.await();
+            Future<List<URN>> second = executor.submit(() -> cache.getEventIds(TOURNAMENT_ID, LOCALE));
+            Thread.sleep(100);
+            released.countDown();
+
+            assertEquals(EVENT_IDS, first.get());
+            assertEquals(EVENT_IDS, second.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(dataRouterManager, times(1)).requestEventsFor(LOCALE, TOURNAMENT_ID);
+    }
+
+    @Test
+    public void changedEventInvalidatesContainingSchedules() throws Exception {
+        EventScheduleCache cache = cache(Duration.ofMinutes(1));
+        when(dataRouterManager.requestEventsFor(LOCALE, TOURNAMENT_ID)).thenReturn(EVENT_IDS);
+
+        cache.getEventIds(TOURNAMENT_ID, LOCALE);
+        cache.invalidateEvent(URN.parse("sr:match:1"));
+        cache.getEventIds(TOURNAMENT_ID, LOCALE);
+        cache.invalidateEvent(EVENT_ID);
+        cache.getEventIds(TOURNAMENT_ID, LOCALE);
+
+        verify(dataRouterManager, times(2)).requestEventsFor(LOCALE, TOURNAMENT_ID);
+    }
+
+    @Test
+    public void changedEventInvalidatesOnlyContainingSchedules() throws Exception {
+        EventScheduleCache cache = cache(Duration.ofMinutes(1));
+        URN otherTournamentId = URN.parse("sr:tournament:41");
+        when(dataRouterManager.requestEventsFor(LOCALE, TOURNAMENT_ID)).thenReturn(EVENT_IDS);
+        when(dataRouterManager.requestEventsFor(LOCALE, otherTournamentId)).thenReturn(Arrays.asList(URN.parse("sr:match:1")));
+        when(dataRouterManager.requestEventsFor(LOCALE, (Date) null)).thenReturn(Arrays.asList(EVENT_ID));
+
+        cache.getEventIds(TOURNAMENT_ID, LOCALE);
+        cache.getEventIds(otherTournamentId, LOCALE);
+        cache.getEventIds((Date) null, LOCALE);
+        cache.invalidateEvent(EVENT_ID);
+        cache.getEventIds(TOURNAMENT_ID, LOCALE);
+        cache.getEventIds(otherTournamentId, LOCALE);
+        cache.getEventIds((Date) null, LOCALE);
+
+        verify(dataRouterManager, times(2)).requestEventsFor(LOCALE, TOURNAMENT_ID);
+        verify(dataRouterManager, times(1)).requestEventsFor(LOCALE, otherTournamentId);
+        verify(dataRouterManager, times(2)).requestEventsFor(LOCALE, (Date) null);
+    }
+
+    @Test
+    public void reloadedScheduleIsInvalidatedAgain() throws Exception {
+        EventScheduleCache cache = cache(Duration.ofMinutes(1));
+        when(dataRouterManager.requestEventsFor(LOCALE, TOURNAMENT_ID)).thenReturn(EVENT_IDS);
+
+        cache.getEventIds(TOURNAMENT_ID, LOCALE);
+        cache.invalidateEvent(EVENT_ID);
+        cache.getEventIds(TOURNAMENT_ID, LOCALE);
+        cache.invalidateEvent(EVENT_IDS.get(1));
+        cache.getEventIds(TOURNAMENT_ID, LOCALE);
+
+        verify(dataRouterManager, times(3)).requestEventsFor(LOCALE, TOURNAMENT_ID);
+    }
+
+    @Test(expected = CommunicationException.class)
+    public void failedRequestIsRethrown() throws Exception {
+        EventScheduleCache cache = cache(Duration.ofMinutes(1));
+        when(dataRouterManager.requestEventsFor(LOCALE, TOURNAMENT_ID)).thenThrow(new CommunicationException("failed"));
+
+        cache.getEventIds(TOURNAMENT_ID, LOCALE);
+    }
+
+    private EventScheduleCache cache(Duration timeout) {
+        return new EventScheduleCache(dataRouterManager, Runnable::run, timeout, timeout, timeout);
+    }
+}
@@ -0,0 +1,86 @@
+package com.sportradar.unifiedodds.sdk.caching.markets;
+
+import com.google.common.collect.ImmutableMap;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.VariantDescriptionCI;
+import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
+import com.sportradar.unifiedodds.sdk.impl.UnifiedFeedConstants;
+import com.sportradar.unifiedodds.sdk.impl.markets.MarketDescriptionImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class MarketDescriptionProviderImplTest {
+    private static final int MARKET_ID = 18;
+    private static final String VARIANT = "sr:correct_score:max:6";
+    private static final Map<String, String> SPECIFIERS = ImmutableMap.of(UnifiedFeedConstants.VARIANT_DESCRIPTION_NAME, VARIANT);
+    private static final List<Locale> LOCALES = Collections.singletonList(Locale.ENGLISH);
+
+    private final InvariantMarketDescriptionCache invariantCache = mock(InvariantMarketDescriptionCache.class);
+    private final MarketDescriptionCache variantMarketCache = mock(MarketDescriptionCache.class);
+    private final VariantDescriptionCache variantDescriptionCache = mock(VariantDescriptionCache.class);
+
+    private MarketDescriptionProviderImpl provider;
+
+    @Before
+    public void setup() throws Exception {
+        when(invariantCache.getMarketDescriptor(eq(MARKET_ID), isNull(), anyList()))
+                .thenAnswer(invocation -> mock(MarketDescriptionImpl.class));
+        when(variantDescriptionCache.getVariantDescription(eq(VARIANT), anyList())).thenReturn(mock(VariantDescriptionCI.class));
+
+        provider = new MarketDescriptionProviderImpl(invariantCache, variantMarketCache, variantDescriptionCache);
+    }
+
+    @Test
+    public void resolvedVariantDescriptorIsReused() throws Exception {
+        MarketDescription first = provider.getMarketDescription(MARKET_ID, SPECIFIERS, LOCALES, true);
+        MarketDescription second = provider.getMarketDescription(MARKET_ID, SPECIFIERS, LOCALES, true);
+
+        assertSame(first, second);
+        verify(invariantCache, times(1)).getMarketDescriptor(eq(MARKET_ID), isNull(), anyList());
+        verify(variantDescriptionCache, times(1)).getVariantDescription(eq(VARIANT), anyList());
+    }
+
+    @Test
+    public void resolvedDescriptorIsKeyedByTheLocaleSet() throws Exception {
+        MarketDescription english = provider.getMarketDescription(MARKET_ID, SPECIFIERS, LOCALES, true);
+        MarketDescription both = provider.getMarketDescription(MARKET_ID, SPECIFIERS, Arrays.asList(Locale.ENGLISH, Locale.GERMAN), true);
+        MarketDescription reordered = provider.getMarketDescription(MARKET_ID, SPECIFIERS, Arrays.asList(Locale.GERMAN, Locale.ENGLISH), true);
+
+        assertNotSame(english, both);
+        assertSame(both, reordered);
+    }
+
+    @Test
+    public void invariantCacheRefreshInvalidatesResolvedDescriptor() throws Exception {
+        MarketDescription first = provider.getMarketDescription(MARKET_ID, SPECIFIERS, LOCALES, true);
+        when(invariantCache.getVersion()).thenReturn(1L);
+
+        assertNotSame(first, provider.getMarketDescription(MARKET_ID, SPECIFIERS, LOCALES, true));
+    }
+
+    @Test
+    public void variantCacheRefreshInvalidatesResolvedDescriptor() throws Exception {
+        MarketDescription first = provider.getMarketDescription(MARKET_ID, SPECIFIERS, LOCALES, true);
+        when(variantDescriptionCache.getVersion()).thenReturn(1L);
+
+        assertNotSame(first, provider.getMarketDescription(MARKET_ID, SPECIFIERS, LOCALES, true));
+    }
+
+    @Test
+    public void reloadInvalidatesResolvedDescriptors() throws Exception {
+        MarketDescription first = provider.getMarketDescription(MARKET_ID, SPECIFIERS, LOCALES, true);
+
+        provider.reloadMarketDescription(MARKET_ID, SPECIFIERS);
+
+        assertNotSame(first, provider.getMarketDescription(MARKET_ID, SPECIFIERS, LOCALES, true));
+    }
+}
@@ -2,6 +2,7 @@ package com.sportradar.unifiedodds.sdk.di;
 
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,7 +36,7 @@ public class GeneralModuleTest {
   public void setUp() throws Exception {
     module = new GeneralModule(sdkListener, configuration, httpClientFactory);
 
-    when(httpClientFactory.create(anyInt(), anyInt(), anyInt())).thenReturn(httpClient);
+    when(httpClientFactory.create(anyString(), anyInt(), anyInt(), anyInt())).thenReturn(httpClient);
   }
 
   @Test
@@ -47,7 +48,7 @@ public class GeneralModuleTest {
     CloseableHttpClient client = module.provideHttpClient();
     assertNotNull(client);
 
-    verify(httpClientFactory).create(3000, 10, 20);
+    verify(httpClientFactory).create("Default", 3000, 10, 20);
   }
 
   @Test
@@ -63,7 +64,7 @@ public class GeneralModuleTest {
       assertNotNull(client);
     }
 
-    verify(httpClientFactory).create(3000, 10, 20);
+    verify(httpClientFactory).create("Fast", 3000, 10, 20);
   }
 
   @Test
@@ -75,6 +76,6 @@ public class GeneralModuleTest {
     CloseableHttpClient client = module.provideRecoveryHttpClient();
     assertNotNull(client);
 
-    verify(httpClientFactory).create(3000, 10, 20);
+    verify(httpClientFactory).create("Recovery", 3000, 10, 20);
   }
 }
\ No newline at end of file
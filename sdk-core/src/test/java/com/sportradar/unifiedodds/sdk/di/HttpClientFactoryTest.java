@@ -1,13 +1,62 @@
 package com.sportradar.unifiedodds.sdk.di;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 public class HttpClientFactoryTest {
 
+  private static final String BODY = "<fixture/>";
+
   private final HttpClientFactory factory = new HttpClientFactory();
+  private final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+  private HttpServer server;
+
+  @Before
+  public void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", exchange -> {
+      String encoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+      acceptEncoding.set(encoding);
+
+      byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+      if (encoding != null && encoding.contains("gzip")) {
+        body = gzip(body);
+        exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+      }
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream os = exchange.getResponseBody()) {
+        os.write(body);
+      }
+    });
+    server.start();
+  }
+
+  @After
+  public void tearDown() {
+    server.stop(0);
+  }
 
   @Test
   public void should_create_http_client() {
@@ -20,4 +69,71 @@ public class HttpClientFactoryTest {
 
     assertNotNull(client);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void should_request_and_decompress_compressed_responses() throws IOException {
+    try (CloseableHttpClient client = new HttpClientFactory(true, 60).create(5000, 2, 3)) {
+      assertEquals(BODY, get(client));
+    }
+
+    assertTrue(acceptEncoding.get().contains("gzip"));
+  }
+
+  @Test
+  public void should_not_request_compressed_responses_when_compression_disabled() throws IOException {
+    try (CloseableHttpClient client = new HttpClientFactory(false, 0).create(5000, 2, 3)) {
+      assertEquals(BODY, get(client));
+    }
+
+    assertNull(acceptEncoding.get());
+  }
+
+  @Test
+  public void should_expose_connection_pool_statistics() throws Exception {
+    MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName("com.sportradar.unifiedodds.sdk.impl:type=HttpClientPool,name=FactoryTest");
+
+    try (CloseableHttpClient client = factory.create("FactoryTest", 5000, 2, 3)) {
+      assertEquals(2, mbeanServer.getAttribute(name, "Max"));
+      assertEquals(3, mbeanServer.getAttribute(name, "MaxPerRoute"));
+
+      get(client);
+
+      assertEquals(0, mbeanServer.getAttribute(name, "Leased"));
+      assertEquals(0, mbeanServer.getAttribute(name, "Pending"));
+      assertEquals(1, mbeanServer.getAttribute(name, "Available"));
+    }
+
+    assertFalse(mbeanServer.isRegistered(name));
+  }
+
+  @Test
+  public void should_keep_registered_pool_statistics_of_same_name() throws Exception {
+    MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName("com.sportradar.unifiedodds.sdk.impl:type=HttpClientPool,name=SharedName");
+
+    try (CloseableHttpClient first = factory.create("SharedName", 5000, 2, 3)) {
+      factory.create("SharedName", 5000, 5, 5).close();
+
+      assertTrue(mbeanServer.isRegistered(name));
+      assertEquals(2, mbeanServer.getAttribute(name, "Max"));
+    }
+
+    assertFalse(mbeanServer.isRegistered(name));
+  }
+
+  private String get(CloseableHttpClient client) throws IOException {
+    HttpGet request = new HttpGet("http://localhost:" + server.getAddress().getPort() + "/v1/sports/en/sports.xml");
+    try (CloseableHttpResponse response = client.execute(request)) {
+      return EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private static byte[] gzip(byte[] data) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+      gzip.write(data);
+    }
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,132 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class ApiRequestSchedulerTest {
+    private static final String SUMMARY = "https://api.betradar.com/v1/sports/en/sport_events/sr:match:1/summary.xml";
+    private static final String SCHEDULE = "https://api.betradar.com/v1/sports/en/schedules/live/schedule.xml";
+    private static final String RECOVERY = "https://api.betradar.com/v1/liveodds/recovery/initiate_request?request_id=1";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private ApiRequestScheduler scheduler;
+
+    @After
+    public void tearDown() {
+        if (scheduler != null) {
+            scheduler.close();
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void resolvesEndpointFamilies() {
+        assertEquals(ApiEndpointFamily.Summaries, ApiEndpointFamily.fromPath(SUMMARY));
+        assertEquals(ApiEndpointFamily.Schedules, ApiEndpointFamily.fromPath(SCHEDULE));
+        assertEquals(ApiEndpointFamily.Recovery, ApiEndpointFamily.fromPath(RECOVERY));
+        assertEquals(ApiEndpointFamily.MarketDescriptions, ApiEndpointFamily.fromPath("/v1/descriptions/en/markets.xml?include_mappings=true"));
+        assertEquals(ApiEndpointFamily.Profiles, ApiEndpointFamily.fromPath("/v1/sports/en/competitors/sr:competitor:1/profile.xml"));
+        assertEquals(ApiEndpointFamily.Other, ApiEndpointFamily.fromPath("/v1/users/whoami.xml"));
+    }
+
+    @Test
+    public void admitsImmediatelyWhenDisabled() throws Exception {
+        scheduler = new ApiRequestScheduler(0, 0, 0);
+
+        for (int i = 0; i < 100; i++) {
+            scheduler.acquire(SUMMARY);
+        }
+
+        assertFalse(scheduler.isEnabled());
+        assertEquals(0, scheduler.getNumberOfScheduledRequests());
+    }
+
+    @Test
+    public void admitsHigherPriorityRequestsFirst() throws Exception {
+        scheduler = new ApiRequestScheduler(1, 0, 10);
+        scheduler.acquire(SUMMARY);
+
+        List<String> admitted = Collections.synchronizedList(new ArrayList<>());
+        Future<?> schedule = executor.submit(() -> acquire(SCHEDULE, admitted));
+        awaitQueued(1);
+        Future<?> recovery = executor.submit(() -> acquire(RECOVERY, admitted));
+        awaitQueued(2);
+
+        schedule.get(5, TimeUnit.SECONDS);
+        recovery.get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, admitted.size());
+        assertEquals(RECOVERY, admitted.get(0));
+        assertEquals(SCHEDULE, admitted.get(1));
+    }
+
+    @Test
+    public void shedsRequestsWaitingLongerThanTheMaxQueueTime() throws Exception {
+        scheduler = new ApiRequestScheduler(1, 0, 1);
+        scheduler.acquire(SUMMARY);
+
+        List<String> admitted = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> requests = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            requests.add(executor.submit(() -> acquire(SUMMARY, admitted)));
+        }
+        for (Future<?> request : requests) {
+            request.get(5, TimeUnit.SECONDS);
+        }
+
+        assertTrue(scheduler.getNumberOfShedRequests() >= 1);
+        assertEquals(4, scheduler.getNumberOfScheduledRequests() + scheduler.getNumberOfShedRequests());
+        assertEquals(0, scheduler.getQueuedRequests());
+    }
+
+    private void acquire(String path, List<String> admitted) {
+        try {
+            scheduler.acquire(path);
+            admitted.add(path);
+        } catch (CommunicationException e) {
+            // shed
+        }
+    }
+
+    private void awaitQueued(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (scheduler.getQueuedRequests() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, scheduler.getQueuedRequests());
+    }
+
+    @Test
+    public void statisticsAreUnregisteredOnlyByTheRegisteringScheduler() throws Exception {
+        ObjectName name = new ObjectName("com.sportradar.unifiedodds.sdk.impl:type=ApiRequestScheduler");
+        MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        if (mbeanServer.isRegistered(name)) {
+            // registered by a module built in another test
+            mbeanServer.unregisterMBean(name);
+        }
+        scheduler = new ApiRequestScheduler(0, 0, 0);
+        ApiRequestScheduler other = new ApiRequestScheduler(0, 0, 0);
+
+        scheduler.registerMBean();
+        other.registerMBean();
+        other.close();
+        assertTrue(mbeanServer.isRegistered(name));
+
+        scheduler.close();
+        assertFalse(mbeanServer.isRegistered(name));
+    }
+}
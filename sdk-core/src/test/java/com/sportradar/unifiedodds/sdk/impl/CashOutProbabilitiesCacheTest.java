@@ -0,0 +1,114 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.unifiedodds.sdk.oddsentities.CashOutProbabilities;
+import com.sportradar.utils.URN;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+public class CashOutProbabilitiesCacheTest {
+    private static final URN EVENT_ID = URN.parse("sr:match:1");
+    private static final String EVENT_PARAM = EVENT_ID.toString();
+    private static final String MARKET_PARAM = EVENT_ID + "/18/total=2.5";
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    public void servesCachedProbabilitiesUntilTheOddsChange() {
+        CashOutProbabilitiesCache cache = new CashOutProbabilitiesCache(60, 0);
+
+        CashOutProbabilities<SportEvent> first = cache.get(EVENT_ID, EVENT_PARAM, Locale.ENGLISH, this::fetch);
+        CashOutProbabilities<SportEvent> second = cache.get(EVENT_ID, EVENT_PARAM, Locale.ENGLISH, this::fetch);
+        cache.onEventOddsChanged(EVENT_ID);
+        CashOutProbabilities<SportEvent> refreshed = cache.get(EVENT_ID, EVENT_PARAM, Locale.ENGLISH, this::fetch);
+
+        assertSame(first, second);
+        assertNotSame(first, refreshed);
+        assertEquals(2, requests.get());
+        assertEquals(1, cache.getNumberOfHits());
+        assertEquals(2, cache.getNumberOfMisses());
+    }
+
+    @Test
+    public void oddsChangeRefreshesAllMarketsOfTheEvent() {
+        CashOutProbabilitiesCache cache = new CashOutProbabilitiesCache(60, 0);
+        CashOutProbabilities<SportEvent> market = cache.get(EVENT_ID, MARKET_PARAM, Locale.ENGLISH, this::fetch);
+        CashOutProbabilities<SportEvent> otherEvent = cache.get(URN.parse("sr:match:2"), "sr:match:2", Locale.ENGLISH, this::fetch);
+
+        cache.onEventOddsChanged(EVENT_ID);
+
+        assertNotSame(market, cache.get(EVENT_ID, MARKET_PARAM, Locale.ENGLISH, this::fetch));
+        assertSame(otherEvent, cache.get(URN.parse("sr:match:2"), "sr:match:2", Locale.ENGLISH, this::fetch));
+    }
+
+    @Test
+    public void limitsRefreshesWithTheMinimumInterval() {
+        CashOutProbabilitiesCache cache = new CashOutProbabilitiesCache(60, 60_000);
+
+        CashOutProbabilities<SportEvent> first = cache.get(EVENT_ID, EVENT_PARAM, Locale.ENGLISH, this::fetch);
+        cache.onEventOddsChanged(EVENT_ID);
+        CashOutProbabilities<SportEvent> second = cache.get(EVENT_ID, EVENT_PARAM, Locale.ENGLISH, this::fetch);
+
+        assertSame(first, second);
+        assertEquals(1, requests.get());
+        assertEquals(1, cache.getNumberOfThrottledRefreshes());
+        assertEquals(0.5, cache.getHitRate(), 0.001);
+    }
+
+    @Test
+    public void doesNotCacheWhenDisabled() {
+        CashOutProbabilitiesCache cache = new CashOutProbabilitiesCache(0, 0);
+
+        cache.get(EVENT_ID, EVENT_PARAM, Locale.ENGLISH, this::fetch);
+        cache.get(EVENT_ID, EVENT_PARAM, Locale.ENGLISH, this::fetch);
+
+        assertFalse(cache.isCachingEnabled());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void cachesProbabilitiesPerLocale() {
+        CashOutProbabilitiesCache cache = new CashOutProbabilitiesCache(60, 0);
+
+        CashOutProbabilities<SportEvent> english = cache.get(EVENT_ID, EVENT_PARAM, Locale.ENGLISH, this::fetch);
+        CashOutProbabilities<SportEvent> german = cache.get(EVENT_ID, EVENT_PARAM, Locale.GERMAN, this::fetch);
+
+        assertNotSame(english, german);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void closeUnregistersTheStatisticsAndDropsTheProbabilities() throws Exception {
+        ObjectName name = new ObjectName("com.sportradar.unifiedodds.sdk.impl:type=CashOutProbabilitiesCache");
+        MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        if (mbeanServer.isRegistered(name)) {
+            // registered by a module built in another test
+            mbeanServer.unregisterMBean(name);
+        }
+        CashOutProbabilitiesCache cache = new CashOutProbabilitiesCache(60, 0);
+        CashOutProbabilitiesCache other = new CashOutProbabilitiesCache(60, 0);
+        cache.registerMBean();
+        other.registerMBean();
+        cache.get(EVENT_ID, EVENT_PARAM, Locale.ENGLISH, this::fetch);
+
+        other.close();
+        assertTrue(mbeanServer.isRegistered(name));
+
+        cache.close();
+        assertFalse(mbeanServer.isRegistered(name));
+        assertEquals(0, cache.getCachedProbabilitiesCount());
+    }
+
+    private CashOutProbabilities<SportEvent> fetch() {
+        requests.incrementAndGet();
+        return mock(CashOutProbabilities.class);
+    }
+}
@@ -131,6 +131,66 @@ public class ChannelMessageConsumerTest {
                 .onMessageDeserializationFailed(Mockito.eq(data), Mockito.any());
     }
 
+    @Test
+    public void passthroughConsumerReceivesPayloadWithoutDeserialization() throws Exception {
+        //Prepare
+        MessageConsumer msgConsumer = Mockito.mock(MessageConsumer.class);
+        Mockito.when(msgConsumer.isPassthroughEnabled()).thenReturn(true);
+        chanMsgConsumer.open(msgConsumer);
+
+        byte[] data = oddsChangeBytes();
+
+        //Execute
+        chanMsgConsumer.onMessageReceived(ODDS_CHANGE_KEY, data, null, 0L);
+
+        //Verify
+        Mockito
+                .verify(msgConsumer)
+                .onPassthroughMessageReceived(Mockito.eq(data), Mockito.any(), Mockito.any());
+        Mockito
+                .verify(msgConsumer, Mockito.never())
+                .onMessageReceived(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void discardedEventIsNotDeserialized() throws Exception {
+        //Prepare
+        MessageConsumer msgConsumer = Mockito.mock(MessageConsumer.class);
+        Mockito.when(msgConsumer.isEventDiscarded(Mockito.any())).thenReturn(true);
+        chanMsgConsumer.open(msgConsumer);
+
+        byte[] data = oddsChangeBytes();
+
+        //Execute
+        chanMsgConsumer.onMessageReceived(ODDS_CHANGE_KEY, data, null, 0L);
+
+        //Verify
+        Mockito
+                .verify(msgConsumer, Mockito.never())
+                .onMessageReceived(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito
+                .verify(msgConsumer, Mockito.never())
+                .onRawFeedMessageReceived(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void messagesWithoutEventAreNotDiscarded() throws Exception {
+        //Prepare
+        MessageConsumer msgConsumer = Mockito.mock(MessageConsumer.class);
+        Mockito.when(msgConsumer.isEventDiscarded(Mockito.any())).thenReturn(true);
+        chanMsgConsumer.open(msgConsumer);
+
+        byte[] data = Files.readAllBytes(Paths.get(this.getClass().getClassLoader().getResource(Constants.ALIVE_MSG_URI).toURI()));
+
+        //Execute
+        chanMsgConsumer.onMessageReceived(Constants.ALIVE_KEY, data, null, 0L);
+
+        //Verify
+        Mockito
+                .verify(msgConsumer)
+                .onMessageReceived(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.any());
+    }
+
     //Helpers:
 
     private byte[] oddsChangeBytes() throws Exception {
@@ -0,0 +1,128 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.custombetentities.AvailableSelections;
+import com.sportradar.unifiedodds.sdk.custombetentities.Calculation;
+import com.sportradar.unifiedodds.sdk.custombetentities.Selection;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.unifiedodds.sdk.impl.custombetentities.SelectionImpl;
+import com.sportradar.utils.URN;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CustomBetCacheTest {
+    private static final URN FIRST_EVENT = URN.parse("sr:match:1");
+    private static final URN SECOND_EVENT = URN.parse("sr:match:2");
+    private static final Selection FIRST_SELECTION = new SelectionImpl(FIRST_EVENT, 1, "1", null);
+    private static final Selection SECOND_SELECTION = new SelectionImpl(SECOND_EVENT, 18, "12", "total=2.5");
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    public void cachesCalculationsRegardlessOfTheSelectionOrder() throws Exception {
+        CustomBetCache cache = cache(60);
+
+        Calculation first = cache.getCalculation(Arrays.asList(FIRST_SELECTION, SECOND_SELECTION), this::calculate);
+        Calculation second = cache.getCalculation(Arrays.asList(SECOND_SELECTION, FIRST_SELECTION), this::calculate);
+
+        assertSame(first, second);
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void oddsChangeDiscardsTheResultsOfTheEvent() throws Exception {
+        CustomBetCache cache = cache(60);
+        List<Selection> selections = Arrays.asList(FIRST_SELECTION, SECOND_SELECTION);
+        List<Selection> otherSelections = Arrays.asList(FIRST_SELECTION);
+        Calculation calculation = cache.getCalculation(selections, this::calculate);
+        Calculation otherCalculation = cache.getCalculation(otherSelections, this::calculate);
+        AvailableSelections available = cache.getAvailableSelections(SECOND_EVENT, () -> mock(AvailableSelections.class));
+
+        cache.onEventOddsChanged(SECOND_EVENT);
+
+        assertNotSame(calculation, cache.getCalculation(selections, this::calculate));
+        assertSame(otherCalculation, cache.getCalculation(otherSelections, this::calculate));
+        assertNotSame(available, cache.getAvailableSelections(SECOND_EVENT, () -> mock(AvailableSelections.class)));
+    }
+
+    @Test
+    public void doesNotCacheResultsWhenDisabled() throws Exception {
+        CustomBetCache cache = cache(0);
+        List<Selection> selections = Arrays.asList(FIRST_SELECTION);
+
+        cache.getCalculation(selections, this::calculate);
+        cache.getCalculation(selections, this::calculate);
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void mergesConcurrentIdenticalRequests() throws Exception {
+        CustomBetCache cache = cache(0);
+        List<Selection> selections = Arrays.asList(FIRST_SELECTION);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Calculation> first = executor.submit(() -> cache.getCalculation(selections, () -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return calculate();
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<Calculation> second = executor.submit(() -> cache.getCalculation(selections, this::calculate));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, requests.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void doesNotCacheFailedRequests() throws Exception {
+        CustomBetCache cache = cache(60);
+        List<Selection> selections = Arrays.asList(FIRST_SELECTION);
+
+        try {
+            cache.getCalculation(selections, () -> {
+                throw new CommunicationException("failed");
+            });
+            fail("CommunicationException expected");
+        } catch (CommunicationException e) {
+            assertEquals("failed", e.getMessage());
+        }
+
+        assertNotNull(cache.getCalculation(selections, this::calculate));
+        assertEquals(1, requests.get());
+    }
+
+    private Calculation calculate() {
+        requests.incrementAndGet();
+        return mock(Calculation.class);
+    }
+
+    private static CustomBetCache cache(int timeout) {
+        SDKInternalConfiguration config = mock(SDKInternalConfiguration.class);
+        when(config.getCustomBetCacheTimeout()).thenReturn(timeout);
+        return new CustomBetCache(config);
+    }
+}
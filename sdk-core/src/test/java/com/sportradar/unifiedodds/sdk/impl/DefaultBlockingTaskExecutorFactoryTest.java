@@ -0,0 +1,66 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class DefaultBlockingTaskExecutorFactoryTest {
+
+    @Test
+    public void platformExecutorNamesItsThreads() throws Exception {
+        DefaultBlockingTaskExecutorFactory factory = new DefaultBlockingTaskExecutorFactory(false);
+
+        assertFalse(factory.isVirtual());
+        assertTrue(runThreadName(factory).startsWith("BlockingTest-"));
+    }
+
+    @Test
+    public void virtualThreadsAreUsedOnlyIfSupported() throws Exception {
+        DefaultBlockingTaskExecutorFactory factory = new DefaultBlockingTaskExecutorFactory(true);
+
+        assertEquals(isVirtualThreadApiAvailable(), factory.isVirtual());
+        assertTrue(runThreadName(factory).startsWith("BlockingTest-"));
+    }
+
+    @Test
+    public void platformExecutorCreatesDaemonThreadsOnRequest() throws Exception {
+        DefaultBlockingTaskExecutorFactory factory = new DefaultBlockingTaskExecutorFactory(false);
+
+        assertFalse(runOnDaemonThread(factory.createExecutor("BlockingTest", 2)));
+        assertTrue(runOnDaemonThread(factory.createExecutor("BlockingTest", 2, true)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelismMustBePositive() {
+        new DefaultBlockingTaskExecutorFactory(false).createExecutor("BlockingTest", 0);
+    }
+
+    private static String runThreadName(BlockingTaskExecutorFactory factory) throws Exception {
+        ExecutorService executor = factory.createExecutor("BlockingTest", 2);
+        try {
+            return executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean runOnDaemonThread(ExecutorService executor) throws Exception {
+        try {
+            return executor.submit(() -> Thread.currentThread().isDaemon()).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean isVirtualThreadApiAvailable() {
+        try {
+            Thread.class.getMethod("ofVirtual").invoke(null);
+            return true;
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.uf.datamodel.*;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
+import com.sportradar.unifiedodds.sdk.oddsentities.EventOddsBook;
+import com.sportradar.unifiedodds.sdk.oddsentities.MarketStatus;
+import com.sportradar.utils.URN;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Objects;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+public class OddsBookTest {
+    private static final URN EVENT_ID = URN.parse("sr:match:10927088");
+    private static final int PRODUCER_ID = 4;
+
+    private OddsBook oddsBook;
+    private UFOddsChange oddsChange;
+
+    @Before
+    public void setup() throws Exception {
+        oddsBook = new OddsBook(true, mock(MarketDescriptionProvider.class), Collections.singletonList(Locale.ENGLISH));
+        oddsChange = XmlMessageReader.readMessageFromResource("test/feed_xml/odds_change.xml");
+    }
+
+    @Test
+    public void disabledBookIgnoresMessages() {
+        OddsBook disabled = new OddsBook(false, mock(MarketDescriptionProvider.class), Collections.singletonList(Locale.ENGLISH));
+
+        disabled.onMessage(oddsChange);
+
+        assertFalse(disabled.isEnabled());
+        assertNull(disabled.getEventOddsBook(EVENT_ID, PRODUCER_ID));
+        assertEquals(0, disabled.getEventCount());
+    }
+
+    @Test
+    public void appliesOddsChange() {
+        oddsBook.onMessage(oddsChange);
+
+        EventOddsBook book = oddsBook.getEventOddsBook(EVENT_ID, PRODUCER_ID);
+        assertNotNull(book);
+        assertEquals(EVENT_ID, book.getEventId());
+        assertEquals(PRODUCER_ID, book.getProducerId());
+        assertEquals(oddsChange.getTimestamp(), book.getTimestamp());
+        assertEquals(oddsChange.getOdds().getMarket().size(), book.getMarketCount());
+        assertEquals(1, book.getVersion());
+        assertEquals(1, oddsBook.getEventVersion(EVENT_ID, PRODUCER_ID));
+        assertEquals(Collections.singleton(EVENT_ID), oddsBook.getEventIds());
+        assertTrue(oddsBook.getEstimatedMemoryUsage() > 0);
+        assertEquals(1, oddsBook.getNumberOfAppliedMessages());
+
+        int market = findMarket(book, 26, null);
+        assertEquals(MarketStatus.Active, book.getMarketStatus(market));
+        assertEquals(2, book.getLastOutcome(market) - book.getFirstOutcome(market));
+        assertEquals(1.85, book.getOdds(book.getFirstOutcome(market)), 0.0001);
+        assertEquals(0.48935, book.getProbability(book.getFirstOutcome(market)), 0.0001);
+        assertEquals(-1, book.getResult(book.getFirstOutcome(market)));
+    }
+
+    @Test
+    public void updatesOutcomesInPlace() {
+        oddsBook.onMessage(oddsChange);
+        EventOddsBook before = oddsBook.getEventOddsBook(EVENT_ID, PRODUCER_ID);
+
+        oddsChange.getOdds().getMarket().get(0).getOutcome().get(0).setOdds(2.5);
+        oddsChange.setTimestamp(oddsChange.getTimestamp() + 1);
+        oddsBook.onMessage(oddsChange);
+
+        EventOddsBook after = oddsBook.getEventOddsBook(EVENT_ID, PRODUCER_ID);
+        assertEquals(2, after.getVersion());
+        assertEquals(before.getMarketCount(), after.getMarketCount());
+        assertEquals(2.5, after.getOdds(after.getFirstOutcome(findMarket(after, 26, null))), 0.0001);
+        assertEquals(1.85, before.getOdds(before.getFirstOutcome(findMarket(before, 26, null))), 0.0001);
+    }
+
+    @Test
+    public void betStopSuspendsActiveMarkets() {
+        oddsBook.onMessage(oddsChange);
+
+        UFBetStop betStop = new UFBetStop();
+        betStop.setEventId(EVENT_ID.toString());
+        betStop.setProduct(PRODUCER_ID);
+        betStop.setGroups(UnifiedFeedConstants.MARKET_GROUPS_ALL);
+        betStop.setTimestamp(oddsChange.getTimestamp() + 1);
+        oddsBook.onMessage(betStop);
+
+        EventOddsBook book = oddsBook.getEventOddsBook(EVENT_ID, PRODUCER_ID);
+        assertEquals(MarketStatus.Suspended, book.getMarketStatus(findMarket(book, 26, null)));
+        assertEquals(MarketStatus.Suspended, book.getMarketStatus(findMarket(book, 68, "total=2.5")));
+    }
+
+    @Test
+    public void betSettlementSettlesMarkets() {
+        oddsBook.onMessage(oddsChange);
+
+        UFBetSettlementMarket.UFOutcome outcome = new UFBetSettlementMarket.UFOutcome();
+        outcome.setId("70");
+        outcome.setResult(UFResult.WON);
+        outcome.setVoidFactor(UFVoidFactor.REFUND_HALF);
+        UFBetSettlementMarket market = new UFBetSettlementMarket();
+        market.setId(26);
+        market.getOutcome().add(outcome);
+        UFBetSettlement betSettlement = new UFBetSettlement();
+        betSettlement.setEventId(EVENT_ID.toString());
+        betSettlement.setProduct(PRODUCER_ID);
+        betSettlement.setOutcomes(new UFBetSettlement.UFOutcomes());
+        betSettlement.getOutcomes().getMarket().add(market);
+        oddsBook.onMessage(betSettlement);
+
+        EventOddsBook book = oddsBook.getEventOddsBook(EVENT_ID, PRODUCER_ID);
+        int settled = findMarket(book, 26, null);
+        assertEquals(MarketStatus.Settled, book.getMarketStatus(settled));
+        assertEquals(1, book.getResult(book.getFirstOutcome(settled)));
+        assertEquals(0.5, book.getVoidFactor(book.getFirstOutcome(settled)), 0.0001);
+        assertEquals(-1, book.getResult(book.getFirstOutcome(settled) + 1));
+    }
+
+    @Test
+    public void completedSnapshotRemovesMarketsNotIncluded() {
+        oddsBook.onMessage(oddsChange);
+
+        UFOddsChange recovered = new UFOddsChange();
+        recovered.setEventId(EVENT_ID.toString());
+        recovered.setProduct(PRODUCER_ID);
+        recovered.setRequestId(15L);
+        recovered.setOdds(new UFOddsChange.UFOdds());
+        recovered.getOdds().getMarket().add(oddsChange.getOdds().getMarket().get(0));
+        oddsBook.onMessage(recovered);
+
+        UFSnapshotComplete snapshotComplete = new UFSnapshotComplete();
+        snapshotComplete.setProduct(PRODUCER_ID);
+        snapshotComplete.setRequestId(15);
+        oddsBook.onMessage(snapshotComplete);
+
+        EventOddsBook book = oddsBook.getEventOddsBook(EVENT_ID, PRODUCER_ID);
+        assertEquals(1, book.getMarketCount());
+        assertEquals(26, book.getMarketId(0));
+        assertEquals(1, oddsBook.getNumberOfCompletedSnapshots());
+    }
+
+    @Test
+    public void removesEvent() {
+        oddsBook.onMessage(oddsChange);
+
+        oddsBook.removeEvent(EVENT_ID);
+
+        assertNull(oddsBook.getEventOddsBook(EVENT_ID, PRODUCER_ID));
+        assertTrue(oddsBook.getEventOddsBooks(EVENT_ID).isEmpty());
+        assertEquals(0, oddsBook.getEstimatedMemoryUsage());
+    }
+
+    @Test
+    public void closeUnregistersTheStatisticsAndDropsTheBooks() throws Exception {
+        ObjectName name = new ObjectName("com.sportradar.unifiedodds.sdk.impl:type=OddsBook");
+        MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        if (mbeanServer.isRegistered(name)) {
+            // registered by a module built in another test
+            mbeanServer.unregisterMBean(name);
+        }
+        OddsBook other = new OddsBook(true, mock(MarketDescriptionProvider.class), Collections.singletonList(Locale.ENGLISH));
+        oddsBook.registerMBean();
+        other.registerMBean();
+        oddsBook.onMessage(oddsChange);
+
+        other.close();
+        assertTrue(mbeanServer.isRegistered(name));
+
+        oddsBook.close();
+        assertFalse(mbeanServer.isRegistered(name));
+        assertEquals(0, oddsBook.getEventCount());
+        assertNull(oddsBook.getEventOddsBook(EVENT_ID, PRODUCER_ID));
+    }
+
+    private static int findMarket(EventOddsBook book, int marketId, String specifiers) {
+        for (int i = 0; i < book.getMarketCount(); i++) {
+            if (book.getMarketId(i) == marketId && Objects.equals(book.resolveHandle(book.getSpecifiersHandle(i)), specifiers)) {
+                return i;
+            }
+        }
+        throw new AssertionError("market " + marketId + " not found");
+    }
+}
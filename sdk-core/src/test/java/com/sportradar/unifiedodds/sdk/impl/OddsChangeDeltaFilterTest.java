@@ -0,0 +1,131 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.uf.datamodel.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+public class OddsChangeDeltaFilterTest {
+    private static final String ODDS_CHANGE = "test/feed_xml/odds_change.xml";
+
+    private final OddsChangeDeltaFilter filter = new OddsChangeDeltaFilter();
+    private UFOddsChange oddsChange;
+
+    @Before
+    public void setup() throws Exception {
+        oddsChange = XmlMessageReader.readMessageFromResource(ODDS_CHANGE);
+    }
+
+    @Test
+    public void firstOddsChangeIsDispatchedComplete() {
+        assertSame(oddsChange, filter.filter(oddsChange));
+    }
+
+    @Test
+    public void unchangedOddsChangeHasNoMarkets() throws Exception {
+        filter.filter(oddsChange);
+
+        UFOddsChange delta = filter.filter(XmlMessageReader.readMessageFromResource(ODDS_CHANGE));
+
+        assertNotSame(oddsChange, delta);
+        assertEquals(oddsChange.getEventId(), delta.getEventId());
+        assertEquals(oddsChange.getProduct(), delta.getProduct());
+        assertTrue(delta.getOdds().getMarket().isEmpty());
+    }
+
+    @Test
+    public void deltaContainsChangedOutcomesOnly() throws Exception {
+        filter.filter(oddsChange);
+
+        UFOddsChange next = XmlMessageReader.readMessageFromResource(ODDS_CHANGE);
+        UFOddsChangeMarket changedMarket = next.getOdds().getMarket().get(0);
+        changedMarket.getOutcome().get(1).setOdds(1.95);
+        UFOddsChangeMarket.UFOutcome deactivated = next.getOdds().getMarket().get(1).getOutcome().get(0);
+        deactivated.setActive(UFOutcomeActive.INACTIVE);
+
+        UFOddsChange delta = filter.filter(next);
+
+        assertEquals(2, delta.getOdds().getMarket().size());
+        UFOddsChangeMarket first = delta.getOdds().getMarket().get(0);
+        assertEquals(changedMarket.getId(), first.getId());
+        assertEquals(1, first.getOutcome().size());
+        assertEquals(1.95, first.getOutcome().get(0).getOdds(), 0.0001);
+        assertEquals(1, delta.getOdds().getMarket().get(1).getOutcome().size());
+        assertSame(deactivated, delta.getOdds().getMarket().get(1).getOutcome().get(0));
+    }
+
+    @Test
+    public void marketStatusChangeIncludesTheWholeMarket() throws Exception {
+        filter.filter(oddsChange);
+
+        UFOddsChange next = XmlMessageReader.readMessageFromResource(ODDS_CHANGE);
+        UFOddsChangeMarket suspended = next.getOdds().getMarket().get(0);
+        suspended.setStatus(UFMarketStatus.SUSPENDED);
+
+        UFOddsChange delta = filter.filter(next);
+
+        assertEquals(1, delta.getOdds().getMarket().size());
+        assertEquals(UFMarketStatus.SUSPENDED, delta.getOdds().getMarket().get(0).getStatus());
+        assertEquals(suspended.getOutcome().size(), delta.getOdds().getMarket().get(0).getOutcome().size());
+    }
+
+    @Test
+    public void recoveryOddsChangeIsDispatchedComplete() throws Exception {
+        filter.filter(oddsChange);
+
+        UFOddsChange recovered = XmlMessageReader.readMessageFromResource(ODDS_CHANGE);
+        recovered.setRequestId(15L);
+
+        assertSame(recovered, filter.filter(recovered));
+    }
+
+    @Test
+    public void betStopResetsTheEventState() throws Exception {
+        filter.filter(oddsChange);
+
+        UFBetStop betStop = new UFBetStop();
+        betStop.setEventId(oddsChange.getEventId());
+        betStop.setProduct(oddsChange.getProduct());
+        filter.onMessage(betStop);
+
+        UFOddsChange next = XmlMessageReader.readMessageFromResource(ODDS_CHANGE);
+        assertSame(next, filter.filter(next));
+    }
+
+    @Test
+    public void concurrentOddsChangesOfTheSameEventAreReducedOneAtATime() throws Exception {
+        int threadCount = 8;
+        List<UFOddsChange> messages = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            messages.add(XmlMessageReader.readMessageFromResource(ODDS_CHANGE));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> dispatchedComplete = new ArrayList<>();
+            for (UFOddsChange message : messages) {
+                dispatchedComplete.add(executor.submit(() -> {
+                    start.await();
+                    return filter.filter(message) == message;
+                }));
+            }
+            start.countDown();
+
+            int completeCount = 0;
+            for (Future<Boolean> complete : dispatchedComplete) {
+                if (complete.get(5, TimeUnit.SECONDS)) {
+                    completeCount++;
+                }
+            }
+            assertEquals(1, completeCount);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.cache.CacheBuilder;
+import com.sportradar.unifiedodds.sdk.*;
+import com.sportradar.unifiedodds.sdk.cfg.Environment;
+import com.sportradar.unifiedodds.sdk.impl.oddsentities.MessageTimestampImpl;
+import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.CompositeMessageProcessor;
+import com.sportradar.unifiedodds.sdk.oddsentities.PassthroughMessage;
+import com.sportradar.unifiedodds.sdk.oddsentities.Producer;
+import com.sportradar.utils.URN;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.*;
+
+public class OddsFeedSessionPassthroughTest {
+    private final SDKInternalConfiguration config = mock(SDKInternalConfiguration.class);
+    private final MessageReceiver messageReceiver = mock(MessageReceiver.class);
+    private final RecoveryManager recoveryManager = mock(RecoveryManager.class);
+    private final CompositeMessageProcessor messageProcessor = mock(CompositeMessageProcessor.class);
+    private final SDKProducerManager producerManager = mock(SDKProducerManager.class);
+    private final FeedMessageFactory messageFactory = mock(FeedMessageFactory.class);
+    private final FeedMessageValidator feedMessageValidator = mock(FeedMessageValidator.class);
+    private final SportEntityFactory sportEntityFactory = mock(SportEntityFactory.class);
+    private final OddsFeedPassthroughListener listener = mock(OddsFeedPassthroughListener.class);
+    private OddsFeedSessionImpl session;
+
+    @Before
+    public void setup() throws Exception {
+        when(config.getEnvironment()).thenReturn(Environment.Integration);
+        when(producerManager.isProducerEnabled(anyInt())).thenReturn(true);
+        when(producerManager.getProducer(anyInt())).thenReturn(mock(Producer.class));
+
+        session = new OddsFeedSessionImpl(config, messageReceiver, recoveryManager, messageProcessor, producerManager,
+                mock(SportsInfoManager.class), sportEntityFactory, messageFactory, feedMessageValidator,
+                mock(UnifiedOddsStatistics.class), CacheBuilder.newBuilder().build(), mock(OddsBook.class),
+                new DefaultBlockingTaskExecutorFactory(false));
+        session.openPassthrough(Collections.singletonList("#"), MessageInterest.AllMessages, listener);
+    }
+
+    @Test
+    public void dispatchesRawMessageWithoutDeserialization() {
+        byte[] body = "<odds_change product=\"1\" event_id=\"sr:match:10927088\" timestamp=\"1000\"/>".getBytes(StandardCharsets.UTF_8);
+
+        session.onPassthroughMessageReceived(body, routingKeyInfo(), new MessageTimestampImpl(1, 2, 3, 0));
+
+        ArgumentCaptor<PassthroughMessage> captor = ArgumentCaptor.forClass(PassthroughMessage.class);
+        verify(listener).onPassthroughMessage(eq(session), captor.capture());
+        PassthroughMessage message = captor.getValue();
+        assertEquals("odds_change", message.getMessageType());
+        assertEquals(1, message.getProducerId());
+        assertEquals(URN.parse("sr:match:10927088"), message.getEventId());
+        assertEquals(1000L, message.getTimestamps().getCreated());
+        assertEquals(body, message.getBody());
+
+        verify(recoveryManager).onMessageProcessingStarted(anyInt(), eq(1), isNull(), anyLong());
+        verify(recoveryManager).onMessageProcessingEnded(anyInt(), eq(1), eq(1000L), eq("sr:match:10927088"));
+        verifyNoInteractions(messageProcessor, messageFactory, feedMessageValidator, sportEntityFactory);
+    }
+
+    @Test
+    public void snapshotCompleteIsReportedToRecoveryManager() {
+        byte[] body = "<snapshot_complete request_id=\"5\" product=\"1\" timestamp=\"1000\"/>".getBytes(StandardCharsets.UTF_8);
+
+        session.onPassthroughMessageReceived(body, new RoutingKeyInfo(Constants.SNAPSHOT_COMPLETE_KEY, true), new MessageTimestampImpl(1, 2, 3, 0));
+
+        verify(recoveryManager).onSnapshotCompleteReceived(eq(1), anyLong(), eq(5L), eq(MessageInterest.AllMessages));
+        verify(listener).onPassthroughMessage(eq(session), any(PassthroughMessage.class));
+    }
+
+    @Test
+    public void aliveIsReportedToRecoveryManager() {
+        byte[] body = "<alive product=\"3\" timestamp=\"1000\" subscribed=\"1\"/>".getBytes(StandardCharsets.UTF_8);
+
+        session.onPassthroughMessageReceived(body, new RoutingKeyInfo(Constants.ALIVE_KEY, true), new MessageTimestampImpl(1, 2, 3, 0));
+
+        verify(recoveryManager).onAliveReceived(eq(3), eq(1000L), anyLong(), eq(true), eq(false));
+    }
+
+    @Test
+    public void messagesOfDisabledProducersAreDiscarded() {
+        when(producerManager.isProducerEnabled(1)).thenReturn(false);
+        byte[] body = "<odds_change product=\"1\" event_id=\"sr:match:10927088\" timestamp=\"1000\"/>".getBytes(StandardCharsets.UTF_8);
+
+        session.onPassthroughMessageReceived(body, routingKeyInfo(), new MessageTimestampImpl(1, 2, 3, 0));
+
+        verifyNoInteractions(listener, recoveryManager);
+    }
+
+    @Test
+    public void unparsableHeaderIsReportedToListener() {
+        byte[] body = new byte[]{1, 2, 3};
+
+        session.onPassthroughMessageReceived(body, routingKeyInfo(), new MessageTimestampImpl(1, 2, 3, 0));
+
+        verify(listener).onUnparsableMessage(session, Constants.ODDS_CHANGE_KEY, body);
+        verify(listener, never()).onPassthroughMessage(any(), any());
+        verifyNoInteractions(recoveryManager);
+    }
+
+    private static RoutingKeyInfo routingKeyInfo() {
+        return new RoutingKeyInfo(Constants.ODDS_CHANGE_KEY, URN.parse("sr:sport:1"), URN.parse("sr:match:10927088"));
+    }
+}
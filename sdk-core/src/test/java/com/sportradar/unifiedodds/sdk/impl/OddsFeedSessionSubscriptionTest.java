@@ -0,0 +1,64 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.sportradar.unifiedodds.sdk.*;
+import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.CompositeMessageProcessor;
+import com.sportradar.utils.URN;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.Mockito.*;
+
+public class OddsFeedSessionSubscriptionTest {
+    private static final URN EVENT_ID = URN.parse("sr:match:10927088");
+
+    private final SDKInternalConfiguration config = mock(SDKInternalConfiguration.class);
+    private final MessageReceiver messageReceiver = mock(MessageReceiver.class);
+    private OddsFeedSessionImpl session;
+
+    @Before
+    public void setup() {
+        session = new OddsFeedSessionImpl(config, messageReceiver, mock(RecoveryManager.class), mock(CompositeMessageProcessor.class),
+                mock(SDKProducerManager.class), mock(SportsInfoManager.class), mock(SportEntityFactory.class), mock(FeedMessageFactory.class),
+                mock(FeedMessageValidator.class), mock(UnifiedOddsStatistics.class), CacheBuilder.newBuilder().build(), mock(OddsBook.class),
+                new DefaultBlockingTaskExecutorFactory(false));
+    }
+
+    @Test
+    public void bindsTheEventRoutingKeys() throws Exception {
+        when(config.getSdkNodeId()).thenReturn(null);
+        session.open(Collections.singletonList("#.sr:match.1.#"), MessageInterest.SpecifiedMatchesOnly, mock(OddsFeedListener.class), null);
+
+        session.subscribeEvents(Collections.singleton(EVENT_ID));
+
+        verify(messageReceiver).updateRoutingKeys(Collections.singletonList("#.sr:match.10927088.#"), Collections.emptyList());
+    }
+
+    @Test
+    public void bindsTheNodeRoutingKeys() throws Exception {
+        when(config.getSdkNodeId()).thenReturn(3);
+        session.open(Collections.singletonList("#.sr:match.1.#"), MessageInterest.SpecifiedMatchesOnly, mock(OddsFeedListener.class), null);
+
+        session.unsubscribeEvents(Collections.singleton(EVENT_ID));
+
+        verify(messageReceiver).updateRoutingKeys(Collections.emptyList(), Arrays.asList("#.sr:match.10927088.3.#", "#.sr:match.10927088.-.#"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsSessionsNotReceivingSpecificEvents() throws Exception {
+        session.open(Collections.singletonList("#"), MessageInterest.AllMessages, mock(OddsFeedListener.class), null);
+
+        session.subscribeEvents(Collections.singleton(EVENT_ID));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEventsSubscribedAndUnsubscribedInTheSameBatch() throws Exception {
+        session.open(Collections.singletonList("#.sr:match.1.#"), MessageInterest.SpecifiedMatchesOnly, mock(OddsFeedListener.class), null);
+
+        session.updateEventSubscriptions(ImmutableSet.of(EVENT_ID), ImmutableSet.of(EVENT_ID));
+    }
+}
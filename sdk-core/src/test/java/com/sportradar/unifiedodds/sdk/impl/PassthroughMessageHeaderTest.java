@@ -0,0 +1,83 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.*;
+
+public class PassthroughMessageHeaderTest {
+
+    @Test
+    public void parsesOddsChangeHeader() throws Exception {
+        PassthroughMessageHeader header = PassthroughMessageHeader.parse(read(Constants.ODDS_CHANGE_MSG_URI));
+
+        assertEquals("odds_change", header.getMessageType());
+        assertEquals(4, header.getProducerId());
+        assertEquals(1487254396715L, header.getTimestamp());
+        assertNull(header.getRequestId());
+    }
+
+    @Test
+    public void parsesAliveHeaderAfterXmlDeclaration() throws Exception {
+        PassthroughMessageHeader header = PassthroughMessageHeader.parse(read(Constants.ALIVE_MSG_URI));
+
+        assertEquals(PassthroughMessageHeader.ALIVE, header.getMessageType());
+        assertEquals(1, header.getProducerId());
+        assertEquals(1465848166722L, header.getTimestamp());
+        assertTrue(header.isSubscribed());
+    }
+
+    @Test
+    public void parsesSnapshotCompleteRequestId() throws Exception {
+        PassthroughMessageHeader header = PassthroughMessageHeader.parse(read(Constants.SNAPSHOT_COMPLETE_MSG_URI));
+
+        assertEquals(PassthroughMessageHeader.SNAPSHOT_COMPLETE, header.getMessageType());
+        assertEquals(Long.valueOf(1), header.getRequestId());
+    }
+
+    @Test
+    public void parsesSingleQuotedAttributesAndIgnoresUnknownOnes() {
+        PassthroughMessageHeader header = parse("<!-- relay --><bet_stop groups = 'all' product='3' timestamp='12' request_id='7'><x/></bet_stop>");
+
+        assertEquals("bet_stop", header.getMessageType());
+        assertEquals(3, header.getProducerId());
+        assertEquals(12L, header.getTimestamp());
+        assertEquals(Long.valueOf(7), header.getRequestId());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void failsForMissingProduct() {
+        parse("<odds_change event_id=\"sr:match:1\" timestamp=\"1\"/>");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void failsForSnapshotCompleteWithoutRequestId() {
+        parse("<snapshot_complete product=\"1\" timestamp=\"1\"/>");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void failsForNonNumericProduct() {
+        parse("<odds_change product=\"x\" timestamp=\"1\"/>");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void failsForUnterminatedRootElement() {
+        parse("<odds_change product=\"1\" timestamp=\"1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void failsForPayloadWithoutElement() {
+        PassthroughMessageHeader.parse(new byte[]{1, 2, 3, 4});
+    }
+
+    private static PassthroughMessageHeader parse(String xml) {
+        return PassthroughMessageHeader.parse(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private byte[] read(String uri) throws Exception {
+        return Files.readAllBytes(Paths.get(getClass().getClassLoader().getResource(uri).toURI()));
+    }
+}
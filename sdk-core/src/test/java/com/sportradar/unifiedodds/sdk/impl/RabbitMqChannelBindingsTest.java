@@ -0,0 +1,128 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Connection;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class RabbitMqChannelBindingsTest {
+    private static final String SNAPSHOT_KEY = "-.-.-.snapshot_complete.-.-.-.-";
+    private static final String EVENT_KEY = "#.sr:match.1.#";
+
+    private final RabbitMqChannelImplTest.ChannelRecoverable channel = mock(RabbitMqChannelImplTest.ChannelRecoverable.class);
+    private RabbitMqChannelImpl rabbitMqChannel;
+
+    @Before
+    public void setup() throws Exception {
+        AMQPConnectionFactory connectionFactory = mock(AMQPConnectionFactory.class);
+        Connection connection = mock(Connection.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        when(connectionFactory.canConnectionOpen()).thenReturn(true);
+        when(connection.createChannel()).thenReturn(channel);
+        when(channel.isOpen()).thenReturn(true);
+        AMQP.Queue.DeclareOk declareOk = mock(AMQP.Queue.DeclareOk.class);
+        when(channel.queueDeclare()).thenReturn(declareOk);
+        when(declareOk.getQueue()).thenReturn("queue");
+
+        rabbitMqChannel = new RabbitMqChannelImpl(mock(RabbitMqSystemListener.class), mock(WhoAmIReader.class), "1", connectionFactory, mock(SDKInternalConfiguration.class), new RabbitMqChannelMonitor(0));
+        rabbitMqChannel.open(ImmutableList.of(SNAPSHOT_KEY), mock(ChannelMessageConsumer.class), "SpecificEvents");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        rabbitMqChannel.close();
+    }
+
+    @Test
+    public void bindsAndUnbindsOnTheLiveChannel() throws Exception {
+        rabbitMqChannel.updateBindings(ImmutableList.of(EVENT_KEY), Collections.emptyList());
+        rabbitMqChannel.updateBindings(Collections.emptyList(), ImmutableList.of(EVENT_KEY));
+
+        verify(channel).queueBind("queue", "unifiedfeed", EVENT_KEY);
+        verify(channel).queueUnbind("queue", "unifiedfeed", EVENT_KEY);
+    }
+
+    @Test
+    public void skipsUnchangedBindings() throws Exception {
+        rabbitMqChannel.updateBindings(ImmutableList.of(SNAPSHOT_KEY), ImmutableList.of(EVENT_KEY));
+
+        verify(channel, times(1)).queueBind(anyString(), anyString(), eq(SNAPSHOT_KEY));
+        verify(channel, never()).queueUnbind(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void recreatedChannelKeepsTheCurrentBindings() throws Exception {
+        rabbitMqChannel.updateBindings(ImmutableList.of(EVENT_KEY), ImmutableList.of(SNAPSHOT_KEY));
+
+        Method restartChannel = RabbitMqChannelImpl.class.getDeclaredMethod("restartChannel");
+        restartChannel.setAccessible(true);
+        restartChannel.invoke(rabbitMqChannel);
+
+        verify(channel, times(2)).queueBind("queue", "unifiedfeed", EVENT_KEY);
+        verify(channel, times(1)).queueBind("queue", "unifiedfeed", SNAPSHOT_KEY);
+    }
+
+    @Test
+    public void coalescesTheChangesRequestedWhileBindingsAreApplied() throws Exception {
+        String otherEventKey = "#.sr:match.2.#";
+        CountDownLatch bindingStarted = new CountDownLatch(1);
+        CountDownLatch releaseBinding = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            bindingStarted.countDown();
+            releaseBinding.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(channel).queueBind("queue", "unifiedfeed", EVENT_KEY);
+
+        Thread first = startUpdate(ImmutableList.of(EVENT_KEY), Collections.emptyList());
+        assertTrue(bindingStarted.await(5, TimeUnit.SECONDS));
+        Thread subscribe = startUpdate(ImmutableList.of(otherEventKey), Collections.emptyList());
+        awaitBlocked(subscribe);
+        Thread unsubscribe = startUpdate(Collections.emptyList(), ImmutableList.of(otherEventKey));
+        awaitBlocked(unsubscribe);
+        releaseBinding.countDown();
+
+        for (Thread thread : Arrays.asList(first, subscribe, unsubscribe)) {
+            thread.join(5000);
+            assertFalse(thread.isAlive());
+        }
+        verify(channel, never()).queueBind(anyString(), anyString(), eq(otherEventKey));
+        verify(channel, never()).queueUnbind(anyString(), anyString(), eq(otherEventKey));
+    }
+
+    private Thread startUpdate(List<String> routingKeysToBind, List<String> routingKeysToUnbind) {
+        Thread thread = new Thread(() -> {
+            try {
+                rabbitMqChannel.updateBindings(routingKeysToBind, routingKeysToUnbind);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static void awaitBlocked(Thread thread) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (thread.getState() != Thread.State.BLOCKED && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(Thread.State.BLOCKED, thread.getState());
+    }
+}
@@ -0,0 +1,198 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.Consumer;
+import com.rabbitmq.client.Envelope;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.impl.RabbitMqChannelImplTest.ChannelRecoverable;
+import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class RabbitMqChannelConsumptionTest {
+    private static final String ROUTING_KEY = "hi.-.live.odds_change.1.sr:match.1.-";
+
+    private ChannelRecoverable firstChannel;
+    private ChannelRecoverable secondChannel;
+    private ChannelMessageConsumer channelMessageConsumer;
+    private SDKInternalConfiguration configuration;
+    private AMQPConnectionFactory connectionFactory;
+    private RabbitMqChannelImpl rabbitMqChannel;
+
+    @Before
+    public void setup() throws Exception {
+        connectionFactory = mock(AMQPConnectionFactory.class);
+        Connection connection = mock(Connection.class);
+        firstChannel = mock(ChannelRecoverable.class);
+        secondChannel = mock(ChannelRecoverable.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        when(connectionFactory.canConnectionOpen()).thenReturn(true);
+        when(connection.createChannel()).thenReturn(firstChannel, secondChannel);
+        when(firstChannel.isOpen()).thenReturn(true);
+        when(secondChannel.isOpen()).thenReturn(true);
+
+        AMQP.Queue.DeclareOk declareOk = mock(AMQP.Queue.DeclareOk.class);
+        when(declareOk.getQueue()).thenReturn("queue");
+        when(firstChannel.queueDeclare()).thenReturn(declareOk);
+
+        channelMessageConsumer = mock(ChannelMessageConsumer.class);
+        configuration = mock(SDKInternalConfiguration.class);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (rabbitMqChannel != null) {
+            rabbitMqChannel.close();
+        }
+    }
+
+    @Test
+    public void defaultSettingsUseSingleAutoAckChannel() throws Exception {
+        open();
+
+        verify(firstChannel, never()).basicQos(anyInt());
+        verify(firstChannel).basicConsume(eq("queue"), eq(true), anyString(), any(Consumer.class));
+        verifyNoInteractions(secondChannel);
+    }
+
+    @Test
+    public void prefetchIsAppliedToTheSingleSessionConsumer() throws Exception {
+        when(configuration.getMessagingPrefetchCount()).thenReturn(50);
+
+        open();
+
+        verify(firstChannel).basicQos(50);
+        verify(firstChannel).queueBind("queue", "unifiedfeed", ROUTING_KEY);
+        verify(firstChannel).basicConsume(eq("queue"), eq(true), anyString(), any(Consumer.class));
+        verifyNoInteractions(secondChannel);
+    }
+
+    @Test
+    public void parallelChannelsConsumeTheSessionQueueIfConfigured() throws Exception {
+        when(configuration.getMessagingPrefetchCount()).thenReturn(50);
+        when(configuration.getMessagingChannelsPerSession()).thenReturn(2);
+
+        open();
+
+        verify(firstChannel).basicQos(50);
+        verify(secondChannel).basicQos(50);
+        verify(firstChannel).queueBind("queue", "unifiedfeed", ROUTING_KEY);
+        verify(secondChannel, never()).queueDeclare();
+        verify(secondChannel).basicConsume(eq("queue"), eq(true), anyString(), any(Consumer.class));
+
+        rabbitMqChannel.close();
+
+        verify(firstChannel).close();
+        verify(secondChannel).close();
+    }
+
+    @Test
+    public void processedDeliveriesAreAcknowledgedInBatches() throws Exception {
+        when(configuration.getMessagingPrefetchCount()).thenReturn(10);
+        when(configuration.getMessagingAckBatchSize()).thenReturn(3);
+
+        open();
+
+        ArgumentCaptor<Consumer> consumer = ArgumentCaptor.forClass(Consumer.class);
+        verify(firstChannel).basicConsume(eq("queue"), eq(false), anyString(), consumer.capture());
+
+        deliver(consumer.getValue(), 1);
+        deliver(consumer.getValue(), 2);
+        verify(firstChannel, never()).basicAck(anyLong(), anyBoolean());
+
+        deliver(consumer.getValue(), 3);
+        verify(firstChannel).basicAck(3, true);
+        verify(channelMessageConsumer, times(3)).onMessageReceived(eq(ROUTING_KEY), any(), any(), anyLong());
+    }
+
+    @Test
+    public void ackBatchIsLimitedByPrefetch() throws Exception {
+        when(configuration.getMessagingPrefetchCount()).thenReturn(2);
+        when(configuration.getMessagingAckBatchSize()).thenReturn(100);
+
+        open();
+
+        ArgumentCaptor<Consumer> consumer = ArgumentCaptor.forClass(Consumer.class);
+        verify(firstChannel).basicConsume(eq("queue"), eq(false), anyString(), consumer.capture());
+
+        deliver(consumer.getValue(), 1);
+        deliver(consumer.getValue(), 2);
+        verify(firstChannel).basicAck(2, true);
+    }
+
+    @Test
+    public void pendingAcknowledgementsAreFlushedOnClose() throws Exception {
+        when(configuration.getMessagingAckBatchSize()).thenReturn(5);
+
+        open();
+
+        ArgumentCaptor<Consumer> consumer = ArgumentCaptor.forClass(Consumer.class);
+        verify(firstChannel).basicConsume(eq("queue"), eq(false), anyString(), consumer.capture());
+
+        deliver(consumer.getValue(), 1);
+        rabbitMqChannel.close();
+
+        verify(firstChannel).basicAck(1, true);
+    }
+
+    @Test
+    public void pendingAcknowledgementsAreFlushedWhileTheListenerIsBusy() throws Exception {
+        when(configuration.getMessagingAckBatchSize()).thenReturn(5);
+        CountDownLatch processing = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+
+        open();
+
+        ArgumentCaptor<Consumer> consumer = ArgumentCaptor.forClass(Consumer.class);
+        verify(firstChannel).basicConsume(eq("queue"), eq(false), anyString(), consumer.capture());
+        deliver(consumer.getValue(), 1);
+        doAnswer(invocation -> {
+            processing.countDown();
+            released.await();
+            return null;
+        }).when(channelMessageConsumer).onMessageReceived(eq(ROUTING_KEY), any(), any(), anyLong());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> delivery = executor.submit(() -> {
+                deliver(consumer.getValue(), 2);
+                return null;
+            });
+            assertTrue(processing.await(5, TimeUnit.SECONDS));
+
+            rabbitMqChannel.close();
+
+            verify(firstChannel).basicAck(1, true);
+            released.countDown();
+            delivery.get(5, TimeUnit.SECONDS);
+        } finally {
+            released.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private void open() throws IOException {
+        rabbitMqChannel = new RabbitMqChannelImpl(mock(RabbitMqSystemListener.class), mock(WhoAmIReader.class), "1", connectionFactory, configuration, new RabbitMqChannelMonitor(0));
+        rabbitMqChannel.open(Collections.singletonList(ROUTING_KEY), channelMessageConsumer, "LiveMessagesOnly");
+    }
+
+    private static void deliver(Consumer consumer, long deliveryTag) throws IOException {
+        Envelope envelope = new Envelope(deliveryTag, false, "unifiedfeed", ROUTING_KEY);
+        consumer.handleDelivery("tag", envelope, new AMQP.BasicProperties(), new byte[0]);
+    }
+}
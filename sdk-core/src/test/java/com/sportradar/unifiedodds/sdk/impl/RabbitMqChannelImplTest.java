@@ -9,10 +9,10 @@ import com.rabbitmq.client.AMQP;
 import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.Connection;
 import com.rabbitmq.client.Recoverable;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
 import java.io.IOException;
 import java.lang.reflect.Field;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import org.junit.Before;
 import org.junit.Test;
@@ -52,7 +52,7 @@ public class RabbitMqChannelImplTest {
         when(channel.queueDeclare()).thenReturn(declareOk);
         when(declareOk.getQueue()).thenReturn("queue");
         ChannelMessageConsumer channelMessageConsumer = mock(ChannelMessageConsumer.class);
-        rabbitMqChannel = new RabbitMqChannelImpl(rabbitMqSystemListener, whoAmIReader, sdkVersion, connectionFactory);
+        rabbitMqChannel = new RabbitMqChannelImpl(rabbitMqSystemListener, whoAmIReader, sdkVersion, connectionFactory, mock(SDKInternalConfiguration.class), new RabbitMqChannelMonitor(0));
         ArrayList<String> routingKeys = new ArrayList<String>();
         routingKeys.add("-.-.-.snapshot_complete.-.-.-.-");
         rabbitMqChannel.open(routingKeys, channelMessageConsumer, "SystemMessages");
@@ -80,11 +80,11 @@ public class RabbitMqChannelImplTest {
 
     private void setChannelLastMessage() throws Exception {
         // Now set message time
-        LocalDateTime now = LocalDateTime.now();
-        Field f1 = rabbitMqChannel.getClass().getDeclaredField("channelLastMessage");
+        long now = System.nanoTime();
+        Field f1 = rabbitMqChannel.getClass().getDeclaredField("lastMessageNanos");
         f1.setAccessible(true);
         f1.set(rabbitMqChannel, now);
-        LocalDateTime str1 = (LocalDateTime) f1.get(rabbitMqChannel);
+        long str1 = (long) f1.get(rabbitMqChannel);
         System.out.println("field: " + str1);
     }
 
@@ -0,0 +1,149 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Connection;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class RabbitMqChannelMonitorTest {
+    private final RabbitMqChannelImplTest.ChannelRecoverable channel = mock(RabbitMqChannelImplTest.ChannelRecoverable.class);
+    private final AMQPConnectionFactory connectionFactory = mock(AMQPConnectionFactory.class);
+    private final RabbitMqChannelMonitor monitor = new RabbitMqChannelMonitor(1);
+    private RabbitMqChannelImpl rabbitMqChannel;
+
+    @Before
+    public void setup() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        when(connectionFactory.canConnectionOpen()).thenReturn(true);
+        when(connection.createChannel()).thenReturn(channel);
+        when(channel.isOpen()).thenReturn(true);
+        AMQP.Queue.DeclareOk declareOk = mock(AMQP.Queue.DeclareOk.class);
+        when(channel.queueDeclare()).thenReturn(declareOk);
+        when(declareOk.getQueue()).thenReturn("queue");
+
+        rabbitMqChannel = new RabbitMqChannelImpl(mock(RabbitMqSystemListener.class), mock(WhoAmIReader.class), "1", connectionFactory, mock(SDKInternalConfiguration.class), monitor);
+        rabbitMqChannel.open(ImmutableList.of("-.-.-.snapshot_complete.-.-.-.-"), mock(ChannelMessageConsumer.class), "SystemMessages");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        rabbitMqChannel.close();
+    }
+
+    @Test
+    public void defaultStaleTimeoutIsUsedIfNotConfigured() {
+        assertEquals(RabbitMqChannelMonitor.DEFAULT_STALE_TIMEOUT, new RabbitMqChannelMonitor(0).getStaleTimeout());
+    }
+
+    @Test
+    public void closeUnregistersOnlyTheOwnStatistics() throws Exception {
+        ObjectName name = new ObjectName("com.sportradar.unifiedodds.sdk.impl:type=RabbitMqChannelMonitor");
+        MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        if (mbeanServer.isRegistered(name)) {
+            // registered by a module built in another test
+            mbeanServer.unregisterMBean(name);
+        }
+        RabbitMqChannelMonitor other = new RabbitMqChannelMonitor(0);
+        monitor.registerMBean();
+        other.registerMBean();
+
+        other.close();
+        assertTrue(mbeanServer.isRegistered(name));
+
+        monitor.close();
+        assertFalse(mbeanServer.isRegistered(name));
+    }
+
+    @Test
+    public void staleChannelIsRecreated() throws Exception {
+        assertEquals(1, monitor.getMonitoredChannelCount());
+
+        verify(channel, timeout(5000).times(2)).queueDeclare();
+
+        assertTrue(monitor.getChannelRestartCount() >= 1);
+    }
+
+    @Test
+    public void closedChannelIsNotMonitored() throws Exception {
+        rabbitMqChannel.close();
+        Thread.sleep(2500);
+
+        assertEquals(0, monitor.getMonitoredChannelCount());
+        assertEquals(0, monitor.getChannelRestartCount());
+        verify(channel, times(1)).queueDeclare();
+    }
+
+    @Test
+    public void reportsStaleChannels() {
+        assertEquals(0, monitor.getStaleChannelCount());
+        assertEquals(0, monitor.getLongestTimeSinceLastMessage());
+        assertTrue(monitor.isStale(1_000_000_000L));
+    }
+
+    @Test
+    public void blockingRecoveriesDoNotDelayTheChecks() throws Exception {
+        CountDownLatch released = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(3);
+        RabbitMqChannelImpl blocked = mock(RabbitMqChannelImpl.class);
+        assertTrue(monitor.recover(blocked, () -> block(started, released)));
+        assertTrue(monitor.recover(mock(RabbitMqChannelImpl.class), () -> block(started, released)));
+        assertTrue(monitor.recover(mock(RabbitMqChannelImpl.class), () -> block(started, released)));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CountDownLatch checked = new CountDownLatch(2);
+        RabbitMqChannelImpl checkedChannel = mock(RabbitMqChannelImpl.class);
+        ScheduledFuture<?> statusCheck = monitor.register(checkedChannel, checked::countDown);
+        try {
+            assertTrue(checked.await(5, TimeUnit.SECONDS));
+            assertFalse(monitor.recover(blocked, () -> { }));
+        } finally {
+            monitor.unregister(checkedChannel, statusCheck);
+            released.countDown();
+        }
+    }
+
+    @Test
+    public void failedRecoveryDoesNotBlockTheNextRecovery() throws Exception {
+        RabbitMqChannelImpl recovered = mock(RabbitMqChannelImpl.class);
+        CountDownLatch failed = new CountDownLatch(1);
+        assertTrue(monitor.recover(recovered, () -> {
+            failed.countDown();
+            throw new IllegalStateException("failed recovery");
+        }));
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+
+        CountDownLatch retried = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!monitor.recover(recovered, retried::countDown) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertTrue(retried.await(5, TimeUnit.SECONDS));
+    }
+
+    private static void block(CountDownLatch started, CountDownLatch released) {
+        started.countDown();
+        try {
+            released.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,443 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.uf.datamodel.UFBetStop;
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.uf.datamodel.UFOddsChangeMarket;
+import com.sportradar.unifiedodds.sdk.MessageQueueOverflowPolicy;
+import com.sportradar.unifiedodds.sdk.impl.oddsentities.MessageTimestampImpl;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import com.sportradar.utils.URN;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class SessionMessageQueueTest {
+    private static final URN SPORT_ID = URN.parse("sr:sport:1");
+
+    private final List<UnmarshalledMessage> dispatched = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstDispatchStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseDispatch = new CountDownLatch(1);
+    private SessionMessageQueue queue;
+
+    @After
+    public void tearDown() {
+        releaseDispatch.countDown();
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    @Test
+    public void messagesAreDispatchedInReceiveOrder() throws Exception {
+        openQueue(10, MessageQueueOverflowPolicy.Block, false);
+
+        UFOddsChange first = oddsChange("sr:match:1");
+        UFBetStop second = betStop("sr:match:1");
+        UFOddsChange third = oddsChange("sr:match:2");
+        enqueue(first);
+        enqueue(second);
+        enqueue(third);
+
+        awaitDispatched(3);
+        assertSame(first, dispatched.get(0));
+        assertSame(second, dispatched.get(1));
+        assertSame(third, dispatched.get(2));
+        assertEquals(3, queue.getNumberOfEnqueuedMessages());
+        assertEquals(3, queue.getNumberOfDispatchedMessages());
+        assertEquals(0, queue.getQueueDepth());
+    }
+
+    @Test
+    public void blockPolicyWaitsForFreeSlot() throws Exception {
+        openQueue(1, MessageQueueOverflowPolicy.Block, true);
+        holdDispatcher();
+        enqueue(oddsChange("sr:match:1"));
+
+        AtomicBoolean enqueued = new AtomicBoolean();
+        Thread producer = new Thread(() -> {
+            enqueue(oddsChange("sr:match:1"));
+            enqueued.set(true);
+        });
+        producer.start();
+        producer.join(300);
+        assertFalse(enqueued.get());
+
+        releaseDispatch.countDown();
+        producer.join(5000);
+        assertTrue(enqueued.get());
+        awaitDispatched(3);
+        assertEquals(0, queue.getNumberOfDroppedMessages());
+    }
+
+    @Test
+    public void dropPolicyDropsOldestOddsChange() throws Exception {
+        openQueue(2, MessageQueueOverflowPolicy.DropOddsChange, true);
+        holdDispatcher();
+
+        UFOddsChange oldest = oddsChange("sr:match:1");
+        UFBetStop betStop = betStop("sr:match:2");
+        UFOddsChange newest = oddsChange("sr:match:3");
+        enqueue(oldest);
+        enqueue(betStop);
+        enqueue(newest);
+
+        assertEquals(1, queue.getNumberOfDroppedMessages());
+        releaseDispatch.countDown();
+        awaitDispatched(3);
+        assertSame(betStop, dispatched.get(1));
+        assertSame(newest, dispatched.get(2));
+    }
+
+    @Test
+    public void dropPolicyDropsIncomingOddsChangeWhenNoneQueued() throws Exception {
+        openQueue(1, MessageQueueOverflowPolicy.DropOddsChange, true);
+        holdDispatcher();
+
+        UFBetStop betStop = betStop("sr:match:1");
+        enqueue(betStop);
+        enqueue(oddsChange("sr:match:1"));
+
+        assertEquals(1, queue.getNumberOfDroppedMessages());
+        releaseDispatch.countDown();
+        awaitDispatched(2);
+        assertSame(betStop, dispatched.get(1));
+    }
+
+    @Test
+    public void dropPolicyDropsSupersededOddsChangeFirst() throws Exception {
+        openQueue(3, MessageQueueOverflowPolicy.DropOddsChange, true);
+        holdDispatcher();
+
+        UFOddsChange otherEvent = oddsChange("sr:match:1");
+        UFOddsChange superseded = oddsChange("sr:match:2");
+        UFOddsChange newer = oddsChange("sr:match:2");
+        UFBetStop betStop = betStop("sr:match:3");
+        enqueue(otherEvent);
+        enqueue(superseded);
+        enqueue(newer);
+        enqueue(betStop);
+
+        assertEquals(1, queue.getNumberOfDroppedMessages());
+        releaseDispatch.countDown();
+        awaitDispatched(4);
+        assertEquals(Arrays.asList(otherEvent, newer, betStop), dispatched.subList(1, 4));
+    }
+
+    @Test
+    public void dropPolicyDropsRecoveryOddsChangeBeforeLiveOddsChange() throws Exception {
+        openQueue(2, MessageQueueOverflowPolicy.DropOddsChange, false, 3, true);
+        holdDispatcher();
+
+        UFOddsChange live = oddsChange("sr:match:1");
+        UFOddsChange recovery = recoveryOddsChange("sr:match:2");
+        UFBetStop betStop = betStop("sr:match:3");
+        enqueue(live);
+        enqueue(recovery);
+        enqueue(betStop);
+
+        assertEquals(1, queue.getNumberOfDroppedMessages());
+        releaseDispatch.countDown();
+        awaitDispatched(3);
+        assertEquals(Arrays.asList(live, betStop), dispatched.subList(1, 3));
+    }
+
+    @Test
+    public void coalescePolicySupersedesQueuedOddsChangeOfSameEvent() throws Exception {
+        openQueue(2, MessageQueueOverflowPolicy.CoalesceOddsChange, true);
+        holdDispatcher();
+
+        UFOddsChange otherEvent = oddsChange("sr:match:2");
+        enqueue(oddsChange("sr:match:1", market(1, null, 1.5), market(18, "total=2.5", 1.9)));
+        enqueue(otherEvent);
+        enqueue(oddsChange("sr:match:1", market(1, null, 1.7)));
+
+        assertEquals(1, queue.getNumberOfCoalescedMessages());
+        assertEquals(2, queue.getQueueDepth());
+        releaseDispatch.countDown();
+        awaitDispatched(3);
+        UFOddsChange coalesced = (UFOddsChange) dispatched.get(1);
+        assertEquals(2, coalesced.getOdds().getMarket().size());
+        assertEquals(1.7, coalesced.getOdds().getMarket().get(0).getOutcome().get(0).getOdds(), 0);
+        assertEquals("total=2.5", coalesced.getOdds().getMarket().get(1).getSpecifiers());
+        assertSame(otherEvent, dispatched.get(2));
+    }
+
+    @Test
+    public void coalescePolicyKeepsOrderRelativeToBetStop() throws Exception {
+        openQueue(2, MessageQueueOverflowPolicy.CoalesceOddsChange, true);
+        holdDispatcher();
+
+        UFOddsChange first = oddsChange("sr:match:1");
+        UFBetStop betStop = betStop("sr:match:1");
+        enqueue(first);
+        enqueue(betStop);
+
+        AtomicBoolean enqueued = new AtomicBoolean();
+        UFOddsChange afterBetStop = oddsChange("sr:match:1");
+        Thread producer = new Thread(() -> {
+            enqueue(afterBetStop);
+            enqueued.set(true);
+        });
+        producer.start();
+        producer.join(300);
+        assertFalse("the odds change queued after the bet stop must not be coalesced", enqueued.get());
+
+        releaseDispatch.countDown();
+        producer.join(5000);
+        awaitDispatched(4);
+        assertSame(first, dispatched.get(1));
+        assertSame(betStop, dispatched.get(2));
+        assertSame(afterBetStop, dispatched.get(3));
+        assertEquals(0, queue.getNumberOfCoalescedMessages());
+    }
+
+    @Test
+    public void recoveryOddsChangesAreNotCoalesced() throws Exception {
+        openQueue(1, MessageQueueOverflowPolicy.CoalesceOddsChange, true);
+        holdDispatcher();
+
+        UFOddsChange recovery = oddsChange("sr:match:1");
+        recovery.setRequestId(5L);
+        enqueue(recovery);
+
+        Thread producer = new Thread(() -> enqueue(oddsChange("sr:match:1")));
+        producer.start();
+        producer.join(300);
+        assertEquals(0, queue.getNumberOfCoalescedMessages());
+
+        releaseDispatch.countDown();
+        producer.join(5000);
+        awaitDispatched(3);
+    }
+
+    @Test
+    public void coalescingModeMergesBacklogWithoutOverflow() throws Exception {
+        openQueue(100, MessageQueueOverflowPolicy.Block, true, true);
+        holdDispatcher();
+
+        enqueue(oddsChange("sr:match:1", market(1, null, 1.5)));
+        enqueue(oddsChange("sr:match:1", market(2, null, 2.5)));
+        enqueue(oddsChange("sr:match:1", market(1, null, 1.6)));
+
+        assertEquals(2, queue.getNumberOfCoalescedMessages());
+        assertEquals(1, queue.getQueueDepth());
+        releaseDispatch.countDown();
+        awaitDispatched(2);
+        UFOddsChange coalesced = (UFOddsChange) dispatched.get(1);
+        assertEquals(2, coalesced.getOdds().getMarket().size());
+        assertEquals(1, coalesced.getOdds().getMarket().get(0).getId());
+        assertEquals(1.6, coalesced.getOdds().getMarket().get(0).getOutcome().get(0).getOdds(), 0);
+        assertEquals(2, coalesced.getOdds().getMarket().get(1).getId());
+    }
+
+    @Test
+    public void coalescingModeNeverCrossesOtherMessagesOfEvent() throws Exception {
+        openQueue(100, MessageQueueOverflowPolicy.Block, true, true);
+        holdDispatcher();
+
+        UFOddsChange beforeBetStop = oddsChange("sr:match:1", market(1, null, 1.5));
+        UFBetStop betStop = betStop("sr:match:1");
+        UFOddsChange afterBetStop = oddsChange("sr:match:1", market(1, null, 1.8));
+        enqueue(beforeBetStop);
+        enqueue(betStop);
+        enqueue(afterBetStop);
+
+        assertEquals(0, queue.getNumberOfCoalescedMessages());
+        releaseDispatch.countDown();
+        awaitDispatched(4);
+        assertSame(beforeBetStop, dispatched.get(1));
+        assertSame(betStop, dispatched.get(2));
+        assertSame(afterBetStop, dispatched.get(3));
+    }
+
+    @Test
+    public void coalescingModeKeepsProducersApart() throws Exception {
+        openQueue(100, MessageQueueOverflowPolicy.Block, true, true);
+        holdDispatcher();
+
+        UFOddsChange live = oddsChange("sr:match:1", market(1, null, 1.5));
+        UFOddsChange prematch = oddsChange("sr:match:1", market(1, null, 1.4));
+        prematch.setProduct(3);
+        enqueue(live);
+        enqueue(prematch);
+
+        assertEquals(0, queue.getNumberOfCoalescedMessages());
+        releaseDispatch.countDown();
+        awaitDispatched(3);
+    }
+
+    @Test
+    public void liveMessagesOvertakeRecoveryBacklog() throws Exception {
+        openLaneQueue(2);
+        holdDispatcher();
+
+        UFOddsChange recovery1 = recoveryOddsChange("sr:match:1");
+        UFOddsChange recovery2 = recoveryOddsChange("sr:match:2");
+        UFOddsChange recovery3 = recoveryOddsChange("sr:match:3");
+        UFOddsChange live1 = oddsChange("sr:match:10");
+        UFOddsChange live2 = oddsChange("sr:match:11");
+        enqueue(recovery1);
+        enqueue(recovery2);
+        enqueue(recovery3);
+        enqueue(live1);
+        enqueue(live2);
+
+        assertEquals(3, queue.getRecoveryLaneDepth());
+        assertEquals(2, queue.getLiveLaneDepth());
+        releaseDispatch.countDown();
+        awaitDispatched(6);
+        assertEquals(Arrays.asList(live1, live2, recovery1, recovery2, recovery3), dispatched.subList(1, 6));
+        assertEquals(3, queue.getNumberOfLiveLaneDispatchedMessages());
+        assertEquals(3, queue.getNumberOfRecoveryLaneDispatchedMessages());
+        assertEquals(0, queue.getRecoveryLaneLag());
+    }
+
+    @Test
+    public void recoveryLaneIsServedAccordingToTheWeight() throws Exception {
+        openLaneQueue(1);
+        holdDispatcher();
+
+        UFOddsChange recovery1 = recoveryOddsChange("sr:match:1");
+        UFOddsChange recovery2 = recoveryOddsChange("sr:match:2");
+        UFOddsChange live1 = oddsChange("sr:match:10");
+        UFOddsChange live2 = oddsChange("sr:match:11");
+        UFOddsChange live3 = oddsChange("sr:match:12");
+        enqueue(recovery1);
+        enqueue(recovery2);
+        enqueue(live1);
+        enqueue(live2);
+        enqueue(live3);
+
+        releaseDispatch.countDown();
+        awaitDispatched(6);
+        assertEquals(Arrays.asList(live1, recovery1, live2, recovery2, live3), dispatched.subList(1, 6));
+    }
+
+    @Test
+    public void liveMessageDoesNotOvertakeRecoveryMessagesOfTheSameEvent() throws Exception {
+        openLaneQueue(5);
+        holdDispatcher();
+
+        UFOddsChange recovery = recoveryOddsChange("sr:match:1");
+        UFBetStop live = betStop("sr:match:1");
+        UFOddsChange otherLive = oddsChange("sr:match:2");
+        enqueue(recovery);
+        enqueue(live);
+        enqueue(otherLive);
+
+        assertEquals(2, queue.getRecoveryLaneDepth());
+        releaseDispatch.countDown();
+        awaitDispatched(4);
+        assertEquals(Arrays.asList(otherLive, recovery, live), dispatched.subList(1, 4));
+    }
+
+    @Test
+    public void recoveryMessageWaitsForOlderLiveMessagesOfTheSameEvent() throws Exception {
+        openLaneQueue(1);
+        holdDispatcher();
+
+        UFOddsChange otherLive = oddsChange("sr:match:2");
+        UFOddsChange live = oddsChange("sr:match:1");
+        UFOddsChange recovery = recoveryOddsChange("sr:match:1");
+        enqueue(otherLive);
+        enqueue(live);
+        enqueue(recovery);
+
+        releaseDispatch.countDown();
+        awaitDispatched(4);
+        assertEquals(Arrays.asList(otherLive, live, recovery), dispatched.subList(1, 4));
+    }
+
+    private void openQueue(int capacity, MessageQueueOverflowPolicy policy, boolean holdFirstMessage) {
+        openQueue(capacity, policy, false, holdFirstMessage);
+    }
+
+    private void openLaneQueue(int liveLaneWeight) {
+        openQueue(100, MessageQueueOverflowPolicy.Block, false, liveLaneWeight, true);
+    }
+
+    private void openQueue(int capacity, MessageQueueOverflowPolicy policy, boolean coalesce, boolean holdFirstMessage) {
+        openQueue(capacity, policy, coalesce, 0, holdFirstMessage);
+    }
+
+    private void openQueue(int capacity, MessageQueueOverflowPolicy policy, boolean coalesce, int liveLaneWeight, boolean holdFirstMessage) {
+        AtomicBoolean first = new AtomicBoolean(holdFirstMessage);
+        queue = new SessionMessageQueue(capacity, policy, coalesce, liveLaneWeight, "test-queue-" + policy, (message, body, routingKeyInfo, timestamp) -> {
+            if (first.getAndSet(false)) {
+                firstDispatchStarted.countDown();
+                try {
+                    releaseDispatch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            dispatched.add(message);
+        });
+        queue.open();
+    }
+
+    /**
+     * Queues a message which blocks the dispatching thread until the test releases it
+     */
+    private void holdDispatcher() throws InterruptedException {
+        enqueue(betStop("sr:match:999"));
+        assertTrue(firstDispatchStarted.await(5, TimeUnit.SECONDS));
+    }
+
+    private void enqueue(UnmarshalledMessage message) {
+        String eventId = message instanceof UFOddsChange ? ((UFOddsChange) message).getEventId() : ((UFBetStop) message).getEventId();
+        RoutingKeyInfo routingKeyInfo = new RoutingKeyInfo("hi.-.live.-.1." + eventId, SPORT_ID, URN.parse(eventId));
+        queue.enqueue(message, new byte[0], routingKeyInfo, new MessageTimestampImpl(System.currentTimeMillis()));
+    }
+
+    private void awaitDispatched(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (dispatched.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, dispatched.size());
+    }
+
+    private static UFOddsChange oddsChange(String eventId, UFOddsChangeMarket... markets) {
+        UFOddsChange oddsChange = new UFOddsChange();
+        oddsChange.setEventId(eventId);
+        oddsChange.setProduct(1);
+        if (markets.length > 0) {
+            oddsChange.setOdds(new UFOddsChange.UFOdds());
+            oddsChange.getOdds().getMarket().addAll(Arrays.asList(markets));
+        }
+        return oddsChange;
+    }
+
+    private static UFOddsChange recoveryOddsChange(String eventId) {
+        UFOddsChange oddsChange = oddsChange(eventId);
+        oddsChange.setRequestId(5L);
+        return oddsChange;
+    }
+
+    private static UFOddsChangeMarket market(int id, String specifiers, double odds) {
+        UFOddsChangeMarket.UFOutcome outcome = new UFOddsChangeMarket.UFOutcome();
+        outcome.setId("1");
+        outcome.setOdds(odds);
+        UFOddsChangeMarket market = new UFOddsChangeMarket();
+        market.setId(id);
+        market.setSpecifiers(specifiers);
+        market.getOutcome().add(outcome);
+        return market;
+    }
+
+    private static UFBetStop betStop(String eventId) {
+        UFBetStop betStop = new UFBetStop();
+        betStop.setEventId(eventId);
+        betStop.setProduct(1);
+        return betStop;
+    }
+}
@@ -0,0 +1,89 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.utils.URN;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SessionPartitionTest {
+    private static final int EVENT_COUNT = 10_000;
+
+    @Test
+    public void eachEventBelongsToExactlyOnePartition() {
+        SessionPartition[] partitions = partitions(4);
+
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            URN eventId = URN.parse("sr:match:" + (i + 1));
+            int owners = 0;
+            for (SessionPartition partition : partitions) {
+                owners += partition.contains(eventId) ? 1 : 0;
+            }
+            assertEquals(1, owners);
+        }
+    }
+
+    @Test
+    public void eventsAreSpreadAcrossPartitions() {
+        SessionPartition[] partitions = partitions(4);
+        int[] counts = new int[partitions.length];
+
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            URN eventId = URN.parse("sr:match:" + (i + 1));
+            for (SessionPartition partition : partitions) {
+                if (partition.contains(eventId)) {
+                    counts[partition.getIndex()]++;
+                }
+            }
+        }
+
+        for (int count : counts) {
+            assertTrue("unbalanced partition: " + count, count > EVENT_COUNT / 4 * 0.9 && count < EVENT_COUNT / 4 * 1.1);
+        }
+    }
+
+    @Test
+    public void addingPartitionMovesEventsToTheNewPartitionOnly() {
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            URN eventId = URN.parse("sr:match:" + (i + 1));
+            int before = SessionPartition.partitionOf(eventId, 4);
+            int after = SessionPartition.partitionOf(eventId, 5);
+            assertTrue(after == before || after == 4);
+        }
+    }
+
+    @Test
+    public void singlePartitionContainsAllEvents() {
+        SessionPartition partition = new SessionPartition(0, 1);
+
+        assertTrue(partition.contains(URN.parse("sr:match:1")));
+        assertTrue(partition.contains(URN.parse("sr:stage:2")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsIndexOutOfRange() {
+        new SessionPartition(4, 4);
+    }
+
+    @Test
+    public void registryTreatsAllEventsAsLocalUntilPartitioned() {
+        SessionPartitions sessionPartitions = new SessionPartitions();
+        URN eventId = URN.parse("sr:match:1");
+        int owner = SessionPartition.partitionOf(eventId, 2);
+
+        assertTrue(sessionPartitions.isLocalEvent(eventId));
+
+        sessionPartitions.register(new SessionPartition(1 - owner, 2));
+        assertFalse(sessionPartitions.isLocalEvent(eventId));
+
+        sessionPartitions.register(null);
+        assertTrue(sessionPartitions.isLocalEvent(eventId));
+    }
+
+    private static SessionPartition[] partitions(int count) {
+        SessionPartition[] partitions = new SessionPartition[count];
+        for (int i = 0; i < count; i++) {
+            partitions[i] = new SessionPartition(i, count);
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,119 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.caching.MatchCI;
+import com.sportradar.unifiedodds.sdk.caching.ProfileCache;
+import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
+import com.sportradar.unifiedodds.sdk.caching.SportsDataCache;
+import com.sportradar.unifiedodds.sdk.entities.Match;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.unifiedodds.sdk.entities.Tournament;
+import com.sportradar.unifiedodds.sdk.impl.entities.SportEventGenericImpl;
+import com.sportradar.utils.URN;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class SportEntityFactoryImplTest {
+    private static final URN EVENT_ID = URN.parse("sr:tournament:1");
+    private static final URN SPORT_ID = URN.parse("sr:sport:1");
+    private static final List<Locale> LOCALES = Collections.singletonList(Locale.ENGLISH);
+
+    private final SportEventCache sportEventCache = mock(SportEventCache.class);
+    private final MappingTypeProvider mappingTypeProvider = mock(MappingTypeProvider.class);
+    private SportEntityFactoryImpl factory;
+    private Consumer<URN> purgeListener;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        SDKInternalConfiguration config = mock(SDKInternalConfiguration.class);
+        when(config.getExceptionHandlingStrategy()).thenReturn(ExceptionHandlingStrategy.Catch);
+        when(config.getDefaultLocale()).thenReturn(Locale.ENGLISH);
+        when(mappingTypeProvider.getMappingType(EVENT_ID)).thenReturn(Optional.of(Tournament.class));
+
+        factory = new SportEntityFactoryImpl(mock(SportsDataCache.class), sportEventCache, mock(ProfileCache.class),
+                mock(SportEventStatusFactory.class), mappingTypeProvider, config);
+
+        ArgumentCaptor<Consumer<URN>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(sportEventCache).addCacheItemPurgeListener(captor.capture());
+        purgeListener = captor.getValue();
+    }
+
+    @Test
+    public void returnsTheSameEntityForRepeatedRequests() throws Exception {
+        SportEvent first = factory.buildSportEvent(EVENT_ID, SPORT_ID, LOCALES, false);
+        SportEvent second = factory.buildSportEvent(EVENT_ID, SPORT_ID, LOCALES, false);
+
+        assertTrue(first instanceof Tournament);
+        assertSame(first, second);
+    }
+
+    @Test
+    public void buildsSeparateEntitiesForDifferentLocales() throws Exception {
+        SportEvent english = factory.buildSportEvent(EVENT_ID, SPORT_ID, LOCALES, false);
+        SportEvent multiple = factory.buildSportEvent(EVENT_ID, SPORT_ID, Arrays.asList(Locale.ENGLISH, Locale.GERMAN), false);
+
+        assertNotSame(english, multiple);
+        assertSame(multiple, factory.buildSportEvent(EVENT_ID, SPORT_ID, Arrays.asList(Locale.ENGLISH, Locale.GERMAN), false));
+    }
+
+    @Test
+    public void buildsSeparateEntitiesForDifferentSportIds() throws Exception {
+        SportEvent withSport = factory.buildSportEvent(EVENT_ID, SPORT_ID, LOCALES, false);
+        SportEvent withoutSport = factory.buildSportEvent(EVENT_ID, LOCALES, false);
+
+        assertNotSame(withSport, withoutSport);
+    }
+
+    @Test
+    public void rebuildsEntityAfterCacheItemPurge() throws Exception {
+        SportEvent first = factory.buildSportEvent(EVENT_ID, SPORT_ID, LOCALES, false);
+
+        purgeListener.accept(EVENT_ID);
+
+        SportEvent second = factory.buildSportEvent(EVENT_ID, SPORT_ID, LOCALES, false);
+        assertNotSame(first, second);
+        assertSame(second, factory.buildSportEvent(EVENT_ID, SPORT_ID, LOCALES, false));
+    }
+
+    @Test
+    public void doesNotRetainEntityBuiltDuringCacheItemPurge() throws Exception {
+        URN matchId = URN.parse("sr:match:1");
+        when(mappingTypeProvider.getMappingType(matchId)).thenReturn(Optional.of(Match.class));
+        MatchCI matchCI = mock(MatchCI.class);
+        when(sportEventCache.getEventCacheItem(matchId)).thenAnswer(invocation -> {
+            purgeListener.accept(matchId);
+            return matchCI;
+        }).thenReturn(matchCI);
+
+        SportEvent builtDuringPurge = factory.buildSportEvent(matchId, SPORT_ID, LOCALES, false);
+
+        SportEvent rebuilt = factory.buildSportEvent(matchId, SPORT_ID, LOCALES, false);
+        assertNotSame(builtDuringPurge, rebuilt);
+        assertSame(rebuilt, factory.buildSportEvent(matchId, SPORT_ID, LOCALES, false));
+    }
+
+    @Test
+    public void doesNotRetainGenericEntities() throws Exception {
+        URN unknownId = URN.parse("sr:unknown:1");
+        when(mappingTypeProvider.getMappingType(unknownId)).thenReturn(Optional.empty());
+
+        SportEvent first = factory.buildSportEvent(unknownId, SPORT_ID, LOCALES, true);
+        SportEvent second = factory.buildSportEvent(unknownId, SPORT_ID, LOCALES, true);
+
+        assertTrue(first instanceof SportEventGenericImpl);
+        assertNotSame(first, second);
+    }
+}
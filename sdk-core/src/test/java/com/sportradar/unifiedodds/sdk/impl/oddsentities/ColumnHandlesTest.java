@@ -0,0 +1,51 @@
+package com.sportradar.unifiedodds.sdk.impl.oddsentities;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ColumnHandlesTest {
+
+    @Test
+    public void sameValueMapsToSameHandle() {
+        ColumnHandles handles = new ColumnHandles();
+
+        int handle = handles.handleOf("total=2.5");
+
+        assertEquals(handle, handles.handleOf(new String("total=2.5")));
+        assertNotEquals(handle, handles.handleOf("total=3.5"));
+        assertEquals("total=2.5", handles.valueOf(handle));
+    }
+
+    @Test
+    public void missingValueMapsToZero() {
+        ColumnHandles handles = new ColumnHandles();
+
+        assertEquals(0, handles.handleOf(null));
+        assertNull(handles.valueOf(0));
+    }
+
+    @Test
+    public void handlesAreScopedToTheInstance() {
+        ColumnHandles first = new ColumnHandles();
+        ColumnHandles second = new ColumnHandles();
+        first.handleOf("1");
+
+        int handle = second.handleOf("2");
+
+        assertEquals(first.handleOf("1"), handle);
+        assertEquals("2", second.valueOf(handle));
+    }
+
+    @Test
+    public void tableGrowsBeyondTheInitialCapacity() {
+        ColumnHandles handles = new ColumnHandles();
+        for (int i = 0; i < 100; i++) {
+            handles.handleOf("outcome" + i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("outcome" + i, handles.valueOf(handles.handleOf("outcome" + i)));
+        }
+    }
+}
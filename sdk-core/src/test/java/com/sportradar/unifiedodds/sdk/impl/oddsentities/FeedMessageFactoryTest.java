@@ -104,6 +104,53 @@ public class FeedMessageFactoryTest {
         Assert.assertNotNull(result);
     }
 
+    @Test
+    public void buildsOddsChangeColumns() throws Exception {
+        UFOddsChange msg = XmlMessageReader.readMessageFromResource(ODDS_CHANGE_MSG_URI);
+
+        OddsChangeColumns columns = factory.buildOddsChange(sportEvent, msg, rawMsg, timestamp).getOddsColumns();
+
+        Assert.assertEquals(msg.getOdds().getMarket().size(), columns.getMarketCount());
+        Assert.assertEquals(26, columns.getMarketId(0));
+        Assert.assertEquals(0, columns.getSpecifiersHandle(0));
+        Assert.assertEquals("total=2.5", columns.resolveHandle(columns.getSpecifiersHandle(2)));
+        Assert.assertEquals(MarketStatus.Settled, columns.getMarketStatus(4));
+        Assert.assertEquals(columns.getFirstOutcome(4), columns.getLastOutcome(4));
+
+        int tenthMarket = columns.getFirstOutcome(1);
+        Assert.assertEquals(3, columns.getLastOutcome(1) - tenthMarket);
+        Assert.assertEquals("9", columns.resolveHandle(columns.getOutcomeIdHandle(tenthMarket)));
+        Assert.assertEquals(3.9, columns.getOdds(tenthMarket), 0.0);
+        Assert.assertEquals(290, columns.getOdds(tenthMarket, OddsDisplayType.American), 0.0001);
+        Assert.assertEquals(0.22396, columns.getProbability(tenthMarket), 0.0);
+        Assert.assertTrue(columns.isActive(tenthMarket));
+        Assert.assertTrue(Double.isNaN(columns.getOdds(tenthMarket + 2)));
+        Assert.assertFalse(columns.isActive(tenthMarket + 2));
+
+        // the same outcome ids and specifiers map to the same handles
+        Assert.assertEquals(columns.getOutcomeIdHandle(columns.getFirstOutcome(2)), columns.getOutcomeIdHandle(columns.getFirstOutcome(3)));
+        Assert.assertNotEquals(columns.getSpecifiersHandle(2), columns.getSpecifiersHandle(3));
+    }
+
+    @Test
+    public void oddsChangeColumnsMatchTheMarkets() throws Exception {
+        UFOddsChange msg = XmlMessageReader.readMessageFromResource(ODDS_CHANGE_MSG_URI);
+
+        OddsChange<SportEvent> result = factory.buildOddsChange(sportEvent, msg, rawMsg, timestamp);
+        OddsChangeColumns columns = result.getOddsColumns();
+
+        Assert.assertFalse(result.getMarkets().isEmpty());
+        for (MarketWithOdds market : result.getMarkets()) {
+            for (OutcomeOdds outcome : market.getOutcomeOdds()) {
+                int index = findOutcome(columns, market, outcome);
+                Assert.assertEquals(outcome.getOdds(), columns.getOdds(index), 0.0);
+                Double american = outcome.getOdds(OddsDisplayType.American);
+                Assert.assertEquals(american == null ? Double.NaN : american, columns.getOdds(index, OddsDisplayType.American), 0.0);
+                Assert.assertEquals(outcome.isActive(), columns.isActive(index));
+            }
+        }
+    }
+
     @Test
     public void buildsRollbackBetCancel() throws Exception {
         UFRollbackBetCancel msg = XmlMessageReader.readMessageFromResource(ROLLBACK_BET_CANCEL_MSG_URI);
@@ -160,4 +207,21 @@ public class FeedMessageFactoryTest {
         Assert.assertEquals(2, result.getBetstopReasonValue().getId());
         Assert.assertEquals(3, result.getBettingStatusValue().getId());
     }
+
+    private static int findOutcome(OddsChangeColumns columns, MarketWithOdds market, OutcomeOdds outcome) {
+        for (int m = 0; m < columns.getMarketCount(); m++) {
+            String specifiers = columns.resolveHandle(columns.getSpecifiersHandle(m));
+            if (columns.getMarketId(m) != market.getId()
+                    || (market.getSpecifiers() != null && !market.getSpecifiers().isEmpty()) != (specifiers != null)
+                    || (specifiers != null && !market.getSpecifiers().entrySet().stream().allMatch(e -> specifiers.contains(e.getKey() + "=" + e.getValue())))) {
+                continue;
+            }
+            for (int o = columns.getFirstOutcome(m); o < columns.getLastOutcome(m); o++) {
+                if (outcome.getId().equals(columns.resolveHandle(columns.getOutcomeIdHandle(o)))) {
+                    return o;
+                }
+            }
+        }
+        throw new AssertionError("Outcome " + outcome.getId() + " of market " + market.getId() + " not found");
+    }
 }
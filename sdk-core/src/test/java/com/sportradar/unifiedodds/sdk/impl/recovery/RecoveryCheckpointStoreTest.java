@@ -0,0 +1,66 @@
+package com.sportradar.unifiedodds.sdk.impl.recovery;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class RecoveryCheckpointStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void missingFileResultsInNoCheckpoints() {
+        RecoveryCheckpointStore store = new RecoveryCheckpointStore(folder.getRoot().toPath().resolve("missing.checkpoint"));
+
+        assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    public void writtenCheckpointsAreLoaded() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("nested").resolve("recovery.checkpoint");
+        RecoveryCheckpointStore store = new RecoveryCheckpointStore(file);
+
+        store.write(Arrays.asList(
+                new RecoveryCheckpointStore.ProducerCheckpoint(1, 1000L, 1200L, false),
+                new RecoveryCheckpointStore.ProducerCheckpoint(3, 2000L, 2500L, true)), true);
+
+        Map<Integer, RecoveryCheckpointStore.ProducerCheckpoint> loaded = new RecoveryCheckpointStore(file).load();
+        assertEquals(2, loaded.size());
+        assertEquals(1000L, loaded.get(1).getTimestampForRecovery());
+        assertEquals(1200L, loaded.get(1).getLastProcessedMessageGenTimestamp());
+        assertFalse(loaded.get(1).isFlaggedDown());
+        assertEquals(2000L, loaded.get(3).getTimestampForRecovery());
+        assertTrue(loaded.get(3).isFlaggedDown());
+        assertFalse(Files.exists(file.resolveSibling("recovery.checkpoint.tmp")));
+    }
+
+    @Test
+    public void newCheckpointReplacesThePreviousOne() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("recovery.checkpoint");
+        RecoveryCheckpointStore store = new RecoveryCheckpointStore(file);
+
+        store.write(Collections.singletonList(new RecoveryCheckpointStore.ProducerCheckpoint(1, 1000L, 1200L, false)), false);
+        store.write(Collections.singletonList(new RecoveryCheckpointStore.ProducerCheckpoint(1, 5000L, 5200L, false)), false);
+
+        assertEquals(5000L, store.load().get(1).getTimestampForRecovery());
+    }
+
+    @Test
+    public void corruptedCheckpointIsIgnored() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("recovery.checkpoint");
+        Files.write(file, "version=1\nproducer.1=1000,abc,up\n".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(new RecoveryCheckpointStore(file).load().isEmpty());
+    }
+}
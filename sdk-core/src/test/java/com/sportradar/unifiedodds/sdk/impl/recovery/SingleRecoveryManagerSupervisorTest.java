@@ -5,9 +5,14 @@ import com.sportradar.unifiedodds.sdk.impl.*;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.HttpHelper;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -43,6 +48,9 @@ public class SingleRecoveryManagerSupervisorTest {
 
     private SingleRecoveryManagerSupervisor supervisor;
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Before
     public void setupSupervisorForSingleProducer() {
         ProducerData producerData = producerData().active().withId(PRODUCER_ID);
@@ -131,4 +139,89 @@ public class SingleRecoveryManagerSupervisorTest {
 
         assertEquals(CURRENT_TIMESTAMP, producerManager.getProducerLastRecoveryAttemptTimestamp(PRODUCER_ID));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void recoveryTimestampShouldBeRestoredFromCheckpoint() throws IOException {
+        long checkpointTimestamp = System.currentTimeMillis() - 60_000;
+        Path checkpointFile = writeCheckpoint(checkpointTimestamp);
+        SDKProducerManager manager = producerManagerWithRecoveryWindow();
+
+        checkpointingSupervisor(manager, checkpointFile).startSupervising();
+
+        assertEquals(checkpointTimestamp, manager.getProducer(PRODUCER_ID).getTimestampForRecovery());
+    }
+
+    @Test
+    public void userProvidedRecoveryTimestampShouldTakePrecedenceOverCheckpoint() throws IOException {
+        long userTimestamp = System.currentTimeMillis() - 30_000;
+        Path checkpointFile = writeCheckpoint(System.currentTimeMillis() - 60_000);
+        SDKProducerManager manager = producerManagerWithRecoveryWindow();
+        manager.setProducerRecoveryFromTimestamp(PRODUCER_ID, userTimestamp);
+
+        checkpointingSupervisor(manager, checkpointFile).startSupervising();
+
+        assertEquals(userTimestamp, manager.getProducer(PRODUCER_ID).getTimestampForRecovery());
+    }
+
+    @Test
+    public void checkpointOutsideOfRecoveryWindowShouldBeIgnored() throws IOException {
+        Path checkpointFile = writeCheckpoint(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(10));
+        SDKProducerManager manager = producerManagerWithRecoveryWindow();
+
+        checkpointingSupervisor(manager, checkpointFile).startSupervising();
+
+        assertEquals(0, manager.getProducer(PRODUCER_ID).getTimestampForRecovery());
+    }
+
+    @Test
+    public void checkpointShouldBeWrittenWhenSupervisionStops() {
+        Path checkpointFile = folder.getRoot().toPath().resolve("recovery.checkpoint");
+        SDKProducerManager manager = producerManagerWithRecoveryWindow();
+        manager.setLastAliveReceivedGenTimestamp(PRODUCER_ID, 5000L);
+        manager.setLastProcessedMessageGenTimestamp(PRODUCER_ID, 5500L);
+        SingleRecoveryManagerSupervisor checkpointingSupervisor = checkpointingSupervisor(manager, checkpointFile);
+        when(executorServices.scheduleAtFixedRate(any(), anyLong(), anyLong(), any())).thenReturn(supervisingJobFuture);
+
+        checkpointingSupervisor.startSupervising();
+        checkpointingSupervisor.stopSupervising();
+
+        RecoveryCheckpointStore.ProducerCheckpoint checkpoint = new RecoveryCheckpointStore(checkpointFile).load().get(PRODUCER_ID);
+        assertEquals(5000L, checkpoint.getTimestampForRecovery());
+        assertEquals(5500L, checkpoint.getLastProcessedMessageGenTimestamp());
+        verify(executorServices).scheduleAtFixedRate(any(), eq(15L), eq(15L), eq(TimeUnit.SECONDS));
+    }
+
+    private Path writeCheckpoint(long timestampForRecovery) throws IOException {
+        Path checkpointFile = folder.getRoot().toPath().resolve("recovery.checkpoint");
+        new RecoveryCheckpointStore(checkpointFile).write(Collections.singletonList(
+                new RecoveryCheckpointStore.ProducerCheckpoint(PRODUCER_ID, timestampForRecovery, timestampForRecovery, false)), true);
+        return checkpointFile;
+    }
+
+    private SDKProducerManager producerManagerWithRecoveryWindow() {
+        ProducerDataProvider dataProvider = mock(ProducerDataProvider.class);
+        when(dataProvider.getAvailableProducers()).thenReturn(asList(new ProducerData(PRODUCER_ID, "any", "any", true, "any", "", 4320)));
+        return new ProducerManagerImpl(mock(SDKInternalConfiguration.class), dataProvider);
+    }
+
+    private SingleRecoveryManagerSupervisor checkpointingSupervisor(SDKProducerManager manager, Path checkpointFile) {
+        SDKInternalConfiguration config = mock(SDKInternalConfiguration.class);
+        when(config.getRecoveryCheckpointFile()).thenReturn(checkpointFile.toString());
+        when(config.getRecoveryCheckpointInterval()).thenReturn(15);
+        when(config.getRecoveryCheckpointSyncPolicy()).thenReturn(RecoveryCheckpointSyncPolicy.Always);
+
+        return new SingleRecoveryManagerSupervisor(
+                config,
+                manager,
+                mock(SDKProducerStatusListener.class),
+                mock(SDKEventRecoveryStatusListener.class),
+                mock(SnapshotRequestManager.class),
+                mock(SDKTaskScheduler.class),
+                executorServices,
+                mock(HttpHelper.class),
+                mock(FeedMessageFactory.class),
+                mock(WhoAmIReader.class),
+                mock(SequenceGenerator.class),
+                TimeUtilsStub.withCurrentTime(Instant.ofEpochMilli(CURRENT_TIMESTAMP)));
+    }
+}
@@ -4,6 +4,7 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.impl.ApiRequestScheduler;
 import com.sportradar.unifiedodds.sdk.impl.Deserializer;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.HttpHelper;
 import org.apache.http.HttpStatus;
@@ -43,7 +44,7 @@ public class TestHttpHelper extends HttpHelper {
 
     @Inject
     public TestHttpHelper(SDKInternalConfiguration config, CloseableHttpClient httpClient, @Named("SportsApiJaxbDeserializer") Deserializer apiDeserializer) {
-        super(config, httpClient, apiDeserializer);
+        super(config, httpClient, apiDeserializer, new ApiRequestScheduler(0, 0, 0));
 
         UriReplacements = new HashMap<>();
         PostResponses = new ArrayList<>();